@@ -0,0 +1,91 @@
+package org.hamcrest.benchmarks;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.hamcrest.beans.HasPropertyWithValue.hasProperty;
+import static org.hamcrest.beans.HasPropertyWithValue.hasPropertyAtPath;
+import static org.hamcrest.beans.SamePropertyValuesAs.samePropertyValuesAs;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.object.HasEqualValues.hasEqualFieldValues;
+
+/**
+ * Property and field matchers, which introspect the bean class and read properties reflectively.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BeanBenchmark {
+
+    private Matcher<Customer> hasName;
+    private Matcher<?> hasCity;
+    private Matcher<Customer> sameAsExpected;
+    private Matcher<Customer> equalFields;
+    private Customer customer;
+
+    @Setup
+    public void setUp() {
+        customer = new Customer("Alice", 42, new Address("Bristol", "BS1"));
+        hasName = hasProperty("name", equalTo("Alice"));
+        hasCity = hasPropertyAtPath("address.city", equalTo("Bristol"));
+        sameAsExpected = samePropertyValuesAs(new Customer("Alice", 42, customer.getAddress()));
+        equalFields = hasEqualFieldValues(new Customer("Alice", 42, customer.getAddress()));
+    }
+
+    @Benchmark
+    public boolean hasPropertyWithValue() {
+        return hasName.matches(customer);
+    }
+
+    @Benchmark
+    public boolean hasPropertyAtPathWithValue() {
+        return hasCity.matches(customer);
+    }
+
+    @Benchmark
+    public boolean samePropertyValues() {
+        return sameAsExpected.matches(customer);
+    }
+
+    @Benchmark
+    public boolean equalFieldValues() {
+        return equalFields.matches(customer);
+    }
+
+    public static class Customer {
+        private final String name;
+        private final int age;
+        private final Address address;
+
+        public Customer(String name, int age, Address address) {
+            this.name = name;
+            this.age = age;
+            this.address = address;
+        }
+
+        public String getName() { return name; }
+        public int getAge() { return age; }
+        public Address getAddress() { return address; }
+    }
+
+    public static class Address {
+        private final String city;
+        private final String postcode;
+
+        public Address(String city, String postcode) {
+            this.city = city;
+            this.postcode = postcode;
+        }
+
+        public String getCity() { return city; }
+        public String getPostcode() { return postcode; }
+    }
+
+}
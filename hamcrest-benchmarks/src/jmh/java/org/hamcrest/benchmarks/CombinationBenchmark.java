@@ -0,0 +1,72 @@
+package org.hamcrest.benchmarks;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.core.AllOf.allOf;
+import static org.hamcrest.core.AnyOf.adaptiveAnyOf;
+import static org.hamcrest.core.AnyOf.anyOf;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
+
+/**
+ * <code>allOf</code> and <code>anyOf</code> over a number of children, when every child has
+ * to be evaluated, and <code>adaptiveAnyOf</code> when the deciding child is declared last.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CombinationBenchmark {
+
+    @Param({"2", "16", "128"})
+    public int children;
+
+    private Matcher<Integer> allOfNotEqual;
+    private Matcher<Integer> anyOfEqual;
+    private Matcher<Integer> adaptiveAnyOfEqual;
+
+    @Setup
+    public void setUp() {
+        List<Matcher<? super Integer>> notEqual = new ArrayList<>(children);
+        List<Matcher<? super Integer>> equal = new ArrayList<>(children);
+        for (int i = 0; i < children; i++) {
+            notEqual.add(not(equalTo(-i - 1)));
+            equal.add(equalTo(i));
+        }
+        allOfNotEqual = allOf(notEqual);
+        anyOfEqual = anyOf(equal);
+        adaptiveAnyOfEqual = adaptiveAnyOf(equal);
+    }
+
+    @Benchmark
+    public boolean allOfMatching() {
+        return allOfNotEqual.matches(children);
+    }
+
+    @Benchmark
+    public boolean anyOfMatchingLast() {
+        return anyOfEqual.matches(children - 1);
+    }
+
+    @Benchmark
+    public boolean adaptiveAnyOfMatchingLast() {
+        return adaptiveAnyOfEqual.matches(children - 1);
+    }
+
+    @Benchmark
+    public boolean anyOfMismatching() {
+        return anyOfEqual.matches(-1);
+    }
+
+}
@@ -0,0 +1,60 @@
+package org.hamcrest.benchmarks;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.hamcrest.core.AllOf.allOf;
+import static org.hamcrest.core.AnyOf.anyOf;
+import static org.hamcrest.core.CompiledMatcher.compile;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsNull.notNullValue;
+
+/**
+ * A filter built from nested core matchers, evaluated as a tree and compiled.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CompiledMatcherBenchmark {
+
+    private Matcher<Object> tree;
+    private Matcher<Object> compiled;
+    private Object[] values;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        tree = allOf(
+                notNullValue(),
+                instanceOf(String.class),
+                not(anyOf(equalTo((Object) "rejected"), equalTo((Object) "blocked"))),
+                anyOf(equalTo((Object) "red"), equalTo((Object) "green"), equalTo((Object) "blue"), equalTo((Object) "alpha")));
+        compiled = compile(tree);
+        values = new Object[] {"red", "blocked", "alpha", null, 42, "purple"};
+    }
+
+    @Benchmark
+    public boolean tree() {
+        return tree.matches(nextValue());
+    }
+
+    @Benchmark
+    public boolean compiled() {
+        return compiled.matches(nextValue());
+    }
+
+    private Object nextValue() {
+        next = (next + 1) % values.length;
+        return values[next];
+    }
+
+}
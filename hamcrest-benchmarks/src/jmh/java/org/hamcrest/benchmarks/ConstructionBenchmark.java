@@ -0,0 +1,68 @@
+package org.hamcrest.benchmarks;
+
+import org.hamcrest.Description;
+import org.hamcrest.FeatureMatcher;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.TypeSafeMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+
+/**
+ * Constructing the type-safe base matchers, which find their expected type by reflection.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ConstructionBenchmark {
+
+    private final Matcher<Integer> lengthMatcher = equalTo(5);
+
+    @Benchmark
+    public Matcher<String> typeSafeMatcher() {
+        return new TypeSafeMatcher<String>() {
+            @Override
+            protected boolean matchesSafely(String item) {
+                return item.isEmpty();
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("empty");
+            }
+        };
+    }
+
+    @Benchmark
+    public Matcher<String> typeSafeDiagnosingMatcher() {
+        return new TypeSafeDiagnosingMatcher<String>() {
+            @Override
+            protected boolean matchesSafely(String item, Description mismatchDescription) {
+                return item.isEmpty();
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("empty");
+            }
+        };
+    }
+
+    @Benchmark
+    public Matcher<String> featureMatcher() {
+        return new FeatureMatcher<String, Integer>(lengthMatcher, "length", "length") {
+            @Override
+            protected Integer featureValueOf(String actual) {
+                return actual.length();
+            }
+        };
+    }
+
+}
@@ -0,0 +1,84 @@
+package org.hamcrest.benchmarks;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+
+/**
+ * Rendering descriptions of large values: strings with and without characters to escape,
+ * arrays, value lists, and the full mismatch message of a failed assertion.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DescriptionBenchmark {
+
+    @Param({"1024", "1048576"})
+    public int size;
+
+    private String plainString;
+    private String escapedString;
+    private int[] intArray;
+    private List<String> values;
+    private Matcher<Iterable<? extends String>> containsValues;
+    private List<String> otherValues;
+
+    @Setup
+    public void setUp() {
+        plainString = IsEqualBenchmark.text(size);
+        escapedString = plainString.replace('z', '\n');
+        intArray = new int[size / 8];
+        values = new ArrayList<>(size / 8);
+        otherValues = new ArrayList<>(size / 8);
+        for (int i = 0; i < size / 8; i++) {
+            intArray[i] = i;
+            values.add("value " + i);
+            otherValues.add("value " + i);
+        }
+        otherValues.set(otherValues.size() - 1, "other");
+        containsValues = contains(values.toArray(new String[0]));
+    }
+
+    @Benchmark
+    public String plainStringValue() {
+        return new StringDescription().appendValue(plainString).toString();
+    }
+
+    @Benchmark
+    public String escapedStringValue() {
+        return new StringDescription().appendValue(escapedString).toString();
+    }
+
+    @Benchmark
+    public String arrayValue() {
+        return new StringDescription().appendValue(intArray).toString();
+    }
+
+    @Benchmark
+    public String valueList() {
+        return new StringDescription().appendValueList("[", ", ", "]", values).toString();
+    }
+
+    @Benchmark
+    public String failedAssertionMessage() {
+        Description description = new StringDescription();
+        description.appendText("Expected: ").appendDescriptionOf(containsValues).appendText("\n     but: ");
+        containsValues.evaluate(otherValues).describeMismatch(description);
+        return description.toString();
+    }
+
+}
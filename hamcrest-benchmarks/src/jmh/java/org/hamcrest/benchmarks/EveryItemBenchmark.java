@@ -0,0 +1,57 @@
+package org.hamcrest.benchmarks;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.core.Every.everyItem;
+import static org.hamcrest.core.Every.everyItemInParallel;
+import static org.hamcrest.text.MatchesPattern.matchesPattern;
+
+/**
+ * <code>everyItem</code> sequentially and in parallel, with a regular expression as a moderately
+ * expensive item matcher, over lists of increasing size that all match.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EveryItemBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private List<String> items;
+    private Matcher<Iterable<? extends String>> sequential;
+    private Matcher<Iterable<? extends String>> parallel;
+
+    @Setup
+    public void setUp() {
+        items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add("order-" + i + "@example.com");
+        }
+        sequential = everyItem(matchesPattern("[a-z]+-[0-9]+@[a-z.]+"));
+        parallel = everyItemInParallel(matchesPattern("[a-z]+-[0-9]+@[a-z.]+"));
+    }
+
+    @Benchmark
+    public boolean everyItemSequential() {
+        return sequential.matches(items);
+    }
+
+    @Benchmark
+    public boolean everyItemParallel() {
+        return parallel.matches(items);
+    }
+
+}
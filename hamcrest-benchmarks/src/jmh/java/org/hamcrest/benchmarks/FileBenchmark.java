@@ -0,0 +1,138 @@
+package org.hamcrest.benchmarks;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static org.hamcrest.core.AllOf.allOf;
+import static org.hamcrest.io.FileMatchers.aDirectoryContaining;
+import static org.hamcrest.io.FileMatchers.aDirectoryTreeEquivalentTo;
+import static org.hamcrest.io.FileMatchers.aDirectoryTreeWithFileCount;
+import static org.hamcrest.io.FileMatchers.aFileWithSize;
+import static org.hamcrest.io.FileMatchers.aPath;
+import static org.hamcrest.io.FileMatchers.aReadableFile;
+import static org.hamcrest.io.FileMatchers.anExistingFile;
+import static org.hamcrest.io.FileMatchers.everyFileInTree;
+import static org.hamcrest.io.FileMatchers.regularFile;
+import static org.hamcrest.io.FileMatchers.withSize;
+import static org.hamcrest.number.OrderingComparison.lessThan;
+
+/**
+ * File matchers over a temporary directory tree: checking several attributes of one file with
+ * <code>File</code> matchers combined by <code>allOf</code>, against one <code>Path</code> matcher
+ * that reads them once, checking every file of the tree by hand against the tree matchers, and
+ * comparing the tree with an identical copy.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FileBenchmark {
+
+    @Param({"100", "10000"})
+    public int files;
+
+    private Path root;
+    private Path copy;
+    private Path lastFile;
+    private Matcher<File> fileChecks;
+    private Matcher<Path> pathChecks;
+    private Matcher<Path> everyFile;
+    private Matcher<Path> containsLast;
+    private Matcher<Path> fileCount;
+    private Matcher<Path> equivalentToCopy;
+
+    @Setup
+    public void setUp() throws IOException {
+        root = Files.createTempDirectory("file-benchmark");
+        copy = Files.createTempDirectory("file-benchmark-copy");
+        for (int i = 0; i < files; i++) {
+            final Path directory = Files.createDirectories(root.resolve("d" + (i % 10)));
+            lastFile = Files.write(directory.resolve("f" + i + ".txt"), ("file " + i).getBytes("US-ASCII"));
+            Files.copy(lastFile, Files.createDirectories(copy.resolve(root.relativize(directory))).resolve(lastFile.getFileName()));
+        }
+        final long size = Files.size(lastFile);
+        fileChecks = allOf(anExistingFile(), aReadableFile(), aFileWithSize(size));
+        pathChecks = aPath(regularFile(), withSize(size));
+        everyFile = everyFileInTree(aPath(regularFile(), withSize(lessThan(100L))));
+        containsLast = aDirectoryContaining("**/" + lastFile.getFileName());
+        fileCount = aDirectoryTreeWithFileCount(files);
+        equivalentToCopy = aDirectoryTreeEquivalentTo(copy);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        delete(root);
+        delete(copy);
+    }
+
+    @Benchmark
+    public boolean combinedFileChecks() {
+        return fileChecks.matches(lastFile.toFile());
+    }
+
+    @Benchmark
+    public boolean combinedPathChecks() {
+        return pathChecks.matches(lastFile);
+    }
+
+    @Benchmark
+    public boolean everyFileByHand() throws IOException {
+        final Matcher<File> small = allOf(anExistingFile(), aFileWithSize(lessThan(100L)));
+        try (Stream<Path> paths = Files.walk(root)) {
+            final Iterator<Path> walk = paths.iterator();
+            while (walk.hasNext()) {
+                final File file = walk.next().toFile();
+                if (file.isFile() && !small.matches(file)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Benchmark
+    public boolean everyFileInTreeInParallel() {
+        return everyFile.matches(root);
+    }
+
+    @Benchmark
+    public boolean directoryContainingGlob() {
+        return containsLast.matches(root);
+    }
+
+    @Benchmark
+    public boolean directoryTreeFileCount() {
+        return fileCount.matches(root);
+    }
+
+    @Benchmark
+    public boolean directoryTreeEquivalent() {
+        return equivalentToCopy.matches(root);
+    }
+
+    private static void delete(Path tree) throws IOException {
+        try (Stream<Path> paths = Files.walk(tree)) {
+            final Iterator<Path> deepestFirst = paths.sorted(Comparator.reverseOrder()).iterator();
+            while (deepestFirst.hasNext()) {
+                Files.delete(deepestFirst.next());
+            }
+        }
+    }
+
+}
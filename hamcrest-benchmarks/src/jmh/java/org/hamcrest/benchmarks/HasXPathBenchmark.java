@@ -0,0 +1,119 @@
+package org.hamcrest.benchmarks;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.xml.HasStreamedXPath.hasXPathInStream;
+import static org.hamcrest.xml.HasXPath.hasXPath;
+
+/**
+ * XPath evaluation against a parsed document, and the cost of creating the matcher. The
+ * <code>shared</code> benchmarks use one matcher from one thread and from every core; DOM
+ * documents are not thread-safe, so each thread has its own copy. The <code>parsed</code> and
+ * <code>streamed</code> benchmarks match serialized documents, with and without building a DOM.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HasXPathBenchmark {
+
+    @Param({"10", "1000"})
+    public int elements;
+
+    private String xml;
+    private byte[] bytes;
+    private Matcher<InputStream> streamedLastItemValue;
+    private Document document;
+    private Matcher<org.w3c.dom.Node> hasLastItem;
+    private Matcher<org.w3c.dom.Node> hasLastItemValue;
+
+    @Setup
+    public void setUp() throws Exception {
+        StringBuilder xml = new StringBuilder("<root>");
+        for (int i = 0; i < elements; i++) {
+            xml.append("<item id='").append(i).append("'>value ").append(i).append("</item>");
+        }
+        xml.append("</root>");
+        this.xml = xml.toString();
+        bytes = this.xml.getBytes(StandardCharsets.UTF_8);
+        streamedLastItemValue = hasXPathInStream(lastItem(), equalTo("value " + (elements - 1)));
+        document = parse(this.xml);
+        hasLastItem = hasXPath(lastItem());
+        hasLastItemValue = hasXPath(lastItem(), equalTo("value " + (elements - 1)));
+    }
+
+    @Benchmark
+    public boolean nodeExists() {
+        return hasLastItem.matches(document);
+    }
+
+    @Benchmark
+    public boolean nodeValue() {
+        return hasLastItemValue.matches(document);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean sharedOnOneThread(PerThread thread) {
+        return hasLastItemValue.matches(thread.document);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public boolean sharedOnAllCores(PerThread thread) {
+        return hasLastItemValue.matches(thread.document);
+    }
+
+    @Benchmark
+    public boolean parsed() throws Exception {
+        return hasLastItemValue.matches(parse(xml));
+    }
+
+    @Benchmark
+    public boolean streamed() {
+        return streamedLastItemValue.matches(new ByteArrayInputStream(bytes));
+    }
+
+    @Benchmark
+    public Matcher<org.w3c.dom.Node> createMatcher() {
+        return hasXPath(lastItem());
+    }
+
+    private String lastItem() {
+        return "/root/item[@id='" + (elements - 1) + "']";
+    }
+
+    private static Document parse(String xml) throws Exception {
+        return DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(new InputSource(new StringReader(xml)));
+    }
+
+    @State(Scope.Thread)
+    public static class PerThread {
+        Document document;
+
+        @Setup
+        public void setUp(HasXPathBenchmark benchmark) throws Exception {
+            document = parse(benchmark.xml);
+        }
+    }
+
+}
@@ -0,0 +1,103 @@
+package org.hamcrest.benchmarks;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.hamcrest.collection.IsPrimitiveArrayContaining.intArrayContainingInAnyOrder;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+/**
+ * Equality of plain objects, primitive arrays and nested object arrays, and a primitive array
+ * holding the same elements in reverse order.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class IsEqualBenchmark {
+
+    @Param({"16", "65536"})
+    public int size;
+
+    private Matcher<Object> equalToString;
+    private Matcher<Object> equalToIntArray;
+    private Matcher<Object> equalToDoubleArray;
+    private Matcher<Object> equalToNestedArray;
+    private Matcher<int[]> intArrayInAnyOrder;
+
+    private String actualString;
+    private int[] actualIntArray;
+    private double[] actualDoubleArray;
+    private Object[] actualNestedArray;
+    private int[] reversedIntArray;
+
+    @Setup
+    public void setUp() {
+        equalToString = equalTo((Object) text(size));
+        actualString = text(size);
+
+        int[] ints = new int[size];
+        double[] doubles = new double[size];
+        Object[] nested = new Object[size];
+        for (int i = 0; i < size; i++) {
+            ints[i] = i;
+            doubles[i] = i / 3.0;
+            nested[i] = new Object[] {"item", new int[] {i, i + 1}};
+        }
+        equalToIntArray = equalTo((Object) ints);
+        actualIntArray = ints.clone();
+        intArrayInAnyOrder = intArrayContainingInAnyOrder(ints);
+        reversedIntArray = new int[size];
+        for (int i = 0; i < size; i++) {
+            reversedIntArray[i] = ints[size - 1 - i];
+        }
+        equalToDoubleArray = equalTo((Object) doubles);
+        actualDoubleArray = doubles.clone();
+        equalToNestedArray = equalTo((Object) nested);
+        actualNestedArray = new Object[size];
+        for (int i = 0; i < size; i++) {
+            actualNestedArray[i] = new Object[] {"item", new int[] {i, i + 1}};
+        }
+    }
+
+    @Benchmark
+    public boolean equalStrings() {
+        return equalToString.matches(actualString);
+    }
+
+    @Benchmark
+    public boolean equalIntArrays() {
+        return equalToIntArray.matches(actualIntArray);
+    }
+
+    @Benchmark
+    public boolean equalDoubleArrays() {
+        return equalToDoubleArray.matches(actualDoubleArray);
+    }
+
+    @Benchmark
+    public boolean equalNestedArrays() {
+        return equalToNestedArray.matches(actualNestedArray);
+    }
+
+    @Benchmark
+    public boolean reversedIntArrayInAnyOrder() {
+        return intArrayInAnyOrder.matches(reversedIntArray);
+    }
+
+    static String text(int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append((char) ('a' + i % 26));
+        }
+        return text.toString();
+    }
+
+}
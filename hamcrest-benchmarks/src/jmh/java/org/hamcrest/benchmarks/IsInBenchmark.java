@@ -0,0 +1,58 @@
+package org.hamcrest.benchmarks;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.hamcrest.collection.IsIn.in;
+import static org.hamcrest.collection.IsIn.oneOf;
+
+/**
+ * <code>oneOf</code> and <code>in</code> over an increasing number of allowed values, looking up
+ * the last one.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class IsInBenchmark {
+
+    @Param({"4", "64", "4096"})
+    public int size;
+
+    private Matcher<String> oneOfStrings;
+    private Matcher<Integer> inInts;
+    private String lastString;
+    private Integer lastInt;
+
+    @Setup
+    public void setUp() {
+        String[] strings = new String[size];
+        int[] ints = new int[size];
+        for (int i = 0; i < size; i++) {
+            strings[i] = "code-" + i;
+            ints[i] = i * 31;
+        }
+        oneOfStrings = oneOf(strings);
+        inInts = in(ints);
+        lastString = new String(strings[size - 1]);
+        lastInt = ints[size - 1];
+    }
+
+    @Benchmark
+    public boolean oneOfString() {
+        return oneOfStrings.matches(lastString);
+    }
+
+    @Benchmark
+    public boolean inIntArray() {
+        return inInts.matches(lastInt);
+    }
+
+}
@@ -0,0 +1,65 @@
+package org.hamcrest.benchmarks;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+
+/**
+ * <code>contains</code> and <code>containsInAnyOrder</code> over lists of increasing size.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class IterableContainingBenchmark {
+
+    @Param({"16", "1024"})
+    public int size;
+
+    private Matcher<Iterable<? extends Integer>> containsInOrder;
+    private Matcher<Iterable<? extends Integer>> containsShuffled;
+    private List<Integer> items;
+    private List<Integer> reversed;
+
+    @Setup
+    public void setUp() {
+        items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(i);
+        }
+        reversed = new ArrayList<>(items);
+        Collections.reverse(reversed);
+        Integer[] expected = items.toArray(new Integer[0]);
+        containsInOrder = contains(expected);
+        containsShuffled = containsInAnyOrder(expected);
+    }
+
+    @Benchmark
+    public boolean inOrder() {
+        return containsInOrder.matches(items);
+    }
+
+    @Benchmark
+    public boolean inAnyOrderSameOrder() {
+        return containsShuffled.matches(items);
+    }
+
+    @Benchmark
+    public boolean inAnyOrderReversed() {
+        return containsShuffled.matches(reversed);
+    }
+
+}
@@ -0,0 +1,82 @@
+package org.hamcrest.benchmarks;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.number.DoubleMatcher;
+import org.hamcrest.number.PrimitiveMatching;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+
+import static org.hamcrest.number.OrderingComparison.greaterThan;
+
+/**
+ * Range checks over an array of <code>double</code> readings, through a boxing
+ * <code>Matcher&lt;Double&gt;</code> and through the primitive <code>DoubleMatcher</code> entry point.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class NumberBenchmark {
+
+    @Param({"1024", "65536"})
+    public int size;
+
+    private double[] readings;
+    private Matcher<Double> boxedGreaterThan;
+    private DoubleMatcher primitiveGreaterThan;
+    private DoubleMatcher primitiveBetween;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        readings = new double[size];
+        for (int i = 0; i < size; i++) {
+            readings[i] = random.nextDouble() * 100.0;
+        }
+        boxedGreaterThan = greaterThan(-1.0);
+        primitiveGreaterThan = PrimitiveMatching.greaterThan(-1.0);
+        primitiveBetween = PrimitiveMatching.between(-40.0, 125.0);
+    }
+
+    @Benchmark
+    public int boxedGreaterThan() {
+        int matched = 0;
+        for (double reading : readings) {
+            if (boxedGreaterThan.matches(reading)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public int primitiveGreaterThan() {
+        int matched = 0;
+        for (double reading : readings) {
+            if (primitiveGreaterThan.matches(reading)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public int primitiveBetween() {
+        int matched = 0;
+        for (double reading : readings) {
+            if (primitiveBetween.matches(reading)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+}
@@ -0,0 +1,143 @@
+package org.hamcrest.benchmarks;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.core.AnyOf.anyOf;
+import static org.hamcrest.core.StringContains.containsString;
+import static org.hamcrest.core.StringContains.containsStringIgnoringCase;
+import static org.hamcrest.core.StringEndsWith.endsWithIgnoringCase;
+import static org.hamcrest.core.StringStartsWith.startsWithIgnoringCase;
+import static org.hamcrest.text.IsBlankString.blankString;
+import static org.hamcrest.text.IsEqualCompressingWhiteSpace.equalToCompressingWhiteSpace;
+import static org.hamcrest.text.IsEqualIgnoringCase.equalToIgnoringCase;
+import static org.hamcrest.text.MatchesPattern.matchesPattern;
+import static org.hamcrest.text.StringContainsInOrder.stringContainsInOrder;
+import static org.hamcrest.text.StringContainsSubstrings.containsAllOf;
+import static org.hamcrest.text.StringContainsSubstrings.containsAnyOf;
+
+/**
+ * Substring, case-insensitive, whitespace and pattern matchers over a line of text, and a
+ * thousand keywords, only the last of which is in the line, looked for one at a time with
+ * <code>anyOf</code> and all at once with <code>containsAnyOf</code>.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TextBenchmark {
+
+    @Param({"80", "8192"})
+    public int length;
+
+    private String line;
+    private Matcher<String> containsNeedle;
+    private Matcher<String> containsNeedleIgnoringCase;
+    private Matcher<String> startsWithIgnoringCase;
+    private Matcher<String> endsWithIgnoringCase;
+    private Matcher<String> equalIgnoringCase;
+    private Matcher<String> equalCompressingWhiteSpace;
+    private Matcher<String> containsInOrder;
+    private Matcher<String> blank;
+    private Matcher<String> pattern;
+    private Matcher<String> anyKeywordOneAtATime;
+    private Matcher<String> anyKeyword;
+    private Matcher<String> allOfTwoKeywords;
+
+    @Setup
+    public void setUp() {
+        String filler = IsEqualBenchmark.text(length);
+        line = "START " + filler + " needle " + filler + " END";
+        containsNeedle = containsString("needle");
+        containsNeedleIgnoringCase = containsStringIgnoringCase("NEEDLE");
+        startsWithIgnoringCase = startsWithIgnoringCase("start");
+        endsWithIgnoringCase = endsWithIgnoringCase("end");
+        equalIgnoringCase = equalToIgnoringCase(line.toUpperCase());
+        equalCompressingWhiteSpace = equalToCompressingWhiteSpace("  " + line.replace(" ", "   ") + " ");
+        containsInOrder = stringContainsInOrder("START", "needle", "END");
+        blank = blankString();
+        pattern = matchesPattern("START [a-z]+ needle [a-z]+ END");
+        final List<String> keywords = new ArrayList<>();
+        final List<Matcher<? super String>> keywordMatchers = new ArrayList<>();
+        for (int i = 0; i < 999; i++) {
+            keywords.add("keyword" + i);
+            keywordMatchers.add(containsString("keyword" + i));
+        }
+        keywords.add("needle");
+        keywordMatchers.add(containsString("needle"));
+        anyKeywordOneAtATime = anyOf(keywordMatchers);
+        anyKeyword = containsAnyOf(keywords);
+        allOfTwoKeywords = containsAllOf("END", "needle");
+    }
+
+    @Benchmark
+    public boolean substring() {
+        return containsNeedle.matches(line);
+    }
+
+    @Benchmark
+    public boolean substringIgnoringCase() {
+        return containsNeedleIgnoringCase.matches(line);
+    }
+
+    @Benchmark
+    public boolean prefixIgnoringCase() {
+        return startsWithIgnoringCase.matches(line);
+    }
+
+    @Benchmark
+    public boolean suffixIgnoringCase() {
+        return endsWithIgnoringCase.matches(line);
+    }
+
+    @Benchmark
+    public boolean equalityIgnoringCase() {
+        return equalIgnoringCase.matches(line);
+    }
+
+    @Benchmark
+    public boolean equalityCompressingWhiteSpace() {
+        return equalCompressingWhiteSpace.matches(line);
+    }
+
+    @Benchmark
+    public boolean substringsInOrder() {
+        return containsInOrder.matches(line);
+    }
+
+    @Benchmark
+    public boolean anyOfKeywordsOneAtATime() {
+        return anyKeywordOneAtATime.matches(line);
+    }
+
+    @Benchmark
+    public boolean anyOfKeywords() {
+        return anyKeyword.matches(line);
+    }
+
+    @Benchmark
+    public boolean allOfKeywords() {
+        return allOfTwoKeywords.matches(line);
+    }
+
+    @Benchmark
+    public boolean blankness() {
+        return blank.matches(line);
+    }
+
+    @Benchmark
+    public boolean regex() {
+        return pattern.matches(line);
+    }
+
+}
@@ -1,10 +1,12 @@
 package org.hamcrest;
 
-import org.hamcrest.internal.ArrayIterator;
-import org.hamcrest.internal.SelfDescribingValueIterator;
+import org.hamcrest.internal.Traversal;
 
+import java.lang.reflect.Array;
 import java.util.Arrays;
-import java.util.Iterator;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
 
 import static java.lang.String.valueOf;
 
@@ -31,8 +33,31 @@ public abstract class BaseDescription implements Description {
         return this;
     }
 
+    /**
+     * Returns the limits that this description keeps to when it describes lists and values.
+     * The default implementation has no limits.
+     *
+     * @return The budget.
+     */
+    protected DescriptionBudget budget() {
+        return DescriptionBudget.unlimited();
+    }
+
+    /**
+     * Tells whether this description has reached its total length, so that nothing more
+     * appended to it would show. The default implementation is never full.
+     *
+     * @return <code>true</code> if anything more would be discarded.
+     */
+    protected boolean isFull() {
+        return false;
+    }
+
     @Override
     public Description appendValue(Object value) {
+        if (isFull()) {
+            return this;
+        }
         if (value == null) {
             append("null");
         } else if (value instanceof String) {
@@ -43,25 +68,43 @@ public abstract class BaseDescription implements Description {
             append('"');
         } else if (value instanceof Byte) {
             append('<');
-            append(descriptionOf(value));
+            appendBounded(descriptionOf(value));
             append("b>");
         } else if (value instanceof Short) {
             append('<');
-            append(descriptionOf(value));
+            appendBounded(descriptionOf(value));
             append("s>");
         } else if (value instanceof Long) {
             append('<');
-            append(descriptionOf(value));
+            appendBounded(descriptionOf(value));
             append("L>");
         } else if (value instanceof Float) {
             append('<');
-            append(descriptionOf(value));
+            appendBounded(descriptionOf(value));
             append("F>");
         } else if (value.getClass().isArray()) {
-            appendValueList("[",", ","]", new ArrayIterator(value));
+            final ListWriter writer = new ListWriter(", ", false);
+            append("[");
+            Traversal.forEachInArray(value, writer);
+            writer.finish(Array.getLength(value));
+            append("]");
+        } else if (value instanceof Collection) {
+            final Collection<?> collection = (Collection<?>) value;
+            final ListWriter writer = new TextListWriter(collection);
+            append("<[");
+            Traversal.forEach(collection, writer);
+            writer.finish(collection.size());
+            append("]>");
+        } else if (value instanceof Map) {
+            final Map<?, ?> map = (Map<?, ?>) value;
+            final ListWriter writer = new TextListWriter(map);
+            append("<{");
+            Traversal.forEach(map.entrySet(), writer);
+            writer.finish(map.size());
+            append("}>");
         } else {
             append('<');
-            append(descriptionOf(value));
+            appendBounded(descriptionOf(value));
             append('>');
         }
         return this;
@@ -76,6 +119,22 @@ public abstract class BaseDescription implements Description {
         }
     }
 
+    private void appendBounded(String text) {
+        final int limit = budget().maxValueLength();
+        if (text.length() <= limit) {
+            append(text);
+        } else {
+            append(text, 0, limit);
+            appendElision(text.length() - limit, " more chars");
+        }
+    }
+
+    private void appendElision(long omitted, String what) {
+        append("... ");
+        append(String.format(Locale.ROOT, "%,d", omitted));
+        append(what);
+    }
+
     @SafeVarargs
     @Override
     public final <T> Description appendValueList(String start, String separator, String end, T... values) {
@@ -84,32 +143,106 @@ public abstract class BaseDescription implements Description {
 
     @Override
     public <T> Description appendValueList(String start, String separator, String end, Iterable<T> values) {
-        return appendValueList(start, separator, end, values.iterator());
-    }
-
-    private <T> Description appendValueList(String start, String separator, String end, Iterator<T> values) {
-        return appendList(start, separator, end, new SelfDescribingValueIterator<>(values));
+        return appendList(start, end, values, new ListWriter(separator, false));
     }
 
     @Override
     public Description appendList(String start, String separator, String end, Iterable<? extends SelfDescribing> values) {
-        return appendList(start, separator, end, values.iterator());
+        return appendList(start, end, values, new ListWriter(separator, true));
     }
 
-    private Description appendList(String start, String separator, String end, Iterator<? extends SelfDescribing> i) {
-        boolean separate = false;
-
+    private Description appendList(String start, String end, Iterable<?> values, ListWriter writer) {
         append(start);
-        while (i.hasNext()) {
-            if (separate) append(separator);
-            appendDescriptionOf(i.next());
-            separate = true;
-        }
+        Traversal.forEach(values, writer);
+        writer.finish(values instanceof Collection ? ((Collection<?>) values).size() : -1);
         append(end);
 
         return this;
     }
 
+    /*
+     * Appends the elements it visits, as values or as self describing objects, with a separator
+     * between them. It stops at the element limit of the budget, or once the description is full,
+     * and then finishes with an elision marker for the elements it left out.
+     */
+    private class ListWriter implements Traversal.Visitor<Object> {
+        private final String separator;
+        private final boolean selfDescribing;
+        private final int maxElements = budget().maxElements();
+        private int written = 0;
+        private boolean stopped = false;
+
+        ListWriter(String separator, boolean selfDescribing) {
+            this.separator = separator;
+            this.selfDescribing = selfDescribing;
+        }
+
+        @Override
+        public boolean visit(Object element) {
+            if (written == maxElements || isFull()) {
+                stopped = true;
+                return false;
+            }
+            if (written > 0) append(separator);
+            write(element);
+            written++;
+            return true;
+        }
+
+        void write(Object element) {
+            if (selfDescribing) {
+                appendDescriptionOf((SelfDescribing) element);
+            } else {
+                appendValue(element);
+            }
+        }
+
+        void finish(int size) {
+            if (!stopped || isFull()) {
+                return;
+            }
+            append(separator);
+            if (size < 0) {
+                append("...");
+            } else {
+                appendElision(size - written, " more");
+            }
+        }
+    }
+
+    /*
+     * Writes the elements of a collection, or the entries of a map, as their toString would,
+     * but only those within the budget, so a huge collection is never turned into one string.
+     */
+    private final class TextListWriter extends ListWriter {
+        private final Object container;
+
+        TextListWriter(Object container) {
+            super(", ", false);
+            this.container = container;
+        }
+
+        @Override
+        void write(Object element) {
+            if (container instanceof Map) {
+                final Map.Entry<?, ?> entry = (Map.Entry<?, ?>) element;
+                writeText(entry.getKey());
+                append('=');
+                writeText(entry.getValue());
+            } else {
+                writeText(element);
+            }
+        }
+
+        private void writeText(Object element) {
+            if (element == container) {
+                append(container instanceof Map ? "(this Map)" : "(this Collection)");
+            } else {
+                appendBounded(descriptionOf(element));
+            }
+        }
+    }
+
     /**
      * Append the String <var>str</var> to the description.
      * The default implementation passes every character to {@link #append(char)}.
@@ -124,6 +257,25 @@ public abstract class BaseDescription implements Description {
         }
     }
 
+    /**
+     * Append the characters of <var>csq</var> from <var>start</var> (inclusive) to
+     * <var>end</var> (exclusive) to the description.
+     * The default implementation passes every character to {@link #append(char)}.
+     * Override in subclasses to provide an efficient implementation.
+     *
+     * @param csq
+     *     the characters to append.
+     * @param start
+     *     the index of the first character to append.
+     * @param end
+     *     the index after the last character to append.
+     */
+    protected void append(CharSequence csq, int start, int end) {
+        for (int i = start; i < end; i++) {
+            append(csq.charAt(i));
+        }
+    }
+
     /**
      * Append the char <var>c</var> to the description.
      *
@@ -134,12 +286,41 @@ public abstract class BaseDescription implements Description {
 
     private void toJavaSyntax(String unformatted) {
         append('"');
-        for (int i = 0; i < unformatted.length(); i++) {
-            toJavaSyntax(unformatted.charAt(i));
+        int length = Math.min(unformatted.length(), budget().maxValueLength());
+        int special = nextSpecialChar(unformatted, 0, length);
+        if (special == unformatted.length()) {
+            append(unformatted);
+        } else if (special == length) {
+            append(unformatted, 0, length);
+        } else {
+            int runStart = 0;
+            do {
+                append(unformatted, runStart, special);
+                toJavaSyntax(unformatted.charAt(special));
+                runStart = special + 1;
+                special = nextSpecialChar(unformatted, runStart, length);
+            } while (special < length);
+            append(unformatted, runStart, length);
+        }
+        if (length < unformatted.length()) {
+            appendElision(unformatted.length() - length, " more chars");
         }
         append('"');
     }
 
+    private static int nextSpecialChar(String str, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (isSpecialChar(str.charAt(i))) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    private static boolean isSpecialChar(char ch) {
+        return ch == '"' || ch == '\n' || ch == '\r' || ch == '\t' || ch == '\\';
+    }
+
     private void toJavaSyntax(char ch) {
         switch (ch) {
             case '"':
@@ -96,11 +96,12 @@ public abstract class Condition<T> {
 
         @Override
         public boolean matching(Matcher<T> matcher, String message) {
-            if (matcher.matches(theValue)) {
+            MatchResult result = matcher.evaluate(theValue);
+            if (result.matched()) {
                 return true;
             }
             mismatch.appendText(message);
-            matcher.describeMismatch(theValue, mismatch);
+            result.describeMismatch(mismatch);
             return false;
         }
 
@@ -50,6 +50,49 @@ public class CoreMatchers {
     return org.hamcrest.core.AllOf.allOf(matchers);
   }
 
+  /**
+   * Creates a matcher that matches if the examined object matches <b>ALL</b> of the specified matchers,
+   * learning which order to try them in.
+   * A sample of evaluations is timed, and the matchers are periodically re-ordered so that cheap
+   * matchers that usually fail are tried first. Use this only for matchers without side effects
+   * that are evaluated many times. The description, and the mismatch description of the first
+   * failing matcher, are always in the order given, so describing a mismatch evaluates the
+   * matchers again in that order.
+   * For example:
+   * <pre>assertThat("myValue", adaptiveAllOf(matchesRegex(expensive), startsWith("my")))</pre>
+   *
+   * @param <T>
+   *     the matcher type.
+   * @param matchers
+   *     all the matchers must pass.
+   * @return The matcher.
+   */
+  public static <T> org.hamcrest.Matcher<T> adaptiveAllOf(java.lang.Iterable<org.hamcrest.Matcher<? super T>> matchers) {
+    return org.hamcrest.core.AllOf.adaptiveAllOf(matchers);
+  }
+
+  /**
+   * Creates a matcher that matches if the examined object matches <b>ALL</b> of the specified matchers,
+   * learning which order to try them in.
+   * A sample of evaluations is timed, and the matchers are periodically re-ordered so that cheap
+   * matchers that usually fail are tried first. Use this only for matchers without side effects
+   * that are evaluated many times. The description, and the mismatch description of the first
+   * failing matcher, are always in the order given, so describing a mismatch evaluates the
+   * matchers again in that order.
+   * For example:
+   * <pre>assertThat("myValue", adaptiveAllOf(matchesRegex(expensive), startsWith("my")))</pre>
+   *
+   * @param <T>
+   *     the matcher type.
+   * @param matchers
+   *     all the matchers must pass.
+   * @return The matcher.
+   */
+  @SafeVarargs
+  public static <T> org.hamcrest.Matcher<T> adaptiveAllOf(org.hamcrest.Matcher<? super T>... matchers) {
+    return org.hamcrest.core.AllOf.adaptiveAllOf(matchers);
+  }
+
   /**
    * Creates a matcher that matches if the examined object matches <b>ANY</b> of the specified matchers.
    * For example:
@@ -81,6 +124,45 @@ public class CoreMatchers {
     return org.hamcrest.core.AnyOf.anyOf(matchers);
   }
 
+  /**
+   * Creates a matcher that matches if the examined object matches <b>ANY</b> of the specified matchers,
+   * learning which order to try them in.
+   * A sample of evaluations is timed, and the matchers are periodically re-ordered so that cheap
+   * matchers that usually match are tried first. Use this only for matchers without side effects
+   * that are evaluated many times. The description is always in the order given.
+   * For example:
+   * <pre>assertThat("myValue", adaptiveAnyOf(matchesRegex(expensive), startsWith("my")))</pre>
+   *
+   * @param <T>
+   *     the matcher type.
+   * @param matchers
+   *     any the matchers must pass.
+   * @return The matcher.
+   */
+  public static <T> org.hamcrest.core.AnyOf<T> adaptiveAnyOf(java.lang.Iterable<org.hamcrest.Matcher<? super T>> matchers) {
+    return org.hamcrest.core.AnyOf.adaptiveAnyOf(matchers);
+  }
+
+  /**
+   * Creates a matcher that matches if the examined object matches <b>ANY</b> of the specified matchers,
+   * learning which order to try them in.
+   * A sample of evaluations is timed, and the matchers are periodically re-ordered so that cheap
+   * matchers that usually match are tried first. Use this only for matchers without side effects
+   * that are evaluated many times. The description is always in the order given.
+   * For example:
+   * <pre>assertThat("myValue", adaptiveAnyOf(matchesRegex(expensive), startsWith("my")))</pre>
+   *
+   * @param <T>
+   *     the matcher type.
+   * @param matchers
+   *     any the matchers must pass.
+   * @return The matcher.
+   */
+  @SafeVarargs
+  public static <T> org.hamcrest.core.AnyOf<T> adaptiveAnyOf(org.hamcrest.Matcher<? super T>... matchers) {
+    return org.hamcrest.core.AnyOf.adaptiveAnyOf(matchers);
+  }
+
   /**
    * Creates a matcher that matches when both of the specified matchers match the examined object.
    * For example:
@@ -131,6 +213,23 @@ public class CoreMatchers {
     return org.hamcrest.core.DescribedAs.describedAs(description, matcher, values);
   }
 
+  /**
+   * Compiles a tree of matchers into a single predicate that gives the same verdicts, descriptions
+   * and mismatch descriptions as the tree. Worth doing for matchers that are built once and evaluated
+   * very many times.
+   * For example:
+   * <pre>Predicate&lt;Object&gt; valid = compile(allOf(notNullValue(), anyOf(equalTo("a"), equalTo("b"))))</pre>
+   *
+   * @param <T>
+   *     the matcher type.
+   * @param matcher
+   *     the matcher tree to compile.
+   * @return The compiled matcher.
+   */
+  public static <T> org.hamcrest.core.CompiledMatcher<T> compile(org.hamcrest.Matcher<T> matcher) {
+    return org.hamcrest.core.CompiledMatcher.compile(matcher);
+  }
+
   /**
    * Creates a matcher for {@link Iterable}s that only matches when a single pass over the
    * examined {@link Iterable} yields items that are all matched by the specified
@@ -148,6 +247,24 @@ public class CoreMatchers {
     return org.hamcrest.core.Every.everyItem(itemMatcher);
   }
 
+  /**
+   * Creates a matcher for {@link Iterable}s that only matches when the items of the examined
+   * {@link Iterable} are all matched by the specified <code>itemMatcher</code>, checking them in
+   * parallel on the common fork-join pool. The mismatch described is that of the earliest
+   * mismatching item. The <code>itemMatcher</code> must be safe to use from several threads.
+   * For example:
+   * <pre>assertThat(largeListOfOrders, everyItemInParallel(hasProperty("status", equalTo("SHIPPED"))))</pre>
+   *
+   * @param <U>
+   *     the matcher type.
+   * @param itemMatcher
+   *     the matcher to apply to every item provided by the examined {@link Iterable}
+   * @return The matcher.
+   */
+  public static <U> org.hamcrest.Matcher<java.lang.Iterable<? extends U>> everyItemInParallel(org.hamcrest.Matcher<U> itemMatcher) {
+    return org.hamcrest.core.Every.everyItemInParallel(itemMatcher);
+  }
+
   /**
    * Decorates another Matcher, retaining its behaviour, but allowing tests
    * to be slightly more expressive.
@@ -256,6 +373,24 @@ public class CoreMatchers {
     return IsIterableContaining.hasItem(item);
   }
 
+  /**
+   * Creates a matcher for {@link Iterable}s that matches when the examined {@link Iterable}
+   * yields at least one item that is matched by the specified <code>itemMatcher</code>, looking
+   * for it in parallel on the common fork-join pool. The <code>itemMatcher</code> must be safe
+   * to use from several threads.
+   * For example:
+   * <pre>assertThat(largeListOfOrders, hasItemInParallel(hasProperty("status", equalTo("LOST"))))</pre>
+   *
+   * @param <T>
+   *     the matcher type.
+   * @param itemMatcher
+   *     the matcher to apply to items provided by the examined {@link Iterable}
+   * @return The matcher.
+   */
+  public static <T> org.hamcrest.Matcher<java.lang.Iterable<? extends T>> hasItemInParallel(org.hamcrest.Matcher<? super T> itemMatcher) {
+    return IsIterableContaining.hasItemInParallel(itemMatcher);
+  }
+
   /**
    * Creates a matcher for {@link Iterable}s that matches when consecutive passes over the
    * examined {@link Iterable} yield at least one item that is matched by the corresponding
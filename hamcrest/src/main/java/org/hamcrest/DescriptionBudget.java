@@ -0,0 +1,97 @@
+package org.hamcrest;
+
+/**
+ * Limits on the size of a {@link StringDescription}, so that describing a huge value cannot
+ * produce a huge message. Whatever is left out is replaced by an elision marker:
+ * <ul>
+ *   <li>a list, array or map shows at most {@link #maxElements()} elements, followed by
+ *   <code>... 4,999,990 more</code>;</li>
+ *   <li>a single value shows at most {@link #maxValueLength()} characters of its
+ *   <code>toString()</code>, followed by <code>... 1,024 more chars</code>;</li>
+ *   <li>the whole description is cut off after {@link #maxLength()} characters, followed by
+ *   <code>...</code>, and nothing more is described.</li>
+ * </ul>
+ * Budgets are immutable, for example:
+ * <pre>new StringDescription(DescriptionBudget.unlimited().withMaxElements(20).withMaxLength(4096))</pre>
+ */
+public final class DescriptionBudget {
+
+    private static final DescriptionBudget UNLIMITED =
+        new DescriptionBudget(Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+    /**
+     * The budget used by {@link MatcherAssert}: 1,000 elements per list, 10,000 characters per
+     * value and 1,000,000 characters in all.
+     */
+    public static final DescriptionBudget DEFAULT = new DescriptionBudget(1_000, 10_000, 1_000_000);
+
+    private final int maxElements;
+    private final int maxValueLength;
+    private final int maxLength;
+
+    private DescriptionBudget(int maxElements, int maxValueLength, int maxLength) {
+        this.maxElements = requirePositive(maxElements, "maxElements");
+        this.maxValueLength = requirePositive(maxValueLength, "maxValueLength");
+        this.maxLength = requirePositive(maxLength, "maxLength");
+    }
+
+    /**
+     * @return a budget without limits, the budget of a description created without one.
+     */
+    public static DescriptionBudget unlimited() {
+        return UNLIMITED;
+    }
+
+    /**
+     * @param maxElements the most elements of a list, array or map to describe
+     * @return a budget like this one, with the given element limit.
+     */
+    public DescriptionBudget withMaxElements(int maxElements) {
+        return new DescriptionBudget(maxElements, maxValueLength, maxLength);
+    }
+
+    /**
+     * @param maxValueLength the most characters of a single value to describe
+     * @return a budget like this one, with the given value length limit.
+     */
+    public DescriptionBudget withMaxValueLength(int maxValueLength) {
+        return new DescriptionBudget(maxElements, maxValueLength, maxLength);
+    }
+
+    /**
+     * @param maxLength the most characters of the whole description
+     * @return a budget like this one, with the given total length limit.
+     */
+    public DescriptionBudget withMaxLength(int maxLength) {
+        return new DescriptionBudget(maxElements, maxValueLength, maxLength);
+    }
+
+    /**
+     * @return the most elements of a list, array or map to describe.
+     */
+    public int maxElements() {
+        return maxElements;
+    }
+
+    /**
+     * @return the most characters of a single value to describe.
+     */
+    public int maxValueLength() {
+        return maxValueLength;
+    }
+
+    /**
+     * @return the most characters of the whole description.
+     */
+    public int maxLength() {
+        return maxLength;
+    }
+
+    private static int requirePositive(int limit, String name) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException(name + " must be positive, was " + limit);
+        }
+        return limit;
+    }
+
+}
@@ -30,6 +30,12 @@ public abstract class DiagnosingMatcher<T> extends BaseMatcher<T> {
         matches(item, mismatchDescription);
     }
 
+    @Override
+    public final MatchResult evaluate(Object item) {
+        RecordingDescription mismatch = new RecordingDescription();
+        return matches(item, mismatch) ? MatchResult.match() : MatchResult.mismatch(mismatch);
+    }
+
     /**
      * Evaluates the matcher for argument <var>item</var>.
      * @param item the value to check
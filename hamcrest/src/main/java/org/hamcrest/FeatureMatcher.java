@@ -39,9 +39,10 @@ public abstract class FeatureMatcher<T, U> extends TypeSafeDiagnosingMatcher<T>
   @Override
   protected boolean matchesSafely(T actual, Description mismatch) {
     final U featureValue = featureValueOf(actual);
-    if (!subMatcher.matches(featureValue)) {
+    final MatchResult result = subMatcher.evaluate(featureValue);
+    if (!result.matched()) {
       mismatch.appendText(featureName).appendText(" ");
-      subMatcher.describeMismatch(featureValue, mismatch);
+      result.describeMismatch(mismatch);
       return false;
     }
     return true;
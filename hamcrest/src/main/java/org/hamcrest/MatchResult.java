@@ -0,0 +1,92 @@
+package org.hamcrest;
+
+/**
+ * The outcome of evaluating a {@link Matcher} against a value: the verdict, and, if the
+ * value was rejected, the reason why.
+ *
+ * <p>A <code>MatchResult</code> is produced by a single evaluation of the matcher. The mismatch
+ * is not rendered until {@link #describeMismatch(Description)} is called, so callers that only
+ * need the verdict pay nothing for the diagnosis, and callers that need both do not have to
+ * evaluate the matcher a second time.</p>
+ *
+ * @see Matcher#evaluate(Object)
+ */
+public final class MatchResult {
+
+    private static final MatchResult MATCH = new MatchResult(null);
+
+    private final SelfDescribing mismatch;
+
+    private MatchResult(SelfDescribing mismatch) {
+        this.mismatch = mismatch;
+    }
+
+    /**
+     * Whether the evaluated value was accepted by the matcher.
+     *
+     * @return <code>true</code> if the value matched, otherwise <code>false</code>.
+     */
+    public boolean matched() {
+        return mismatch == null;
+    }
+
+    /**
+     * Appends the reason the value was rejected to the given description.
+     * Appends nothing if the value matched.
+     *
+     * @param mismatchDescription
+     *     The description to be built or appended to.
+     */
+    public void describeMismatch(Description mismatchDescription) {
+        if (mismatch != null) {
+            mismatch.describeTo(mismatchDescription);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return matched() ? "matched" : StringDescription.toString(mismatch);
+    }
+
+    /**
+     * The result of a successful match.
+     *
+     * @return the shared matched result.
+     */
+    public static MatchResult match() {
+        return MATCH;
+    }
+
+    /**
+     * The result of a failed match.
+     *
+     * @param mismatch
+     *     describes why the value was rejected, called only when the mismatch is reported.
+     * @return the mismatched result.
+     */
+    public static MatchResult mismatch(SelfDescribing mismatch) {
+        if (mismatch == null) {
+            throw new IllegalArgumentException("mismatch must not be null");
+        }
+        return new MatchResult(mismatch);
+    }
+
+    /**
+     * Evaluates <code>matcher</code> through {@link Matcher#matches(Object)} and, on failure,
+     * defers to {@link Matcher#describeMismatch(Object, Description)} when the mismatch is
+     * reported. This is the evaluation strategy for matchers that do not diagnose while matching.
+     *
+     * @param matcher
+     *     the matcher to evaluate.
+     * @param actual
+     *     the value to evaluate against.
+     * @return the result of the evaluation.
+     */
+    public static MatchResult of(final Matcher<?> matcher, final Object actual) {
+        if (matcher.matches(actual)) {
+            return MATCH;
+        }
+        return new MatchResult(description -> matcher.describeMismatch(actual, description));
+    }
+
+}
@@ -54,6 +54,25 @@ public interface Matcher<T> extends SelfDescribing {
      */
     void describeMismatch(Object actual, Description mismatchDescription);
 
+    /**
+     * Evaluates the matcher for argument <var>actual</var> once, returning both the
+     * verdict and, if it did not match, a deferred description of the mismatch.
+     *
+     * Callers that need the mismatch of a failed match should prefer this to calling
+     * <code>matches()</code> followed by <code>describeMismatch()</code>, which makes diagnosing
+     * matchers do all their work twice. The default implementation does exactly that, lazily;
+     * {@link DiagnosingMatcher} and {@link TypeSafeDiagnosingMatcher} record the mismatch
+     * during their single evaluation instead.
+     *
+     * @param actual the object against which the matcher is evaluated.
+     * @return the result of the evaluation.
+     *
+     * @see MatchResult
+     */
+    default MatchResult evaluate(Object actual) {
+        return MatchResult.of(this, actual);
+    }
+
     /**
      * This method simply acts a friendly reminder not to implement Matcher directly and
      * instead extend BaseMatcher. It's easy to ignore JavaDoc, but a bit harder to ignore
@@ -30,15 +30,16 @@ public class MatcherAssert {
      * @param <T> the type of the value
      */
     public static <T> void assertThat(String reason, T actual, Matcher<? super T> matcher) {
-        if (!matcher.matches(actual)) {
-            Description description = new StringDescription();
+        MatchResult result = matcher.evaluate(actual);
+        if (!result.matched()) {
+            Description description = new StringDescription(DescriptionBudget.DEFAULT);
             description.appendText(reason)
                        .appendText(System.lineSeparator())
                        .appendText("Expected: ")
                        .appendDescriptionOf(matcher)
                        .appendText(System.lineSeparator())
                        .appendText("     but: ");
-            matcher.describeMismatch(actual, description);
+            result.describeMismatch(description);
 
             throw new AssertionError(description.toString());
         }
@@ -164,6 +164,49 @@ public class Matchers {
     return org.hamcrest.core.AllOf.allOf(first, second, third, fourth, fifth, sixth);
   }
 
+  /**
+   * Creates a matcher that matches if the examined object matches <b>ALL</b> of the specified matchers,
+   * learning which order to try them in.
+   * A sample of evaluations is timed, and the matchers are periodically re-ordered so that cheap
+   * matchers that usually fail are tried first. Use this only for matchers without side effects
+   * that are evaluated many times. The description, and the mismatch description of the first
+   * failing matcher, are always in the order given, so describing a mismatch evaluates the
+   * matchers again in that order.
+   * For example:
+   * <pre>assertThat("myValue", adaptiveAllOf(matchesRegex(expensive), startsWith("my")))</pre>
+   *
+   * @param <T>
+   *     the matcher type.
+   * @param matchers
+   *     all the matchers must pass.
+   * @return The matcher.
+   */
+  public static <T> org.hamcrest.Matcher<T> adaptiveAllOf(java.lang.Iterable<org.hamcrest.Matcher<? super T>> matchers) {
+    return org.hamcrest.core.AllOf.adaptiveAllOf(matchers);
+  }
+
+  /**
+   * Creates a matcher that matches if the examined object matches <b>ALL</b> of the specified matchers,
+   * learning which order to try them in.
+   * A sample of evaluations is timed, and the matchers are periodically re-ordered so that cheap
+   * matchers that usually fail are tried first. Use this only for matchers without side effects
+   * that are evaluated many times. The description, and the mismatch description of the first
+   * failing matcher, are always in the order given, so describing a mismatch evaluates the
+   * matchers again in that order.
+   * For example:
+   * <pre>assertThat("myValue", adaptiveAllOf(matchesRegex(expensive), startsWith("my")))</pre>
+   *
+   * @param <T>
+   *     the matcher type.
+   * @param matchers
+   *     all the matchers must pass.
+   * @return The matcher.
+   */
+  @SafeVarargs
+  public static <T> org.hamcrest.Matcher<T> adaptiveAllOf(org.hamcrest.Matcher<? super T>... matchers) {
+    return org.hamcrest.core.AllOf.adaptiveAllOf(matchers);
+  }
+
   /**
    * Creates a matcher that matches if the examined object matches <b>ANY</b> of the specified matchers.
    * For example:
@@ -300,6 +343,45 @@ public class Matchers {
     return org.hamcrest.core.AnyOf.anyOf(first, second, third, fourth, fifth, sixth);
   }
 
+  /**
+   * Creates a matcher that matches if the examined object matches <b>ANY</b> of the specified matchers,
+   * learning which order to try them in.
+   * A sample of evaluations is timed, and the matchers are periodically re-ordered so that cheap
+   * matchers that usually match are tried first. Use this only for matchers without side effects
+   * that are evaluated many times. The description is always in the order given.
+   * For example:
+   * <pre>assertThat("myValue", adaptiveAnyOf(matchesRegex(expensive), startsWith("my")))</pre>
+   *
+   * @param <T>
+   *     the matcher type.
+   * @param matchers
+   *     any the matchers must pass.
+   * @return The matcher.
+   */
+  public static <T> org.hamcrest.core.AnyOf<T> adaptiveAnyOf(java.lang.Iterable<org.hamcrest.Matcher<? super T>> matchers) {
+    return org.hamcrest.core.AnyOf.adaptiveAnyOf(matchers);
+  }
+
+  /**
+   * Creates a matcher that matches if the examined object matches <b>ANY</b> of the specified matchers,
+   * learning which order to try them in.
+   * A sample of evaluations is timed, and the matchers are periodically re-ordered so that cheap
+   * matchers that usually match are tried first. Use this only for matchers without side effects
+   * that are evaluated many times. The description is always in the order given.
+   * For example:
+   * <pre>assertThat("myValue", adaptiveAnyOf(matchesRegex(expensive), startsWith("my")))</pre>
+   *
+   * @param <T>
+   *     the matcher type.
+   * @param matchers
+   *     any the matchers must pass.
+   * @return The matcher.
+   */
+  @SafeVarargs
+  public static <T> org.hamcrest.core.AnyOf<T> adaptiveAnyOf(org.hamcrest.Matcher<? super T>... matchers) {
+    return org.hamcrest.core.AnyOf.adaptiveAnyOf(matchers);
+  }
+
   /**
    * Creates a matcher that matches when both of the specified matchers match the examined object.
    * For example:
@@ -350,6 +432,23 @@ public class Matchers {
     return org.hamcrest.core.DescribedAs.describedAs(description, matcher, values);
   }
 
+  /**
+   * Compiles a tree of matchers into a single predicate that gives the same verdicts, descriptions
+   * and mismatch descriptions as the tree. Worth doing for matchers that are built once and evaluated
+   * very many times.
+   * For example:
+   * <pre>Predicate&lt;Object&gt; valid = compile(allOf(notNullValue(), anyOf(equalTo("a"), equalTo("b"))))</pre>
+   *
+   * @param <T>
+   *     the matcher type.
+   * @param matcher
+   *     the matcher tree to compile.
+   * @return The compiled matcher.
+   */
+  public static <T> org.hamcrest.core.CompiledMatcher<T> compile(org.hamcrest.Matcher<T> matcher) {
+    return org.hamcrest.core.CompiledMatcher.compile(matcher);
+  }
+
   /**
    * Creates a matcher for {@link Iterable}s that only matches when a single pass over the
    * examined {@link Iterable} yields items that are all matched by the specified
@@ -367,6 +466,24 @@ public class Matchers {
     return org.hamcrest.core.Every.everyItem(itemMatcher);
   }
 
+  /**
+   * Creates a matcher for {@link Iterable}s that only matches when the items of the examined
+   * {@link Iterable} are all matched by the specified <code>itemMatcher</code>, checking them in
+   * parallel on the common fork-join pool. The mismatch described is that of the earliest
+   * mismatching item. The <code>itemMatcher</code> must be safe to use from several threads.
+   * For example:
+   * <pre>assertThat(largeListOfOrders, everyItemInParallel(hasProperty("status", equalTo("SHIPPED"))))</pre>
+   *
+   * @param <U>
+   *     the matcher type.
+   * @param itemMatcher
+   *     the matcher to apply to every item provided by the examined {@link Iterable}
+   * @return The matcher.
+   */
+  public static <U> org.hamcrest.Matcher<java.lang.Iterable<? extends U>> everyItemInParallel(org.hamcrest.Matcher<U> itemMatcher) {
+    return org.hamcrest.core.Every.everyItemInParallel(itemMatcher);
+  }
+
   /**
    * Decorates another Matcher, retaining its behaviour, but allowing tests
    * to be slightly more expressive.
@@ -475,6 +592,24 @@ public class Matchers {
     return IsIterableContaining.hasItem(item);
   }
 
+  /**
+   * Creates a matcher for {@link Iterable}s that matches when the examined {@link Iterable}
+   * yields at least one item that is matched by the specified <code>itemMatcher</code>, looking
+   * for it in parallel on the common fork-join pool. The <code>itemMatcher</code> must be safe
+   * to use from several threads.
+   * For example:
+   * <pre>assertThat(largeListOfOrders, hasItemInParallel(hasProperty("status", equalTo("LOST"))))</pre>
+   *
+   * @param <T>
+   *     the matcher type.
+   * @param itemMatcher
+   *     the matcher to apply to items provided by the examined {@link Iterable}
+   * @return The matcher.
+   */
+  public static <T> org.hamcrest.Matcher<java.lang.Iterable<? extends T>> hasItemInParallel(org.hamcrest.Matcher<? super T> itemMatcher) {
+    return IsIterableContaining.hasItemInParallel(itemMatcher);
+  }
+
   /**
    * Creates a matcher for {@link Iterable}s that matches when consecutive passes over the
    * examined {@link Iterable} yield at least one item that is matched by the corresponding
@@ -1065,6 +1200,98 @@ public class Matchers {
     return org.hamcrest.collection.IsArrayWithSize.emptyArray();
   }
 
+  /**
+   * Creates a matcher for <code>int</code> arrays that matches when each element in the examined
+   * array is equal to the corresponding element in the specified items. For a positive match,
+   * the examined array must be of the same length as the specified items.
+   * For example:
+   * <pre>assertThat(new int[]{1, 2}, intArrayContaining(1, 2))</pre>
+   *
+   * @param items
+   *     the elements that must equal those of an examined array
+   * @return The matcher.
+   */
+  public static org.hamcrest.Matcher<int[]> intArrayContaining(int... items) {
+    return org.hamcrest.collection.IsPrimitiveArrayContaining.intArrayContaining(items);
+  }
+
+  /**
+   * Creates an order agnostic matcher for <code>int</code> arrays that matches when each element
+   * in the examined array is equal to a different one of the specified items. For a positive match,
+   * the examined array must be of the same length as the specified items.
+   * For example:
+   * <pre>assertThat(new int[]{1, 2}, intArrayContainingInAnyOrder(2, 1))</pre>
+   *
+   * @param items
+   *     the elements that must equal those of an examined array, in any order
+   * @return The matcher.
+   */
+  public static org.hamcrest.Matcher<int[]> intArrayContainingInAnyOrder(int... items) {
+    return org.hamcrest.collection.IsPrimitiveArrayContaining.intArrayContainingInAnyOrder(items);
+  }
+
+  /**
+   * Creates a matcher for <code>long</code> arrays that matches when each element in the examined
+   * array is equal to the corresponding element in the specified items. For a positive match,
+   * the examined array must be of the same length as the specified items.
+   * For example:
+   * <pre>assertThat(new long[]{1L, 2L}, longArrayContaining(1L, 2L))</pre>
+   *
+   * @param items
+   *     the elements that must equal those of an examined array
+   * @return The matcher.
+   */
+  public static org.hamcrest.Matcher<long[]> longArrayContaining(long... items) {
+    return org.hamcrest.collection.IsPrimitiveArrayContaining.longArrayContaining(items);
+  }
+
+  /**
+   * Creates an order agnostic matcher for <code>long</code> arrays that matches when each element
+   * in the examined array is equal to a different one of the specified items. For a positive match,
+   * the examined array must be of the same length as the specified items.
+   * For example:
+   * <pre>assertThat(new long[]{1L, 2L}, longArrayContainingInAnyOrder(2L, 1L))</pre>
+   *
+   * @param items
+   *     the elements that must equal those of an examined array, in any order
+   * @return The matcher.
+   */
+  public static org.hamcrest.Matcher<long[]> longArrayContainingInAnyOrder(long... items) {
+    return org.hamcrest.collection.IsPrimitiveArrayContaining.longArrayContainingInAnyOrder(items);
+  }
+
+  /**
+   * Creates a matcher for <code>double</code> arrays that matches when each element in the examined
+   * array is equal to the corresponding element in the specified items, as {@link Double#equals}
+   * would have it. For a positive match, the examined array must be of the same length as the
+   * specified items.
+   * For example:
+   * <pre>assertThat(new double[]{1.0, 2.0}, doubleArrayContaining(1.0, 2.0))</pre>
+   *
+   * @param items
+   *     the elements that must equal those of an examined array
+   * @return The matcher.
+   */
+  public static org.hamcrest.Matcher<double[]> doubleArrayContaining(double... items) {
+    return org.hamcrest.collection.IsPrimitiveArrayContaining.doubleArrayContaining(items);
+  }
+
+  /**
+   * Creates an order agnostic matcher for <code>double</code> arrays that matches when each element
+   * in the examined array is equal to a different one of the specified items, as {@link Double#equals}
+   * would have it. For a positive match, the examined array must be of the same length as the
+   * specified items.
+   * For example:
+   * <pre>assertThat(new double[]{1.0, 2.0}, doubleArrayContainingInAnyOrder(2.0, 1.0))</pre>
+   *
+   * @param items
+   *     the elements that must equal those of an examined array, in any order
+   * @return The matcher.
+   */
+  public static org.hamcrest.Matcher<double[]> doubleArrayContainingInAnyOrder(double... items) {
+    return org.hamcrest.collection.IsPrimitiveArrayContaining.doubleArrayContainingInAnyOrder(items);
+  }
+
   /**
    * Creates a matcher for {@link java.util.Map}s that matches when the <code>size()</code> method returns
    * a value that satisfies the specified matcher.
@@ -1589,6 +1816,34 @@ public class Matchers {
     return org.hamcrest.collection.IsIn.in(elements);
   }
 
+  /**
+   * Creates a matcher that matches when the examined object is an {@link Integer} found within the
+   * specified array. Matching does not box.
+   * For example:
+   * <pre>assertThat(404, is(in(new int[]{400, 404, 410})))</pre>
+   *
+   * @param elements
+   *     the array in which matching items must be found
+   * @return The matcher.
+   */
+  public static org.hamcrest.Matcher<java.lang.Integer> in(int[] elements) {
+    return org.hamcrest.collection.IsIn.in(elements);
+  }
+
+  /**
+   * Creates a matcher that matches when the examined object is a {@link Long} found within the
+   * specified array. Matching does not box.
+   * For example:
+   * <pre>assertThat(404L, is(in(new long[]{400L, 404L, 410L})))</pre>
+   *
+   * @param elements
+   *     the array in which matching items must be found
+   * @return The matcher.
+   */
+  public static org.hamcrest.Matcher<java.lang.Long> in(long[] elements) {
+    return org.hamcrest.collection.IsIn.in(elements);
+  }
+
   /**
    * Creates a matcher that matches when the examined object is found within the
    * specified collection.
@@ -1960,6 +2215,64 @@ public class Matchers {
     return org.hamcrest.text.StringContainsInOrder.stringContainsInOrder(substrings);
   }
 
+  /**
+   * Creates a matcher of {@link String} that matches when the examined string contains at least
+   * one of the specified substrings. The string is scanned once, however many substrings there are.
+   * For example:
+   * <pre>assertThat(logLine, containsAnyOf(Arrays.asList("ERROR", "FATAL")))</pre>
+   *
+   * @param substrings
+   *     the substrings, one of which must be contained within matching strings
+   * @return The matcher.
+   */
+  public static Matcher<java.lang.String> containsAnyOf(java.lang.Iterable<java.lang.String> substrings) {
+    return org.hamcrest.text.StringContainsSubstrings.containsAnyOf(substrings);
+  }
+
+  /**
+   * Creates a matcher of {@link String} that matches when the examined string contains at least
+   * one of the specified substrings. The string is scanned once, however many substrings there are.
+   * For example:
+   * <pre>assertThat(logLine, containsAnyOf("ERROR", "FATAL"))</pre>
+   *
+   * @param substrings
+   *     the substrings, one of which must be contained within matching strings
+   * @return The matcher.
+   */
+  public static Matcher<java.lang.String> containsAnyOf(java.lang.String... substrings) {
+    return org.hamcrest.text.StringContainsSubstrings.containsAnyOf(substrings);
+  }
+
+  /**
+   * Creates a matcher of {@link String} that matches when the examined string contains every one
+   * of the specified substrings, in any order. The string is scanned once, however many substrings
+   * there are, and no further once they have all been found.
+   * For example:
+   * <pre>assertThat("myfoobarbaz", containsAllOf(Arrays.asList("baz", "foo")))</pre>
+   *
+   * @param substrings
+   *     the substrings that must be contained within matching strings
+   * @return The matcher.
+   */
+  public static Matcher<java.lang.String> containsAllOf(java.lang.Iterable<java.lang.String> substrings) {
+    return org.hamcrest.text.StringContainsSubstrings.containsAllOf(substrings);
+  }
+
+  /**
+   * Creates a matcher of {@link String} that matches when the examined string contains every one
+   * of the specified substrings, in any order. The string is scanned once, however many substrings
+   * there are, and no further once they have all been found.
+   * For example:
+   * <pre>assertThat("myfoobarbaz", containsAllOf("baz", "foo"))</pre>
+   *
+   * @param substrings
+   *     the substrings that must be contained within matching strings
+   * @return The matcher.
+   */
+  public static Matcher<java.lang.String> containsAllOf(java.lang.String... substrings) {
+    return org.hamcrest.text.StringContainsSubstrings.containsAllOf(substrings);
+  }
+
   /**
    * Creates a matcher of {@link CharSequence} that matches when a char sequence has the length
    * that satisfies the specified matcher.
@@ -2126,6 +2439,30 @@ public class Matchers {
     return org.hamcrest.beans.SamePropertyValuesAs.samePropertyValuesAs(expectedBean, ignoredProperties);
   }
 
+  /**
+   * Creates a matcher that matches when the examined object has the same values as the
+   * expected object in all of its instance fields, whatever their visibility, including those
+   * declared by superclasses and the components of a record. Primitive fields are compared
+   * without boxing. Fields can be left out of the comparison by name.
+   * For example:
+   * <pre>{@code
+   * assertThat(myDto, hasEqualFieldValues(expectedDto))
+   * assertThat(myDto, hasEqualFieldValues(expectedDto, "id", "lastModified"))
+   * }</pre>
+   *
+   * @param <T>
+   *     the matcher type.
+   * @param expectedObject
+   *     the object with the expected field values
+   * @param ignoredFields
+   *     the names of fields not to compare
+   * @return The matcher.
+   * @throws AssertionError if a compared field of the expected object cannot be read
+   */
+  public static <T> Matcher<T> hasEqualFieldValues(T expectedObject, String... ignoredFields) {
+    return org.hamcrest.object.HasEqualValues.hasEqualFieldValues(expectedObject, ignoredFields);
+  }
+
   /**
    * Creates a matcher of {@link org.w3c.dom.Node}s that matches when the examined node has a value at the
    * specified <code>xPath</code> that satisfies the specified <code>valueMatcher</code>.
@@ -2191,6 +2528,164 @@ public class Matchers {
     return org.hamcrest.xml.HasXPath.hasXPath(xPath, namespaceContext);
   }
 
+  /**
+   * Creates a matcher of {@link javax.xml.transform.Source}s that matches when the document has a value at the specified
+   * <code>xPath</code> that satisfies the specified <code>valueMatcher</code>. The document is streamed,
+   * so the source must be a {@link javax.xml.transform.stream.StreamSource} or a {@link javax.xml.transform.stax.StAXSource}.
+   * For example:
+   * <pre>assertThat(new StreamSource(file), hasXPathInSource("/root/something[2]/cheese", equalTo("Cheddar")))</pre>
+   *
+   * @param xPath
+   *     the target xpath, in the streamable subset
+   * @param valueMatcher
+   *     matcher for the value at the specified xpath
+   * @return The matcher.
+   * @throws IllegalArgumentException if the xpath is not in the streamable subset
+   */
+  public static org.hamcrest.Matcher<javax.xml.transform.Source> hasXPathInSource(java.lang.String xPath, Matcher<java.lang.String> valueMatcher) {
+    return org.hamcrest.xml.HasStreamedXPath.hasXPathInSource(xPath, valueMatcher);
+  }
+
+  /**
+   * Creates a matcher of {@link javax.xml.transform.Source}s that matches when the document has a value at the specified
+   * <code>xPath</code>, within the specified <code>namespaceContext</code>, that satisfies the specified
+   * <code>valueMatcher</code>.
+   * For example:
+   * <pre>assertThat(new StreamSource(file), hasXPathInSource("/root/cheese:name", myNs, equalTo("Cheddar")))</pre>
+   *
+   * @param xPath
+   *     the target xpath, in the streamable subset
+   * @param namespaceContext
+   *     the namespace for matching nodes
+   * @param valueMatcher
+   *     matcher for the value at the specified xpath
+   * @return The matcher.
+   * @throws IllegalArgumentException if the xpath is not in the streamable subset
+   */
+  public static org.hamcrest.Matcher<javax.xml.transform.Source> hasXPathInSource(java.lang.String xPath, javax.xml.namespace.NamespaceContext namespaceContext, Matcher<java.lang.String> valueMatcher) {
+    return org.hamcrest.xml.HasStreamedXPath.hasXPathInSource(xPath, namespaceContext, valueMatcher);
+  }
+
+  /**
+   * Creates a matcher of {@link javax.xml.transform.Source}s that matches when the document contains a node at the
+   * specified <code>xPath</code>, with any content. Reading stops at the first such node.
+   * For example:
+   * <pre>assertThat(new StreamSource(file), hasXPathInSource("/root/something[2]/cheese"))</pre>
+   *
+   * @param xPath
+   *     the target xpath, in the streamable subset
+   * @return The matcher.
+   * @throws IllegalArgumentException if the xpath is not in the streamable subset
+   */
+  public static org.hamcrest.Matcher<javax.xml.transform.Source> hasXPathInSource(java.lang.String xPath) {
+    return org.hamcrest.xml.HasStreamedXPath.hasXPathInSource(xPath);
+  }
+
+  /**
+   * Creates a matcher of {@link java.io.InputStream}s that matches when the document has a value at the specified
+   * <code>xPath</code> that satisfies the specified <code>valueMatcher</code>. The stream is read as far as
+   * it takes to decide, and is not closed.
+   * For example:
+   * <pre>assertThat(response.getBody(), hasXPathInStream("//order[@id='42']/@status", equalTo("shipped")))</pre>
+   *
+   * @param xPath
+   *     the target xpath, in the streamable subset
+   * @param valueMatcher
+   *     matcher for the value at the specified xpath
+   * @return The matcher.
+   * @throws IllegalArgumentException if the xpath is not in the streamable subset
+   */
+  public static org.hamcrest.Matcher<java.io.InputStream> hasXPathInStream(java.lang.String xPath, Matcher<java.lang.String> valueMatcher) {
+    return org.hamcrest.xml.HasStreamedXPath.hasXPathInStream(xPath, valueMatcher);
+  }
+
+  /**
+   * Creates a matcher of {@link java.io.InputStream}s that matches when the document has a value at the specified
+   * <code>xPath</code>, within the specified <code>namespaceContext</code>, that satisfies the specified
+   * <code>valueMatcher</code>. The stream is read as far as it takes to decide, and is not closed.
+   * For example:
+   * <pre>assertThat(response.getBody(), hasXPathInStream("//cheese:order/@status", myNs, equalTo("shipped")))</pre>
+   *
+   * @param xPath
+   *     the target xpath, in the streamable subset
+   * @param namespaceContext
+   *     the namespace for matching nodes
+   * @param valueMatcher
+   *     matcher for the value at the specified xpath
+   * @return The matcher.
+   * @throws IllegalArgumentException if the xpath is not in the streamable subset
+   */
+  public static org.hamcrest.Matcher<java.io.InputStream> hasXPathInStream(java.lang.String xPath, javax.xml.namespace.NamespaceContext namespaceContext, Matcher<java.lang.String> valueMatcher) {
+    return org.hamcrest.xml.HasStreamedXPath.hasXPathInStream(xPath, namespaceContext, valueMatcher);
+  }
+
+  /**
+   * Creates a matcher of {@link java.io.InputStream}s that matches when the document contains a node at the
+   * specified <code>xPath</code>, with any content. Reading stops at the first such node.
+   * For example:
+   * <pre>assertThat(response.getBody(), hasXPathInStream("//order[@id='42']"))</pre>
+   *
+   * @param xPath
+   *     the target xpath, in the streamable subset
+   * @return The matcher.
+   * @throws IllegalArgumentException if the xpath is not in the streamable subset
+   */
+  public static org.hamcrest.Matcher<java.io.InputStream> hasXPathInStream(java.lang.String xPath) {
+    return org.hamcrest.xml.HasStreamedXPath.hasXPathInStream(xPath);
+  }
+
+  /**
+   * Creates a matcher of {@link java.nio.file.Path}s that matches when the XML file has a value at the specified
+   * <code>xPath</code> that satisfies the specified <code>valueMatcher</code>.
+   * For example:
+   * <pre>assertThat(Paths.get("orders.xml"), hasXPathInFile("//order[@id='42']/@status", equalTo("shipped")))</pre>
+   *
+   * @param xPath
+   *     the target xpath, in the streamable subset
+   * @param valueMatcher
+   *     matcher for the value at the specified xpath
+   * @return The matcher.
+   * @throws IllegalArgumentException if the xpath is not in the streamable subset
+   */
+  public static org.hamcrest.Matcher<java.nio.file.Path> hasXPathInFile(java.lang.String xPath, Matcher<java.lang.String> valueMatcher) {
+    return org.hamcrest.xml.HasStreamedXPath.hasXPathInFile(xPath, valueMatcher);
+  }
+
+  /**
+   * Creates a matcher of {@link java.nio.file.Path}s that matches when the XML file has a value at the specified
+   * <code>xPath</code>, within the specified <code>namespaceContext</code>, that satisfies the specified
+   * <code>valueMatcher</code>.
+   * For example:
+   * <pre>assertThat(Paths.get("orders.xml"), hasXPathInFile("//cheese:order/@status", myNs, equalTo("shipped")))</pre>
+   *
+   * @param xPath
+   *     the target xpath, in the streamable subset
+   * @param namespaceContext
+   *     the namespace for matching nodes
+   * @param valueMatcher
+   *     matcher for the value at the specified xpath
+   * @return The matcher.
+   * @throws IllegalArgumentException if the xpath is not in the streamable subset
+   */
+  public static org.hamcrest.Matcher<java.nio.file.Path> hasXPathInFile(java.lang.String xPath, javax.xml.namespace.NamespaceContext namespaceContext, Matcher<java.lang.String> valueMatcher) {
+    return org.hamcrest.xml.HasStreamedXPath.hasXPathInFile(xPath, namespaceContext, valueMatcher);
+  }
+
+  /**
+   * Creates a matcher of {@link java.nio.file.Path}s that matches when the XML file contains a node at the
+   * specified <code>xPath</code>, with any content. Reading stops at the first such node.
+   * For example:
+   * <pre>assertThat(Paths.get("orders.xml"), hasXPathInFile("//order[@id='42']"))</pre>
+   *
+   * @param xPath
+   *     the target xpath, in the streamable subset
+   * @return The matcher.
+   * @throws IllegalArgumentException if the xpath is not in the streamable subset
+   */
+  public static org.hamcrest.Matcher<java.nio.file.Path> hasXPathInFile(java.lang.String xPath) {
+    return org.hamcrest.xml.HasStreamedXPath.hasXPathInFile(xPath);
+  }
+
   /**
    * Matcher that expects empty {@link Optional}.
    *
@@ -0,0 +1,72 @@
+package org.hamcrest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link Description} that remembers what was appended to it, so that it can be replayed
+ * onto another description later. Used by the diagnosing matchers to capture a mismatch
+ * during their single evaluation without rendering it.
+ */
+final class RecordingDescription implements Description, SelfDescribing {
+
+    private List<SelfDescribing> appended;
+
+    private Description record(SelfDescribing append) {
+        if (appended == null) {
+            appended = new ArrayList<>(4);
+        }
+        appended.add(append);
+        return this;
+    }
+
+    @Override
+    public Description appendText(String text) {
+        return record(description -> description.appendText(text));
+    }
+
+    @Override
+    public Description appendDescriptionOf(SelfDescribing value) {
+        return record(description -> description.appendDescriptionOf(value));
+    }
+
+    @Override
+    public Description appendValue(Object value) {
+        return record(description -> description.appendValue(value));
+    }
+
+    @SafeVarargs
+    @Override
+    public final <T> Description appendValueList(String start, String separator, String end, T... values) {
+        return record(description -> description.appendValueList(start, separator, end, values));
+    }
+
+    @Override
+    public <T> Description appendValueList(String start, String separator, String end, Iterable<T> values) {
+        return record(description -> description.appendValueList(start, separator, end, values));
+    }
+
+    @Override
+    public Description appendList(String start, String separator, String end,
+                                  Iterable<? extends SelfDescribing> values) {
+        return record(description -> description.appendList(start, separator, end, values));
+    }
+
+    /**
+     * Replays everything appended to this description onto <code>description</code>.
+     */
+    @Override
+    public void describeTo(Description description) {
+        if (appended != null) {
+            for (SelfDescribing append : appended) {
+                append.describeTo(description);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return StringDescription.toString(this);
+    }
+
+}
@@ -4,10 +4,22 @@ import java.io.IOException;
 
 /**
  * A {@link Description} that is stored as a string.
+ *
+ * When the description is written to a {@link StringBuilder}, which is the default,
+ * text is appended to it directly rather than through {@link Appendable}.
+ *
+ * <p>A description can be given a {@link DescriptionBudget}, which bounds the elements of a list
+ * and the characters of a value that it describes, and the length of the whole description.</p>
  */
 public class StringDescription extends BaseDescription {
 
+    private static final String TRUNCATED = "...";
+
     private final Appendable out;
+    private final StringBuilder builder;
+    private final DescriptionBudget budget;
+    private long length = 0;
+    private boolean full = false;
 
     /**
      * Creates a new description.
@@ -21,7 +33,26 @@ public class StringDescription extends BaseDescription {
      * @param out the place to append the description.
      */
     public StringDescription(Appendable out) {
+        this(out, DescriptionBudget.unlimited());
+    }
+
+    /**
+     * Creates a new description that keeps to the given budget.
+     * @param budget the limits on the size of the description.
+     */
+    public StringDescription(DescriptionBudget budget) {
+        this(new StringBuilder(), budget);
+    }
+
+    /**
+     * Creates a new description using the given appendable, that keeps to the given budget.
+     * @param out the place to append the description.
+     * @param budget the limits on the size of the description.
+     */
+    public StringDescription(Appendable out, DescriptionBudget budget) {
         this.out = out;
+        this.builder = out instanceof StringBuilder ? (StringBuilder) out : null;
+        this.budget = budget;
     }
 
     /**
@@ -48,8 +79,27 @@ public class StringDescription extends BaseDescription {
         return toString(selfDescribing);
     }
 
+    @Override
+    protected DescriptionBudget budget() {
+        return budget;
+    }
+
+    @Override
+    protected boolean isFull() {
+        return full;
+    }
+
     @Override
     protected void append(String str) {
+        if (full || str.length() > budget.maxLength() - length) {
+            append(str, 0, str.length());
+            return;
+        }
+        length += str.length();
+        if (builder != null) {
+            builder.append(str);
+            return;
+        }
         try {
             out.append(str);
         } catch (IOException e) {
@@ -57,8 +107,35 @@ public class StringDescription extends BaseDescription {
         }
     }
 
+    @Override
+    protected void append(CharSequence csq, int start, int end) {
+        if (full) {
+            return;
+        }
+        final long room = budget.maxLength() - length;
+        if (end - start > room) {
+            write(csq, start, start + (int) room);
+            truncate();
+            return;
+        }
+        write(csq, start, end);
+        length += end - start;
+    }
+
     @Override
     protected void append(char c) {
+        if (full) {
+            return;
+        }
+        if (length == budget.maxLength()) {
+            truncate();
+            return;
+        }
+        length++;
+        if (builder != null) {
+            builder.append(c);
+            return;
+        }
         try {
             out.append(c);
         } catch (IOException e) {
@@ -66,6 +143,23 @@ public class StringDescription extends BaseDescription {
         }
     }
 
+    private void truncate() {
+        write(TRUNCATED, 0, TRUNCATED.length());
+        full = true;
+    }
+
+    private void write(CharSequence csq, int start, int end) {
+        if (builder != null) {
+            builder.append(csq, start, end);
+            return;
+        }
+        try {
+            out.append(csq, start, end);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write description", e);
+        }
+    }
+
     /**
      * Returns the description as a string.
      */
@@ -64,7 +64,7 @@ public abstract class TypeSafeDiagnosingMatcher<T> extends BaseMatcher<T> {
     public final boolean matches(Object item) {
         return item != null
             && expectedType.isInstance(item)
-            && matchesSafely((T) item, new Description.NullDescription());
+            && matchesSafely((T) item, Description.NONE);
     }
 
     @SuppressWarnings("unchecked")
@@ -82,4 +82,14 @@ public abstract class TypeSafeDiagnosingMatcher<T> extends BaseMatcher<T> {
       }
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public final MatchResult evaluate(Object item) {
+      if (item == null || !expectedType.isInstance(item)) {
+        return MatchResult.mismatch(description -> describeMismatch(item, description));
+      }
+      RecordingDescription mismatch = new RecordingDescription();
+      return matchesSafely((T) item, mismatch) ? MatchResult.match() : MatchResult.mismatch(mismatch);
+    }
+
 }
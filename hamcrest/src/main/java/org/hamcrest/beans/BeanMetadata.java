@@ -0,0 +1,236 @@
+package org.hamcrest.beans;
+
+import java.beans.FeatureDescriptor;
+import java.beans.MethodDescriptor;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.beans.PropertyUtil.NO_ARGUMENTS;
+
+/**
+ * What the bean matchers need to know about a class, worked out once per class and shared.
+ * Looking up a property is then a hash lookup, and reading it a call through a method handle
+ * that was bound when the class was first introspected.
+ *
+ * <p>Properties are found as {@link PropertyUtil} finds them: JavaBean properties first, then
+ * record-like read accessors named after the fields of the class.</p>
+ */
+final class BeanMetadata {
+
+    private static final ClassValue<BeanMetadata> METADATA = new ClassValue<BeanMetadata>() {
+        @Override
+        protected BeanMetadata computeValue(Class<?> type) {
+            return new BeanMetadata(type);
+        }
+    };
+
+    private static final MethodType READER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final Class<?> type;
+    private final Map<String, Accessor> accessors;
+    private final List<Accessor> ownProperties;
+    private final Set<String> ownPropertyNames;
+    private final Set<String> ownBeanPropertyNames;
+    private final IllegalArgumentException failure;
+
+    private BeanMetadata(Class<?> type) {
+        this.type = type;
+        Map<String, Accessor> accessors = Collections.emptyMap();
+        List<Accessor> ownProperties = Collections.emptyList();
+        Set<String> ownBeanPropertyNames = Collections.emptySet();
+        IllegalArgumentException failure = null;
+        try {
+            accessors = accessorsByName(type);
+            ownProperties = ownProperties(type);
+            ownBeanPropertyNames = namesOf(PropertyUtil.propertyDescriptorsOf(type, Object.class));
+        } catch (IllegalArgumentException e) {
+            failure = e;
+        }
+        this.accessors = accessors;
+        this.ownProperties = ownProperties;
+        this.ownPropertyNames = namesOf(ownProperties);
+        this.ownBeanPropertyNames = ownBeanPropertyNames;
+        this.failure = failure;
+    }
+
+    /**
+     * @param type the class of a bean
+     * @return the shared metadata of the class.
+     */
+    static BeanMetadata of(Class<?> type) {
+        return METADATA.get(type);
+    }
+
+    /**
+     * @param propertyName the name of a JavaBean property or a record-like accessor
+     * @return the accessor, or <code>null</code> if the class has no such property.
+     * @throws IllegalArgumentException if the class could not be introspected
+     */
+    Accessor accessor(String propertyName) {
+        checkIntrospected();
+        return accessors.get(propertyName);
+    }
+
+    /**
+     * The properties declared below {@link Object}, in the order of the bean info, or the record-like
+     * accessors if there are none.
+     *
+     * @return the accessors, by display name.
+     * @throws IllegalArgumentException if the class could not be introspected
+     */
+    List<Accessor> ownProperties() {
+        checkIntrospected();
+        return ownProperties;
+    }
+
+    /**
+     * @return the display names of {@link #ownProperties()}.
+     * @throws IllegalArgumentException if the class could not be introspected
+     */
+    Set<String> ownPropertyNames() {
+        checkIntrospected();
+        return ownPropertyNames;
+    }
+
+    /**
+     * @return the display names of the JavaBean properties declared below {@link Object}, without
+     *     falling back to record-like accessors.
+     * @throws IllegalArgumentException if the class could not be introspected
+     */
+    Set<String> ownBeanPropertyNames() {
+        checkIntrospected();
+        return ownBeanPropertyNames;
+    }
+
+    private void checkIntrospected() {
+        if (failure != null) {
+            throw new IllegalArgumentException(failure.getMessage(), failure.getCause());
+        }
+    }
+
+    private static Map<String, Accessor> accessorsByName(Class<?> type) {
+        final Map<String, Accessor> accessors = new HashMap<>();
+        for (MethodDescriptor method : PropertyUtil.recordReadAccessorMethodDescriptorsOf(type, null)) {
+            accessors.putIfAbsent(method.getName(), new Accessor(method));
+        }
+        // JavaBean properties take precedence over record-like accessors of the same name
+        final Map<String, Accessor> properties = new HashMap<>();
+        for (PropertyDescriptor property : PropertyUtil.propertyDescriptorsOf(type, null)) {
+            properties.putIfAbsent(property.getName(), new Accessor(property));
+        }
+        accessors.putAll(properties);
+        return accessors;
+    }
+
+    private static List<Accessor> ownProperties(Class<?> type) {
+        FeatureDescriptor[] descriptors = PropertyUtil.propertyDescriptorsOf(type, Object.class);
+        if (descriptors == null || descriptors.length == 0) {
+            descriptors = PropertyUtil.recordReadAccessorMethodDescriptorsOf(type, Object.class);
+        }
+        final List<Accessor> properties = new ArrayList<>(descriptors.length);
+        for (FeatureDescriptor descriptor : descriptors) {
+            properties.add(new Accessor(descriptor));
+        }
+        return Collections.unmodifiableList(properties);
+    }
+
+    private static Set<String> namesOf(List<Accessor> properties) {
+        final Set<String> names = new LinkedHashSet<>();
+        for (Accessor property : properties) {
+            names.add(property.displayName());
+        }
+        return Collections.unmodifiableSet(names);
+    }
+
+    private static Set<String> namesOf(FeatureDescriptor[] descriptors) {
+        final Set<String> names = new LinkedHashSet<>();
+        for (FeatureDescriptor descriptor : descriptors) {
+            names.add(descriptor.getDisplayName());
+        }
+        return Collections.unmodifiableSet(names);
+    }
+
+    @Override
+    public String toString() {
+        return "BeanMetadata(" + type.getName() + ")";
+    }
+
+    /**
+     * Reads one property of a bean.
+     */
+    static final class Accessor {
+        private final String name;
+        private final String displayName;
+        private final Method readMethod;
+        private final MethodHandle reader;
+
+        Accessor(FeatureDescriptor descriptor) {
+            this.name = descriptor.getName();
+            this.displayName = descriptor.getDisplayName();
+            this.readMethod = descriptor instanceof PropertyDescriptor
+                ? ((PropertyDescriptor) descriptor).getReadMethod()
+                : ((MethodDescriptor) descriptor).getMethod();
+            this.reader = isReadable() ? readerFor(readMethod) : null;
+        }
+
+        String name() {
+            return name;
+        }
+
+        String displayName() {
+            return displayName;
+        }
+
+        /**
+         * @return the read method, or <code>null</code> if the property is write-only.
+         */
+        Method readMethod() {
+            return readMethod;
+        }
+
+        boolean isReadable() {
+            return readMethod != null && readMethod.getReturnType() != void.class;
+        }
+
+        /**
+         * @param bean the bean to read the property of
+         * @return the value of the property.
+         * @throws InvocationTargetException if the read method throws
+         * @throws IllegalAccessException if the read method cannot be called from here
+         */
+        Object read(Object bean) throws InvocationTargetException, IllegalAccessException {
+            if (reader == null) {
+                return readMethod.invoke(bean, NO_ARGUMENTS);
+            }
+            try {
+                return reader.invokeExact(bean);
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+
+        /*
+         * A handle with the access of this package, as Method.invoke would have had. Where that is
+         * refused, reading falls back to Method.invoke, which reports the problem as it always has.
+         */
+        private static MethodHandle readerFor(Method method) {
+            try {
+                return MethodHandles.lookup().unreflect(method).asType(READER_TYPE);
+            } catch (IllegalAccessException e) {
+                return null;
+            }
+        }
+    }
+
+}
@@ -30,8 +30,7 @@ public class HasProperty<T> extends TypeSafeMatcher<T> {
     @Override
     public boolean matchesSafely(T obj) {
         try {
-            return PropertyUtil.getPropertyDescriptor(propertyName, obj) != null ||
-                    PropertyUtil.getMethodDescriptor(propertyName, obj) != null;
+            return BeanMetadata.of(obj.getClass()).accessor(propertyName) != null;
         } catch (IllegalArgumentException e) {
             return false;
         }
@@ -0,0 +1,268 @@
+package org.hamcrest.beans;
+
+import org.hamcrest.Description;
+import org.hamcrest.MatchResult;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>A matcher that follows a path of JavaBean properties from the examined object, and checks
+ * the value at the end of it. The path is parsed once, when the matcher is created, into a chain
+ * of steps. Each property step remembers the accessor it found for the last class it saw, so
+ * that walking beans of the same class costs a class comparison and a call per step.</p>
+ *
+ * <p>A path is a dot-separated list of property names, each of which may be followed by one or
+ * more indexes in square brackets: <code>items[3].sku</code> reads element 3 of a
+ * {@link List} or array, and <code>attrs[colour]</code> reads the entry with the key
+ * <code>"colour"</code> of a {@link Map}.</p>
+ *
+ * <p>If the walk cannot go on, the mismatch says where it stopped: which property does not
+ * exist, which value on the path was <code>null</code>, or which index was not there.</p>
+ *
+ * @param <T> the matcher type
+ * @see HasPropertyWithValue#hasPropertyAtPath(String, Matcher)
+ */
+public class HasPropertyAtPath<T> extends TypeSafeDiagnosingMatcher<T> {
+
+    private static final Object STOPPED = new Object();
+
+    private final String path;
+    private final Step[] steps;
+    private final List<String> segments;
+    private final Matcher<Object> valueMatcher;
+
+    /**
+     * Constructor, best called from {@link HasPropertyWithValue#hasPropertyAtPath(String, Matcher)}.
+     * @param path the dot-separated path from the examined object to the property
+     * @param valueMatcher matcher for the value at the end of the path
+     * @throws IllegalArgumentException if the path is malformed
+     */
+    public HasPropertyAtPath(String path, Matcher<?> valueMatcher) {
+        this.path = path;
+        this.segments = new ArrayList<>();
+        this.steps = compile(path, segments);
+        this.valueMatcher = nastyGenericsWorkaround(valueMatcher);
+    }
+
+    @Override
+    protected boolean matchesSafely(T bean, Description mismatch) {
+        Object value = bean;
+        for (Step step : steps) {
+            if (value == null) {
+                mismatch.appendText(step.previousPath + " was null");
+                return false;
+            }
+            value = step.apply(value, mismatch);
+            if (value == STOPPED) {
+                return false;
+            }
+        }
+        final MatchResult result = valueMatcher.evaluate(value);
+        if (!result.matched()) {
+            mismatch.appendText(path + ".");
+            result.describeMismatch(mismatch);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        for (String segment : segments) {
+            description.appendText("hasProperty(").appendValue(segment).appendText(", ");
+        }
+        description.appendDescriptionOf(valueMatcher);
+        for (int i = 0; i < segments.size(); i++) {
+            description.appendText(")");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Matcher<Object> nastyGenericsWorkaround(Matcher<?> valueMatcher) {
+        return (Matcher<Object>) valueMatcher;
+    }
+
+    private static Step[] compile(String path, List<String> segments) {
+        final List<Step> steps = new ArrayList<>();
+        final StringBuilder walked = new StringBuilder();
+        int position = 0;
+        while (true) {
+            final int segmentStart = position;
+            while (position < path.length() && path.charAt(position) != '.' && path.charAt(position) != '[') {
+                position++;
+            }
+            final String name = path.substring(segmentStart, position);
+            if (!name.isEmpty()) {
+                steps.add(new PropertyStep(name, walked.toString()));
+                walked.append(segmentStart > 0 ? "." : "").append(name);
+            } else if (position == path.length() || path.charAt(position) != '[' || segmentStart > 0) {
+                throw malformed(path, "empty property name at " + segmentStart);
+            }
+            while (position < path.length() && path.charAt(position) == '[') {
+                final int close = path.indexOf(']', position);
+                if (close < 0) {
+                    throw malformed(path, "unclosed '[' at " + position);
+                }
+                final String index = path.substring(position + 1, close);
+                if (index.isEmpty()) {
+                    throw malformed(path, "empty index at " + position);
+                }
+                steps.add(new IndexStep(index, walked.toString()));
+                walked.append('[').append(index).append(']');
+                position = close + 1;
+            }
+            segments.add(path.substring(segmentStart, position));
+            if (position == path.length()) {
+                return steps.toArray(new Step[0]);
+            }
+            if (path.charAt(position) != '.') {
+                throw malformed(path, "expected '.' at " + position);
+            }
+            position++;
+        }
+    }
+
+    private static IllegalArgumentException malformed(String path, String reason) {
+        return new IllegalArgumentException("Malformed property path \"" + path + "\": " + reason);
+    }
+
+    /*
+     * One step along the path. It either returns the next value, or describes why it cannot and
+     * returns STOPPED. previousPath is the path up to the value that the step is applied to.
+     */
+    private abstract static class Step {
+        final String previousPath;
+
+        Step(String previousPath) {
+            this.previousPath = previousPath;
+        }
+
+        abstract Object apply(Object value, Description mismatch);
+    }
+
+    private static final class PropertyStep extends Step {
+        private final String name;
+        private final String prefix;
+        private Resolved cache;
+
+        PropertyStep(String name, String previousPath) {
+            super(previousPath);
+            this.name = name;
+            this.prefix = previousPath.isEmpty() ? "" : previousPath + ".";
+        }
+
+        @Override
+        Object apply(Object bean, Description mismatch) {
+            final BeanMetadata.Accessor property = accessorFor(bean.getClass());
+            if (property == null) {
+                mismatch.appendText(prefix + "No property \"" + name + "\"");
+                return STOPPED;
+            }
+            if (!property.isReadable()) {
+                mismatch.appendText(prefix + "property \"" + name + "\" is not readable");
+                return STOPPED;
+            }
+            try {
+                return property.read(bean);
+            } catch (InvocationTargetException e) {
+                mismatch
+                  .appendText(prefix + "Calling '")
+                  .appendText(property.readMethod().toString())
+                  .appendText("': ")
+                  .appendValue(e.getTargetException().getMessage());
+                return STOPPED;
+            } catch (Exception e) {
+                throw new IllegalStateException(
+                  "Calling: '" + property.readMethod() + "' should not have thrown " + e);
+            }
+        }
+
+        /*
+         * An inline cache of one entry: paths are nearly always walked over beans of one class.
+         * The entry is immutable, so a racing reader sees either the old entry or the new one.
+         */
+        private BeanMetadata.Accessor accessorFor(Class<?> type) {
+            final Resolved resolved = cache;
+            if (resolved != null && resolved.type == type) {
+                return resolved.accessor;
+            }
+            final BeanMetadata.Accessor accessor = BeanMetadata.of(type).accessor(name);
+            cache = new Resolved(type, accessor);
+            return accessor;
+        }
+    }
+
+    private static final class Resolved {
+        final Class<?> type;
+        final BeanMetadata.Accessor accessor;
+
+        Resolved(Class<?> type, BeanMetadata.Accessor accessor) {
+            this.type = type;
+            this.accessor = accessor;
+        }
+    }
+
+    private static final class IndexStep extends Step {
+        private final String key;
+        private final int index;
+
+        IndexStep(String key, String previousPath) {
+            super(previousPath);
+            this.key = key;
+            this.index = indexOf(key);
+        }
+
+        @Override
+        Object apply(Object container, Description mismatch) {
+            if (container instanceof Map) {
+                final Map<?, ?> map = (Map<?, ?>) container;
+                if (map.containsKey(key)) {
+                    return map.get(key);
+                }
+                if (index >= 0 && map.containsKey(index)) {
+                    return map.get(index);
+                }
+                mismatch.appendText(location() + " has no key ").appendValue(key);
+                return STOPPED;
+            }
+            final int size;
+            if (container instanceof List) {
+                size = ((List<?>) container).size();
+            } else if (container.getClass().isArray()) {
+                size = Array.getLength(container);
+            } else {
+                mismatch.appendText(location() + " is not a list, array or map: ").appendValue(container);
+                return STOPPED;
+            }
+            if (index < 0 || index >= size) {
+                mismatch.appendText(location() + " has no element [" + key + "], size was " + size);
+                return STOPPED;
+            }
+            return container instanceof List ? ((List<?>) container).get(index) : Array.get(container, index);
+        }
+
+        private String location() {
+            return previousPath.isEmpty() ? "item" : previousPath;
+        }
+
+        private static int indexOf(String key) {
+            for (int i = 0; i < key.length(); i++) {
+                if (!Character.isDigit(key.charAt(i))) {
+                    return -1;
+                }
+            }
+            try {
+                return Integer.parseInt(key);
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+    }
+
+}
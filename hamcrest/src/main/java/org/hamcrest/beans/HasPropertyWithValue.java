@@ -5,18 +5,10 @@ import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 
-import java.beans.FeatureDescriptor;
-import java.beans.MethodDescriptor;
-import java.beans.PropertyDescriptor;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.util.Arrays;
-import java.util.List;
-import java.util.ListIterator;
 
 import static org.hamcrest.Condition.matched;
 import static org.hamcrest.Condition.notMatched;
-import static org.hamcrest.beans.PropertyUtil.NO_ARGUMENTS;
 
 /**
  * <p>A matcher that checks if an object has a JavaBean property with the
@@ -71,7 +63,7 @@ import static org.hamcrest.beans.PropertyUtil.NO_ARGUMENTS;
  */
 public class HasPropertyWithValue<T> extends TypeSafeDiagnosingMatcher<T> {
 
-    private static final Condition.Step<FeatureDescriptor, Method> WITH_READ_METHOD = withReadMethod();
+    private static final Condition.Step<BeanMetadata.Accessor, BeanMetadata.Accessor> READABLE = readable();
     private final String propertyName;
     private final Matcher<Object> valueMatcher;
     private final String messageFormat;
@@ -102,7 +94,7 @@ public class HasPropertyWithValue<T> extends TypeSafeDiagnosingMatcher<T> {
     @Override
     public boolean matchesSafely(T bean, Description mismatch) {
         return propertyOn(bean, mismatch)
-                  .and(WITH_READ_METHOD)
+                  .and(READABLE)
                   .and(withPropertyValue(bean))
                   .matching(valueMatcher, String.format(messageFormat, propertyName));
     }
@@ -113,11 +105,8 @@ public class HasPropertyWithValue<T> extends TypeSafeDiagnosingMatcher<T> {
                    .appendDescriptionOf(valueMatcher).appendText(")");
     }
 
-    private Condition<FeatureDescriptor> propertyOn(T bean, Description mismatch) {
-        FeatureDescriptor property = PropertyUtil.getPropertyDescriptor(propertyName, bean);
-        if (property == null) {
-            property = PropertyUtil.getMethodDescriptor(propertyName, bean);
-        }
+    private Condition<BeanMetadata.Accessor> propertyOn(T bean, Description mismatch) {
+        final BeanMetadata.Accessor property = BeanMetadata.of(bean.getClass()).accessor(propertyName);
         if (property == null) {
             mismatch.appendText("No property \"" + propertyName + "\"");
             return notMatched();
@@ -126,20 +115,20 @@ public class HasPropertyWithValue<T> extends TypeSafeDiagnosingMatcher<T> {
         return matched(property, mismatch);
     }
 
-    private Condition.Step<Method, Object> withPropertyValue(final T bean) {
-        return (readMethod, mismatch) -> {
+    private Condition.Step<BeanMetadata.Accessor, Object> withPropertyValue(final T bean) {
+        return (property, mismatch) -> {
             try {
-                return matched(readMethod.invoke(bean, NO_ARGUMENTS), mismatch);
+                return matched(property.read(bean), mismatch);
             } catch (InvocationTargetException e) {
                 mismatch
                   .appendText("Calling '")
-                  .appendText(readMethod.toString())
+                  .appendText(property.readMethod().toString())
                   .appendText("': ")
                   .appendValue(e.getTargetException().getMessage());
                 return notMatched();
             } catch (Exception e) {
                 throw new IllegalStateException(
-                  "Calling: '" + readMethod + "' should not have thrown " + e);
+                  "Calling: '" + property.readMethod() + "' should not have thrown " + e);
             }
         };
     }
@@ -149,16 +138,13 @@ public class HasPropertyWithValue<T> extends TypeSafeDiagnosingMatcher<T> {
         return (Matcher<Object>) valueMatcher;
     }
 
-    private static Condition.Step<FeatureDescriptor, Method> withReadMethod() {
+    private static Condition.Step<BeanMetadata.Accessor, BeanMetadata.Accessor> readable() {
         return (property, mismatch) -> {
-            final Method readMethod = property instanceof PropertyDescriptor ?
-                    ((PropertyDescriptor) property).getReadMethod() :
-                    (((MethodDescriptor) property).getMethod());
-            if (null == readMethod || readMethod.getReturnType() == void.class) {
-                mismatch.appendText("property \"" + property.getName() + "\" is not readable");
+            if (!property.isReadable()) {
+                mismatch.appendText("property \"" + property.name() + "\" is not readable");
                 return notMatched();
             }
-            return matched(readMethod, mismatch);
+            return matched(property, mismatch);
         };
     }
 
@@ -184,9 +170,13 @@ public class HasPropertyWithValue<T> extends TypeSafeDiagnosingMatcher<T> {
      * Creates a matcher that matches when the examined object is a graph of
      * JavaBean objects that can be navigated along the declared dot-separated path
      * and the final element of that path is a JavaBean property whose value satisfies the
-     * specified matcher.
+     * specified matcher. A property on the path may be followed by an index into a list, an
+     * array or a map, and the mismatch description says which step of the path was
+     * <code>null</code> or missing.
      * For example:
-     * <pre>assertThat(myBean, hasProperty("foo.bar.baz", equalTo("a property value"))</pre>
+     * <pre>assertThat(myBean, hasProperty("foo.bar.baz", equalTo("a property value"))
+     * assertThat(myOrder, hasPropertyAtPath("items[3].sku", equalTo("X-42"))
+     * assertThat(myBean, hasPropertyAtPath("attributes[colour]", equalTo("red"))</pre>
      *
      * @param <T>
      *     the matcher type.
@@ -195,17 +185,10 @@ public class HasPropertyWithValue<T> extends TypeSafeDiagnosingMatcher<T> {
      * @param valueMatcher
      *     a matcher for the value of the specified property of the examined bean
      * @return The matcher.
+     * @throws IllegalArgumentException if the path is malformed
      */
     public static <T> Matcher<T> hasPropertyAtPath(String path, Matcher<T> valueMatcher) {
-        List<String> properties = Arrays.asList(path.split("\\."));
-            ListIterator<String> iterator =
-                properties.listIterator(properties.size());
-
-            Matcher<T> ret = valueMatcher;
-            while (iterator.hasPrevious()) {
-                ret = new HasPropertyWithValue<>(iterator.previous(), ret, "%s.");
-            }
-            return ret;
+        return new HasPropertyAtPath<>(path, valueMatcher);
     }
 
 }
@@ -54,10 +54,14 @@ public class PropertyUtil {
      * @throws IllegalArgumentException if there's an introspection failure
      */
     public static PropertyDescriptor[] propertyDescriptorsFor(Object fromObj, Class<Object> stopClass) throws IllegalArgumentException {
+        return propertyDescriptorsOf(fromObj.getClass(), stopClass);
+    }
+
+    static PropertyDescriptor[] propertyDescriptorsOf(Class<?> type, Class<?> stopClass) throws IllegalArgumentException {
       try {
-        return Introspector.getBeanInfo(fromObj.getClass(), stopClass).getPropertyDescriptors();
+        return Introspector.getBeanInfo(type, stopClass).getPropertyDescriptors();
       } catch (IntrospectionException e) {
-        throw new IllegalArgumentException("Could not get property descriptors for " + fromObj.getClass(), e);
+        throw new IllegalArgumentException("Could not get property descriptors for " + type, e);
       }
     }
 
@@ -96,9 +100,13 @@ public class PropertyUtil {
      * @throws IllegalArgumentException if there's an introspection failure
      */
     public static MethodDescriptor[] recordReadAccessorMethodDescriptorsFor(Object fromObj, Class<Object> stopClass) throws IllegalArgumentException {
+        return recordReadAccessorMethodDescriptorsOf(fromObj.getClass(), stopClass);
+    }
+
+    static MethodDescriptor[] recordReadAccessorMethodDescriptorsOf(Class<?> type, Class<?> stopClass) throws IllegalArgumentException {
         try {
-            Set<String> recordComponentNames = getFieldNames(fromObj);
-            MethodDescriptor[] methodDescriptors = Introspector.getBeanInfo(fromObj.getClass(), stopClass).getMethodDescriptors();
+            Set<String> recordComponentNames = fieldNamesOf(type);
+            MethodDescriptor[] methodDescriptors = Introspector.getBeanInfo(type, stopClass).getMethodDescriptors();
 
             return Arrays.stream(methodDescriptors)
                     .filter(x -> recordComponentNames.contains(x.getDisplayName()))
@@ -106,7 +114,7 @@ public class PropertyUtil {
                     .filter(x -> x.getMethod().getParameterCount() == 0)
                     .toArray(MethodDescriptor[]::new);
         } catch (IntrospectionException e) {
-            throw new IllegalArgumentException("Could not get method descriptors for " + fromObj.getClass(), e);
+            throw new IllegalArgumentException("Could not get method descriptors for " + type, e);
         }
     }
 
@@ -119,12 +127,16 @@ public class PropertyUtil {
      * @throws IllegalArgumentException if there's a security issue reading the fields
      */
     public static Set<String> getFieldNames(Object fromObj) throws IllegalArgumentException {
+        return fieldNamesOf(fromObj.getClass());
+    }
+
+    private static Set<String> fieldNamesOf(Class<?> type) throws IllegalArgumentException {
         try {
-            return Arrays.stream(fromObj.getClass().getDeclaredFields())
+            return Arrays.stream(type.getDeclaredFields())
                     .map(Field::getName)
                     .collect(Collectors.toSet());
         } catch (SecurityException e) {
-            throw new IllegalArgumentException("Could not get record component names for " + fromObj.getClass(), e);
+            throw new IllegalArgumentException("Could not get record component names for " + type, e);
         }
     }
 
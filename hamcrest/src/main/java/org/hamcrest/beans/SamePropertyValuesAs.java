@@ -2,18 +2,12 @@ package org.hamcrest.beans;
 
 import org.hamcrest.Description;
 import org.hamcrest.DiagnosingMatcher;
+import org.hamcrest.MatchResult;
 import org.hamcrest.Matcher;
 
-import java.beans.FeatureDescriptor;
-import java.beans.MethodDescriptor;
-import java.beans.PropertyDescriptor;
-import java.lang.reflect.Method;
 import java.util.*;
 
 import static java.util.Arrays.asList;
-import static org.hamcrest.beans.PropertyUtil.NO_ARGUMENTS;
-import static org.hamcrest.beans.PropertyUtil.propertyDescriptorsFor;
-import static org.hamcrest.beans.PropertyUtil.recordReadAccessorMethodDescriptorsFor;
 import static org.hamcrest.core.IsEqual.equalTo;
 
 /**
@@ -36,15 +30,12 @@ public class SamePropertyValuesAs<T> extends DiagnosingMatcher<T> {
      */
     @SuppressWarnings("WeakerAccess")
     public SamePropertyValuesAs(T expectedBean, List<String> ignoredProperties) {
-        FeatureDescriptor[] descriptors = propertyDescriptorsFor(expectedBean, Object.class);
-        if (descriptors == null || descriptors.length == 0) {
-            descriptors = recordReadAccessorMethodDescriptorsFor(expectedBean, Object.class);
-        }
+        final List<BeanMetadata.Accessor> properties = BeanMetadata.of(expectedBean.getClass()).ownProperties();
 
         this.expectedBean = expectedBean;
         this.ignoredFields = ignoredProperties;
-        this.propertyNames = propertyNamesFrom(descriptors, ignoredProperties);
-        this.propertyMatchers = propertyMatchersFor(expectedBean, descriptors, ignoredProperties);
+        this.propertyNames = propertyNamesFrom(properties, ignoredProperties);
+        this.propertyMatchers = propertyMatchersFor(expectedBean, properties, ignoredProperties);
     }
 
     @Override
@@ -75,7 +66,8 @@ public class SamePropertyValuesAs<T> extends DiagnosingMatcher<T> {
     }
 
     private boolean hasNoExtraProperties(Object actual, Description mismatchDescription) {
-        Set<String> actualPropertyNames = propertyNamesFrom(propertyDescriptorsFor(actual, Object.class), ignoredFields);
+        Set<String> actualPropertyNames = new HashSet<>(BeanMetadata.of(actual.getClass()).ownBeanPropertyNames());
+        actualPropertyNames.removeAll(ignoredFields);
         actualPropertyNames.removeAll(propertyNames);
         if (!actualPropertyNames.isEmpty()) {
             mismatchDescription.appendText("has extra properties called " + actualPropertyNames);
@@ -86,58 +78,58 @@ public class SamePropertyValuesAs<T> extends DiagnosingMatcher<T> {
 
     private boolean hasMatchingValues(Object actual, Description mismatchDescription) {
         for (PropertyMatcher propertyMatcher : propertyMatchers) {
-            if (!propertyMatcher.matches(actual)) {
-                propertyMatcher.describeMismatch(actual, mismatchDescription);
+            MatchResult result = propertyMatcher.evaluate(actual);
+            if (!result.matched()) {
+                result.describeMismatch(mismatchDescription);
                 return false;
             }
         }
         return true;
     }
 
-    private static <T> List<PropertyMatcher> propertyMatchersFor(T bean, FeatureDescriptor[] descriptors, List<String> ignoredFields) {
-        List<PropertyMatcher> result = new ArrayList<>(descriptors.length);
-        for (FeatureDescriptor descriptor : descriptors) {
-            if (isNotIgnored(ignoredFields, descriptor)) {
-                result.add(new PropertyMatcher(descriptor, bean));
+    private static <T> List<PropertyMatcher> propertyMatchersFor(T bean, List<BeanMetadata.Accessor> properties, List<String> ignoredFields) {
+        List<PropertyMatcher> result = new ArrayList<>(properties.size());
+        for (BeanMetadata.Accessor property : properties) {
+            if (isNotIgnored(ignoredFields, property)) {
+                result.add(new PropertyMatcher(property, bean));
             }
         }
         return result;
     }
 
-    private static Set<String> propertyNamesFrom(FeatureDescriptor[] descriptors, List<String> ignoredFields) {
+    private static Set<String> propertyNamesFrom(List<BeanMetadata.Accessor> properties, List<String> ignoredFields) {
         HashSet<String> result = new HashSet<>();
-        for (FeatureDescriptor descriptor : descriptors) {
-            if (isNotIgnored(ignoredFields, descriptor)) {
-                result.add(descriptor.getDisplayName());
+        for (BeanMetadata.Accessor property : properties) {
+            if (isNotIgnored(ignoredFields, property)) {
+                result.add(property.displayName());
             }
         }
         return result;
     }
 
-    private static boolean isNotIgnored(List<String> ignoredFields, FeatureDescriptor propertyDescriptor) {
-        return ! ignoredFields.contains(propertyDescriptor.getDisplayName());
+    private static boolean isNotIgnored(List<String> ignoredFields, BeanMetadata.Accessor property) {
+        return ! ignoredFields.contains(property.displayName());
     }
 
     @SuppressWarnings("WeakerAccess")
     private static class PropertyMatcher extends DiagnosingMatcher<Object> {
-        private final Method readMethod;
+        private final BeanMetadata.Accessor property;
         private final Matcher<Object> matcher;
         private final String propertyName;
 
-        public PropertyMatcher(FeatureDescriptor descriptor, Object expectedObject) {
-            this.propertyName = descriptor.getDisplayName();
-            this.readMethod = descriptor instanceof PropertyDescriptor ?
-                    ((PropertyDescriptor) descriptor).getReadMethod() :
-                    ((MethodDescriptor) descriptor).getMethod();
-            this.matcher = equalTo(readProperty(readMethod, expectedObject));
+        public PropertyMatcher(BeanMetadata.Accessor property, Object expectedObject) {
+            this.propertyName = property.displayName();
+            this.property = property;
+            this.matcher = equalTo(readProperty(property, expectedObject));
         }
 
         @Override
         public boolean matches(Object actual, Description mismatch) {
-            final Object actualValue = readProperty(readMethod, actual);
-            if (!matcher.matches(actualValue)) {
+            final Object actualValue = readProperty(property, actual);
+            final MatchResult result = matcher.evaluate(actualValue);
+            if (!result.matched()) {
                 mismatch.appendText(propertyName + " ");
-                matcher.describeMismatch(actualValue, mismatch);
+                result.describeMismatch(mismatch);
                 return false;
             }
             return true;
@@ -149,11 +141,11 @@ public class SamePropertyValuesAs<T> extends DiagnosingMatcher<T> {
         }
     }
 
-    private static Object readProperty(Method method, Object target) {
+    private static Object readProperty(BeanMetadata.Accessor property, Object target) {
         try {
-            return method.invoke(target, NO_ARGUMENTS);
+            return property.read(target);
         } catch (Exception e) {
-            throw new IllegalArgumentException("Could not invoke " + method + " on " + target, e);
+            throw new IllegalArgumentException("Could not invoke " + property.readMethod() + " on " + target, e);
         }
     }
 
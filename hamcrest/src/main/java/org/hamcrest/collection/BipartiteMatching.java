@@ -0,0 +1,251 @@
+package org.hamcrest.collection;
+
+import org.hamcrest.Matcher;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A maximum matching between items and the matchers they satisfy, each used at most once.
+ *
+ * <p>Items are first paired greedily, each with the first free matcher it satisfies, which is
+ * usually enough. Any items left over are then placed by Hopcroft&ndash;Karp, which repeatedly
+ * moves earlier items to other matchers along shortest augmenting paths, so overlapping matchers
+ * such as <code>anything()</code> and <code>equalTo(1)</code> cannot cause a false mismatch.
+ * The item-matcher matrix is evaluated lazily, and each cell at most once, while searching for
+ * augmenting paths.</p>
+ *
+ * @param <T> the type of the items
+ */
+final class BipartiteMatching<T> {
+
+    private static final int NONE = -1;
+    private static final int UNREACHED = Integer.MAX_VALUE;
+
+    private final List<? extends T> items;
+    private final List<Matcher<? super T>> matchers;
+    private final int[] matcherOfItem;
+    private final int[] itemOfMatcher;
+    private final long[][] evaluated;
+    private final long[][] satisfied;
+    private int size;
+
+    /**
+     * Finds a maximum matching.
+     *
+     * @param items the items to match, best a random access list
+     * @param matchers the matchers to match them with, best a random access list
+     */
+    BipartiteMatching(List<? extends T> items, List<Matcher<? super T>> matchers) {
+        this.items = items;
+        this.matchers = matchers;
+        this.matcherOfItem = unmatched(items.size());
+        this.itemOfMatcher = unmatched(matchers.size());
+        this.evaluated = new long[items.size()][];
+        this.satisfied = new long[items.size()][];
+        matchGreedily();
+        if (size < Math.min(items.size(), matchers.size())) {
+            matchByAugmentingPaths();
+        }
+    }
+
+    /**
+     * @return whether every item has been paired with a matcher, and every matcher with an item
+     */
+    boolean isComplete() {
+        return size == items.size() && size == matchers.size();
+    }
+
+    /**
+     * @return the index of the first item that could not be paired, or -1 if there is none
+     */
+    int firstUnmatchedItem() {
+        for (int item = 0; item < matcherOfItem.length; item++) {
+            if (matcherOfItem[item] == NONE) {
+                return item;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * @param item the index of an item
+     * @return the number of items before it that have been paired with a matcher
+     */
+    int matchedItemsBefore(int item) {
+        int count = 0;
+        for (int i = 0; i < item; i++) {
+            if (matcherOfItem[i] != NONE) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return the matchers that could not be paired, in their original order
+     */
+    List<Matcher<? super T>> unmatchedMatchers() {
+        final Matcher<?>[] unmatched = new Matcher<?>[matchers.size() - size];
+        int count = 0;
+        for (int matcher = 0; matcher < itemOfMatcher.length; matcher++) {
+            if (itemOfMatcher[matcher] == NONE) {
+                unmatched[count++] = matchers.get(matcher);
+            }
+        }
+        @SuppressWarnings("unchecked")
+        final List<Matcher<? super T>> result = (List) Arrays.asList(unmatched);
+        return result;
+    }
+
+    /*
+     * Pairs each item with the first free matcher it satisfies. Paired matchers are skipped by
+     * following nextFree, a union-find over matcher indexes that points past paired matchers.
+     */
+    private void matchGreedily() {
+        final int[] nextFree = new int[itemOfMatcher.length + 1];
+        for (int matcher = 0; matcher < nextFree.length; matcher++) {
+            nextFree[matcher] = matcher;
+        }
+        for (int item = 0; item < matcherOfItem.length && size < itemOfMatcher.length; item++) {
+            final T value = items.get(item);
+            for (int matcher = free(nextFree, 0); matcher < itemOfMatcher.length; matcher = free(nextFree, matcher + 1)) {
+                if (matchers.get(matcher).matches(value)) {
+                    pair(item, matcher);
+                    nextFree[matcher] = matcher + 1;
+                    break;
+                }
+            }
+        }
+    }
+
+    private static int free(int[] nextFree, int matcher) {
+        int current = matcher;
+        while (nextFree[current] != current) {
+            nextFree[current] = nextFree[nextFree[current]];
+            current = nextFree[current];
+        }
+        return current;
+    }
+
+    private void matchByAugmentingPaths() {
+        final int[] distance = new int[matcherOfItem.length];
+        final int[] queue = new int[matcherOfItem.length];
+        final int[] next = new int[matcherOfItem.length];
+        final int[] path = new int[matcherOfItem.length];
+        while (layer(distance, queue)) {
+            Arrays.fill(next, 0);
+            for (int item = 0; item < matcherOfItem.length; item++) {
+                if (matcherOfItem[item] == NONE && augment(item, distance, next, path)) {
+                    size++;
+                }
+            }
+        }
+    }
+
+    /*
+     * Breadth-first search from every unpaired item along alternating paths, recording each item's
+     * distance from the nearest unpaired item. Stops at the layer where the shortest paths reach an
+     * unpaired matcher, and returns whether there is one.
+     */
+    private boolean layer(int[] distance, int[] queue) {
+        int head = 0;
+        int tail = 0;
+        for (int item = 0; item < matcherOfItem.length; item++) {
+            if (matcherOfItem[item] == NONE) {
+                distance[item] = 0;
+                queue[tail++] = item;
+            } else {
+                distance[item] = UNREACHED;
+            }
+        }
+        int shortest = UNREACHED;
+        while (head < tail) {
+            final int item = queue[head++];
+            if (distance[item] >= shortest) {
+                break;
+            }
+            for (int matcher = 0; matcher < itemOfMatcher.length; matcher++) {
+                if (!satisfies(item, matcher)) {
+                    continue;
+                }
+                final int owner = itemOfMatcher[matcher];
+                if (owner == NONE) {
+                    shortest = distance[item] + 1;
+                } else if (distance[owner] == UNREACHED) {
+                    distance[owner] = distance[item] + 1;
+                    queue[tail++] = owner;
+                }
+            }
+        }
+        return shortest != UNREACHED;
+    }
+
+    /*
+     * Depth-first search for an augmenting path from an unpaired item, following the layers found by
+     * the breadth-first search. Iterative, so that long paths cannot overflow the stack. The matcher
+     * each item on the path moves to is the one just before its next candidate.
+     */
+    private boolean augment(int root, int[] distance, int[] next, int[] path) {
+        int depth = 0;
+        path[depth++] = root;
+        while (depth > 0) {
+            final int item = path[depth - 1];
+            boolean advanced = false;
+            while (next[item] < itemOfMatcher.length) {
+                final int matcher = next[item]++;
+                if (!satisfies(item, matcher)) {
+                    continue;
+                }
+                final int owner = itemOfMatcher[matcher];
+                if (owner == NONE) {
+                    for (int i = 0; i < depth; i++) {
+                        final int step = path[i];
+                        matcherOfItem[step] = next[step] - 1;
+                        itemOfMatcher[next[step] - 1] = step;
+                    }
+                    return true;
+                }
+                if (distance[owner] == distance[item] + 1) {
+                    path[depth++] = owner;
+                    advanced = true;
+                    break;
+                }
+            }
+            if (!advanced) {
+                distance[item] = UNREACHED;
+                depth--;
+            }
+        }
+        return false;
+    }
+
+    private boolean satisfies(int item, int matcher) {
+        if (evaluated[item] == null) {
+            evaluated[item] = new long[(itemOfMatcher.length + 63) >>> 6];
+            satisfied[item] = new long[evaluated[item].length];
+        }
+        final int word = matcher >>> 6;
+        final long bit = 1L << matcher;
+        if ((evaluated[item][word] & bit) == 0) {
+            evaluated[item][word] |= bit;
+            if (matchers.get(matcher).matches(items.get(item))) {
+                satisfied[item][word] |= bit;
+            }
+        }
+        return (satisfied[item][word] & bit) != 0;
+    }
+
+    private void pair(int item, int matcher) {
+        matcherOfItem[item] = matcher;
+        itemOfMatcher[matcher] = item;
+        size++;
+    }
+
+    private static int[] unmatched(int size) {
+        final int[] unmatched = new int[size];
+        Arrays.fill(unmatched, NONE);
+        return unmatched;
+    }
+
+}
@@ -0,0 +1,230 @@
+package org.hamcrest.collection;
+
+import org.hamcrest.core.IsEqual;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An immutable hash index over a fixed set of elements, answering whether a value equals one of them.
+ *
+ * <p>Values are compared as by {@link IsEqual}: <code>null</code> equals only <code>null</code>, arrays
+ * are equal when their elements are, and anything else by {@link Object#equals(Object)}. Only elements
+ * whose {@link Object#hashCode()} is known to agree with <code>equals</code>, which are strings, boxed
+ * primitives and enums, are hashed. Any other element, which may override <code>equals</code> alone,
+ * is compared with each value in turn, as a list would. When every element is an {@link Integer}, a
+ * {@link Long} or a {@link String}, a specialised index is used, which rejects values of any other type
+ * straight away and, for numbers, does not box or chase pointers.</p>
+ */
+abstract class ElementIndex {
+
+    abstract boolean contains(Object value);
+
+    static ElementIndex of(Collection<?> elements) {
+        final Class<?> type = commonType(elements);
+        if (type == Integer.class) {
+            final int[] values = new int[elements.size()];
+            int i = 0;
+            for (Object element : elements) {
+                values[i++] = (Integer) element;
+            }
+            return of(values);
+        }
+        if (type == Long.class) {
+            final long[] values = new long[elements.size()];
+            int i = 0;
+            for (Object element : elements) {
+                values[i++] = (Long) element;
+            }
+            return of(values);
+        }
+        if (type == String.class) {
+            return new OfStrings(elements);
+        }
+        return new OfObjects(elements);
+    }
+
+    static ElementIndex of(int[] elements) {
+        return new OfInts(elements);
+    }
+
+    static ElementIndex of(long[] elements) {
+        return new OfLongs(elements);
+    }
+
+    private static Class<?> commonType(Collection<?> elements) {
+        Class<?> type = null;
+        for (Object element : elements) {
+            if (element == null || (type != null && element.getClass() != type)) {
+                return Object.class;
+            }
+            type = element.getClass();
+        }
+        return type;
+    }
+
+    /*
+     * The smallest power of two table with at most half its slots in use.
+     */
+    private static int capacityFor(int size) {
+        return Integer.highestOneBit(Math.max(2, size) * 2 - 1) << 1;
+    }
+
+    private static int mix(long value) {
+        final long mixed = value * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+
+    /*
+     * Types whose values are equal only to values of the same type, with a hash code that agrees.
+     */
+    private static boolean isHashable(Object value) {
+        return value instanceof String || value instanceof Integer || value instanceof Long
+                || value instanceof Boolean || value instanceof Character || value instanceof Byte
+                || value instanceof Short || value instanceof Float || value instanceof Double
+                || value instanceof Enum;
+    }
+
+    private static final class OfObjects extends ElementIndex {
+        private final Set<Object> hashed = new HashSet<>();
+        private final List<Object> scanned = new ArrayList<>();
+        private boolean containsNull;
+
+        OfObjects(Collection<?> elements) {
+            for (Object element : elements) {
+                if (element == null) {
+                    containsNull = true;
+                } else if (isHashable(element)) {
+                    hashed.add(element);
+                } else {
+                    scanned.add(element);
+                }
+            }
+        }
+
+        @Override
+        boolean contains(Object value) {
+            if (value == null) {
+                return containsNull;
+            }
+            if (isHashable(value)) {
+                return hashed.contains(value);
+            }
+            return anyEqualTo(scanned, value) || anyEqualTo(hashed, value);
+        }
+
+        private static boolean anyEqualTo(Collection<Object> elements, Object value) {
+            for (Object element : elements) {
+                if (IsEqual.equalTo(element).matches(value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class OfStrings extends ElementIndex {
+        private final Set<String> values = new HashSet<>();
+
+        OfStrings(Collection<?> elements) {
+            for (Object element : elements) {
+                values.add((String) element);
+            }
+        }
+
+        @Override
+        boolean contains(Object value) {
+            return value instanceof String && values.contains(value);
+        }
+    }
+
+    /*
+     * Open addressing with linear probing. Zero marks an empty slot, so whether zero is an
+     * element is kept separately.
+     */
+    private static final class OfInts extends ElementIndex {
+        private final int[] table;
+        private final int mask;
+        private boolean containsZero;
+
+        OfInts(int[] elements) {
+            table = new int[capacityFor(elements.length)];
+            mask = table.length - 1;
+            for (int element : elements) {
+                if (element == 0) {
+                    containsZero = true;
+                    continue;
+                }
+                int slot = mix(element) & mask;
+                while (table[slot] != 0 && table[slot] != element) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = element;
+            }
+        }
+
+        @Override
+        boolean contains(Object value) {
+            return value instanceof Integer && contains(((Integer) value).intValue());
+        }
+
+        boolean contains(int value) {
+            if (value == 0) {
+                return containsZero;
+            }
+            int slot = mix(value) & mask;
+            while (table[slot] != 0) {
+                if (table[slot] == value) {
+                    return true;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return false;
+        }
+    }
+
+    private static final class OfLongs extends ElementIndex {
+        private final long[] table;
+        private final int mask;
+        private boolean containsZero;
+
+        OfLongs(long[] elements) {
+            table = new long[capacityFor(elements.length)];
+            mask = table.length - 1;
+            for (long element : elements) {
+                if (element == 0) {
+                    containsZero = true;
+                    continue;
+                }
+                int slot = mix(element) & mask;
+                while (table[slot] != 0 && table[slot] != element) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = element;
+            }
+        }
+
+        @Override
+        boolean contains(Object value) {
+            return value instanceof Long && contains(((Long) value).longValue());
+        }
+
+        boolean contains(long value) {
+            if (value == 0) {
+                return containsZero;
+            }
+            int slot = mix(value) & mask;
+            while (table[slot] != 0) {
+                if (table[slot] == value) {
+                    return true;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return false;
+        }
+    }
+
+}
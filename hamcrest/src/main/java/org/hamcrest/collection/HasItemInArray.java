@@ -5,6 +5,7 @@ import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 import org.hamcrest.TypeSafeMatcher;
 import org.hamcrest.core.IsIterableContaining;
+import org.hamcrest.internal.Traversal;
 
 import static java.util.Arrays.asList;
 
@@ -17,6 +18,7 @@ public class HasItemInArray<T> extends TypeSafeMatcher<T[]> {
 
     private final Matcher<? super T> elementMatcher;
     private final TypeSafeDiagnosingMatcher<Iterable<? extends T>> collectionMatcher;
+    private final Traversal.Visitor<T> notMatching;
 
     /**
      * Constructor, best called from {@link ArrayMatching}.
@@ -26,11 +28,12 @@ public class HasItemInArray<T> extends TypeSafeMatcher<T[]> {
     public HasItemInArray(Matcher<? super T> elementMatcher) {
         this.elementMatcher = elementMatcher;
         this.collectionMatcher = new IsIterableContaining<>(elementMatcher);
+        this.notMatching = item -> !elementMatcher.matches(item);
     }
 
     @Override
     public boolean matchesSafely(T[] actual) {
-        return collectionMatcher.matches(asList(actual));
+        return !Traversal.forEach(actual, notMatching);
     }
 
     @Override
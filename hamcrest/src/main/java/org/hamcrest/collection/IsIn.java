@@ -4,23 +4,42 @@ import org.hamcrest.BaseMatcher;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 
 /**
  * Tests if a collection contains a matching object.
+ * The elements of an array, a {@link List}, a {@link HashSet} or a {@link LinkedHashSet} are copied
+ * when the matcher is created, so later changes to the collection are not seen. Strings, boxed primitives
+ * and enums among them are put in a hash index, so matching them takes constant time; other elements,
+ * whose <code>hashCode</code> may not agree with their <code>equals</code>, are compared in turn. They are
+ * compared as by {@link org.hamcrest.core.IsEqual}, so arrays match arrays with equal elements. Any other
+ * collection, such as a sorted set with its own comparator, is asked with its own
+ * {@link Collection#contains(Object)}.
  * @param <T> the type of the objects in the collection
  */
 public class IsIn<T> extends BaseMatcher<T> {
 
     private final Collection<T> collection;
+    private final ElementIndex index;
 
     /**
      * Constructor, best called from {@link #in(Collection)}.
      * @param collection the expected element matchers
      */
     public IsIn(Collection<T> collection) {
-        this.collection = collection;
+        if (isEqualsBased(collection)) {
+            this.collection = Collections.unmodifiableList(new ArrayList<>(collection));
+            this.index = ElementIndex.of(this.collection);
+        } else {
+            this.collection = collection;
+            this.index = null;
+        }
     }
 
     /**
@@ -28,13 +47,26 @@ public class IsIn<T> extends BaseMatcher<T> {
      * @param elements the expected elements
      */
     public IsIn(T[] elements) {
-        collection = Arrays.asList(elements);
+        this(Arrays.asList(elements));
+    }
+
+    private IsIn(Collection<T> collection, ElementIndex index) {
+        this.collection = collection;
+        this.index = index;
     }
 
-    @SuppressWarnings("SuspiciousMethodCalls")
     @Override
     public boolean matches(Object o) {
-        return collection.contains(o);
+        return index != null ? index.contains(o) : collection.contains(o);
+    }
+
+    /*
+     * Collections whose contains is equals, so that an index gives the same answers.
+     */
+    private static boolean isEqualsBased(Collection<?> collection) {
+        return collection instanceof List
+                || collection.getClass() == HashSet.class
+                || collection.getClass() == LinkedHashSet.class;
     }
 
     @Override
@@ -111,6 +143,42 @@ public class IsIn<T> extends BaseMatcher<T> {
         return new IsIn<>(elements);
     }
 
+    /**
+     * Creates a matcher that matches when the examined object is an {@link Integer} found within the
+     * specified array. Matching does not box.
+     * For example:
+     * <pre>assertThat(404, is(in(new int[]{400, 404, 410})))</pre>
+     *
+     * @param elements
+     *     the array in which matching items must be found
+     * @return The matcher.
+     */
+    public static Matcher<Integer> in(int[] elements) {
+        final List<Integer> collection = new ArrayList<>(elements.length);
+        for (int element : elements) {
+            collection.add(element);
+        }
+        return new IsIn<>(Collections.unmodifiableList(collection), ElementIndex.of(elements));
+    }
+
+    /**
+     * Creates a matcher that matches when the examined object is a {@link Long} found within the
+     * specified array. Matching does not box.
+     * For example:
+     * <pre>assertThat(404L, is(in(new long[]{400L, 404L, 410L})))</pre>
+     *
+     * @param elements
+     *     the array in which matching items must be found
+     * @return The matcher.
+     */
+    public static Matcher<Long> in(long[] elements) {
+        final List<Long> collection = new ArrayList<>(elements.length);
+        for (long element : elements) {
+            collection.add(element);
+        }
+        return new IsIn<>(Collections.unmodifiableList(collection), ElementIndex.of(elements));
+    }
+
     /**
      * Creates a matcher that matches when the examined object is equal to one of the
      * specified elements.
@@ -7,12 +7,16 @@ import org.hamcrest.TypeSafeDiagnosingMatcher;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.RandomAccess;
 
 import static org.hamcrest.core.IsEqual.equalTo;
 
 /**
  * Tests if an iterable contains matching elements in any order.
+ * Items are paired with matchers by a maximum bipartite matching, so the result does not depend
+ * on the order of the items even when more than one matcher could match an item.
  *
  * @param <T> the type of items in the iterable.
  */
@@ -33,14 +37,26 @@ public class IsIterableContainingInAnyOrder<T> extends TypeSafeDiagnosingMatcher
 
     @Override
     protected boolean matchesSafely(Iterable<? extends T> items, Description mismatchDescription) {
-      final Matching<T> matching = new Matching<>(matchers, mismatchDescription);
-      for (T item : items) {
-        if (! matching.matches(item)) {
-          return false;
-        }
+      // One item more than there are matchers is enough to know, and to say, that the iterable is too long
+      final List<? extends T> actual = firstItems(items, matchers.size() + 1);
+      if (mismatchDescription == Description.NONE && actual.size() != matchers.size()) {
+        return false;
       }
-
-      return matching.isFinished(items);
+      final BipartiteMatching<T> matching = new BipartiteMatching<>(actual, new ArrayList<>(matchers));
+      if (matching.isComplete()) {
+        return true;
+      }
+      final int unmatched = matching.firstUnmatchedItem();
+      if (unmatched < 0) {
+        mismatchDescription
+          .appendText("no item matches: ").appendList("", ", ", "", matching.unmatchedMatchers())
+          .appendText(" in ").appendValueList("[", ", ", "]", actual);
+      } else if (matching.matchedItemsBefore(unmatched) == matchers.size()) {
+        mismatchDescription.appendText("no match for: ").appendValue(actual.get(unmatched));
+      } else {
+        mismatchDescription.appendText("not matched: ").appendValue(actual.get(unmatched));
+      }
+      return false;
     }
 
     @Override
@@ -50,43 +66,17 @@ public class IsIterableContainingInAnyOrder<T> extends TypeSafeDiagnosingMatcher
           .appendText(" in any order");
     }
 
-    private static class Matching<S> {
-      private final Collection<Matcher<? super S>> matchers;
-      private final Description mismatchDescription;
-
-      public Matching(Collection<Matcher<? super S>> matchers, Description mismatchDescription) {
-        this.matchers = new ArrayList<>(matchers);
-        this.mismatchDescription = mismatchDescription;
-      }
-
-      public boolean matches(S item) {
-        if (matchers.isEmpty()) {
-          mismatchDescription.appendText("no match for: ").appendValue(item);
-          return false;
-        }
-        return isMatched(item);
+    @SuppressWarnings("unchecked")
+    private static <S> List<? extends S> firstItems(Iterable<? extends S> items, int limit) {
+      if (items instanceof List && items instanceof RandomAccess) {
+        final List<? extends S> list = (List<? extends S>) items;
+        return list.size() > limit ? list.subList(0, limit) : list;
       }
-
-      public boolean isFinished(Iterable<? extends S> items) {
-        if (matchers.isEmpty()) {
-          return true;
-        }
-        mismatchDescription
-          .appendText("no item matches: ").appendList("", ", ", "", matchers)
-          .appendText(" in ").appendValueList("[", ", ", "]", items);
-        return false;
-      }
-
-      private boolean isMatched(S item) {
-        for (Matcher<? super S>  matcher : matchers) {
-          if (matcher.matches(item)) {
-            matchers.remove(matcher);
-            return true;
-          }
-        }
-        mismatchDescription.appendText("not matched: ").appendValue(item);
-        return false;
+      final List<S> list = new ArrayList<>();
+      for (Iterator<? extends S> iterator = items.iterator(); list.size() < limit && iterator.hasNext();) {
+        list.add(iterator.next());
       }
+      return list;
     }
 
     /**
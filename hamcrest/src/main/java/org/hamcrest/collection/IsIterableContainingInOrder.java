@@ -1,9 +1,11 @@
 package org.hamcrest.collection;
 
 import org.hamcrest.Description;
+import org.hamcrest.MatchResult;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 import org.hamcrest.internal.NullSafety;
+import org.hamcrest.internal.Traversal;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -36,13 +38,7 @@ public class IsIterableContainingInOrder<E> extends TypeSafeDiagnosingMatcher<It
     @Override
     protected boolean matchesSafely(Iterable<? extends E> iterable, Description mismatchDescription) {
         final MatchSeries<E> matchSeries = new MatchSeries<>(matchers, mismatchDescription);
-        for (E item : iterable) {
-            if (!matchSeries.matches(item)) {
-                return false;
-            }
-        }
-
-        return matchSeries.isFinished();
+        return Traversal.forEach(iterable, matchSeries) && matchSeries.isFinished();
     }
 
     @Override
@@ -50,7 +46,7 @@ public class IsIterableContainingInOrder<E> extends TypeSafeDiagnosingMatcher<It
         description.appendText("iterable containing ").appendList("[", ", ", "]", matchers);
     }
 
-    private static class MatchSeries<F> {
+    private static class MatchSeries<F> implements Traversal.Visitor<F> {
         private final List<Matcher<? super F>> matchers;
         private final Description mismatchDescription;
         private int nextMatchIx = 0;
@@ -63,7 +59,8 @@ public class IsIterableContainingInOrder<E> extends TypeSafeDiagnosingMatcher<It
             this.matchers = matchers;
         }
 
-        public boolean matches(F item) {
+        @Override
+        public boolean visit(F item) {
           if (matchers.size() <= nextMatchIx) {
             mismatchDescription.appendText("not matched: ").appendValue(item);
             return false;
@@ -81,18 +78,18 @@ public class IsIterableContainingInOrder<E> extends TypeSafeDiagnosingMatcher<It
         }
 
         private boolean isMatched(F item) {
-            final Matcher<? super F> matcher = matchers.get(nextMatchIx);
-            if (!matcher.matches(item)) {
-                describeMismatch(matcher, item);
+            final MatchResult result = matchers.get(nextMatchIx).evaluate(item);
+            if (!result.matched()) {
+                describeMismatch(result);
                 return false;
             }
             nextMatchIx++;
             return true;
         }
 
-      private void describeMismatch(Matcher<? super F> matcher, F item) {
+      private void describeMismatch(MatchResult result) {
             mismatchDescription.appendText("item " + nextMatchIx + ": ");
-            matcher.describeMismatch(item, mismatchDescription);
+            result.describeMismatch(mismatchDescription);
         }
     }
 
@@ -3,6 +3,7 @@ package org.hamcrest.collection;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.internal.Traversal;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -30,7 +31,7 @@ public class IsIterableContainingInRelativeOrder<E> extends TypeSafeDiagnosingMa
     @Override
     protected boolean matchesSafely(Iterable<? extends E> iterable, Description mismatchDescription) {
         MatchSeriesInRelativeOrder<E> matchSeriesInRelativeOrder = new MatchSeriesInRelativeOrder<>(matchers, mismatchDescription);
-        matchSeriesInRelativeOrder.processItems(iterable);
+        Traversal.forEach(iterable, matchSeriesInRelativeOrder);
         return matchSeriesInRelativeOrder.isFinished();
     }
 
@@ -38,7 +39,7 @@ public class IsIterableContainingInRelativeOrder<E> extends TypeSafeDiagnosingMa
         description.appendText("iterable containing ").appendList("[", ", ", "]", matchers).appendText(" in relative order");
     }
 
-    private static class MatchSeriesInRelativeOrder<F> {
+    private static class MatchSeriesInRelativeOrder<F> implements Traversal.Visitor<F> {
         public final List<Matcher<? super F>> matchers;
         private final Description mismatchDescription;
         private int nextMatchIx = 0;
@@ -52,16 +53,14 @@ public class IsIterableContainingInRelativeOrder<E> extends TypeSafeDiagnosingMa
             this.matchers = matchers;
         }
 
-        public void processItems(Iterable<? extends F> iterable) {
-            for (F item : iterable) {
-                if (nextMatchIx < matchers.size()) {
-                    Matcher<? super F> matcher = matchers.get(nextMatchIx);
-                    if (matcher.matches(item)) {
-                        lastMatchedItem = item;
-                        nextMatchIx++;
-                    }
-                }
+        @Override
+        public boolean visit(F item) {
+            Matcher<? super F> matcher = matchers.get(nextMatchIx);
+            if (matcher.matches(item)) {
+                lastMatchedItem = item;
+                nextMatchIx++;
             }
+            return nextMatchIx < matchers.size();
         }
 
         public boolean isFinished() {
@@ -0,0 +1,185 @@
+package org.hamcrest.collection;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.internal.PrimitiveArrays;
+
+import java.lang.reflect.Array;
+
+/**
+ * Matches arrays of a primitive type that hold the expected elements, in order or in any order.
+ * The elements are compared without boxing: in any order, both arrays are sorted and merged,
+ * and an element of the examined array that is left over is reported before an expected one
+ * that is missing.
+ *
+ * @param <A> the primitive array type
+ */
+public class IsPrimitiveArrayContaining<A> extends TypeSafeDiagnosingMatcher<A> {
+
+    private final A expected;
+    private final A sortedExpected;
+
+    private IsPrimitiveArrayContaining(A expected, boolean inAnyOrder) {
+        super(expected.getClass());
+        this.expected = expected;
+        this.sortedExpected = inAnyOrder ? sortedCopy(expected) : null;
+    }
+
+    @Override
+    protected boolean matchesSafely(A actual, Description mismatchDescription) {
+        return sortedExpected == null ? matchesInOrder(actual, mismatchDescription) : matchesInAnyOrder(actual, mismatchDescription);
+    }
+
+    private boolean matchesInOrder(A actual, Description mismatchDescription) {
+        final int index = PrimitiveArrays.mismatch(actual, expected);
+        if (index < 0) {
+            return true;
+        }
+        if (index < Math.min(Array.getLength(actual), Array.getLength(expected))) {
+            mismatchDescription.appendText("element ").appendValue(index)
+                .appendText(" was ").appendValue(Array.get(actual, index));
+        } else {
+            mismatchDescription.appendText("array length was ").appendValue(Array.getLength(actual));
+        }
+        return false;
+    }
+
+    private boolean matchesInAnyOrder(A actual, Description mismatchDescription) {
+        if (Array.getLength(actual) != Array.getLength(sortedExpected) && mismatchDescription == Description.NONE) {
+            return false;
+        }
+        final A sortedActual = sortedCopy(actual);
+        final int index = PrimitiveArrays.mismatch(sortedActual, sortedExpected);
+        if (index < 0) {
+            return true;
+        }
+        final int actualLength = Array.getLength(sortedActual);
+        final int expectedLength = Array.getLength(sortedExpected);
+        int i = index;
+        int j = index;
+        int firstMissing = -1;
+        while (i < actualLength) {
+            final int order = j < expectedLength ? PrimitiveArrays.compare(sortedActual, i, sortedExpected, j) : -1;
+            if (order < 0) {
+                mismatchDescription.appendText("not matched: ").appendValue(Array.get(sortedActual, i));
+                return false;
+            }
+            if (order > 0 && firstMissing < 0) {
+                firstMissing = j;
+            }
+            if (order == 0) {
+                i++;
+            }
+            j++;
+        }
+        mismatchDescription.appendText("no item matches: ").appendValue(Array.get(sortedExpected, firstMissing < 0 ? j : firstMissing));
+        return false;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendValue(expected);
+        if (sortedExpected != null) {
+            description.appendText(" in any order");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A> A sortedCopy(A array) {
+        return (A) PrimitiveArrays.sortedCopy(array);
+    }
+
+    /**
+     * Creates a matcher for <code>int</code> arrays that matches when each element in the examined
+     * array is equal to the corresponding element in the specified items. For a positive match,
+     * the examined array must be of the same length as the specified items.
+     * For example:
+     * <pre>assertThat(new int[]{1, 2}, intArrayContaining(1, 2))</pre>
+     *
+     * @param items
+     *     the elements that must equal those of an examined array
+     * @return The matcher.
+     */
+    public static Matcher<int[]> intArrayContaining(int... items) {
+        return new IsPrimitiveArrayContaining<>(items.clone(), false);
+    }
+
+    /**
+     * Creates an order agnostic matcher for <code>int</code> arrays that matches when each element
+     * in the examined array is equal to a different one of the specified items. For a positive match,
+     * the examined array must be of the same length as the specified items.
+     * For example:
+     * <pre>assertThat(new int[]{1, 2}, intArrayContainingInAnyOrder(2, 1))</pre>
+     *
+     * @param items
+     *     the elements that must equal those of an examined array, in any order
+     * @return The matcher.
+     */
+    public static Matcher<int[]> intArrayContainingInAnyOrder(int... items) {
+        return new IsPrimitiveArrayContaining<>(items.clone(), true);
+    }
+
+    /**
+     * Creates a matcher for <code>long</code> arrays that matches when each element in the examined
+     * array is equal to the corresponding element in the specified items. For a positive match,
+     * the examined array must be of the same length as the specified items.
+     * For example:
+     * <pre>assertThat(new long[]{1L, 2L}, longArrayContaining(1L, 2L))</pre>
+     *
+     * @param items
+     *     the elements that must equal those of an examined array
+     * @return The matcher.
+     */
+    public static Matcher<long[]> longArrayContaining(long... items) {
+        return new IsPrimitiveArrayContaining<>(items.clone(), false);
+    }
+
+    /**
+     * Creates an order agnostic matcher for <code>long</code> arrays that matches when each element
+     * in the examined array is equal to a different one of the specified items. For a positive match,
+     * the examined array must be of the same length as the specified items.
+     * For example:
+     * <pre>assertThat(new long[]{1L, 2L}, longArrayContainingInAnyOrder(2L, 1L))</pre>
+     *
+     * @param items
+     *     the elements that must equal those of an examined array, in any order
+     * @return The matcher.
+     */
+    public static Matcher<long[]> longArrayContainingInAnyOrder(long... items) {
+        return new IsPrimitiveArrayContaining<>(items.clone(), true);
+    }
+
+    /**
+     * Creates a matcher for <code>double</code> arrays that matches when each element in the examined
+     * array is equal to the corresponding element in the specified items, as {@link Double#equals}
+     * would have it. For a positive match, the examined array must be of the same length as the
+     * specified items.
+     * For example:
+     * <pre>assertThat(new double[]{1.0, 2.0}, doubleArrayContaining(1.0, 2.0))</pre>
+     *
+     * @param items
+     *     the elements that must equal those of an examined array
+     * @return The matcher.
+     */
+    public static Matcher<double[]> doubleArrayContaining(double... items) {
+        return new IsPrimitiveArrayContaining<>(items.clone(), false);
+    }
+
+    /**
+     * Creates an order agnostic matcher for <code>double</code> arrays that matches when each element
+     * in the examined array is equal to a different one of the specified items, as {@link Double#equals}
+     * would have it. For a positive match, the examined array must be of the same length as the
+     * specified items.
+     * For example:
+     * <pre>assertThat(new double[]{1.0, 2.0}, doubleArrayContainingInAnyOrder(2.0, 1.0))</pre>
+     *
+     * @param items
+     *     the elements that must equal those of an examined array, in any order
+     * @return The matcher.
+     */
+    public static Matcher<double[]> doubleArrayContainingInAnyOrder(double... items) {
+        return new IsPrimitiveArrayContaining<>(items.clone(), true);
+    }
+
+}
@@ -0,0 +1,138 @@
+package org.hamcrest.core;
+
+import org.hamcrest.Matcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Evaluates a shortcut combination of matchers in the order that has so far proved cheapest.
+ *
+ * <p>A sample of evaluations is timed, and for each matcher records how long it took and whether
+ * it decided the result. Every so often the matchers are re-ordered by expected cost per decision,
+ * so that cheap matchers that usually decide the result are tried first. The counters are
+ * {@link LongAdder}s, and the current order is an immutable array that is replaced as a whole,
+ * so concurrent evaluations neither contend nor see a partially updated order.</p>
+ *
+ * <p>Re-ordering only changes which matchers are called, never the result, provided that the
+ * matchers have no side effects.</p>
+ */
+final class AdaptiveOrder {
+
+    private static final int SAMPLE_RATE = 64;
+    private static final int REORDER_RATE = 256;
+
+    private final Matcher<?>[] matchers;
+    private final LongAdder[] evaluations;
+    private final LongAdder[] decisions;
+    private final LongAdder[] nanos;
+    private final AtomicBoolean reordering = new AtomicBoolean();
+    private volatile int[] order;
+
+    AdaptiveOrder(Iterable<? extends Matcher<?>> matchers) {
+        final List<Matcher<?>> list = new ArrayList<>();
+        for (Matcher<?> matcher : matchers) {
+            list.add(matcher);
+        }
+        this.matchers = list.toArray(new Matcher<?>[0]);
+        this.evaluations = adders(this.matchers.length);
+        this.decisions = adders(this.matchers.length);
+        this.nanos = adders(this.matchers.length);
+        final int[] declared = new int[this.matchers.length];
+        for (int i = 0; i < declared.length; i++) {
+            declared[i] = i;
+        }
+        this.order = declared;
+    }
+
+    /**
+     * @param item the value to match
+     * @param shortcut the result of a single matcher that decides the whole result
+     * @return <code>shortcut</code> if any matcher returned it, otherwise <code>!shortcut</code>
+     */
+    boolean matches(Object item, boolean shortcut) {
+        final int[] current = order;
+        if (ThreadLocalRandom.current().nextInt(SAMPLE_RATE) != 0) {
+            for (int index : current) {
+                if (matchers[index].matches(item) == shortcut) {
+                    return shortcut;
+                }
+            }
+            return !shortcut;
+        }
+        try {
+            for (int index : current) {
+                final long start = System.nanoTime();
+                final boolean decided = matchers[index].matches(item) == shortcut;
+                record(index, System.nanoTime() - start, decided);
+                if (decided) {
+                    return shortcut;
+                }
+            }
+            return !shortcut;
+        } finally {
+            if (ThreadLocalRandom.current().nextInt(REORDER_RATE) == 0) {
+                reorder();
+            }
+        }
+    }
+
+    int[] order() {
+        return order.clone();
+    }
+
+    private void record(int index, long elapsed, boolean decided) {
+        evaluations[index].increment();
+        nanos[index].add(elapsed);
+        if (decided) {
+            decisions[index].increment();
+        }
+    }
+
+    void reorder() {
+        if (!reordering.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            final int[] current = order;
+            final double[] scores = new double[matchers.length];
+            final Integer[] sorted = new Integer[matchers.length];
+            for (int i = 0; i < matchers.length; i++) {
+                scores[i] = expectedCostPerDecision(i);
+                sorted[i] = current[i];
+            }
+            Arrays.sort(sorted, (a, b) -> Double.compare(scores[a], scores[b]));
+            final int[] next = new int[sorted.length];
+            for (int i = 0; i < next.length; i++) {
+                next[i] = sorted[i];
+            }
+            order = next;
+        } finally {
+            reordering.set(false);
+        }
+    }
+
+    /*
+     * Mean cost divided by the probability of deciding the result, both smoothed so that a matcher
+     * that has not been sampled yet looks cheap and gets tried, and sampled.
+     */
+    private double expectedCostPerDecision(int index) {
+        final long evaluated = evaluations[index].sum();
+        final double meanCost = (nanos[index].sum() + 1.0) / (evaluated + 1.0);
+        final double decisive = (decisions[index].sum() + 1.0) / (evaluated + 2.0);
+        return meanCost / decisive;
+    }
+
+    private static LongAdder[] adders(int size) {
+        final LongAdder[] adders = new LongAdder[size];
+        for (int i = 0; i < size; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+}
@@ -2,6 +2,7 @@ package org.hamcrest.core;
 
 import org.hamcrest.Description;
 import org.hamcrest.DiagnosingMatcher;
+import org.hamcrest.MatchResult;
 import org.hamcrest.Matcher;
 import org.hamcrest.collection.ArrayMatching;
 
@@ -15,7 +16,8 @@ import java.util.Arrays;
  */
 public class AllOf<T> extends DiagnosingMatcher<T> {
 
-    private final Iterable<Matcher<? super T>> matchers;
+    final Iterable<Matcher<? super T>> matchers;
+    final AdaptiveOrder adaptiveOrder;
 
     /**
      * Constructor, best called from {@link #allOf(Matcher[])}.
@@ -33,16 +35,31 @@ public class AllOf<T> extends DiagnosingMatcher<T> {
      * @see #allOf(Iterable)
      */
     public AllOf(Iterable<Matcher<? super T>> matchers) {
+        this(matchers, false);
+    }
+
+    private AllOf(Iterable<Matcher<? super T>> matchers, boolean adaptive) {
         this.matchers = matchers;
+        this.adaptiveOrder = adaptive ? new AdaptiveOrder(matchers) : null;
     }
 
     @Override
     public boolean matches(Object o, Description mismatch) {
+        if (adaptiveOrder != null) {
+            if (adaptiveOrder.matches(o, false)) {
+                return true;
+            }
+            if (mismatch == Description.NONE) {
+                return false;
+            }
+            // Diagnose in declaration order, so the reported failure does not depend on the learnt order
+        }
         for (Matcher<? super T> matcher : matchers) {
-            if (!matcher.matches(o)) {
+            MatchResult result = matcher.evaluate(o);
+            if (!result.matched()) {
                 mismatch.appendDescriptionOf(matcher).appendText(" ");
-                matcher.describeMismatch(o, mismatch);
-              return false;
+                result.describeMismatch(mismatch);
+                return false;
             }
         }
         return true;
@@ -84,4 +101,47 @@ public class AllOf<T> extends DiagnosingMatcher<T> {
         return allOf((Iterable) Arrays.asList(matchers));
     }
 
+    /**
+     * Creates a matcher that matches if the examined object matches <b>ALL</b> of the specified matchers,
+     * learning which order to try them in.
+     * A sample of evaluations is timed, and the matchers are periodically re-ordered so that cheap
+     * matchers that usually fail are tried first. Use this only for matchers without side effects
+     * that are evaluated many times. The description, and the mismatch description of the first
+     * failing matcher, are always in the order given, so describing a mismatch evaluates the
+     * matchers again in that order.
+     * For example:
+     * <pre>assertThat("myValue", adaptiveAllOf(matchesRegex(expensive), startsWith("my")))</pre>
+     *
+     * @param <T>
+     *     the matcher type.
+     * @param matchers
+     *     all the matchers must pass.
+     * @return The matcher.
+     */
+    public static <T> Matcher<T> adaptiveAllOf(Iterable<Matcher<? super T>> matchers) {
+        return new AllOf<>(matchers, true);
+    }
+
+    /**
+     * Creates a matcher that matches if the examined object matches <b>ALL</b> of the specified matchers,
+     * learning which order to try them in.
+     * A sample of evaluations is timed, and the matchers are periodically re-ordered so that cheap
+     * matchers that usually fail are tried first. Use this only for matchers without side effects
+     * that are evaluated many times. The description, and the mismatch description of the first
+     * failing matcher, are always in the order given, so describing a mismatch evaluates the
+     * matchers again in that order.
+     * For example:
+     * <pre>assertThat("myValue", adaptiveAllOf(matchesRegex(expensive), startsWith("my")))</pre>
+     *
+     * @param <T>
+     *     the matcher type.
+     * @param matchers
+     *     all the matchers must pass.
+     * @return The matcher.
+     */
+    @SafeVarargs
+    public static <T> Matcher<T> adaptiveAllOf(Matcher<? super T>... matchers) {
+        return adaptiveAllOf((Iterable) Arrays.asList(matchers));
+    }
+
 }
@@ -33,6 +33,10 @@ public class AnyOf<T> extends ShortcutCombination<T> {
         super(matchers);
     }
 
+    private AnyOf(Iterable<Matcher<? super T>> matchers, boolean adaptive) {
+        super(matchers, adaptive);
+    }
+
     @Override
     public boolean matches(Object o) {
         return matches(o, true);
@@ -74,4 +78,43 @@ public class AnyOf<T> extends ShortcutCombination<T> {
         return anyOf((Iterable) Arrays.asList(matchers));
     }
 
+    /**
+     * Creates a matcher that matches if the examined object matches <b>ANY</b> of the specified matchers,
+     * learning which order to try them in.
+     * A sample of evaluations is timed, and the matchers are periodically re-ordered so that cheap
+     * matchers that usually match are tried first. Use this only for matchers without side effects
+     * that are evaluated many times. The description is always in the order given.
+     * For example:
+     * <pre>assertThat("myValue", adaptiveAnyOf(matchesRegex(expensive), startsWith("my")))</pre>
+     *
+     * @param <T>
+     *     the matcher type.
+     * @param matchers
+     *     any the matchers must pass.
+     * @return The matcher.
+     */
+    public static <T> AnyOf<T> adaptiveAnyOf(Iterable<Matcher<? super T>> matchers) {
+        return new AnyOf<>(matchers, true);
+    }
+
+    /**
+     * Creates a matcher that matches if the examined object matches <b>ANY</b> of the specified matchers,
+     * learning which order to try them in.
+     * A sample of evaluations is timed, and the matchers are periodically re-ordered so that cheap
+     * matchers that usually match are tried first. Use this only for matchers without side effects
+     * that are evaluated many times. The description is always in the order given.
+     * For example:
+     * <pre>assertThat("myValue", adaptiveAnyOf(matchesRegex(expensive), startsWith("my")))</pre>
+     *
+     * @param <T>
+     *     the matcher type.
+     * @param matchers
+     *     any the matchers must pass.
+     * @return The matcher.
+     */
+    @SafeVarargs
+    public static <T> AnyOf<T> adaptiveAnyOf(Matcher<? super T>... matchers) {
+        return adaptiveAnyOf((Iterable) Arrays.asList(matchers));
+    }
+
 }
@@ -1,6 +1,7 @@
 package org.hamcrest.core;
 
 import org.hamcrest.Description;
+import org.hamcrest.MatchResult;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 
@@ -27,7 +28,7 @@ import java.util.ArrayList;
  */
 public class CombinableMatcher<T> extends TypeSafeDiagnosingMatcher<T> {
 
-  private final Matcher<? super T> matcher;
+  final Matcher<? super T> matcher;
 
   /**
    * Constructor, best called from <code>either</code> or <code>both</code>.
@@ -41,8 +42,9 @@ public class CombinableMatcher<T> extends TypeSafeDiagnosingMatcher<T> {
 
   @Override
   protected boolean matchesSafely(T item, Description mismatch) {
-    if (!matcher.matches(item)) {
-      matcher.describeMismatch(item, mismatch);
+    MatchResult result = matcher.evaluate(item);
+    if (!result.matched()) {
+      result.describeMismatch(mismatch);
       return false;
     }
     return true;
@@ -0,0 +1,225 @@
+package org.hamcrest.core;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.MatchResult;
+import org.hamcrest.Matcher;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * A matcher whose tree of core matchers has been fused into a single predicate.
+ *
+ * <p>Evaluating a tree such as <code>allOf(not(nullValue()), anyOf(equalTo("a"), equalTo("b")))</code>
+ * makes one interface call per node. A compiled matcher instead combines the nodes it knows,
+ * <code>allOf</code>, <code>anyOf</code>, <code>not</code>, <code>is</code>, <code>describedAs</code>,
+ * <code>both</code>/<code>either</code>, <code>equalTo</code>, <code>sameInstance</code>,
+ * <code>instanceOf</code>, <code>nullValue</code> and <code>anything</code>, into one
+ * {@link MethodHandle}, which the JVM can optimise as a whole. Any other matcher,
+ * including subclasses of the known ones and the adaptive <code>allOf</code> and <code>anyOf</code>,
+ * which keep learning their order, is called as it is.</p>
+ *
+ * <p>Only {@link #matches(Object)} and {@link #test(Object)} use the compiled predicate. The description,
+ * mismatch description and {@link #evaluate(Object)} are those of the source matcher. The tree is captured
+ * when it is compiled, so later changes to the collections passed to <code>allOf</code> or <code>anyOf</code>
+ * are not seen.</p>
+ *
+ * @param <T> the matched value type
+ */
+public final class CompiledMatcher<T> extends BaseMatcher<T> implements Predicate<Object> {
+
+    private static final MethodType PREDICATE = methodType(boolean.class, Object.class);
+    private static final MethodHandle TRUE = constant(true);
+    private static final MethodHandle FALSE = constant(false);
+    private static final MethodHandle NOT = staticHandle("not", methodType(boolean.class, boolean.class));
+    private static final MethodHandle IS_NULL = staticHandle("isNull", PREDICATE);
+    private static final MethodHandle IS_NOT_NULL = staticHandle("isNotNull", PREDICATE);
+    private static final MethodHandle IS_EQUAL = staticHandle("isEqual", methodType(boolean.class, Object.class, Object.class));
+    private static final MethodHandle IS_SAME = staticHandle("isSame", methodType(boolean.class, Object.class, Object.class));
+    private static final MethodHandle IS_INSTANCE = virtualHandle(Class.class, "isInstance");
+    private static final MethodHandle MATCHES = virtualHandle(Matcher.class, "matches");
+
+    private final Matcher<T> source;
+    private final MethodHandle predicate;
+
+    private CompiledMatcher(Matcher<T> source) {
+        this.source = source;
+        this.predicate = compiled(source);
+    }
+
+    @Override
+    public boolean test(Object actual) {
+        try {
+            return (boolean) predicate.invokeExact(actual);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Compiled matcher failed", t);
+        }
+    }
+
+    @Override
+    public boolean matches(Object actual) {
+        return test(actual);
+    }
+
+    @Override
+    public MatchResult evaluate(Object actual) {
+        return source.evaluate(actual);
+    }
+
+    @Override
+    public void describeMismatch(Object item, Description description) {
+        source.describeMismatch(item, description);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        source.describeTo(description);
+    }
+
+    /**
+     * Compiles a tree of matchers into a single predicate that gives the same verdicts, descriptions
+     * and mismatch descriptions as the tree. Worth doing for matchers that are built once and evaluated
+     * very many times.
+     * For example:
+     * <pre>Predicate&lt;Object&gt; valid = compile(allOf(notNullValue(), anyOf(equalTo("a"), equalTo("b"))))</pre>
+     *
+     * @param <T>
+     *     the matcher type.
+     * @param matcher
+     *     the matcher tree to compile.
+     * @return The compiled matcher.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> CompiledMatcher<T> compile(Matcher<T> matcher) {
+        if (matcher instanceof CompiledMatcher) {
+            return (CompiledMatcher<T>) matcher;
+        }
+        return new CompiledMatcher<>(matcher);
+    }
+
+    private static MethodHandle compiled(Matcher<?> matcher) {
+        final Class<?> type = matcher.getClass();
+        if (type == CompiledMatcher.class) {
+            return ((CompiledMatcher<?>) matcher).predicate;
+        }
+        if (type == AllOf.class && ((AllOf<?>) matcher).adaptiveOrder == null) {
+            return allOf(compiled(((AllOf<?>) matcher).matchers));
+        }
+        if (type == AnyOf.class && ((AnyOf<?>) matcher).adaptiveOrder == null) {
+            return anyOf(compiled(((AnyOf<?>) matcher).matchers));
+        }
+        if (type == IsNot.class) {
+            return MethodHandles.filterReturnValue(compiled(((IsNot<?>) matcher).matcher), NOT);
+        }
+        if (type == Is.class) {
+            return compiled(((Is<?>) matcher).matcher);
+        }
+        if (type == DescribedAs.class) {
+            return compiled(((DescribedAs<?>) matcher).matcher);
+        }
+        if (type == CombinableMatcher.class) {
+            return MethodHandles.guardWithTest(IS_NOT_NULL, compiled(((CombinableMatcher<?>) matcher).matcher), FALSE);
+        }
+        if (type == IsEqual.class) {
+            return isEqual((IsEqual<?>) matcher);
+        }
+        if (type == IsSame.class) {
+            return MethodHandles.insertArguments(IS_SAME, 0, ((IsSame<?>) matcher).object);
+        }
+        if (type == IsInstanceOf.class) {
+            return IS_INSTANCE.bindTo(((IsInstanceOf) matcher).matchableClass);
+        }
+        if (type == IsNull.class) {
+            return IS_NULL;
+        }
+        if (type == IsAnything.class) {
+            return TRUE;
+        }
+        return MATCHES.bindTo(matcher);
+    }
+
+    private static <M extends Matcher<?>> List<MethodHandle> compiled(Iterable<M> matchers) {
+        final List<MethodHandle> compiled = new ArrayList<>();
+        for (Matcher<?> matcher : matchers) {
+            compiled.add(compiled(matcher));
+        }
+        return compiled;
+    }
+
+    private static MethodHandle allOf(List<MethodHandle> children) {
+        MethodHandle result = TRUE;
+        for (int i = children.size() - 1; i >= 0; i--) {
+            result = MethodHandles.guardWithTest(children.get(i), result, FALSE);
+        }
+        return result;
+    }
+
+    private static MethodHandle anyOf(List<MethodHandle> children) {
+        MethodHandle result = FALSE;
+        for (int i = children.size() - 1; i >= 0; i--) {
+            result = MethodHandles.guardWithTest(children.get(i), TRUE, result);
+        }
+        return result;
+    }
+
+    private static MethodHandle isEqual(IsEqual<?> matcher) {
+        final Object expected = matcher.expectedValue;
+        if (expected == null) {
+            return IS_NULL;
+        }
+        if (expected.getClass().isArray()) {
+            return MATCHES.bindTo(matcher);
+        }
+        return MethodHandles.insertArguments(IS_EQUAL, 0, expected);
+    }
+
+    private static boolean not(boolean value) {
+        return !value;
+    }
+
+    private static boolean isNull(Object actual) {
+        return actual == null;
+    }
+
+    private static boolean isNotNull(Object actual) {
+        return actual != null;
+    }
+
+    private static boolean isEqual(Object expected, Object actual) {
+        return actual != null && actual.equals(expected);
+    }
+
+    private static boolean isSame(Object expected, Object actual) {
+        return actual == expected;
+    }
+
+    private static MethodHandle constant(boolean value) {
+        return MethodHandles.dropArguments(MethodHandles.constant(boolean.class, value), 0, Object.class);
+    }
+
+    private static MethodHandle staticHandle(String name, MethodType type) {
+        try {
+            return MethodHandles.lookup().findStatic(CompiledMatcher.class, name, type);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static MethodHandle virtualHandle(Class<?> owner, String name) {
+        try {
+            return MethodHandles.publicLookup().findVirtual(owner, name, PREDICATE);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+}
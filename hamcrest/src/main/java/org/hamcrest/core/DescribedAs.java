@@ -2,6 +2,7 @@ package org.hamcrest.core;
 
 import org.hamcrest.BaseMatcher;
 import org.hamcrest.Description;
+import org.hamcrest.MatchResult;
 import org.hamcrest.Matcher;
 
 import java.util.regex.Pattern;
@@ -16,7 +17,7 @@ import static java.lang.Integer.parseInt;
 public class DescribedAs<T> extends BaseMatcher<T> {
 
     private final String descriptionTemplate;
-    private final Matcher<T> matcher;
+    final Matcher<T> matcher;
     private final Object[] values;
 
     private final static Pattern ARG_PATTERN = Pattern.compile("%([0-9]+)");
@@ -59,6 +60,11 @@ public class DescribedAs<T> extends BaseMatcher<T> {
         matcher.describeMismatch(item, description);
     }
 
+    @Override
+    public MatchResult evaluate(Object item) {
+        return matcher.evaluate(item);
+    }
+
     /**
      * Wraps an existing matcher, overriding its description with that specified.  All other functions are
      * delegated to the decorated matcher, including its mismatch description.
@@ -1,9 +1,14 @@
 package org.hamcrest.core;
 
 import org.hamcrest.Description;
+import org.hamcrest.MatchResult;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * A matcher that applies a delegate matcher to every item in an  {@link Iterable}.
  *
@@ -12,21 +17,57 @@ import org.hamcrest.TypeSafeDiagnosingMatcher;
 public class Every<T> extends TypeSafeDiagnosingMatcher<Iterable<? extends T>> {
 
     private final Matcher<? super T> matcher;
+    private final boolean parallel;
 
     /**
      * Constructor, best called from {@link #everyItem(Matcher)}.
      * @param matcher a matcher used to check every item in the iterable.
      */
     public Every(Matcher<? super T> matcher) {
+        this(matcher, false);
+    }
+
+    private Every(Matcher<? super T> matcher, boolean parallel) {
         this.matcher= matcher;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Returns a matcher like this one that checks the items in parallel, on the common fork-join pool.
+     * It stops as soon as the earliest mismatching item is known, and describes the same mismatch
+     * as checking the items in turn would. The item matcher must be safe to use from several threads.
+     *
+     * @return The parallel matcher.
+     */
+    public Every<T> inParallel() {
+        return new Every<>(matcher, true);
     }
 
     @Override
     public boolean matchesSafely(Iterable<? extends T> collection, Description mismatchDescription) {
+        if (parallel) {
+            final List<?> items = ParallelSearch.indexed(collection);
+            final Map<Integer, MatchResult> failures = new ConcurrentHashMap<>();
+            final int first = ParallelSearch.firstIndex(items.size(), index -> {
+                final MatchResult result = matcher.evaluate(items.get(index));
+                if (result.matched()) {
+                    return false;
+                }
+                failures.put(index, result);
+                return true;
+            });
+            if (first < 0) {
+                return true;
+            }
+            mismatchDescription.appendText("an item ");
+            failures.get(first).describeMismatch(mismatchDescription);
+            return false;
+        }
         for (T t : collection) {
-            if (!matcher.matches(t)) {
+            MatchResult result = matcher.evaluate(t);
+            if (!result.matched()) {
                 mismatchDescription.appendText("an item ");
-                matcher.describeMismatch(t, mismatchDescription);
+                result.describeMismatch(mismatchDescription);
                 return false;
             }
         }
@@ -55,4 +96,22 @@ public class Every<T> extends TypeSafeDiagnosingMatcher<Iterable<? extends T>> {
         return new Every<>(itemMatcher);
     }
 
+    /**
+     * Creates a matcher for {@link Iterable}s that only matches when the items of the examined
+     * {@link Iterable} are all matched by the specified <code>itemMatcher</code>, checking them in
+     * parallel on the common fork-join pool. The mismatch described is that of the earliest
+     * mismatching item. The <code>itemMatcher</code> must be safe to use from several threads.
+     * For example:
+     * <pre>assertThat(largeListOfOrders, everyItemInParallel(hasProperty("status", equalTo("SHIPPED"))))</pre>
+     *
+     * @param <U>
+     *     the matcher type.
+     * @param itemMatcher
+     *     the matcher to apply to every item provided by the examined {@link Iterable}
+     * @return The matcher.
+     */
+    public static <U> Matcher<Iterable<? extends U>> everyItemInParallel(final Matcher<U> itemMatcher) {
+        return new Every<U>(itemMatcher).inParallel();
+    }
+
 }
@@ -2,6 +2,7 @@ package org.hamcrest.core;
 
 import org.hamcrest.BaseMatcher;
 import org.hamcrest.Description;
+import org.hamcrest.MatchResult;
 import org.hamcrest.Matcher;
 
 import static org.hamcrest.core.IsEqual.equalTo;
@@ -17,7 +18,7 @@ import static org.hamcrest.core.IsEqual.equalTo;
  */
 public class Is<T> extends BaseMatcher<T> {
 
-    private final Matcher<T> matcher;
+    final Matcher<T> matcher;
 
     /**
      * Constructor, best called from {@link #is(Object)}, {@link #is(Matcher)}, or {@link #isA(Class)}.
@@ -42,6 +43,11 @@ public class Is<T> extends BaseMatcher<T> {
         matcher.describeMismatch(item, mismatchDescription);
     }
 
+    @Override
+    public MatchResult evaluate(Object item) {
+        return matcher.evaluate(item);
+    }
+
     /**
      * Decorates another Matcher, retaining its behaviour, but allowing tests
      * to be slightly more expressive.
@@ -3,6 +3,7 @@ package org.hamcrest.core;
 import org.hamcrest.BaseMatcher;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
+import org.hamcrest.internal.PrimitiveArrays;
 
 import java.lang.reflect.Array;
 
@@ -14,7 +15,7 @@ import java.lang.reflect.Array;
  */
 public class IsEqual<T> extends BaseMatcher<T> {
 
-    private final Object expectedValue;
+    final Object expectedValue;
 
     /**
      * Constructor, best called from {@link #equalTo(Object)} or {@link #equalToObject(Object)}.
@@ -34,6 +35,21 @@ public class IsEqual<T> extends BaseMatcher<T> {
         description.appendValue(expectedValue);
     }
 
+    @Override
+    public void describeMismatch(Object item, Description description) {
+        if (item == null || expectedValue == null || !isArray(item) || !isArray(expectedValue)) {
+            super.describeMismatch(item, description);
+            return;
+        }
+        final int index = firstMismatch(item, expectedValue);
+        if (index >= 0 && index < Math.min(Array.getLength(item), Array.getLength(expectedValue))) {
+            description.appendText("element ").appendValue(index)
+                .appendText(" was ").appendValue(Array.get(item, index));
+        } else {
+            description.appendText("array length was ").appendValue(Array.getLength(item));
+        }
+    }
+
     private static boolean areEqual(Object actual, Object expected) {
         if (actual == null) {
             return expected == null;
@@ -47,6 +63,9 @@ public class IsEqual<T> extends BaseMatcher<T> {
     }
 
     private static boolean areArraysEqual(Object actualArray, Object expectedArray) {
+        if (PrimitiveArrays.areSamePrimitiveType(actualArray, expectedArray)) {
+            return PrimitiveArrays.areEqual(actualArray, expectedArray);
+        }
         return areArrayLengthsEqual(actualArray, expectedArray) && areArrayElementsEqual(actualArray, expectedArray);
     }
 
@@ -55,6 +74,16 @@ public class IsEqual<T> extends BaseMatcher<T> {
     }
 
     private static boolean areArrayElementsEqual(Object actualArray, Object expectedArray) {
+        if (actualArray instanceof Object[] && expectedArray instanceof Object[]) {
+            final Object[] actual = (Object[]) actualArray;
+            final Object[] expected = (Object[]) expectedArray;
+            for (int i = 0; i < actual.length; i++) {
+                if (!areEqual(actual[i], expected[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
         for (int i = 0; i < Array.getLength(actualArray); i++) {
             if (!areEqual(Array.get(actualArray, i), Array.get(expectedArray, i))) {
                 return false;
@@ -63,6 +92,22 @@ public class IsEqual<T> extends BaseMatcher<T> {
         return true;
     }
 
+    /*
+     * The index of the first element that differs, or the length of the shorter array
+     * if one array starts with the other.
+     */
+    private static int firstMismatch(Object actualArray, Object expectedArray) {
+        if (PrimitiveArrays.areSamePrimitiveType(actualArray, expectedArray)) {
+            return PrimitiveArrays.mismatch(actualArray, expectedArray);
+        }
+        final int length = Math.min(Array.getLength(actualArray), Array.getLength(expectedArray));
+        int i = 0;
+        while (i < length && areEqual(Array.get(actualArray, i), Array.get(expectedArray, i))) {
+            i++;
+        }
+        return i;
+    }
+
     private static boolean isArray(Object o) {
         return o.getClass().isArray();
     }
@@ -81,7 +126,8 @@ public class IsEqual<T> extends BaseMatcher<T> {
      * <p>The created matcher provides a special behaviour when examining <code>Array</code>s, whereby
      * it will match if both the operand and the examined object are arrays of the same length and
      * contain items that are equal to each other (according to the above rules) <b>in the same
-     * indexes</b>.</p>
+     * indexes</b>. Arrays of the same primitive type are compared without boxing their elements,
+     * and the mismatch description names the first element that differs.</p>
      * For example:
      * <pre>
      * assertThat("foo", equalTo("foo"));
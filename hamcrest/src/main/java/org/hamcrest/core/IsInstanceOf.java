@@ -11,7 +11,7 @@ import org.hamcrest.Matcher;
 public class IsInstanceOf extends DiagnosingMatcher<Object> {
 
     private final Class<?> expectedClass;
-    private final Class<?> matchableClass;
+    final Class<?> matchableClass;
 
     /**
      * Creates a new instance of IsInstanceOf
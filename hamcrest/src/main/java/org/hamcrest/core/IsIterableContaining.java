@@ -2,9 +2,13 @@ package org.hamcrest.core;
 
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
+import org.hamcrest.SelfDescribing;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 
+import java.util.AbstractCollection;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 
 import static org.hamcrest.core.AllOf.allOf;
@@ -17,6 +21,7 @@ import static org.hamcrest.core.IsEqual.equalTo;
 public class IsIterableContaining<T> extends TypeSafeDiagnosingMatcher<Iterable<? extends T>> {
 
     private final Matcher<? super T> elementMatcher;
+    private final boolean parallel;
 
     /**
      * Constructor, best called from one of the static factory methods.
@@ -27,7 +32,23 @@ public class IsIterableContaining<T> extends TypeSafeDiagnosingMatcher<Iterable<
      * @see #hasItems(Matcher[])
      */
     public IsIterableContaining(Matcher<? super T> elementMatcher) {
+        this(elementMatcher, false);
+    }
+
+    private IsIterableContaining(Matcher<? super T> elementMatcher, boolean parallel) {
         this.elementMatcher = elementMatcher;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Returns a matcher like this one that looks for a matching item in parallel, on the common
+     * fork-join pool, stopping as soon as one is found. The element matcher must be safe to use
+     * from several threads.
+     *
+     * @return The parallel matcher.
+     */
+    public IsIterableContaining<T> inParallel() {
+        return new IsIterableContaining<>(elementMatcher, true);
     }
 
     @Override
@@ -37,25 +58,61 @@ public class IsIterableContaining<T> extends TypeSafeDiagnosingMatcher<Iterable<
           return false;
         }
 
-        for (Object item : collection) {
-            if (elementMatcher.matches(item)) {
+        if (parallel) {
+            if (ParallelSearch.firstIndex(ParallelSearch.indexed(collection), elementMatcher::matches) >= 0) {
                 return true;
             }
+        } else {
+            for (Object item : collection) {
+                if (elementMatcher.matches(item)) {
+                    return true;
+                }
+            }
         }
 
-        mismatchDescription.appendText("mismatches were: [");
-        boolean isPastFirst = false;
-        for (Object item : collection) {
-            if (isPastFirst) {
-              mismatchDescription.appendText(", ");
-            }
-            elementMatcher.describeMismatch(item, mismatchDescription);
-            isPastFirst = true;
+        if (mismatchDescription == Description.NONE) {
+            return false;
         }
-        mismatchDescription.appendText("]");
+        mismatchDescription.appendText("mismatches were: ").appendList("[", ", ", "]", mismatchesOf(collection));
         return false;
     }
 
+    /*
+     * The mismatch of each item, described only when the description gets to it, so that a
+     * description with a budget stops describing them once it has shown enough.
+     */
+    private Iterable<SelfDescribing> mismatchesOf(final Iterable<? extends T> items) {
+        if (items instanceof Collection) {
+            return new AbstractCollection<SelfDescribing>() {
+                @Override
+                public Iterator<SelfDescribing> iterator() {
+                    return mismatchesOf(items.iterator());
+                }
+
+                @Override
+                public int size() {
+                    return ((Collection<?>) items).size();
+                }
+            };
+        }
+        return () -> mismatchesOf(items.iterator());
+    }
+
+    private Iterator<SelfDescribing> mismatchesOf(final Iterator<? extends T> items) {
+        return new Iterator<SelfDescribing>() {
+            @Override
+            public boolean hasNext() {
+                return items.hasNext();
+            }
+
+            @Override
+            public SelfDescribing next() {
+                final T item = items.next();
+                return description -> elementMatcher.describeMismatch(item, description);
+            }
+        };
+    }
+
     private boolean isEmpty(Iterable<? extends T> iterable) {
       return ! iterable.iterator().hasNext();
     }
@@ -104,6 +161,24 @@ public class IsIterableContaining<T> extends TypeSafeDiagnosingMatcher<Iterable<
         return new IsIterableContaining<>(equalTo(item));
     }
 
+    /**
+     * Creates a matcher for {@link Iterable}s that matches when the examined {@link Iterable}
+     * yields at least one item that is matched by the specified <code>itemMatcher</code>, looking
+     * for it in parallel on the common fork-join pool. The <code>itemMatcher</code> must be safe
+     * to use from several threads.
+     * For example:
+     * <pre>assertThat(largeListOfOrders, hasItemInParallel(hasProperty("status", equalTo("LOST"))))</pre>
+     *
+     * @param <T>
+     *     the matcher type.
+     * @param itemMatcher
+     *     the matcher to apply to items provided by the examined {@link Iterable}
+     * @return The matcher.
+     */
+    public static <T> Matcher<Iterable<? extends T>> hasItemInParallel(Matcher<? super T> itemMatcher) {
+        return new IsIterableContaining<T>(itemMatcher).inParallel();
+    }
+
     /**
      * Creates a matcher for {@link Iterable}s that matches when consecutive passes over the
      * examined {@link Iterable} yield at least one item that is matched by the corresponding
@@ -13,7 +13,7 @@ import static org.hamcrest.core.IsEqual.equalTo;
  */
 public class IsNot<T> extends BaseMatcher<T>  {
 
-    private final Matcher<T> matcher;
+    final Matcher<T> matcher;
 
     /**
      * Constructor, best called from {@link #not(Object)} or
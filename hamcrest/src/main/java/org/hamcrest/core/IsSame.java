@@ -11,7 +11,7 @@ import org.hamcrest.Matcher;
  */
 public class IsSame<T> extends BaseMatcher<T> {
 
-    private final T object;
+    final T object;
 
     /**
      * Constructor, best called from {@link #sameInstance(Object)} or
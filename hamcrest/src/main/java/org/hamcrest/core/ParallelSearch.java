@@ -0,0 +1,108 @@
+package org.hamcrest.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Finds the first item of a list that satisfies a predicate, testing ranges of the list in
+ * parallel on the common {@link ForkJoinPool}. The predicate is given the index of each item.
+ *
+ * <p>As soon as a worker finds an item, every range that starts after it is abandoned, and every
+ * range before it is only searched up to it, so the result is the same as a sequential search
+ * would give.</p>
+ */
+final class ParallelSearch extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int SPLITS_PER_WORKER = 8;
+
+    private final IntPredicate predicate;
+    private final AtomicInteger first;
+    private final int from;
+    private final int to;
+    private final int grain;
+
+    private ParallelSearch(IntPredicate predicate, AtomicInteger first, int from, int to, int grain) {
+        this.predicate = predicate;
+        this.first = first;
+        this.from = from;
+        this.to = to;
+        this.grain = grain;
+    }
+
+    @Override
+    protected void compute() {
+        if (from >= first.get()) {
+            return;
+        }
+        if (to - from <= grain) {
+            for (int i = from; i < to && i < first.get(); i++) {
+                if (predicate.test(i)) {
+                    lowerFirst(i);
+                    return;
+                }
+            }
+            return;
+        }
+        final int middle = (from + to) >>> 1;
+        invokeAll(
+            new ParallelSearch(predicate, first, from, middle, grain),
+            new ParallelSearch(predicate, first, middle, to, grain));
+    }
+
+    private void lowerFirst(int index) {
+        int current = first.get();
+        while (index < current && !first.compareAndSet(current, index)) {
+            current = first.get();
+        }
+    }
+
+    /**
+     * @param items the items to search, best a random access list
+     * @param predicate the test, which must be safe to call from several threads at once
+     * @return the index of the first item that satisfies the predicate, or -1 if there is none
+     */
+    static int firstIndex(List<?> items, Predicate<Object> predicate) {
+        return firstIndex(items.size(), index -> predicate.test(items.get(index)));
+    }
+
+    /**
+     * @param size the number of items
+     * @param predicate the test of the item at an index, which must be safe to call from several threads at once
+     * @return the first index that satisfies the predicate, or -1 if there is none
+     */
+    static int firstIndex(int size, IntPredicate predicate) {
+        final AtomicInteger first = new AtomicInteger(size);
+        final int grain = Math.max(1, size / (ForkJoinPool.getCommonPoolParallelism() * SPLITS_PER_WORKER));
+        ForkJoinPool.commonPool().invoke(new ParallelSearch(predicate, first, 0, size, grain));
+        return first.get() < size ? first.get() : -1;
+    }
+
+    /**
+     * @param iterable the items
+     * @return the items as a random access list, copied only if they are not one already
+     */
+    static List<?> indexed(Iterable<?> iterable) {
+        if (iterable instanceof List && iterable instanceof RandomAccess) {
+            return (List<?>) iterable;
+        }
+        if (iterable instanceof Collection) {
+            return Arrays.asList(((Collection<?>) iterable).toArray());
+        }
+        final List<Object> items = new ArrayList<>();
+        for (Object item : iterable) {
+            items.add(item);
+        }
+        return items;
+    }
+
+}
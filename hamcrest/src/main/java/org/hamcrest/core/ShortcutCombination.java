@@ -6,10 +6,16 @@ import org.hamcrest.Matcher;
 
 abstract class ShortcutCombination<T> extends BaseMatcher<T> {
 
-    private final Iterable<Matcher<? super T>> matchers;
+    final Iterable<Matcher<? super T>> matchers;
+    final AdaptiveOrder adaptiveOrder;
 
     public ShortcutCombination(Iterable<Matcher<? super T>> matchers) {
+        this(matchers, false);
+    }
+
+    ShortcutCombination(Iterable<Matcher<? super T>> matchers, boolean adaptive) {
         this.matchers = matchers;
+        this.adaptiveOrder = adaptive ? new AdaptiveOrder(matchers) : null;
     }
 
     @Override
@@ -22,13 +28,17 @@ abstract class ShortcutCombination<T> extends BaseMatcher<T> {
      * Evaluates the argument <var>o</var> against the delegate matchers.
      *
      * Evaluation will stop at the first matcher that evaluates to the value of the
-     * <code>shortcut</code> argument.
+     * <code>shortcut</code> argument. Matchers are tried in declaration order, unless
+     * this combination was created adaptive.
      *
      * @param o the value to check
      * @param shortcut the match result to be checked against all delegate matchers
      * @return the value of <var>shortcut</var> if all delegate matchers give the same value
      */
     protected boolean matches(Object o, boolean shortcut) {
+        if (adaptiveOrder != null) {
+            return adaptiveOrder.matches(o, shortcut);
+        }
         for (Matcher<? super T> matcher : matchers) {
             if (matcher.matches(o) == shortcut) {
                 return shortcut;
@@ -7,6 +7,10 @@ import org.hamcrest.Matcher;
  */
 public class StringContains extends SubstringMatcher {
 
+    private final char first;
+    private final char firstUpper;
+    private final char firstLower;
+
     /**
      * Constructor, best used with {@link #containsString(String)}.
      * @param substring the expected substring.
@@ -21,6 +25,9 @@ public class StringContains extends SubstringMatcher {
      */
     public StringContains(boolean ignoringCase, String substring) {
         super("containing", ignoringCase, substring);
+        this.first = substring.isEmpty() ? 0 : substring.charAt(0);
+        this.firstUpper = Character.toUpperCase(first);
+        this.firstLower = Character.toLowerCase(firstUpper);
     }
 
     @Override
@@ -28,6 +35,32 @@ public class StringContains extends SubstringMatcher {
         return converted(s).contains(converted(substring));
     }
 
+    /*
+     * Looks for the first character of the substring as String.regionMatches(true, ...) compares
+     * characters, using its case variants worked out in the constructor, and only then compares
+     * the rest of the substring in place.
+     */
+    @Override
+    protected boolean evalSubstringIgnoringCaseOf(String s) {
+        final int length = substring.length();
+        if (length == 0) {
+            return true;
+        }
+        for (int i = 0, last = s.length() - length; i <= last; i++) {
+            final char c = s.charAt(i);
+            if (c == first || isFirstIgnoringCase(Character.toUpperCase(c))) {
+                if (s.regionMatches(true, i + 1, substring, 1, length - 1)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isFirstIgnoringCase(char upper) {
+        return upper == firstUpper || Character.toLowerCase(upper) == firstLower;
+    }
+
     /**
      * Creates a matcher that matches if the examined {@link String} contains the specified
      * {@link String} anywhere.
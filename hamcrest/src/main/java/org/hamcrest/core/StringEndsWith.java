@@ -26,6 +26,11 @@ public class StringEndsWith extends SubstringMatcher {
         return converted(s).endsWith(converted(substring));
     }
 
+    @Override
+    protected boolean evalSubstringIgnoringCaseOf(String s) {
+        return s.regionMatches(true, s.length() - substring.length(), substring, 0, substring.length());
+    }
+
     /**
      * Creates a matcher that matches if the examined {@link String} ends with the specified
      * {@link String}.
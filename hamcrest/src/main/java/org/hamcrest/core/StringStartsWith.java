@@ -24,6 +24,9 @@ public class StringStartsWith extends SubstringMatcher {
     @Override
     protected boolean evalSubstringOf(String s) { return converted(s).startsWith(converted(substring)); }
 
+    @Override
+    protected boolean evalSubstringIgnoringCaseOf(String s) { return s.regionMatches(true, 0, substring, 0, substring.length()); }
+
     /**
      * <p>
      * Creates a matcher that matches if the examined {@link String} starts with the specified
@@ -37,7 +37,7 @@ public abstract class SubstringMatcher extends TypeSafeMatcher<String> {
 
     @Override
     public boolean matchesSafely(String item) {
-        return evalSubstringOf(ignoringCase ? item.toLowerCase() :item);
+        return ignoringCase ? evalSubstringIgnoringCaseOf(item) : evalSubstringOf(item);
     }
     @Override
     public void describeMismatchSafely(String item, Description mismatchDescription) {
@@ -69,4 +69,15 @@ public abstract class SubstringMatcher extends TypeSafeMatcher<String> {
      */
     protected abstract boolean evalSubstringOf(String string);
 
+    /**
+     * Checks if the input matches the specific substring, ignoring case. By default this checks
+     * a lowercase copy of the input with {@link #evalSubstringOf(String)}; subclasses can override
+     * it to compare without copying.
+     * @param string the string to check
+     * @return the result of the match
+     */
+    protected boolean evalSubstringIgnoringCaseOf(String string) {
+        return evalSubstringOf(string.toLowerCase());
+    }
+
 }
@@ -1,6 +1,7 @@
 package org.hamcrest.exception;
 
 import org.hamcrest.Description;
+import org.hamcrest.MatchResult;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 import org.hamcrest.core.IsInstanceOf;
@@ -127,13 +128,14 @@ public class ThrowsException<T extends Runnable> extends TypeSafeDiagnosingMatch
         mismatchDescription.appendText("thrown exception class was ").appendText(t.getClass().getName());
       }
 
-      boolean messageMatches = messageMatcher.matches(t.getMessage());
+      MatchResult messageResult = messageMatcher.evaluate(t.getMessage());
+      boolean messageMatches = messageResult.matched();
       if (!messageMatches) {
         if (!classMatches) {
           mismatchDescription.appendText(" and the ");
         }
         mismatchDescription.appendText("thrown exception message ");
-        messageMatcher.describeMismatch(t.getMessage(), mismatchDescription);
+        messageResult.describeMismatch(mismatchDescription);
       }
 
       return classMatches && messageMatches;
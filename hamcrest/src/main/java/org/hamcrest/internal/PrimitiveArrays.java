@@ -0,0 +1,223 @@
+package org.hamcrest.internal;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+
+/**
+ * Comparisons of arrays of the same primitive type, element by element and without boxing.
+ * Elements are equal as their wrappers would be, so <code>NaN</code> equals <code>NaN</code>
+ * and <code>0.0</code> does not equal <code>-0.0</code>.
+ */
+public final class PrimitiveArrays {
+
+    private PrimitiveArrays() {
+    }
+
+    /**
+     * @param first any object
+     * @param second any object
+     * @return whether both are arrays of the same primitive type
+     */
+    public static boolean areSamePrimitiveType(Object first, Object second) {
+        final Class<?> type = first.getClass();
+        return type == second.getClass() && type.isArray() && type.getComponentType().isPrimitive();
+    }
+
+    /**
+     * @param first an array of a primitive type
+     * @param second an array of the same type
+     * @return whether the arrays have the same length and equal elements
+     */
+    public static boolean areEqual(Object first, Object second) {
+        if (first instanceof int[]) {
+            return Arrays.equals((int[]) first, (int[]) second);
+        }
+        if (first instanceof long[]) {
+            return Arrays.equals((long[]) first, (long[]) second);
+        }
+        if (first instanceof double[]) {
+            return Arrays.equals((double[]) first, (double[]) second);
+        }
+        if (first instanceof byte[]) {
+            return Arrays.equals((byte[]) first, (byte[]) second);
+        }
+        if (first instanceof char[]) {
+            return Arrays.equals((char[]) first, (char[]) second);
+        }
+        if (first instanceof float[]) {
+            return Arrays.equals((float[]) first, (float[]) second);
+        }
+        if (first instanceof short[]) {
+            return Arrays.equals((short[]) first, (short[]) second);
+        }
+        return Arrays.equals((boolean[]) first, (boolean[]) second);
+    }
+
+    /**
+     * @param first an array of a primitive type
+     * @param second an array of the same type
+     * @return the index of the first element that differs, the length of the shorter array if one is
+     *         a prefix of the other, or -1 if the arrays are equal
+     */
+    public static int mismatch(Object first, Object second) {
+        final int firstLength = Array.getLength(first);
+        final int secondLength = Array.getLength(second);
+        final int length = Math.min(firstLength, secondLength);
+        final int index = firstDifference(first, second, length);
+        if (index < length || firstLength != secondLength) {
+            return index;
+        }
+        return -1;
+    }
+
+    /**
+     * @param first an array of a primitive type other than <code>boolean</code>
+     * @param i an index into the first array
+     * @param second an array of the same type
+     * @param j an index into the second array
+     * @return a negative number, zero, or a positive number as element <code>i</code> of the first array
+     *         is less than, equal to, or greater than element <code>j</code> of the second, in the order
+     *         used by {@link Arrays#sort}
+     */
+    public static int compare(Object first, int i, Object second, int j) {
+        if (first instanceof int[]) {
+            return Integer.compare(((int[]) first)[i], ((int[]) second)[j]);
+        }
+        if (first instanceof long[]) {
+            return Long.compare(((long[]) first)[i], ((long[]) second)[j]);
+        }
+        if (first instanceof double[]) {
+            return Double.compare(((double[]) first)[i], ((double[]) second)[j]);
+        }
+        if (first instanceof byte[]) {
+            return Byte.compare(((byte[]) first)[i], ((byte[]) second)[j]);
+        }
+        if (first instanceof char[]) {
+            return Character.compare(((char[]) first)[i], ((char[]) second)[j]);
+        }
+        if (first instanceof float[]) {
+            return Float.compare(((float[]) first)[i], ((float[]) second)[j]);
+        }
+        if (first instanceof short[]) {
+            return Short.compare(((short[]) first)[i], ((short[]) second)[j]);
+        }
+        throw new IllegalArgumentException("Cannot compare " + first.getClass().getSimpleName());
+    }
+
+    /**
+     * @param array an array of a primitive type other than <code>boolean</code>
+     * @return a sorted copy of the array
+     */
+    public static Object sortedCopy(Object array) {
+        if (array instanceof int[]) {
+            final int[] copy = ((int[]) array).clone();
+            Arrays.sort(copy);
+            return copy;
+        }
+        if (array instanceof long[]) {
+            final long[] copy = ((long[]) array).clone();
+            Arrays.sort(copy);
+            return copy;
+        }
+        if (array instanceof double[]) {
+            final double[] copy = ((double[]) array).clone();
+            Arrays.sort(copy);
+            return copy;
+        }
+        if (array instanceof byte[]) {
+            final byte[] copy = ((byte[]) array).clone();
+            Arrays.sort(copy);
+            return copy;
+        }
+        if (array instanceof char[]) {
+            final char[] copy = ((char[]) array).clone();
+            Arrays.sort(copy);
+            return copy;
+        }
+        if (array instanceof float[]) {
+            final float[] copy = ((float[]) array).clone();
+            Arrays.sort(copy);
+            return copy;
+        }
+        if (array instanceof short[]) {
+            final short[] copy = ((short[]) array).clone();
+            Arrays.sort(copy);
+            return copy;
+        }
+        throw new IllegalArgumentException("Cannot sort " + array.getClass().getSimpleName());
+    }
+
+    private static int firstDifference(Object first, Object second, int length) {
+        if (first instanceof int[]) {
+            final int[] a = (int[]) first;
+            final int[] b = (int[]) second;
+            int i = 0;
+            while (i < length && a[i] == b[i]) {
+                i++;
+            }
+            return i;
+        }
+        if (first instanceof long[]) {
+            final long[] a = (long[]) first;
+            final long[] b = (long[]) second;
+            int i = 0;
+            while (i < length && a[i] == b[i]) {
+                i++;
+            }
+            return i;
+        }
+        if (first instanceof double[]) {
+            final double[] a = (double[]) first;
+            final double[] b = (double[]) second;
+            int i = 0;
+            while (i < length && Double.doubleToLongBits(a[i]) == Double.doubleToLongBits(b[i])) {
+                i++;
+            }
+            return i;
+        }
+        if (first instanceof byte[]) {
+            final byte[] a = (byte[]) first;
+            final byte[] b = (byte[]) second;
+            int i = 0;
+            while (i < length && a[i] == b[i]) {
+                i++;
+            }
+            return i;
+        }
+        if (first instanceof char[]) {
+            final char[] a = (char[]) first;
+            final char[] b = (char[]) second;
+            int i = 0;
+            while (i < length && a[i] == b[i]) {
+                i++;
+            }
+            return i;
+        }
+        if (first instanceof float[]) {
+            final float[] a = (float[]) first;
+            final float[] b = (float[]) second;
+            int i = 0;
+            while (i < length && Float.floatToIntBits(a[i]) == Float.floatToIntBits(b[i])) {
+                i++;
+            }
+            return i;
+        }
+        if (first instanceof short[]) {
+            final short[] a = (short[]) first;
+            final short[] b = (short[]) second;
+            int i = 0;
+            while (i < length && a[i] == b[i]) {
+                i++;
+            }
+            return i;
+        }
+        final boolean[] a = (boolean[]) first;
+        final boolean[] b = (boolean[]) second;
+        int i = 0;
+        while (i < length && a[i] == b[i]) {
+            i++;
+        }
+        return i;
+    }
+
+}
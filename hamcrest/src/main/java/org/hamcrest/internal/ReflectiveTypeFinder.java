@@ -1,6 +1,8 @@
 package org.hamcrest.internal;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * <p>Find the declared type of a parameterized type at runtime, bypassing normal type erasure problems.
@@ -26,15 +28,22 @@ import java.lang.reflect.Method;
  * </p>
  * <p>In short, use this to extract a type from a method in the leaf class of a templated class hierarchy.
  * </p>
+ * <p>The search walks the declared methods of the class hierarchy, which is too expensive to repeat for every
+ * matcher that is constructed. Results are cached per class in a {@link ClassValue}, shared by all finders
+ * that look up the same method signature, so the cache does not prevent matcher classes from being unloaded.
+ * </p>
  *
  * @author Steve Freeman
  * @author Nat Pryce
  */
 public class ReflectiveTypeFinder {
 
+  private static final ConcurrentMap<String, ClassValue<Class<?>>> EXPECTED_TYPES = new ConcurrentHashMap<>();
+
   private final String methodName;
   private final int expectedNumberOfParameters;
   private final int typedParameter;
+  private final ClassValue<Class<?>> expectedTypes;
 
     /**
      * Create a <code>ReflectiveTypeFinder</code> for a specific parameter on a specific method.
@@ -46,6 +55,7 @@ public class ReflectiveTypeFinder {
     this.methodName = methodName;
     this.expectedNumberOfParameters = expectedNumberOfParameters;
     this.typedParameter = typedParameter;
+    this.expectedTypes = expectedTypesFor(methodName + "/" + expectedNumberOfParameters + "/" + typedParameter);
   }
 
     /**
@@ -54,6 +64,10 @@ public class ReflectiveTypeFinder {
      * @return the method parameter type
      */
   public Class<?> findExpectedType(Class<?> fromClass) {
+    return expectedTypes.get(fromClass);
+  }
+
+  private Class<?> searchExpectedType(Class<?> fromClass) {
     for (Class<?> c = fromClass; c != Object.class; c = c.getSuperclass()) {
         for (Method method : c.getDeclaredMethods()) {
             if (canObtainExpectedTypeFrom(method)) {
@@ -64,6 +78,23 @@ public class ReflectiveTypeFinder {
     throw new Error("Cannot determine correct type for " + methodName + "() method.");
   }
 
+  private ClassValue<Class<?>> expectedTypesFor(String signature) {
+    ClassValue<Class<?>> expectedTypes = EXPECTED_TYPES.get(signature);
+    if (expectedTypes == null) {
+      final ClassValue<Class<?>> created = new ClassValue<Class<?>>() {
+        @Override
+        protected Class<?> computeValue(Class<?> type) {
+          return searchExpectedType(type);
+        }
+      };
+      expectedTypes = EXPECTED_TYPES.putIfAbsent(signature, created);
+      if (expectedTypes == null) {
+        expectedTypes = created;
+      }
+    }
+    return expectedTypes;
+  }
+
   /**
    * @param method The method to examine.
    * @return true if this method references the relevant type
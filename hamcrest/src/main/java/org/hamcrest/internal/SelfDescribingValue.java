@@ -1,19 +0,0 @@
-package org.hamcrest.internal;
-
-import org.hamcrest.Description;
-import org.hamcrest.SelfDescribing;
-
-public class SelfDescribingValue<T> implements SelfDescribing {
-
-    private T value;
-
-    public SelfDescribingValue(T value) {
-        this.value = value;
-    }
-
-    @Override
-    public void describeTo(Description description) {
-        description.appendValue(value);
-    }
-
-}
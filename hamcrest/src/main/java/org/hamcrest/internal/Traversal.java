@@ -0,0 +1,149 @@
+package org.hamcrest.internal;
+
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Visits the elements of arrays and iterables in order. Arrays, including arrays of primitives,
+ * and {@link RandomAccess} lists are read with indexed loops, so no {@link java.util.Iterator} is
+ * allocated for them; other iterables fall back to their iterator.
+ */
+public final class Traversal {
+
+    /**
+     * Receives the elements of a traversal, one at a time.
+     *
+     * @param <E> the type of the elements
+     */
+    public interface Visitor<E> {
+        /**
+         * @param element the next element
+         * @return <code>true</code> to carry on with the next element, <code>false</code> to stop here
+         */
+        boolean visit(E element);
+    }
+
+    private Traversal() {
+    }
+
+    /**
+     * @param elements an iterable
+     * @param visitor receives the elements in iteration order
+     * @param <E> the type of the elements
+     * @return <code>true</code> if every element was visited, <code>false</code> if the visitor stopped early
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> boolean forEach(Iterable<? extends E> elements, Visitor<? super E> visitor) {
+        if (elements instanceof RandomAccess && elements instanceof List) {
+            final List<? extends E> list = (List<? extends E>) elements;
+            for (int i = 0, size = list.size(); i < size; i++) {
+                if (!visitor.visit(list.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        for (E element : elements) {
+            if (!visitor.visit(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param elements an array
+     * @param visitor receives the elements in index order
+     * @param <E> the type of the elements
+     * @return <code>true</code> if every element was visited, <code>false</code> if the visitor stopped early
+     */
+    public static <E> boolean forEach(E[] elements, Visitor<? super E> visitor) {
+        for (E element : elements) {
+            if (!visitor.visit(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Visits the elements of an array of any component type. Elements of a primitive array are
+     * read through its own type, and boxed one at a time as they are visited.
+     *
+     * @param array an array
+     * @param visitor receives the elements in index order
+     * @return <code>true</code> if every element was visited, <code>false</code> if the visitor stopped early
+     * @throws IllegalArgumentException if <code>array</code> is not an array
+     */
+    public static boolean forEachInArray(Object array, Visitor<Object> visitor) {
+        if (array instanceof Object[]) {
+            return forEach((Object[]) array, visitor);
+        }
+        if (array instanceof int[]) {
+            for (int element : (int[]) array) {
+                if (!visitor.visit(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (array instanceof long[]) {
+            for (long element : (long[]) array) {
+                if (!visitor.visit(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (array instanceof double[]) {
+            for (double element : (double[]) array) {
+                if (!visitor.visit(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (array instanceof byte[]) {
+            for (byte element : (byte[]) array) {
+                if (!visitor.visit(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (array instanceof char[]) {
+            for (char element : (char[]) array) {
+                if (!visitor.visit(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (array instanceof float[]) {
+            for (float element : (float[]) array) {
+                if (!visitor.visit(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (array instanceof short[]) {
+            for (short element : (short[]) array) {
+                if (!visitor.visit(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (array instanceof boolean[]) {
+            for (boolean element : (boolean[]) array) {
+                if (!visitor.visit(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        throw new IllegalArgumentException("not an array");
+    }
+
+}
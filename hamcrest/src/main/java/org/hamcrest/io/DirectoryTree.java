@@ -0,0 +1,147 @@
+package org.hamcrest.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Walks a directory tree once, in the order of {@link Files#walk(Path, java.nio.file.FileVisitOption...)},
+ * without following symbolic links. The entries below the root are selected by their attributes
+ * as the walk reads them, and lookups on the selected entries are fanned out in batches over the
+ * common {@link ForkJoinPool}. The walk stops as soon as the answer is known.
+ */
+final class DirectoryTree {
+
+    private static final int BATCH_SIZE = 64;
+
+    private DirectoryTree() {
+    }
+
+    /**
+     * @param root a directory
+     * @param filter selects entries below the root, from their path and attributes
+     * @return the first selected entry, or <code>null</code> if there is none.
+     * @throws IOException if the tree cannot be read.
+     */
+    static Path firstEntry(Path root, BiPredicate<Path, BasicFileAttributes> filter) throws IOException {
+        try (Stream<Path> entries = entries(root, filter)) {
+            return entries.findFirst().orElse(null);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * @param root a directory
+     * @param filter selects entries below the root, from their path and attributes
+     * @param limit the most entries to count
+     * @return the number of selected entries, or <code>limit</code> if there are at least that many.
+     * @throws IOException if the tree cannot be read.
+     */
+    static long count(Path root, BiPredicate<Path, BasicFileAttributes> filter, long limit) throws IOException {
+        try (Stream<Path> entries = entries(root, filter)) {
+            return entries.limit(limit).count();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Looks up the selected entries, and gives the first result found, in walk order. The lookup
+     * runs on several threads at once, and the walk stops once a result has been found.
+     * @param <R> the type of the result
+     * @param root a directory
+     * @param filter selects entries below the root, from their path and attributes
+     * @param lookup gives the result for an entry, or <code>null</code> if there is none, and must be
+     *     safe to call from several threads at once
+     * @return the result for the first selected entry that has one, or <code>null</code> if none has.
+     * @throws IOException if the tree cannot be read.
+     */
+    static <R> R firstFound(Path root, BiPredicate<Path, BasicFileAttributes> filter, Function<? super Path, ? extends R> lookup) throws IOException {
+        final FirstFound<R> found = new FirstFound<>();
+        final List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        try (Stream<Path> entries = entries(root, filter)) {
+            final Iterator<Path> walk = entries.iterator();
+            int index = 0;
+            while (walk.hasNext() && !found.found()) {
+                final List<Path> batch = new ArrayList<>(BATCH_SIZE);
+                while (batch.size() < BATCH_SIZE && walk.hasNext()) {
+                    batch.add(walk.next());
+                }
+                tasks.add(ForkJoinPool.commonPool().submit(new Lookup<>(batch, index, lookup, found)));
+                index += batch.size();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            for (ForkJoinTask<?> task : tasks) {
+                task.join();
+            }
+        }
+        return found.result;
+    }
+
+    private static Stream<Path> entries(final Path root, final BiPredicate<Path, BasicFileAttributes> filter) throws IOException {
+        return Files.find(root, Integer.MAX_VALUE, (path, attributes) -> !path.equals(root) && filter.test(path, attributes));
+    }
+
+    /*
+     * The result for the entry earliest in walk order found so far. Batches before it are still
+     * looked up to it, so the answer is the one a sequential lookup would give.
+     */
+    private static final class FirstFound<R> {
+        private int index = Integer.MAX_VALUE;
+        private R result;
+
+        synchronized boolean found() {
+            return result != null;
+        }
+
+        synchronized boolean isBefore(int candidate) {
+            return index <= candidate;
+        }
+
+        synchronized void offer(int candidate, R candidateResult) {
+            if (candidate < index) {
+                index = candidate;
+                result = candidateResult;
+            }
+        }
+    }
+
+    private static final class Lookup<R> implements Runnable {
+        private final List<Path> batch;
+        private final int start;
+        private final Function<? super Path, ? extends R> lookup;
+        private final FirstFound<R> found;
+
+        Lookup(List<Path> batch, int start, Function<? super Path, ? extends R> lookup, FirstFound<R> found) {
+            this.batch = batch;
+            this.start = start;
+            this.lookup = lookup;
+            this.found = found;
+        }
+
+        @Override
+        public void run() {
+            for (int i = 0; i < batch.size() && !found.isBefore(start + i); i++) {
+                final R result = lookup.apply(batch.get(i));
+                if (result != null) {
+                    found.offer(start + i, result);
+                    return;
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,164 @@
+package org.hamcrest.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Compares the content of files a region at a time, so that files of any size can be compared
+ * without reading them onto the heap. Files are memory-mapped one region at a time.
+ */
+final class FileContent {
+
+    /** The number of bytes mapped from each file at a time. */
+    static final int REGION_SIZE = 1 << 24;
+
+    /** The number of bytes either side of a difference shown by {@link #hexWindow(Source, long)}. */
+    static final int WINDOW = 8;
+
+    private FileContent() {
+    }
+
+    /**
+     * Bytes that can be compared a region at a time.
+     */
+    abstract static class Source implements Closeable {
+        /**
+         * @return the number of bytes.
+         */
+        abstract long size();
+
+        /**
+         * @param position the offset of the first byte
+         * @param length the number of bytes, no more than {@link #REGION_SIZE}
+         * @return a buffer of the bytes, from index 0.
+         * @throws IOException if the bytes cannot be read.
+         */
+        abstract ByteBuffer region(long position, int length) throws IOException;
+
+        @Override
+        public void close() throws IOException {
+        }
+    }
+
+    /**
+     * @param bytes some bytes
+     * @return the bytes as a source. They are not copied.
+     */
+    static Source of(final byte[] bytes) {
+        return new Source() {
+            @Override long size() { return bytes.length; }
+            @Override ByteBuffer region(long position, int length) {
+                return ByteBuffer.wrap(bytes, (int) position, length).slice();
+            }
+        };
+    }
+
+    /**
+     * @param path a file
+     * @return the content of the file, mapped as it is compared. The source must be closed.
+     * @throws IOException if the file cannot be opened.
+     */
+    static Source open(Path path) throws IOException {
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        final long size;
+        try {
+            size = channel.size();
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return new Source() {
+            @Override long size() { return size; }
+            @Override ByteBuffer region(long position, int length) throws IOException {
+                return channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            }
+            @Override public void close() throws IOException { channel.close(); }
+        };
+    }
+
+    /**
+     * Finds the first offset at which two sources differ, within the first <code>length</code> bytes of both.
+     * @param actual a source of at least <code>length</code> bytes
+     * @param expected another source of at least <code>length</code> bytes
+     * @param length the number of bytes to compare
+     * @return the offset of the first difference, or -1 if the bytes are the same.
+     * @throws IOException if either source cannot be read.
+     */
+    static long mismatch(Source actual, Source expected, long length) throws IOException {
+        for (long position = 0; position < length; position += REGION_SIZE) {
+            final int regionLength = (int) Math.min(REGION_SIZE, length - position);
+            final int offset = mismatch(actual.region(position, regionLength), expected.region(position, regionLength), regionLength);
+            if (offset >= 0) {
+                return position + offset;
+            }
+        }
+        return -1;
+    }
+
+    /*
+     * Compares eight bytes at a time, then finds the byte that differs. Both buffers are
+     * big-endian, as they were created, so a difference in a long is a difference in its bytes.
+     */
+    private static int mismatch(ByteBuffer a, ByteBuffer b, int length) {
+        int i = 0;
+        while (i + Long.BYTES <= length && a.getLong(i) == b.getLong(i)) {
+            i += Long.BYTES;
+        }
+        for (; i < length; i++) {
+            if (a.get(i) != b.get(i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Shows the first bytes of an array in hex, for example <code>[01 02 03 .. (40 bytes)]</code>.
+     * @param bytes the bytes
+     * @return the bytes in hex.
+     */
+    static String preview(byte[] bytes) {
+        final StringBuilder result = new StringBuilder("[");
+        for (int i = 0; i < Math.min(bytes.length, 2 * WINDOW); i++) {
+            result.append(i > 0 ? " " : "").append(String.format("%02x", bytes[i] & 0xff));
+        }
+        if (bytes.length > 2 * WINDOW) {
+            result.append(" .. (").append(bytes.length).append(" bytes)");
+        }
+        return result.append("]").toString();
+    }
+
+    /**
+     * Shows the bytes around an offset in hex, for example <code>.. 3f 40 [41] 42 ..</code>.
+     * The byte at the offset is in brackets, or empty brackets if the offset is at the end.
+     * @param source the bytes
+     * @param offset the offset to show
+     * @return the bytes in hex.
+     * @throws IOException if the source cannot be read.
+     */
+    static String hexWindow(Source source, long offset) throws IOException {
+        final long start = Math.max(0, offset - WINDOW);
+        final long end = Math.min(source.size(), offset + WINDOW + 1);
+        final ByteBuffer bytes = source.region(start, (int) (end - start));
+        final StringBuilder result = new StringBuilder();
+        if (start > 0) {
+            result.append(".. ");
+        }
+        for (long i = start; i < end; i++) {
+            final String hex = String.format("%02x", bytes.get((int) (i - start)) & 0xff);
+            result.append(i == offset ? "[" + hex + "]" : hex).append(' ');
+        }
+        if (offset >= end) {
+            result.append("[] ");
+        }
+        if (end < source.size()) {
+            result.append("..");
+        }
+        return result.toString().trim();
+    }
+
+}
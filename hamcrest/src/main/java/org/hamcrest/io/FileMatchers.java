@@ -2,16 +2,38 @@ package org.hamcrest.io;
 
 import org.hamcrest.Description;
 import org.hamcrest.FeatureMatcher;
+import org.hamcrest.MatchResult;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 import static org.hamcrest.core.IsEqual.equalTo;
 
 /**
  * Matchers for properties of files.
+ * <p>
+ * The {@link Path} matchers read the attributes of a file once per evaluation, and every check
+ * combined in one {@link #aPath(Matcher[])} shares that read. For example:
+ * <pre>{@code
+ * assertThat(path, aPath(regularFile(), withSize(42), withPermissions("rw-r--r--"), ownedBy("app")))
+ * }</pre>
+ * Symbolic links are followed by {@link #aPath(Matcher[])}, and not by
+ * {@link #aPathNotFollowingLinks(Matcher[])}, which examines the link itself.
  */
 public final class FileMatchers {
 
@@ -117,6 +139,392 @@ public final class FileMatchers {
         };
     }
 
+    /**
+     * A matcher that checks if a file or directory exists, following symbolic links.
+     * @return the path matcher
+     */
+    public static Matcher<Path> anExistingPath() {
+        return aPath();
+    }
+
+    /**
+     * A matcher that checks if a path is a regular file, following symbolic links.
+     * @return the path matcher
+     */
+    public static Matcher<Path> aRegularFile() {
+        return aPath(regularFile());
+    }
+
+    /**
+     * A matcher that checks if a path is a directory, following symbolic links.
+     * @return the path matcher
+     */
+    public static Matcher<Path> aDirectory() {
+        return aPath(directory());
+    }
+
+    /**
+     * A matcher that checks if a path is a symbolic link. The link is not followed.
+     * @return the path matcher
+     */
+    public static Matcher<Path> aSymbolicLink() {
+        return aPathNotFollowingLinks(symbolicLink());
+    }
+
+    /**
+     * A matcher that reads the attributes of a file once, following symbolic links, and checks
+     * them against all the given matchers. It does not match if the file does not exist.
+     * @param attributeMatchers the checks on the attributes
+     * @return the path matcher
+     */
+    @SafeVarargs
+    public static Matcher<Path> aPath(Matcher<? super PathAttributes>... attributeMatchers) {
+        return new PathChecker(true, Arrays.asList(attributeMatchers));
+    }
+
+    /**
+     * A matcher that reads the attributes of a file once, without following symbolic links, and
+     * checks them against all the given matchers. If the file is a link, the attributes are those
+     * of the link itself. It does not match if the file does not exist.
+     * @param attributeMatchers the checks on the attributes
+     * @return the path matcher
+     */
+    @SafeVarargs
+    public static Matcher<Path> aPathNotFollowingLinks(Matcher<? super PathAttributes>... attributeMatchers) {
+        return new PathChecker(false, Arrays.asList(attributeMatchers));
+    }
+
+    /**
+     * A matcher that checks if file attributes are those of a regular file.
+     * @return the attributes matcher
+     */
+    public static Matcher<PathAttributes> regularFile() {
+        return typeChecker(IS_REGULAR_FILE, "is a regular file", "is not a regular file");
+    }
+
+    /**
+     * A matcher that checks if file attributes are those of a directory.
+     * @return the attributes matcher
+     */
+    public static Matcher<PathAttributes> directory() {
+        return typeChecker(IS_DIRECTORY_PATH, "is a directory", "is not a directory");
+    }
+
+    /**
+     * A matcher that checks if file attributes are those of a symbolic link. Only attributes read
+     * without following links, by {@link #aPathNotFollowingLinks(Matcher[])}, can match.
+     * @return the attributes matcher
+     */
+    public static Matcher<PathAttributes> symbolicLink() {
+        return typeChecker(IS_SYMBOLIC_LINK, "is a symbolic link", "is not a symbolic link");
+    }
+
+    /**
+     * A matcher that checks if file attributes have a specific size.
+     * @param size the expected size
+     * @return the attributes matcher
+     */
+    public static Matcher<PathAttributes> withSize(long size) {
+        return withSize(equalTo(size));
+    }
+
+    /**
+     * A matcher that checks if the size in file attributes matches an expected size.
+     * @param expected matcher for the expected size
+     * @return the attributes matcher
+     */
+    public static Matcher<PathAttributes> withSize(final Matcher<? super Long> expected) {
+        return new FeatureMatcher<PathAttributes, Long>(expected, "has size", "size") {
+            @Override protected Long featureValueOf(PathAttributes actual) { return actual.size(); }
+        };
+    }
+
+    /**
+     * A matcher that checks if the last modified time in file attributes matches an expected time.
+     * @param expected matcher for the expected time
+     * @return the attributes matcher
+     */
+    public static Matcher<PathAttributes> lastModified(final Matcher<? super FileTime> expected) {
+        return new FeatureMatcher<PathAttributes, FileTime>(expected, "was last modified", "last modified") {
+            @Override protected FileTime featureValueOf(PathAttributes actual) { return actual.lastModifiedTime(); }
+        };
+    }
+
+    /**
+     * A matcher that checks if file attributes have exactly the given POSIX permissions.
+     * It does not match on file systems without POSIX permissions.
+     * @param permissions the expected permissions, as <code>ls -l</code> shows them, for example <code>rw-r--r--</code>
+     * @return the attributes matcher
+     * @throws IllegalArgumentException if the permissions are not in that form
+     */
+    public static Matcher<PathAttributes> withPermissions(String permissions) {
+        final Set<PosixFilePermission> expected = PosixFilePermissions.fromString(permissions);
+        return withPermissions(new TypeSafeDiagnosingMatcher<Set<PosixFilePermission>>() {
+            @Override
+            protected boolean matchesSafely(Set<PosixFilePermission> actual, Description mismatch) {
+                mismatch.appendText("were ").appendText(PosixFilePermissions.toString(actual));
+                return expected.equals(actual);
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText(PosixFilePermissions.toString(expected));
+            }
+        });
+    }
+
+    /**
+     * A matcher that checks if the POSIX permissions in file attributes match.
+     * It does not match on file systems without POSIX permissions.
+     * @param expected matcher for the permissions
+     * @return the attributes matcher
+     */
+    public static Matcher<PathAttributes> withPermissions(final Matcher<? super Set<PosixFilePermission>> expected) {
+        return new TypeSafeDiagnosingMatcher<PathAttributes>() {
+            @Override
+            protected boolean matchesSafely(PathAttributes actual, Description mismatch) {
+                final Set<PosixFilePermission> permissions = actual.permissions();
+                if (permissions == null) {
+                    mismatch.appendText("has no POSIX permissions");
+                    return false;
+                }
+                final MatchResult result = expected.evaluate(permissions);
+                if (!result.matched()) {
+                    mismatch.appendText("permissions ");
+                    result.describeMismatch(mismatch);
+                    return false;
+                }
+                return true;
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("has permissions ").appendDescriptionOf(expected);
+            }
+        };
+    }
+
+    /**
+     * A matcher that checks if file attributes have a specific owner.
+     * @param owner the name of the expected owner
+     * @return the attributes matcher
+     */
+    public static Matcher<PathAttributes> ownedBy(String owner) {
+        return ownedBy(equalTo(owner));
+    }
+
+    /**
+     * A matcher that checks if the name of the owner in file attributes matches.
+     * @param expected matcher for the name of the owner
+     * @return the attributes matcher
+     */
+    public static Matcher<PathAttributes> ownedBy(final Matcher<? super String> expected) {
+        return new TypeSafeDiagnosingMatcher<PathAttributes>() {
+            @Override
+            protected boolean matchesSafely(PathAttributes actual, Description mismatch) {
+                final String owner;
+                try {
+                    owner = actual.owner();
+                } catch (IOException e) {
+                    mismatch.appendText("owner could not be read: ").appendText(e.getMessage());
+                    return false;
+                }
+                final MatchResult result = expected.evaluate(owner);
+                if (!result.matched()) {
+                    mismatch.appendText("owner ");
+                    result.describeMismatch(mismatch);
+                    return false;
+                }
+                return true;
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("is owned by ").appendDescriptionOf(expected);
+            }
+        };
+    }
+
+    /**
+     * A matcher that checks if a file has the same content as another file. The files are compared
+     * a region at a time through memory maps, so the heap used does not grow with their size.
+     * A mismatch shows the first offset at which they differ.
+     * @param expected the file with the expected content
+     * @return the path matcher
+     */
+    public static Matcher<Path> aFileWithContentEqualTo(Path expected) {
+        return new ContentChecker(expected, null, false);
+    }
+
+    /**
+     * A matcher that checks if the content of a file is exactly the given bytes.
+     * @param expected the expected content
+     * @return the path matcher
+     */
+    public static Matcher<Path> aFileWithBytes(byte[] expected) {
+        return new ContentChecker(null, expected.clone(), false);
+    }
+
+    /**
+     * A matcher that checks if the content of a file starts with the given bytes.
+     * @param prefix the expected start of the content
+     * @return the path matcher
+     */
+    public static Matcher<Path> aFileStartingWith(byte[] prefix) {
+        return new ContentChecker(null, prefix.clone(), true);
+    }
+
+    /**
+     * A matcher that checks if the content of a file starts with the given text, in an encoding.
+     * @param prefix the expected start of the content
+     * @param charset the encoding of the file
+     * @return the path matcher
+     */
+    public static Matcher<Path> aFileStartingWith(String prefix, Charset charset) {
+        return new ContentChecker(null, prefix.getBytes(charset), true);
+    }
+
+    /**
+     * A matcher that checks if a directory tree contains a file or directory whose path, relative to
+     * the root of the tree, matches a glob, for example <code>"**&#47;*.class"</code>. The glob is
+     * compiled once, and the tree is walked only until a match is found. Symbolic links are not followed.
+     * @param glob the glob, as {@link FileSystem#getPathMatcher(String)} reads it without the <code>glob:</code> prefix
+     * @return the path matcher
+     */
+    public static Matcher<Path> aDirectoryContaining(final String glob) {
+        final PathMatcher defaultMatcher = FileSystems.getDefault().getPathMatcher("glob:" + glob);
+        return new TreeChecker() {
+            @Override
+            protected boolean matchesTree(final Path root, Description mismatch) throws IOException {
+                final FileSystem fileSystem = root.getFileSystem();
+                final PathMatcher pathMatcher = fileSystem == FileSystems.getDefault()
+                        ? defaultMatcher : fileSystem.getPathMatcher("glob:" + glob);
+                if (DirectoryTree.firstEntry(root, (path, attributes) -> pathMatcher.matches(root.relativize(path))) == null) {
+                    mismatch.appendText(String.format("'%s' contains no path matching ", root)).appendValue(glob);
+                    return false;
+                }
+                return true;
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("a directory containing a path matching ").appendValue(glob);
+            }
+        };
+    }
+
+    /**
+     * A matcher that checks if a directory tree contains a file or directory that matches. The paths
+     * given to the matcher are the root of the tree resolved against each entry's relative path. They
+     * are checked in parallel, on the common fork-join pool, and the walk stops once one matches.
+     * Symbolic links are not followed.
+     * @param entryMatcher the matcher for the entries, which must be safe to use from several threads
+     * @return the path matcher
+     */
+    public static Matcher<Path> aDirectoryContaining(final Matcher<? super Path> entryMatcher) {
+        return new TreeChecker() {
+            @Override
+            protected boolean matchesTree(Path root, Description mismatch) throws IOException {
+                if (DirectoryTree.firstFound(root, (path, attributes) -> true, path -> entryMatcher.matches(path) ? path : null) == null) {
+                    mismatch.appendText(String.format("'%s' contains no such path", root));
+                    return false;
+                }
+                return true;
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("a directory containing ").appendDescriptionOf(entryMatcher);
+            }
+        };
+    }
+
+    /**
+     * A matcher that checks if every regular file in a directory tree matches. The files are checked
+     * in parallel, on the common fork-join pool, and the walk stops once one does not match. The
+     * mismatch is the first such file in the order of {@link Files#walk(Path, java.nio.file.FileVisitOption...)}.
+     * Symbolic links are not followed.
+     * For example:
+     * <pre>assertThat(outputDir, everyFileInTree(aPath(withSize(greaterThan(0L)))))</pre>
+     * @param fileMatcher the matcher for the files, which must be safe to use from several threads
+     * @return the path matcher
+     */
+    public static Matcher<Path> everyFileInTree(final Matcher<? super Path> fileMatcher) {
+        return new TreeChecker() {
+            @Override
+            protected boolean matchesTree(Path root, Description mismatch) throws IOException {
+                final MatchResult failed = DirectoryTree.firstFound(root, (path, attributes) -> attributes.isRegularFile(), path -> {
+                    final MatchResult result = fileMatcher.evaluate(path);
+                    return result.matched() ? null : result;
+                });
+                if (failed != null) {
+                    mismatch.appendText("a file ");
+                    failed.describeMismatch(mismatch);
+                    return false;
+                }
+                return true;
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("a directory tree in which every file is ").appendDescriptionOf(fileMatcher);
+            }
+        };
+    }
+
+    /**
+     * A matcher that checks if a directory tree has exactly a number of regular files. The walk
+     * stops as soon as there are too many. Symbolic links are not followed.
+     * @param count the expected number of files
+     * @return the path matcher
+     */
+    public static Matcher<Path> aDirectoryTreeWithFileCount(int count) {
+        return new FileCountChecker(equalTo(count), count + 1L);
+    }
+
+    /**
+     * A matcher that checks if the number of regular files in a directory tree matches.
+     * Symbolic links are not followed.
+     * @param count matcher for the number of files
+     * @return the path matcher
+     */
+    public static Matcher<Path> aDirectoryTreeWithFileCount(Matcher<? super Integer> count) {
+        return new FileCountChecker(count, Integer.MAX_VALUE);
+    }
+
+    /**
+     * A matcher that checks if a directory tree has the same structure and content as another.
+     * Entries are compared by their paths relative to the roots, then regular files by size, and
+     * only the files whose sizes agree are read, in parallel, to compare their content. Symbolic
+     * links are not followed, and match if they have the same target. A mismatch lists some of the
+     * added, removed and changed paths.
+     * @param expected the root of the expected tree
+     * @return the path matcher
+     */
+    public static Matcher<Path> aDirectoryTreeEquivalentTo(final Path expected) {
+        return new TreeChecker() {
+            @Override
+            protected boolean matchesTree(Path root, Description mismatch) throws IOException {
+                if (!Files.isDirectory(expected)) {
+                    mismatch.appendText(String.format("'%s' is not a directory", expected));
+                    return false;
+                }
+                final TreeComparison comparison = TreeComparison.compare(root, expected);
+                if (!comparison.isEquivalent()) {
+                    mismatch.appendText(String.format("'%s' differs from '%s': ", root, expected));
+                    comparison.describeTo(mismatch);
+                    return false;
+                }
+                return true;
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText(String.format("a directory tree equivalent to '%s'", expected));
+            }
+        };
+    }
+
     /**
      * Checks the status of a {@link File}.
      */
@@ -164,6 +572,182 @@ public final class FileMatchers {
         @Override public boolean check(File actual) { return actual.exists(); }
     };
 
+    private interface PathType {
+        boolean check(PathAttributes actual);
+    }
+
+    private static final PathType IS_REGULAR_FILE = new PathType() {
+        @Override public boolean check(PathAttributes actual) { return actual.isRegularFile(); }
+    };
+
+    private static final PathType IS_DIRECTORY_PATH = new PathType() {
+        @Override public boolean check(PathAttributes actual) { return actual.isDirectory(); }
+    };
+
+    private static final PathType IS_SYMBOLIC_LINK = new PathType() {
+        @Override public boolean check(PathAttributes actual) { return actual.isSymbolicLink(); }
+    };
+
+    private static Matcher<PathAttributes> typeChecker(final PathType type, final String successDescription, final String failureDescription) {
+        return new TypeSafeDiagnosingMatcher<PathAttributes>() {
+            @Override
+            protected boolean matchesSafely(PathAttributes actual, Description mismatchDescription) {
+                final boolean result = type.check(actual);
+                if (!result) {
+                    mismatchDescription.appendText(failureDescription);
+                }
+                return result;
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText(successDescription);
+            }
+        };
+    }
+
+    private static final class PathChecker extends TypeSafeDiagnosingMatcher<Path> {
+        private final boolean followLinks;
+        private final List<Matcher<? super PathAttributes>> attributeMatchers;
+
+        PathChecker(boolean followLinks, List<Matcher<? super PathAttributes>> attributeMatchers) {
+            this.followLinks = followLinks;
+            this.attributeMatchers = attributeMatchers;
+        }
+
+        @Override
+        protected boolean matchesSafely(Path actual, Description mismatch) {
+            final PathAttributes attributes;
+            try {
+                attributes = PathAttributes.read(actual, followLinks);
+            } catch (NoSuchFileException e) {
+                mismatch.appendText(String.format("'%s' does not exist", actual));
+                return false;
+            } catch (IOException e) {
+                mismatch.appendText(String.format("'%s' could not be read: %s", actual, e.getMessage()));
+                return false;
+            }
+            for (Matcher<? super PathAttributes> attributeMatcher : attributeMatchers) {
+                final MatchResult result = attributeMatcher.evaluate(attributes);
+                if (!result.matched()) {
+                    mismatch.appendText(String.format("'%s' ", actual));
+                    result.describeMismatch(mismatch);
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            if (attributeMatchers.isEmpty()) {
+                description.appendText("an existing path");
+            } else {
+                description.appendText("a path ")
+                        .appendText(followLinks ? "" : "(links not followed) ")
+                        .appendList("that ", " and ", "", attributeMatchers);
+            }
+        }
+    }
+
+    private static final class ContentChecker extends TypeSafeDiagnosingMatcher<Path> {
+        private final Path expectedFile;
+        private final byte[] expectedBytes;
+        private final boolean prefix;
+
+        ContentChecker(Path expectedFile, byte[] expectedBytes, boolean prefix) {
+            this.expectedFile = expectedFile;
+            this.expectedBytes = expectedBytes;
+            this.prefix = prefix;
+        }
+
+        @Override
+        protected boolean matchesSafely(Path actual, Description mismatch) {
+            try (FileContent.Source content = FileContent.open(actual);
+                 FileContent.Source expected = expectedFile != null ? FileContent.open(expectedFile) : FileContent.of(expectedBytes)) {
+                final long length = Math.min(content.size(), expected.size());
+                long offset = FileContent.mismatch(content, expected, length);
+                if (offset < 0) {
+                    if (content.size() == expected.size() || (prefix && content.size() > expected.size())) {
+                        return true;
+                    }
+                    offset = length;
+                }
+                mismatch.appendText(String.format("'%s' differs at offset %d (0x%x): expected %s but was %s",
+                        actual, offset, offset, FileContent.hexWindow(expected, offset), FileContent.hexWindow(content, offset)));
+                if (!prefix && content.size() != expected.size()) {
+                    mismatch.appendText(String.format(", size was %d, expected %d", content.size(), expected.size()));
+                }
+                return false;
+            } catch (NoSuchFileException e) {
+                mismatch.appendText(String.format("'%s' does not exist", e.getFile()));
+                return false;
+            } catch (IOException e) {
+                mismatch.appendText(String.format("'%s' could not be read: %s", actual, e.getMessage()));
+                return false;
+            }
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            if (expectedFile != null) {
+                description.appendText(String.format("a file with the same content as '%s'", expectedFile));
+            } else {
+                description.appendText(prefix ? "a file starting with " : "a file with content ")
+                        .appendText(FileContent.preview(expectedBytes));
+            }
+        }
+    }
+
+    private abstract static class TreeChecker extends TypeSafeDiagnosingMatcher<Path> {
+        @Override
+        protected boolean matchesSafely(Path actual, Description mismatch) {
+            if (!Files.isDirectory(actual)) {
+                mismatch.appendText(String.format("'%s' is not a directory", actual));
+                return false;
+            }
+            try {
+                return matchesTree(actual, mismatch);
+            } catch (IOException e) {
+                mismatch.appendText(String.format("'%s' could not be read: %s", actual, e.getMessage()));
+                return false;
+            }
+        }
+
+        protected abstract boolean matchesTree(Path root, Description mismatch) throws IOException;
+    }
+
+    private static final class FileCountChecker extends TreeChecker {
+        private final Matcher<? super Integer> count;
+        private final long limit;
+
+        FileCountChecker(Matcher<? super Integer> count, long limit) {
+            this.count = count;
+            this.limit = limit;
+        }
+
+        @Override
+        protected boolean matchesTree(Path root, Description mismatch) throws IOException {
+            final long files = DirectoryTree.count(root, (path, attributes) -> attributes.isRegularFile(), limit);
+            if (files >= limit) {
+                mismatch.appendText(String.format("'%s' has more than %d files", root, limit - 1));
+                return false;
+            }
+            final MatchResult result = count.evaluate((int) files);
+            if (!result.matched()) {
+                mismatch.appendText(String.format("'%s' file count ", root));
+                result.describeMismatch(mismatch);
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText("a directory tree with file count ").appendDescriptionOf(count);
+        }
+    }
+
     private static Matcher<File> fileChecker(final FileStatus fileStatus, final String successDescription, final String failureDescription) {
         return new TypeSafeDiagnosingMatcher<File>() {
             public boolean matchesSafely(File actual, Description mismatchDescription) {
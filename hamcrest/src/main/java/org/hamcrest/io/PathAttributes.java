@@ -0,0 +1,134 @@
+package org.hamcrest.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.UserPrincipal;
+import java.util.Set;
+
+/**
+ * The attributes of a file, read in one call when a {@link Path} matcher from {@link FileMatchers}
+ * examines it, and shared by every check that matcher makes. On file systems with POSIX attributes,
+ * the permissions come from the same read, and the owner is resolved only when a check asks for it.
+ */
+public final class PathAttributes {
+
+    private final Path path;
+    private final boolean followedLinks;
+    private final BasicFileAttributes attributes;
+    private UserPrincipal owner;
+
+    private PathAttributes(Path path, boolean followedLinks, BasicFileAttributes attributes) {
+        this.path = path;
+        this.followedLinks = followedLinks;
+        this.attributes = attributes;
+    }
+
+    /**
+     * Reads the attributes of a file.
+     * @param path the file
+     * @param followLinks if <code>false</code>, and the file is a symbolic link, the attributes are those of the link itself
+     * @return the attributes
+     * @throws IOException if the file does not exist, or its attributes cannot be read.
+     */
+    public static PathAttributes read(Path path, boolean followLinks) throws IOException {
+        final LinkOption[] options = linkOptions(followLinks);
+        final Class<? extends BasicFileAttributes> type =
+                path.getFileSystem().supportedFileAttributeViews().contains("posix")
+                        ? PosixFileAttributes.class : BasicFileAttributes.class;
+        return new PathAttributes(path, followLinks, Files.readAttributes(path, type, options));
+    }
+
+    /**
+     * @return the file these attributes were read from.
+     */
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * @return <code>true</code> if the file is a regular file.
+     */
+    public boolean isRegularFile() {
+        return attributes.isRegularFile();
+    }
+
+    /**
+     * @return <code>true</code> if the file is a directory.
+     */
+    public boolean isDirectory() {
+        return attributes.isDirectory();
+    }
+
+    /**
+     * @return <code>true</code> if the file is a symbolic link. This can only be the case if links were not followed.
+     */
+    public boolean isSymbolicLink() {
+        return attributes.isSymbolicLink();
+    }
+
+    /**
+     * @return the size of the file in bytes.
+     */
+    public long size() {
+        return attributes.size();
+    }
+
+    /**
+     * @return the time the file was last modified.
+     */
+    public FileTime lastModifiedTime() {
+        return attributes.lastModifiedTime();
+    }
+
+    /**
+     * @return the time the file was last accessed.
+     */
+    public FileTime lastAccessTime() {
+        return attributes.lastAccessTime();
+    }
+
+    /**
+     * @return the time the file was created, or the last modified time where the file system does not record it.
+     */
+    public FileTime creationTime() {
+        return attributes.creationTime();
+    }
+
+    /**
+     * @return the POSIX permissions of the file, or <code>null</code> if the file system does not have them.
+     */
+    public Set<PosixFilePermission> permissions() {
+        return (attributes instanceof PosixFileAttributes) ? ((PosixFileAttributes) attributes).permissions() : null;
+    }
+
+    /**
+     * Returns the name of the owner of the file, resolved on first use. Where the file system does not
+     * have POSIX attributes, the owner is looked up separately.
+     * @return the name of the owner
+     * @throws IOException if the owner cannot be read.
+     */
+    public String owner() throws IOException {
+        if (owner == null) {
+            owner = (attributes instanceof PosixFileAttributes)
+                    ? ((PosixFileAttributes) attributes).owner()
+                    : Files.getOwner(path, linkOptions(followedLinks));
+        }
+        return owner.getName();
+    }
+
+    @Override
+    public String toString() {
+        return path.toString();
+    }
+
+    private static LinkOption[] linkOptions(boolean followLinks) {
+        return followLinks ? new LinkOption[0] : new LinkOption[] { LinkOption.NOFOLLOW_LINKS };
+    }
+
+}
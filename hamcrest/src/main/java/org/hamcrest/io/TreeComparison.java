@@ -0,0 +1,195 @@
+package org.hamcrest.io;
+
+import org.hamcrest.Description;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * The differences between two directory trees, by the relative paths of their entries. The trees
+ * are compared by structure first, then by the sizes the walks read, and only then by content, for
+ * the files whose sizes agree. Contents are compared in parallel, and no longer once more differences
+ * have been found than a description would list.
+ */
+final class TreeComparison {
+
+    /** The most paths a description lists. */
+    static final int MAX_LISTED = 10;
+
+    private final List<String> added = new ArrayList<>();
+    private final List<String> removed = new ArrayList<>();
+    private final List<String> changed = new ArrayList<>();
+    private boolean incomplete;
+
+    private TreeComparison() {
+    }
+
+    /**
+     * @param actual the root of a tree
+     * @param expected the root of the tree it should be equivalent to
+     * @return the differences
+     * @throws IOException if either tree cannot be read.
+     */
+    static TreeComparison compare(Path actual, Path expected) throws IOException {
+        final Map<String, Entry> actualEntries = entries(actual);
+        final Map<String, Entry> expectedEntries = entries(expected);
+        final TreeComparison result = new TreeComparison();
+        final List<String> sameSize = new ArrayList<>();
+        for (Map.Entry<String, Entry> entry : actualEntries.entrySet()) {
+            final Entry other = expectedEntries.get(entry.getKey());
+            if (other == null) {
+                result.added.add(entry.getKey());
+            } else if (!entry.getValue().isLike(other)) {
+                result.changed.add(entry.getKey());
+            } else if (entry.getValue().kind == Entry.FILE || entry.getValue().kind == Entry.LINK) {
+                sameSize.add(entry.getKey());
+            }
+        }
+        for (String path : expectedEntries.keySet()) {
+            if (!actualEntries.containsKey(path)) {
+                result.removed.add(path);
+            }
+        }
+        result.compareContents(actual, expected, sameSize, actualEntries);
+        return result;
+    }
+
+    /**
+     * @return <code>true</code> if the trees have the same entries with the same content.
+     */
+    boolean isEquivalent() {
+        return added.isEmpty() && removed.isEmpty() && changed.isEmpty() && !incomplete;
+    }
+
+    /**
+     * Lists the differences, for example <code>added [a/x], changed [b]</code>, no more than {@link #MAX_LISTED} of them.
+     * @param description the description to append to
+     */
+    void describeTo(Description description) {
+        int budget = MAX_LISTED;
+        String separator = "";
+        for (int i = 0; i < 3; i++) {
+            final List<String> paths = i == 0 ? added : i == 1 ? removed : changed;
+            if (!paths.isEmpty() && budget > 0) {
+                final List<String> listed = paths.subList(0, Math.min(budget, paths.size()));
+                description.appendText(separator)
+                        .appendText(i == 0 ? "added " : i == 1 ? "removed " : "changed ")
+                        .appendValueList("[", ", ", "]", listed);
+                budget -= listed.size();
+                separator = ", ";
+            }
+        }
+        final int omitted = added.size() + removed.size() + changed.size() - (MAX_LISTED - budget);
+        if (omitted > 0) {
+            description.appendText(incomplete ? " and at least " : " and ").appendText(omitted + " more");
+        }
+    }
+
+    private void compareContents(final Path actual, final Path expected, List<String> candidates, final Map<String, Entry> entries) throws IOException {
+        final AtomicInteger differences = new AtomicInteger(added.size() + removed.size() + changed.size());
+        final List<String> differing;
+        try {
+            differing = candidates.parallelStream()
+                    .filter(path -> {
+                        if (differences.get() > MAX_LISTED) {
+                            incomplete = true;
+                            return false;
+                        }
+                        final boolean differs = entries.get(path).kind == Entry.LINK
+                                ? !linkTarget(actual, path).equals(linkTarget(expected, path))
+                                : !sameContent(actual.resolve(path), expected.resolve(path));
+                        if (differs) {
+                            differences.incrementAndGet();
+                        }
+                        return differs;
+                    })
+                    .collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        changed.addAll(differing);
+        changed.sort(null);
+    }
+
+    private static boolean sameContent(Path actual, Path expected) {
+        try (FileContent.Source a = FileContent.open(actual); FileContent.Source b = FileContent.open(expected)) {
+            return a.size() == b.size() && FileContent.mismatch(a, b, a.size()) < 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Path linkTarget(Path root, String path) {
+        try {
+            return Files.readSymbolicLink(root.resolve(path));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Map<String, Entry> entries(final Path root) throws IOException {
+        final Map<String, Entry> result = new TreeMap<>();
+        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) {
+                if (!dir.equals(root)) {
+                    result.put(relativeName(root, dir), new Entry(attributes));
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                result.put(relativeName(root, file), new Entry(attributes));
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return result;
+    }
+
+    /*
+     * Relative paths are compared as text with '/' separators, so that trees on different
+     * file systems can be compared.
+     */
+    private static String relativeName(Path root, Path path) {
+        final StringBuilder name = new StringBuilder();
+        for (Path part : root.relativize(path)) {
+            name.append(name.length() > 0 ? "/" : "").append(part);
+        }
+        return name.toString();
+    }
+
+    private static final class Entry {
+        static final char DIRECTORY = 'd';
+        static final char FILE = 'f';
+        static final char LINK = 'l';
+        static final char OTHER = 'o';
+
+        final char kind;
+        final long size;
+
+        Entry(BasicFileAttributes attributes) {
+            this.kind = attributes.isDirectory() ? DIRECTORY
+                    : attributes.isRegularFile() ? FILE
+                    : attributes.isSymbolicLink() ? LINK
+                    : OTHER;
+            this.size = attributes.size();
+        }
+
+        boolean isLike(Entry other) {
+            return kind == other.kind && (kind != FILE || size == other.size);
+        }
+    }
+
+}
@@ -0,0 +1,38 @@
+package org.hamcrest.number;
+
+import org.hamcrest.Description;
+
+import static java.lang.Integer.signum;
+
+/**
+ * The wording of ordering comparisons, shared by the primitive comparison matchers so that they
+ * describe themselves as {@link org.hamcrest.comparator.ComparatorMatcherBuilder} matchers do.
+ */
+final class Comparisons {
+
+    static final int LESS_THAN = -1;
+    static final int EQUAL = 0;
+    static final int GREATER_THAN = 1;
+
+    private static final String[] comparisonDescriptions = {
+            "less than",
+            "equal to",
+            "greater than"
+    };
+
+    private Comparisons() {
+    }
+
+    static String asText(int comparison) {
+        return comparisonDescriptions[signum(comparison) + 1];
+    }
+
+    static void describe(Description description, int minCompare, int maxCompare, Object expected) {
+        description.appendText("a value ").appendText(asText(minCompare));
+        if (minCompare != maxCompare) {
+            description.appendText(" or ").appendText(asText(maxCompare));
+        }
+        description.appendText(" ").appendValue(expected);
+    }
+
+}
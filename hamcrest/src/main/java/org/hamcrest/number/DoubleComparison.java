@@ -0,0 +1,68 @@
+package org.hamcrest.number;
+
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeMatcher;
+
+import static java.lang.Integer.signum;
+
+/**
+ * Compares a <code>double</code> with a lower and an upper bound, without boxing, in the order of
+ * {@link Double#compare(double, double)}. A one-sided comparison uses the same value for both bounds.
+ */
+final class DoubleComparison extends TypeSafeMatcher<Double> implements DoubleMatcher {
+
+    private final double lower;
+    private final double upper;
+    private final int minCompare;
+    private final int maxCompare;
+    private final boolean range;
+
+    private DoubleComparison(double lower, double upper, int minCompare, int maxCompare, boolean range) {
+        super(Double.class);
+        this.lower = lower;
+        this.upper = upper;
+        this.minCompare = minCompare;
+        this.maxCompare = maxCompare;
+        this.range = range;
+    }
+
+    static DoubleComparison comparing(double expected, int minCompare, int maxCompare) {
+        return new DoubleComparison(expected, expected, minCompare, maxCompare, false);
+    }
+
+    static DoubleComparison between(double lower, double upper) {
+        return new DoubleComparison(lower, upper, Comparisons.EQUAL, Comparisons.EQUAL, true);
+    }
+
+    @Override
+    public boolean matches(double actual) {
+        return signum(Double.compare(actual, lower)) >= minCompare && signum(Double.compare(actual, upper)) <= maxCompare;
+    }
+
+    @Override
+    protected boolean matchesSafely(Double item) {
+        return matches(item.doubleValue());
+    }
+
+    @Override
+    protected void describeMismatchSafely(Double item, Description description) {
+        final double actual = item.doubleValue();
+        final int toLower = signum(Double.compare(actual, lower));
+        description.appendValue(item).appendText(" was ");
+        if (toLower < minCompare) {
+            description.appendText(Comparisons.asText(toLower)).appendText(" ").appendValue(lower);
+        } else {
+            description.appendText(Comparisons.asText(Double.compare(actual, upper))).appendText(" ").appendValue(upper);
+        }
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        if (range) {
+            description.appendText("a value between ").appendValue(lower).appendText(" and ").appendValue(upper);
+        } else {
+            Comparisons.describe(description, minCompare, maxCompare, lower);
+        }
+    }
+
+}
@@ -0,0 +1,22 @@
+package org.hamcrest.number;
+
+import org.hamcrest.Matcher;
+
+/**
+ * A matcher of {@link Double}s that can also examine a primitive <code>double</code> directly,
+ * without boxing it first.
+ *
+ * @see PrimitiveMatching
+ */
+public interface DoubleMatcher extends Matcher<Double> {
+
+    /**
+     * Evaluates the matcher for a primitive <code>double</code>, with the same result as
+     * {@link #matches(Object)} would give for its boxed value.
+     *
+     * @param actual the value to check.
+     * @return <code>true</code> if <code>actual</code> matches, otherwise <code>false</code>.
+     */
+    boolean matches(double actual);
+
+}
@@ -0,0 +1,68 @@
+package org.hamcrest.number;
+
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeMatcher;
+
+import static java.lang.Integer.signum;
+
+/**
+ * Compares an <code>int</code> with a lower and an upper bound, without boxing, in the order of
+ * {@link Integer#compare(int, int)}. A one-sided comparison uses the same value for both bounds.
+ */
+final class IntComparison extends TypeSafeMatcher<Integer> implements IntMatcher {
+
+    private final int lower;
+    private final int upper;
+    private final int minCompare;
+    private final int maxCompare;
+    private final boolean range;
+
+    private IntComparison(int lower, int upper, int minCompare, int maxCompare, boolean range) {
+        super(Integer.class);
+        this.lower = lower;
+        this.upper = upper;
+        this.minCompare = minCompare;
+        this.maxCompare = maxCompare;
+        this.range = range;
+    }
+
+    static IntComparison comparing(int expected, int minCompare, int maxCompare) {
+        return new IntComparison(expected, expected, minCompare, maxCompare, false);
+    }
+
+    static IntComparison between(int lower, int upper) {
+        return new IntComparison(lower, upper, Comparisons.EQUAL, Comparisons.EQUAL, true);
+    }
+
+    @Override
+    public boolean matches(int actual) {
+        return signum(Integer.compare(actual, lower)) >= minCompare && signum(Integer.compare(actual, upper)) <= maxCompare;
+    }
+
+    @Override
+    protected boolean matchesSafely(Integer item) {
+        return matches(item.intValue());
+    }
+
+    @Override
+    protected void describeMismatchSafely(Integer item, Description description) {
+        final int actual = item.intValue();
+        final int toLower = signum(Integer.compare(actual, lower));
+        description.appendValue(item).appendText(" was ");
+        if (toLower < minCompare) {
+            description.appendText(Comparisons.asText(toLower)).appendText(" ").appendValue(lower);
+        } else {
+            description.appendText(Comparisons.asText(Integer.compare(actual, upper))).appendText(" ").appendValue(upper);
+        }
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        if (range) {
+            description.appendText("a value between ").appendValue(lower).appendText(" and ").appendValue(upper);
+        } else {
+            Comparisons.describe(description, minCompare, maxCompare, lower);
+        }
+    }
+
+}
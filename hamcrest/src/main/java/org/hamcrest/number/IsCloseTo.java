@@ -9,7 +9,7 @@ import static java.lang.Math.abs;
 /**
  * Is the value a number equal to a value within some range of acceptable error?
  */
-public class IsCloseTo extends TypeSafeMatcher<Double> {
+public class IsCloseTo extends TypeSafeMatcher<Double> implements DoubleMatcher {
 
     private final double delta;
     private final double value;
@@ -26,7 +26,12 @@ public class IsCloseTo extends TypeSafeMatcher<Double> {
 
     @Override
     public boolean matchesSafely(Double item) {
-        return actualDelta(item) <= 0.0;
+        return matches(item.doubleValue());
+    }
+
+    @Override
+    public boolean matches(double actual) {
+        return actualDelta(actual) <= 0.0;
     }
 
     @Override
@@ -46,7 +51,7 @@ public class IsCloseTo extends TypeSafeMatcher<Double> {
                 .appendValue(value);
     }
 
-    private double actualDelta(Double item) {
+    private double actualDelta(double item) {
       return abs(item - value) - delta;
     }
 
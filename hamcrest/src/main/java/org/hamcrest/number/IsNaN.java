@@ -7,13 +7,18 @@ import org.hamcrest.TypeSafeMatcher;
 /**
  * Is the value a number actually not a number (NaN)?
  */
-public final class IsNaN extends TypeSafeMatcher<Double> {
+public final class IsNaN extends TypeSafeMatcher<Double> implements DoubleMatcher {
 
     private IsNaN() { }
 
     @Override
     public boolean matchesSafely(Double item) {
-        return Double.isNaN(item);
+        return matches(item.doubleValue());
+    }
+
+    @Override
+    public boolean matches(double actual) {
+        return Double.isNaN(actual);
     }
 
     @Override
@@ -0,0 +1,68 @@
+package org.hamcrest.number;
+
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeMatcher;
+
+import static java.lang.Integer.signum;
+
+/**
+ * Compares a <code>long</code> with a lower and an upper bound, without boxing, in the order of
+ * {@link Long#compare(long, long)}. A one-sided comparison uses the same value for both bounds.
+ */
+final class LongComparison extends TypeSafeMatcher<Long> implements LongMatcher {
+
+    private final long lower;
+    private final long upper;
+    private final int minCompare;
+    private final int maxCompare;
+    private final boolean range;
+
+    private LongComparison(long lower, long upper, int minCompare, int maxCompare, boolean range) {
+        super(Long.class);
+        this.lower = lower;
+        this.upper = upper;
+        this.minCompare = minCompare;
+        this.maxCompare = maxCompare;
+        this.range = range;
+    }
+
+    static LongComparison comparing(long expected, int minCompare, int maxCompare) {
+        return new LongComparison(expected, expected, minCompare, maxCompare, false);
+    }
+
+    static LongComparison between(long lower, long upper) {
+        return new LongComparison(lower, upper, Comparisons.EQUAL, Comparisons.EQUAL, true);
+    }
+
+    @Override
+    public boolean matches(long actual) {
+        return signum(Long.compare(actual, lower)) >= minCompare && signum(Long.compare(actual, upper)) <= maxCompare;
+    }
+
+    @Override
+    protected boolean matchesSafely(Long item) {
+        return matches(item.longValue());
+    }
+
+    @Override
+    protected void describeMismatchSafely(Long item, Description description) {
+        final long actual = item.longValue();
+        final int toLower = signum(Long.compare(actual, lower));
+        description.appendValue(item).appendText(" was ");
+        if (toLower < minCompare) {
+            description.appendText(Comparisons.asText(toLower)).appendText(" ").appendValue(lower);
+        } else {
+            description.appendText(Comparisons.asText(Long.compare(actual, upper))).appendText(" ").appendValue(upper);
+        }
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        if (range) {
+            description.appendText("a value between ").appendValue(lower).appendText(" and ").appendValue(upper);
+        } else {
+            Comparisons.describe(description, minCompare, maxCompare, lower);
+        }
+    }
+
+}
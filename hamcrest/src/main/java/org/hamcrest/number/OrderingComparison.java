@@ -5,6 +5,9 @@ import org.hamcrest.comparator.ComparatorMatcherBuilder;
 
 /**
  * Static methods for building ordering comparisons.
+ *
+ * <p>Comparisons with a {@link Double}, {@link Long} or {@link Integer} compare the unboxed values, and
+ * the matchers they create also implement {@link DoubleMatcher}, {@link LongMatcher} or {@link IntMatcher}.</p>
  */
 public class OrderingComparison {
 
@@ -24,7 +27,8 @@ public class OrderingComparison {
      * @return The matcher.
      */
     public static <T extends Comparable<T>> Matcher<T> comparesEqualTo(T value) {
-        return ComparatorMatcherBuilder.<T>usingNaturalOrdering().comparesEqualTo(value);
+        final Matcher<T> primitive = primitiveComparison(value, Comparisons.EQUAL, Comparisons.EQUAL);
+        return primitive != null ? primitive : ComparatorMatcherBuilder.<T>usingNaturalOrdering().comparesEqualTo(value);
     }
 
     /**
@@ -41,7 +45,8 @@ public class OrderingComparison {
      * @return The matcher.
      */
     public static <T extends Comparable<T>> Matcher<T> greaterThan(T value) {
-        return ComparatorMatcherBuilder.<T>usingNaturalOrdering().greaterThan(value);
+        final Matcher<T> primitive = primitiveComparison(value, Comparisons.GREATER_THAN, Comparisons.GREATER_THAN);
+        return primitive != null ? primitive : ComparatorMatcherBuilder.<T>usingNaturalOrdering().greaterThan(value);
     }
 
     /**
@@ -58,7 +63,8 @@ public class OrderingComparison {
      * @return The matcher.
      */
     public static <T extends Comparable<T>> Matcher<T> greaterThanOrEqualTo(T value) {
-        return ComparatorMatcherBuilder.<T>usingNaturalOrdering().greaterThanOrEqualTo(value);
+        final Matcher<T> primitive = primitiveComparison(value, Comparisons.EQUAL, Comparisons.GREATER_THAN);
+        return primitive != null ? primitive : ComparatorMatcherBuilder.<T>usingNaturalOrdering().greaterThanOrEqualTo(value);
     }
 
     /**
@@ -75,7 +81,8 @@ public class OrderingComparison {
      * @return The matcher.
      */
     public static <T extends Comparable<T>> Matcher<T> lessThan(T value) {
-        return ComparatorMatcherBuilder.<T>usingNaturalOrdering().lessThan(value);
+        final Matcher<T> primitive = primitiveComparison(value, Comparisons.LESS_THAN, Comparisons.LESS_THAN);
+        return primitive != null ? primitive : ComparatorMatcherBuilder.<T>usingNaturalOrdering().lessThan(value);
     }
 
     /**
@@ -92,7 +99,25 @@ public class OrderingComparison {
      * @return The matcher.
      */
     public static <T extends Comparable<T>> Matcher<T> lessThanOrEqualTo(T value) {
-        return ComparatorMatcherBuilder.<T>usingNaturalOrdering().lessThanOrEqualTo(value);
+        final Matcher<T> primitive = primitiveComparison(value, Comparisons.LESS_THAN, Comparisons.EQUAL);
+        return primitive != null ? primitive : ComparatorMatcherBuilder.<T>usingNaturalOrdering().lessThanOrEqualTo(value);
+    }
+
+    /*
+     * The primitive matchers order values exactly as the compareTo method of their wrappers does.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T extends Comparable<T>> Matcher<T> primitiveComparison(T value, int minCompare, int maxCompare) {
+        if (value instanceof Double) {
+            return (Matcher) DoubleComparison.comparing((Double) value, minCompare, maxCompare);
+        }
+        if (value instanceof Long) {
+            return (Matcher) LongComparison.comparing((Long) value, minCompare, maxCompare);
+        }
+        if (value instanceof Integer) {
+            return (Matcher) IntComparison.comparing((Integer) value, minCompare, maxCompare);
+        }
+        return null;
     }
 
 }
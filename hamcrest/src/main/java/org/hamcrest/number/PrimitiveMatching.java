@@ -0,0 +1,250 @@
+package org.hamcrest.number;
+
+/**
+ * Numeric matchers that examine primitive values without boxing them. Each matcher implements
+ * {@link DoubleMatcher}, {@link LongMatcher} or {@link IntMatcher}, so a primitive passed to its
+ * <code>matches</code> method is compared as it is, while the matcher still works as an ordinary
+ * matcher of the wrapper type.
+ * For example:
+ * <pre>
+ * DoubleMatcher inRange = between(-40.0, 85.0);
+ * for (double reading : readings) {
+ *     if (!inRange.matches(reading)) { ... }
+ * }
+ * </pre>
+ *
+ * <p>Values are ordered as the <code>compare</code> method of their wrapper type orders them, so
+ * <code>NaN</code> is greater than any other <code>double</code> and <code>-0.0</code> is less
+ * than <code>0.0</code>.</p>
+ */
+public class PrimitiveMatching {
+
+    private PrimitiveMatching() {
+    }
+
+    /**
+     * Creates a matcher of <code>double</code>s that matches when an examined double is equal
+     * to the specified <code>operand</code>, within a range of +/- <code>error</code>.
+     * For example:
+     * <pre>assertThat(1.03, is(closeTo(1.0, 0.03)))</pre>
+     *
+     * @param operand
+     *     the expected value of matching doubles
+     * @param error
+     *     the delta (+/-) within which matches will be allowed
+     * @return The matcher.
+     */
+    public static DoubleMatcher closeTo(double operand, double error) {
+        return new IsCloseTo(operand, error);
+    }
+
+    /**
+     * Creates a matcher of <code>double</code>s that matches when an examined double is not a number.
+     * For example:
+     * <pre>assertThat(Double.NaN, is(notANumber()))</pre>
+     *
+     * @return The matcher.
+     */
+    public static DoubleMatcher notANumber() {
+        return (DoubleMatcher) IsNaN.notANumber();
+    }
+
+    /**
+     * Creates a matcher of <code>double</code>s that matches when an examined value is greater than
+     * the specified value.
+     * For example:
+     * <pre>assertThat(1.5, greaterThan(1.0))</pre>
+     *
+     * @param value the value that an examined value must be greater than
+     * @return The matcher.
+     */
+    public static DoubleMatcher greaterThan(double value) {
+        return DoubleComparison.comparing(value, Comparisons.GREATER_THAN, Comparisons.GREATER_THAN);
+    }
+
+    /**
+     * Creates a matcher of <code>double</code>s that matches when an examined value is greater than or equal to
+     * the specified value.
+     * For example:
+     * <pre>assertThat(1.0, greaterThanOrEqualTo(1.0))</pre>
+     *
+     * @param value the value that an examined value must be greater than or equal to
+     * @return The matcher.
+     */
+    public static DoubleMatcher greaterThanOrEqualTo(double value) {
+        return DoubleComparison.comparing(value, Comparisons.EQUAL, Comparisons.GREATER_THAN);
+    }
+
+    /**
+     * Creates a matcher of <code>double</code>s that matches when an examined value is less than
+     * the specified value.
+     * For example:
+     * <pre>assertThat(1.0, lessThan(1.5))</pre>
+     *
+     * @param value the value that an examined value must be less than
+     * @return The matcher.
+     */
+    public static DoubleMatcher lessThan(double value) {
+        return DoubleComparison.comparing(value, Comparisons.LESS_THAN, Comparisons.LESS_THAN);
+    }
+
+    /**
+     * Creates a matcher of <code>double</code>s that matches when an examined value is less than or equal to
+     * the specified value.
+     * For example:
+     * <pre>assertThat(1.0, lessThanOrEqualTo(1.0))</pre>
+     *
+     * @param value the value that an examined value must be less than or equal to
+     * @return The matcher.
+     */
+    public static DoubleMatcher lessThanOrEqualTo(double value) {
+        return DoubleComparison.comparing(value, Comparisons.LESS_THAN, Comparisons.EQUAL);
+    }
+
+    /**
+     * Creates a matcher of <code>double</code>s that matches when an examined value lies between
+     * the specified bounds, both included.
+     * For example:
+     * <pre>assertThat(1.0, between(1.0, 2.0))</pre>
+     *
+     * @param lower the least value that matches
+     * @param upper the greatest value that matches
+     * @return The matcher.
+     */
+    public static DoubleMatcher between(double lower, double upper) {
+        return DoubleComparison.between(lower, upper);
+    }
+
+    /**
+     * Creates a matcher of <code>long</code>s that matches when an examined value is greater than
+     * the specified value.
+     * For example:
+     * <pre>assertThat(2L, greaterThan(1L))</pre>
+     *
+     * @param value the value that an examined value must be greater than
+     * @return The matcher.
+     */
+    public static LongMatcher greaterThan(long value) {
+        return LongComparison.comparing(value, Comparisons.GREATER_THAN, Comparisons.GREATER_THAN);
+    }
+
+    /**
+     * Creates a matcher of <code>long</code>s that matches when an examined value is greater than or equal to
+     * the specified value.
+     * For example:
+     * <pre>assertThat(1L, greaterThanOrEqualTo(1L))</pre>
+     *
+     * @param value the value that an examined value must be greater than or equal to
+     * @return The matcher.
+     */
+    public static LongMatcher greaterThanOrEqualTo(long value) {
+        return LongComparison.comparing(value, Comparisons.EQUAL, Comparisons.GREATER_THAN);
+    }
+
+    /**
+     * Creates a matcher of <code>long</code>s that matches when an examined value is less than
+     * the specified value.
+     * For example:
+     * <pre>assertThat(1L, lessThan(2L))</pre>
+     *
+     * @param value the value that an examined value must be less than
+     * @return The matcher.
+     */
+    public static LongMatcher lessThan(long value) {
+        return LongComparison.comparing(value, Comparisons.LESS_THAN, Comparisons.LESS_THAN);
+    }
+
+    /**
+     * Creates a matcher of <code>long</code>s that matches when an examined value is less than or equal to
+     * the specified value.
+     * For example:
+     * <pre>assertThat(1L, lessThanOrEqualTo(1L))</pre>
+     *
+     * @param value the value that an examined value must be less than or equal to
+     * @return The matcher.
+     */
+    public static LongMatcher lessThanOrEqualTo(long value) {
+        return LongComparison.comparing(value, Comparisons.LESS_THAN, Comparisons.EQUAL);
+    }
+
+    /**
+     * Creates a matcher of <code>long</code>s that matches when an examined value lies between
+     * the specified bounds, both included.
+     * For example:
+     * <pre>assertThat(1L, between(1L, 2L))</pre>
+     *
+     * @param lower the least value that matches
+     * @param upper the greatest value that matches
+     * @return The matcher.
+     */
+    public static LongMatcher between(long lower, long upper) {
+        return LongComparison.between(lower, upper);
+    }
+
+    /**
+     * Creates a matcher of <code>int</code>s that matches when an examined value is greater than
+     * the specified value.
+     * For example:
+     * <pre>assertThat(2, greaterThan(1))</pre>
+     *
+     * @param value the value that an examined value must be greater than
+     * @return The matcher.
+     */
+    public static IntMatcher greaterThan(int value) {
+        return IntComparison.comparing(value, Comparisons.GREATER_THAN, Comparisons.GREATER_THAN);
+    }
+
+    /**
+     * Creates a matcher of <code>int</code>s that matches when an examined value is greater than or equal to
+     * the specified value.
+     * For example:
+     * <pre>assertThat(1, greaterThanOrEqualTo(1))</pre>
+     *
+     * @param value the value that an examined value must be greater than or equal to
+     * @return The matcher.
+     */
+    public static IntMatcher greaterThanOrEqualTo(int value) {
+        return IntComparison.comparing(value, Comparisons.EQUAL, Comparisons.GREATER_THAN);
+    }
+
+    /**
+     * Creates a matcher of <code>int</code>s that matches when an examined value is less than
+     * the specified value.
+     * For example:
+     * <pre>assertThat(1, lessThan(2))</pre>
+     *
+     * @param value the value that an examined value must be less than
+     * @return The matcher.
+     */
+    public static IntMatcher lessThan(int value) {
+        return IntComparison.comparing(value, Comparisons.LESS_THAN, Comparisons.LESS_THAN);
+    }
+
+    /**
+     * Creates a matcher of <code>int</code>s that matches when an examined value is less than or equal to
+     * the specified value.
+     * For example:
+     * <pre>assertThat(1, lessThanOrEqualTo(1))</pre>
+     *
+     * @param value the value that an examined value must be less than or equal to
+     * @return The matcher.
+     */
+    public static IntMatcher lessThanOrEqualTo(int value) {
+        return IntComparison.comparing(value, Comparisons.LESS_THAN, Comparisons.EQUAL);
+    }
+
+    /**
+     * Creates a matcher of <code>int</code>s that matches when an examined value lies between
+     * the specified bounds, both included.
+     * For example:
+     * <pre>assertThat(1, between(1, 2))</pre>
+     *
+     * @param lower the least value that matches
+     * @param upper the greatest value that matches
+     * @return The matcher.
+     */
+    public static IntMatcher between(int lower, int upper) {
+        return IntComparison.between(lower, upper);
+    }
+
+}
@@ -2,33 +2,42 @@ package org.hamcrest.object;
 
 import org.hamcrest.Description;
 import org.hamcrest.DiagnosingMatcher;
+import org.hamcrest.MatchResult;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 import org.hamcrest.core.IsEqual;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
-import static java.lang.String.format;
+import static java.util.Arrays.asList;
 
 /**
  * A matcher that checks if an object as equal fields values to an expected object.
+ * By default it compares the public fields; {@link #hasEqualFieldValues(Object, String...)}
+ * compares every instance field, including private fields and the components of records.
  * @param <T> the type of the object being matched.
  */
 public class HasEqualValues<T> extends TypeSafeDiagnosingMatcher<T> {
 
     private final T expectedObject;
     private final List<FieldMatcher> fieldMatchers;
+    private final List<String> ignoredFields;
 
     /**
      * Constructor
      * @param expectedObject the object with expected field values.
      */
     public HasEqualValues(T expectedObject) {
+        this(expectedObject, ObjectFields.publicFields(expectedObject.getClass()), Collections.<String>emptyList());
+    }
+
+    private HasEqualValues(T expectedObject, List<ObjectFields.FieldAccessor> fields, List<String> ignoredFields) {
         super(expectedObject.getClass());
         this.expectedObject = expectedObject;
-        this.fieldMatchers = fieldMatchers(expectedObject);
+        this.ignoredFields = ignoredFields;
+        this.fieldMatchers = fieldMatchers(expectedObject, fields, ignoredFields);
     }
 
     @Override
@@ -46,22 +55,32 @@ public class HasEqualValues<T> extends TypeSafeDiagnosingMatcher<T> {
         description.appendText(expectedObject.getClass().getSimpleName())
                 .appendText(" has values ")
                 .appendList("[", ", ", "]", fieldMatchers);
+        if (!ignoredFields.isEmpty()) {
+            description.appendText(" ignoring ")
+                    .appendValueList("[", ", ", "]", ignoredFields);
+        }
     }
 
     private static class FieldMatcher extends DiagnosingMatcher<Object> {
-        private final Field field;
+        private final ObjectFields.FieldAccessor field;
+        private final Object expectedObject;
         private final Matcher<Object> matcher;
 
-        public FieldMatcher(Field field, Object expectedObject) {
+        public FieldMatcher(ObjectFields.FieldAccessor field, Object expectedObject) {
             this.field = field;
-            this.matcher = IsEqual.equalTo(uncheckedGet(field, expectedObject));
+            this.expectedObject = expectedObject;
+            this.matcher = IsEqual.equalTo(field.get(expectedObject));
         }
         @Override
         protected boolean matches(Object item, Description mismatch) {
-            final Object actual = uncheckedGet(field, item);
-            if (!matcher.matches(actual)) {
-                mismatch.appendText("'").appendText(field.getName()).appendText("' ");
-                matcher.describeMismatch(actual, mismatch);
+            if (field.isPrimitive() && field.hasSamePrimitiveValue(expectedObject, item)) {
+                return true;
+            }
+            final Object actual = field.get(item);
+            final MatchResult result = matcher.evaluate(actual);
+            if (!result.matched()) {
+                mismatch.appendText("'").appendText(field.name()).appendText("' ");
+                result.describeMismatch(mismatch);
                 return false;
             }
             return true;
@@ -69,26 +88,55 @@ public class HasEqualValues<T> extends TypeSafeDiagnosingMatcher<T> {
 
         @Override
         public void describeTo(Description description) {
-            description.appendText(field.getName())
+            description.appendText(field.name())
                     .appendText(": ")
                     .appendDescriptionOf(matcher);
         }
     }
 
-    private static List<FieldMatcher> fieldMatchers(Object expectedObject) {
-        final List<FieldMatcher> result = new ArrayList<>();
-        for (Field field : expectedObject.getClass().getFields()) {
-            result.add(new FieldMatcher(field, expectedObject));
+    private static List<FieldMatcher> fieldMatchers(Object expectedObject, List<ObjectFields.FieldAccessor> fields, List<String> ignoredFields) {
+        final List<FieldMatcher> result = new ArrayList<>(fields.size());
+        for (ObjectFields.FieldAccessor field : fields) {
+            if (!ignoredFields.contains(field.name())) {
+                result.add(new FieldMatcher(field, expectedObject));
+            }
         }
         return result;
     }
 
-    private static Object uncheckedGet(Field field, Object object) {
-        try {
-            return field.get(object);
-        } catch (Exception e) {
-            throw new AssertionError(format("IllegalAccess, reading field '%s' from %s", field.getName(), object));
-        }
+    /**
+     * Creates a matcher that matches when the examined object has the same values as the
+     * expected object in all of its public fields.
+     * For example:
+     * <pre>assertThat(myPoint, hasEqualValues(new Point(1, 2)))</pre>
+     *
+     * @param <T> the matcher type.
+     * @param expectedObject the object with the expected field values
+     * @return The matcher.
+     */
+    public static <T> Matcher<T> hasEqualValues(T expectedObject) {
+        return new HasEqualValues<>(expectedObject);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined object has the same values as the
+     * expected object in all of its instance fields, whatever their visibility, including those
+     * declared by superclasses and the components of a record. Primitive fields are compared
+     * without boxing. Fields can be left out of the comparison by name.
+     * For example:
+     * <pre>{@code
+     * assertThat(myDto, hasEqualFieldValues(expectedDto))
+     * assertThat(myDto, hasEqualFieldValues(expectedDto, "id", "lastModified"))
+     * }</pre>
+     *
+     * @param <T> the matcher type.
+     * @param expectedObject the object with the expected field values
+     * @param ignoredFields the names of fields not to compare
+     * @return The matcher.
+     * @throws AssertionError if a compared field of the expected object cannot be read
+     */
+    public static <T> Matcher<T> hasEqualFieldValues(T expectedObject, String... ignoredFields) {
+        return new HasEqualValues<>(expectedObject, ObjectFields.declaredFields(expectedObject.getClass()), asList(ignoredFields));
     }
 
 }
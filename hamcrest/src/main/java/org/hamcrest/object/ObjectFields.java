@@ -0,0 +1,169 @@
+package org.hamcrest.object;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * The fields of a class, as {@link HasEqualValues} compares them, worked out once per class and
+ * shared. Each field is read through a method handle that was bound when the class was first
+ * seen, and primitive fields can be compared without boxing.
+ */
+final class ObjectFields {
+
+    private static final ClassValue<List<FieldAccessor>> PUBLIC_FIELDS = new ClassValue<List<FieldAccessor>>() {
+        @Override
+        protected List<FieldAccessor> computeValue(Class<?> type) {
+            final List<FieldAccessor> result = new ArrayList<>();
+            for (Field field : type.getFields()) {
+                result.add(new FieldAccessor(field, false));
+            }
+            return Collections.unmodifiableList(result);
+        }
+    };
+
+    private static final ClassValue<List<FieldAccessor>> DECLARED_FIELDS = new ClassValue<List<FieldAccessor>>() {
+        @Override
+        protected List<FieldAccessor> computeValue(Class<?> type) {
+            final List<FieldAccessor> result = new ArrayList<>();
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                        result.add(new FieldAccessor(field, true));
+                    }
+                }
+            }
+            return Collections.unmodifiableList(result);
+        }
+    };
+
+    private ObjectFields() {
+    }
+
+    /**
+     * @param type a class
+     * @return its public fields, including inherited and static ones, as {@link Class#getFields()} lists them.
+     */
+    static List<FieldAccessor> publicFields(Class<?> type) {
+        return PUBLIC_FIELDS.get(type);
+    }
+
+    /**
+     * @param type a class
+     * @return its instance fields of any visibility, declared by the class and its superclasses below
+     * {@link Object}, the class's own first. The components of a record are its private fields.
+     */
+    static List<FieldAccessor> declaredFields(Class<?> type) {
+        return DECLARED_FIELDS.get(type);
+    }
+
+    /**
+     * Reads one field of an object.
+     */
+    static final class FieldAccessor {
+        private final Field field;
+        private final char kind;
+        private final MethodHandle getter;
+
+        FieldAccessor(Field field, boolean makeAccessible) {
+            this.field = field;
+            this.kind = kindOf(field.getType());
+            this.getter = getterFor(field, makeAccessible);
+        }
+
+        String name() {
+            return field.getName();
+        }
+
+        boolean isPrimitive() {
+            return kind != 'L';
+        }
+
+        /**
+         * @param object the object to read the field of
+         * @return the value of the field, boxed if it is primitive.
+         */
+        Object get(Object object) {
+            try {
+                return getter.invoke(object);
+            } catch (Throwable e) {
+                throw unreadable(object);
+            }
+        }
+
+        /**
+         * Compares a primitive field of two objects, as the boxed values would be compared
+         * by {@link Object#equals(Object)}, but without boxing them.
+         *
+         * @param expected an object of the class the field belongs to
+         * @param actual another object of the class the field belongs to
+         * @return <code>true</code> if the field has the same value in both.
+         */
+        boolean hasSamePrimitiveValue(Object expected, Object actual) {
+            try {
+                switch (kind) {
+                    case 'I': return (int) getter.invokeExact(expected) == (int) getter.invokeExact(actual);
+                    case 'J': return (long) getter.invokeExact(expected) == (long) getter.invokeExact(actual);
+                    case 'D': return Double.doubleToLongBits((double) getter.invokeExact(expected))
+                            == Double.doubleToLongBits((double) getter.invokeExact(actual));
+                    case 'F': return Float.floatToIntBits((float) getter.invokeExact(expected))
+                            == Float.floatToIntBits((float) getter.invokeExact(actual));
+                    case 'Z': return (boolean) getter.invokeExact(expected) == (boolean) getter.invokeExact(actual);
+                    case 'B': return (byte) getter.invokeExact(expected) == (byte) getter.invokeExact(actual);
+                    case 'S': return (short) getter.invokeExact(expected) == (short) getter.invokeExact(actual);
+                    case 'C': return (char) getter.invokeExact(expected) == (char) getter.invokeExact(actual);
+                    default: return false;
+                }
+            } catch (Throwable e) {
+                throw unreadable(actual);
+            }
+        }
+
+        private AssertionError unreadable(Object object) {
+            return new AssertionError(format("IllegalAccess, reading field '%s' from %s", field.getName(), object));
+        }
+
+        private static char kindOf(Class<?> type) {
+            if (type == int.class) return 'I';
+            if (type == long.class) return 'J';
+            if (type == double.class) return 'D';
+            if (type == float.class) return 'F';
+            if (type == boolean.class) return 'Z';
+            if (type == byte.class) return 'B';
+            if (type == short.class) return 'S';
+            if (type == char.class) return 'C';
+            return 'L';
+        }
+
+        /*
+         * A getter of type (Object) -> field type for primitives, or (Object) -> Object otherwise.
+         * If the field cannot be read from here, the getter fails on every call, so that only
+         * fields that are compared need be readable.
+         */
+        private static MethodHandle getterFor(Field field, boolean makeAccessible) {
+            final Class<?> valueType = field.getType().isPrimitive() ? field.getType() : Object.class;
+            try {
+                if (makeAccessible) {
+                    field.setAccessible(true);
+                }
+                MethodHandle getter = MethodHandles.lookup().unreflectGetter(field);
+                if (Modifier.isStatic(field.getModifiers())) {
+                    getter = MethodHandles.dropArguments(getter, 0, Object.class);
+                }
+                return getter.asType(MethodType.methodType(valueType, Object.class));
+            } catch (IllegalAccessException | RuntimeException e) {
+                final MethodHandle fail = MethodHandles.throwException(valueType, IllegalAccessException.class)
+                        .bindTo(new IllegalAccessException(e.getMessage()));
+                return MethodHandles.dropArguments(fail, 0, Object.class);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,30 @@
+package org.hamcrest.stream;
+
+import org.hamcrest.Description;
+import org.hamcrest.MatchResult;
+
+import java.util.Spliterator;
+
+/**
+ * Tests if a stream has no elements, looking at no more than the first.
+ *
+ * @param <E> the type of the elements
+ */
+final class EmptyStream<E> extends StreamMatcher<E> {
+
+    @Override
+    protected MatchResult matchElements(Spliterator<? extends E> elements) {
+        final Cursor<E> cursor = new Cursor<>(elements);
+        if (!cursor.next()) {
+            return MatchResult.match();
+        }
+        final E first = cursor.current();
+        return MatchResult.mismatch(description -> description.appendText("first item was ").appendValue(first));
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("an empty stream");
+    }
+
+}
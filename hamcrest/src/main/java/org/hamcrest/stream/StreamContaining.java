@@ -0,0 +1,66 @@
+package org.hamcrest.stream;
+
+import org.hamcrest.Description;
+import org.hamcrest.MatchResult;
+import org.hamcrest.Matcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+
+/**
+ * Tests if any element of a stream matches, stopping at the first that does. Only the mismatches
+ * of the first few elements are kept to describe.
+ *
+ * @param <E> the type of the elements
+ */
+final class StreamContaining<E> extends StreamMatcher<E> {
+
+    static final int DESCRIBED_MISMATCHES = 10;
+
+    private final Matcher<? super E> matcher;
+
+    StreamContaining(Matcher<? super E> matcher) {
+        this.matcher = matcher;
+    }
+
+    @Override
+    protected MatchResult matchElements(Spliterator<? extends E> elements) {
+        final Cursor<E> cursor = new Cursor<>(elements);
+        final List<MatchResult> mismatches = new ArrayList<>();
+        while (cursor.next()) {
+            if (mismatches.size() < DESCRIBED_MISMATCHES) {
+                final MatchResult result = matcher.evaluate(cursor.current());
+                if (result.matched()) {
+                    return result;
+                }
+                mismatches.add(result);
+            } else if (matcher.matches(cursor.current())) {
+                return MatchResult.match();
+            }
+        }
+        if (mismatches.isEmpty()) {
+            return MatchResult.mismatch(description -> description.appendText("was empty"));
+        }
+        final int undescribed = cursor.index() + 1 - mismatches.size();
+        return MatchResult.mismatch(description -> {
+            description.appendText("mismatches were: [");
+            for (int i = 0; i < mismatches.size(); i++) {
+                if (i > 0) {
+                    description.appendText(", ");
+                }
+                mismatches.get(i).describeMismatch(description);
+            }
+            if (undescribed > 0) {
+                description.appendText(", ... and " + undescribed + " more");
+            }
+            description.appendText("]");
+        });
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("a stream containing ").appendDescriptionOf(matcher);
+    }
+
+}
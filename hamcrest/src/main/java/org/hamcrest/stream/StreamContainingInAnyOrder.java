@@ -0,0 +1,181 @@
+package org.hamcrest.stream;
+
+import org.hamcrest.Description;
+import org.hamcrest.MatchResult;
+import org.hamcrest.Matcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Spliterator;
+
+/**
+ * Tests if a stream yields elements that each match a different one of the matchers, in any order.
+ *
+ * <p>Each element is paired with a matcher as it arrives, moving earlier elements to other matchers
+ * along an augmenting path if need be, so the pairing is always a maximum matching. An element that
+ * cannot be paired never can be, so the stream is abandoned there. At most one element per matcher
+ * is kept.</p>
+ *
+ * @param <E> the type of the elements
+ */
+final class StreamContainingInAnyOrder<E> extends StreamMatcher<E> {
+
+    private final List<Matcher<? super E>> matchers;
+
+    StreamContainingInAnyOrder(Collection<Matcher<? super E>> matchers) {
+        this.matchers = new ArrayList<>(matchers);
+    }
+
+    @Override
+    protected MatchResult matchElements(Spliterator<? extends E> elements) {
+        final Cursor<E> cursor = new Cursor<>(elements);
+        final Pairing<E> pairing = new Pairing<>(matchers);
+        while (cursor.next()) {
+            final E item = cursor.current();
+            if (!pairing.add(item)) {
+                final String reason = pairing.isFull() ? "no match for: " : "not matched: ";
+                return MatchResult.mismatch(description -> description.appendText(reason).appendValue(item));
+            }
+        }
+        if (!pairing.isFull()) {
+            final List<Matcher<? super E>> unmatched = pairing.unmatchedMatchers();
+            final List<E> items = pairing.items();
+            return MatchResult.mismatch(description -> description
+                .appendText("no item matches: ").appendList("", ", ", "", unmatched)
+                .appendText(" in ").appendValueList("[", ", ", "]", items));
+        }
+        return MatchResult.match();
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("stream with items ")
+            .appendList("[", ", ", "]", matchers)
+            .appendText(" in any order");
+    }
+
+    /*
+     * Kuhn's algorithm, one element at a time. An element with no augmenting path when it arrives
+     * has none later either, so it can be rejected straight away.
+     */
+    private static final class Pairing<E> {
+        private static final int NONE = -1;
+
+        private final List<Matcher<? super E>> matchers;
+        private final List<E> items = new ArrayList<>();
+        private final int[] itemOfMatcher;
+        private final long[][] evaluated;
+        private final long[][] satisfied;
+
+        Pairing(List<Matcher<? super E>> matchers) {
+            this.matchers = matchers;
+            this.itemOfMatcher = new int[matchers.size()];
+            this.evaluated = new long[matchers.size()][];
+            this.satisfied = new long[matchers.size()][];
+            Arrays.fill(itemOfMatcher, NONE);
+        }
+
+        boolean isFull() {
+            return items.size() == matchers.size();
+        }
+
+        List<E> items() {
+            return items;
+        }
+
+        List<Matcher<? super E>> unmatchedMatchers() {
+            final List<Matcher<? super E>> unmatched = new ArrayList<>();
+            for (int matcher = 0; matcher < itemOfMatcher.length; matcher++) {
+                if (itemOfMatcher[matcher] == NONE) {
+                    unmatched.add(matchers.get(matcher));
+                }
+            }
+            return unmatched;
+        }
+
+        boolean add(E value) {
+            if (isFull()) {
+                return false;
+            }
+            final int item = items.size();
+            items.add(value);
+            for (int matcher = 0; matcher < itemOfMatcher.length; matcher++) {
+                if (itemOfMatcher[matcher] == NONE && matchers.get(matcher).matches(value)) {
+                    pair(item, matcher);
+                    return true;
+                }
+            }
+            if (augment(item)) {
+                return true;
+            }
+            items.remove(item);
+            evaluated[item] = null;
+            satisfied[item] = null;
+            return false;
+        }
+
+        /*
+         * Iterative depth-first search for an augmenting path. next[d] is one past the matcher the
+         * item at depth d is trying, so after a free matcher is found each item on the path takes
+         * matcher next[d] - 1. The new item is known to satisfy no free matcher, so it only tries
+         * paired ones.
+         */
+        private boolean augment(int root) {
+            final boolean[] visited = new boolean[itemOfMatcher.length];
+            final int[] path = new int[items.size()];
+            final int[] next = new int[items.size()];
+            int depth = 0;
+            path[depth++] = root;
+            while (depth > 0) {
+                final int item = path[depth - 1];
+                boolean advanced = false;
+                while (next[depth - 1] < itemOfMatcher.length) {
+                    final int matcher = next[depth - 1]++;
+                    final int owner = itemOfMatcher[matcher];
+                    if (visited[matcher] || (item == root && owner == NONE) || !satisfies(item, matcher)) {
+                        continue;
+                    }
+                    visited[matcher] = true;
+                    if (owner == NONE) {
+                        for (int d = 0; d < depth; d++) {
+                            pair(path[d], next[d] - 1);
+                        }
+                        return true;
+                    }
+                    path[depth] = owner;
+                    next[depth] = 0;
+                    depth++;
+                    advanced = true;
+                    break;
+                }
+                if (!advanced) {
+                    depth--;
+                }
+            }
+            return false;
+        }
+
+        private boolean satisfies(int item, int matcher) {
+            if (evaluated[item] == null) {
+                evaluated[item] = new long[(itemOfMatcher.length + 63) >>> 6];
+                satisfied[item] = new long[evaluated[item].length];
+            }
+            final int word = matcher >>> 6;
+            final long bit = 1L << matcher;
+            if ((evaluated[item][word] & bit) == 0) {
+                evaluated[item][word] |= bit;
+                if (matchers.get(matcher).matches(items.get(item))) {
+                    satisfied[item][word] |= bit;
+                }
+            }
+            return (satisfied[item][word] & bit) != 0;
+        }
+
+        private void pair(int item, int matcher) {
+            itemOfMatcher[matcher] = item;
+        }
+    }
+
+}
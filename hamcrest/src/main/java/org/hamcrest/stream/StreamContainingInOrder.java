@@ -0,0 +1,58 @@
+package org.hamcrest.stream;
+
+import org.hamcrest.Description;
+import org.hamcrest.MatchResult;
+import org.hamcrest.Matcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+
+/**
+ * Tests if a stream yields matching elements in order, stopping at the first element that does
+ * not match.
+ *
+ * @param <E> the type of the elements
+ */
+final class StreamContainingInOrder<E> extends StreamMatcher<E> {
+
+    private final List<Matcher<? super E>> matchers;
+
+    StreamContainingInOrder(List<Matcher<? super E>> matchers) {
+        if (matchers.isEmpty()) {
+            throw new IllegalArgumentException("Should specify at least one expected element");
+        }
+        this.matchers = new ArrayList<>(matchers);
+    }
+
+    @Override
+    protected MatchResult matchElements(Spliterator<? extends E> elements) {
+        final Cursor<E> cursor = new Cursor<>(elements);
+        while (cursor.next()) {
+            final E item = cursor.current();
+            final int index = cursor.index();
+            if (index >= matchers.size()) {
+                return MatchResult.mismatch(description -> description.appendText("not matched: ").appendValue(item));
+            }
+            final MatchResult result = matchers.get(index).evaluate(item);
+            if (!result.matched()) {
+                return MatchResult.mismatch(description -> {
+                    description.appendText("item " + index + ": ");
+                    result.describeMismatch(description);
+                });
+            }
+        }
+        final int next = cursor.index() + 1;
+        if (next < matchers.size()) {
+            final Matcher<? super E> missing = matchers.get(next);
+            return MatchResult.mismatch(description -> description.appendText("no item was ").appendDescriptionOf(missing));
+        }
+        return MatchResult.match();
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("stream containing ").appendList("[", ", ", "]", matchers);
+    }
+
+}
@@ -0,0 +1,42 @@
+package org.hamcrest.stream;
+
+import org.hamcrest.Description;
+import org.hamcrest.MatchResult;
+import org.hamcrest.Matcher;
+
+import java.util.Spliterator;
+
+/**
+ * Tests if every element of a stream matches, stopping at the first that does not.
+ *
+ * @param <E> the type of the elements
+ */
+final class StreamEveryItem<E> extends StreamMatcher<E> {
+
+    private final Matcher<? super E> matcher;
+
+    StreamEveryItem(Matcher<? super E> matcher) {
+        this.matcher = matcher;
+    }
+
+    @Override
+    protected MatchResult matchElements(Spliterator<? extends E> elements) {
+        final Cursor<E> cursor = new Cursor<>(elements);
+        while (cursor.next()) {
+            final MatchResult result = matcher.evaluate(cursor.current());
+            if (!result.matched()) {
+                return MatchResult.mismatch(description -> {
+                    description.appendText("an item ");
+                    result.describeMismatch(description);
+                });
+            }
+        }
+        return MatchResult.match();
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("every item is ").appendDescriptionOf(matcher);
+    }
+
+}
@@ -0,0 +1,141 @@
+package org.hamcrest.stream;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.MatchResult;
+import org.hamcrest.Matcher;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.BaseStream;
+
+/**
+ * Convenient base class for matchers of the elements of a {@link BaseStream}, {@link Iterator} or
+ * {@link Spliterator}, which can only be traversed once.
+ *
+ * <p>The elements are consumed lazily, once, by {@link #matchElements(Spliterator)}, which should stop
+ * as soon as the result is known and keep only what it needs to describe a mismatch. The result for
+ * the last examined source is remembered, so that describing the mismatch of a source that has just
+ * been matched does not traverse it again.</p>
+ *
+ * @param <E> the type of the elements
+ */
+public abstract class StreamMatcher<E> extends BaseMatcher<BaseStream<? extends E, ?>> {
+
+    private final AtomicReference<Examined> lastExamined = new AtomicReference<>();
+
+    /**
+     * Subclasses should implement this. Consumes as few elements as it takes to decide.
+     *
+     * @param elements
+     *     the elements of the examined source, not yet traversed.
+     * @return the result, with a mismatch description that does not need the elements again.
+     */
+    protected abstract MatchResult matchElements(Spliterator<? extends E> elements);
+
+    @Override
+    public final boolean matches(Object actual) {
+        return evaluate(actual).matched();
+    }
+
+    @Override
+    public final void describeMismatch(Object actual, Description mismatchDescription) {
+        evaluate(actual).describeMismatch(mismatchDescription);
+    }
+
+    @Override
+    public final MatchResult evaluate(Object actual) {
+        final Examined last = lastExamined.get();
+        if (actual != null && last != null && last.source.get() == actual) {
+            return last.result;
+        }
+        final Spliterator<? extends E> elements = elementsOf(actual);
+        if (elements == null) {
+            return MatchResult.mismatch(description -> description.appendText("was ").appendValue(actual));
+        }
+        final MatchResult result = matchElements(elements);
+        lastExamined.set(new Examined(actual, result));
+        return result;
+    }
+
+    /**
+     * @return this matcher, typed to match the elements of an {@link Iterator}.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public final Matcher<Iterator<? extends E>> forIterator() {
+        return (Matcher) this;
+    }
+
+    /**
+     * @return this matcher, typed to match the elements of a {@link Spliterator}.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public final Matcher<Spliterator<? extends E>> forSpliterator() {
+        return (Matcher) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> Spliterator<? extends E> elementsOf(Object actual) {
+        if (actual instanceof BaseStream) {
+            return ((BaseStream<? extends E, ?>) actual).spliterator();
+        }
+        if (actual instanceof Iterator) {
+            return Spliterators.spliteratorUnknownSize((Iterator<? extends E>) actual, Spliterator.ORDERED);
+        }
+        if (actual instanceof Spliterator) {
+            return (Spliterator<? extends E>) actual;
+        }
+        return null;
+    }
+
+    /**
+     * Steps through elements one at a time, keeping the current one.
+     *
+     * @param <E> the type of the elements
+     */
+    static final class Cursor<E> implements Consumer<E> {
+        private final Spliterator<? extends E> elements;
+        private E current;
+        private int index = -1;
+
+        Cursor(Spliterator<? extends E> elements) {
+            this.elements = elements;
+        }
+
+        boolean next() {
+            if (elements.tryAdvance(this)) {
+                index++;
+                return true;
+            }
+            return false;
+        }
+
+        E current() {
+            return current;
+        }
+
+        int index() {
+            return index;
+        }
+
+        @Override
+        public void accept(E element) {
+            current = element;
+        }
+    }
+
+    private static final class Examined {
+        final WeakReference<Object> source;
+        final MatchResult result;
+
+        Examined(Object source, MatchResult result) {
+            this.source = new WeakReference<>(source);
+            this.result = result;
+        }
+    }
+
+}
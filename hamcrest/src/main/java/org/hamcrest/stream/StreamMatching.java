@@ -0,0 +1,238 @@
+package org.hamcrest.stream;
+
+import org.hamcrest.Matcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+
+/**
+ * Matchers for the elements of {@link java.util.stream.Stream}s, which consume the stream once and
+ * lazily, without collecting it first. Each matcher stops as soon as its result is known, and keeps
+ * only the elements it needs to describe a mismatch.
+ *
+ * <p>The matchers also accept an {@link java.util.Iterator} or a {@link java.util.Spliterator},
+ * see {@link StreamMatcher#forIterator()} and {@link StreamMatcher#forSpliterator()}.</p>
+ */
+public class StreamMatching {
+
+    private StreamMatching() {
+    }
+
+    /**
+     * Creates a matcher for streams that matches when the examined stream yields a series of
+     * elements, each logically equal to the corresponding item in the specified items. For a
+     * positive match, the examined stream must yield as many elements as there are items.
+     * For example:
+     * <pre>assertThat(Stream.of("foo", "bar"), contains("foo", "bar"))</pre>
+     *
+     * @param <E>
+     *     the matcher type.
+     * @param items
+     *     the items that must equal the elements of an examined stream
+     * @return The matcher.
+     */
+    @SafeVarargs
+    public static <E> StreamMatcher<E> contains(E... items) {
+        return contains(asEqualMatchers(items));
+    }
+
+    /**
+     * Creates a matcher for streams that matches when the examined stream yields a series of
+     * elements, each satisfying the corresponding matcher in the specified matchers. For a
+     * positive match, the examined stream must yield as many elements as there are matchers.
+     * For example:
+     * <pre>assertThat(Stream.of("foo", "bar"), contains(equalTo("foo"), equalTo("bar")))</pre>
+     *
+     * @param <E>
+     *     the matcher type.
+     * @param itemMatchers
+     *     the matchers that must be satisfied by the elements of an examined stream
+     * @return The matcher.
+     */
+    @SafeVarargs
+    public static <E> StreamMatcher<E> contains(Matcher<? super E>... itemMatchers) {
+        final List<Matcher<? super E>> matchers = Arrays.asList(itemMatchers);
+        return contains(matchers);
+    }
+
+    /**
+     * Creates a matcher for streams that matches when the examined stream yields a series of
+     * elements, each satisfying the corresponding matcher in the specified list of matchers. For a
+     * positive match, the examined stream must yield as many elements as there are matchers.
+     * For example:
+     * <pre>assertThat(Stream.of("foo", "bar"), contains(Arrays.asList(equalTo("foo"), equalTo("bar"))))</pre>
+     *
+     * @param <E>
+     *     the matcher type.
+     * @param itemMatchers
+     *     a list of matchers, each of which must be satisfied by the corresponding element of an examined stream
+     * @return The matcher.
+     */
+    public static <E> StreamMatcher<E> contains(List<Matcher<? super E>> itemMatchers) {
+        return new StreamContainingInOrder<>(itemMatchers);
+    }
+
+    /**
+     * Creates an order agnostic matcher for streams that matches when the examined stream yields
+     * a series of elements, each logically equal to a different one of the specified items.
+     * For a positive match, the examined stream must yield as many elements as there are items.
+     * For example:
+     * <pre>assertThat(Stream.of("foo", "bar"), containsInAnyOrder("bar", "foo"))</pre>
+     *
+     * @param <E>
+     *     the matcher type.
+     * @param items
+     *     the items that must equal the elements of an examined stream, in any order
+     * @return The matcher.
+     */
+    @SafeVarargs
+    public static <E> StreamMatcher<E> containsInAnyOrder(E... items) {
+        return containsInAnyOrder(asEqualMatchers(items));
+    }
+
+    /**
+     * Creates an order agnostic matcher for streams that matches when the examined stream yields
+     * a series of elements, each satisfying a different one of the specified matchers.
+     * For a positive match, the examined stream must yield as many elements as there are matchers.
+     * For example:
+     * <pre>assertThat(Stream.of("foo", "bar"), containsInAnyOrder(equalTo("bar"), equalTo("foo")))</pre>
+     *
+     * @param <E>
+     *     the matcher type.
+     * @param itemMatchers
+     *     the matchers, each of which must be satisfied by an element of an examined stream
+     * @return The matcher.
+     */
+    @SafeVarargs
+    public static <E> StreamMatcher<E> containsInAnyOrder(Matcher<? super E>... itemMatchers) {
+        final List<Matcher<? super E>> matchers = Arrays.asList(itemMatchers);
+        return containsInAnyOrder(matchers);
+    }
+
+    /**
+     * Creates an order agnostic matcher for streams that matches when the examined stream yields
+     * a series of elements, each satisfying a different one of the specified collection of matchers.
+     * For a positive match, the examined stream must yield as many elements as there are matchers.
+     * For example:
+     * <pre>assertThat(Stream.of("foo", "bar"), containsInAnyOrder(Arrays.asList(equalTo("bar"), equalTo("foo"))))</pre>
+     *
+     * @param <E>
+     *     the matcher type.
+     * @param itemMatchers
+     *     the matchers, each of which must be satisfied by an element of an examined stream
+     * @return The matcher.
+     */
+    public static <E> StreamMatcher<E> containsInAnyOrder(Collection<Matcher<? super E>> itemMatchers) {
+        return new StreamContainingInAnyOrder<>(itemMatchers);
+    }
+
+    /**
+     * Creates a matcher for streams that only matches when every element of the examined stream
+     * is matched by the specified <code>itemMatcher</code>.
+     * For example:
+     * <pre>assertThat(Stream.of("bar", "baz"), everyItem(startsWith("ba")))</pre>
+     *
+     * @param <E>
+     *     the matcher type.
+     * @param itemMatcher
+     *     the matcher to apply to every element of an examined stream
+     * @return The matcher.
+     */
+    public static <E> StreamMatcher<E> everyItem(Matcher<? super E> itemMatcher) {
+        return new StreamEveryItem<>(itemMatcher);
+    }
+
+    /**
+     * Creates a matcher for streams that only matches when the examined stream yields at least one
+     * element that is matched by the specified <code>itemMatcher</code>. The mismatch description
+     * lists the mismatches of the first few elements only.
+     * For example:
+     * <pre>assertThat(Stream.of("foo", "bar"), hasItem(startsWith("ba")))</pre>
+     *
+     * @param <E>
+     *     the matcher type.
+     * @param itemMatcher
+     *     the matcher to apply to elements of an examined stream
+     * @return The matcher.
+     */
+    public static <E> StreamMatcher<E> hasItem(Matcher<? super E> itemMatcher) {
+        return new StreamContaining<>(itemMatcher);
+    }
+
+    /**
+     * Creates a matcher for streams that only matches when the examined stream yields at least one
+     * element that is logically equal to the specified <code>item</code>.
+     * For example:
+     * <pre>assertThat(Stream.of("foo", "bar"), hasItem("bar"))</pre>
+     *
+     * @param <E>
+     *     the matcher type.
+     * @param item
+     *     the item to compare against the elements of an examined stream
+     * @return The matcher.
+     */
+    public static <E> StreamMatcher<E> hasItem(E item) {
+        return new StreamContaining<>(equalTo(item));
+    }
+
+    /**
+     * Creates a matcher for streams that matches when the number of elements of the examined
+     * stream satisfies the specified matcher. A stream that knows its size is not traversed.
+     * For example:
+     * <pre>assertThat(Stream.of("foo", "bar"), streamWithSize(greaterThan(1)))</pre>
+     *
+     * @param <E>
+     *     the matcher type.
+     * @param sizeMatcher
+     *     a matcher for the number of elements of an examined stream
+     * @return The matcher.
+     */
+    public static <E> StreamMatcher<E> streamWithSize(Matcher<? super Integer> sizeMatcher) {
+        return new StreamWithSize<>(sizeMatcher, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a matcher for streams that matches when the examined stream yields exactly the
+     * specified number of elements. Counting stops one element past that number, so an infinite
+     * stream does not match.
+     * For example:
+     * <pre>assertThat(Stream.of("foo", "bar"), streamWithSize(2))</pre>
+     *
+     * @param <E>
+     *     the matcher type.
+     * @param size
+     *     the number of elements that an examined stream must yield
+     * @return The matcher.
+     */
+    public static <E> StreamMatcher<E> streamWithSize(int size) {
+        return new StreamWithSize<>(equalTo(size), size);
+    }
+
+    /**
+     * Creates a matcher for streams that matches when the examined stream yields no elements.
+     * At most one element is consumed.
+     * For example:
+     * <pre>assertThat(Stream.empty(), emptyStream())</pre>
+     *
+     * @param <E>
+     *     the matcher type.
+     * @return The matcher.
+     */
+    public static <E> StreamMatcher<E> emptyStream() {
+        return new EmptyStream<>();
+    }
+
+    private static <E> List<Matcher<? super E>> asEqualMatchers(E[] items) {
+        final List<Matcher<? super E>> matchers = new ArrayList<>(items.length);
+        for (E item : items) {
+            matchers.add(equalTo(item));
+        }
+        return Collections.unmodifiableList(matchers);
+    }
+
+}
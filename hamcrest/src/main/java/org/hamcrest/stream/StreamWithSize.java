@@ -0,0 +1,54 @@
+package org.hamcrest.stream;
+
+import org.hamcrest.Description;
+import org.hamcrest.MatchResult;
+import org.hamcrest.Matcher;
+
+import java.util.Spliterator;
+
+/**
+ * Tests the number of elements of a stream. A source that knows its exact size is not traversed,
+ * and when the expected size is known counting stops one element past it, so that an infinite
+ * stream does not match rather than hangs.
+ *
+ * @param <E> the type of the elements
+ */
+final class StreamWithSize<E> extends StreamMatcher<E> {
+
+    private final Matcher<? super Integer> sizeMatcher;
+    private final long limit;
+
+    StreamWithSize(Matcher<? super Integer> sizeMatcher, long limit) {
+        this.sizeMatcher = sizeMatcher;
+        this.limit = limit;
+    }
+
+    @Override
+    protected MatchResult matchElements(Spliterator<? extends E> elements) {
+        long size = elements.getExactSizeIfKnown();
+        if (size < 0) {
+            final Cursor<E> cursor = new Cursor<>(elements);
+            size = 0;
+            while (size <= limit && cursor.next()) {
+                size++;
+            }
+            if (size > limit) {
+                return MatchResult.mismatch(description -> description.appendText("stream size was greater than ").appendText(String.valueOf(limit)));
+            }
+        }
+        final MatchResult result = sizeMatcher.evaluate((int) Math.min(size, Integer.MAX_VALUE));
+        if (result.matched()) {
+            return result;
+        }
+        return MatchResult.mismatch(description -> {
+            description.appendText("stream size ");
+            result.describeMismatch(description);
+        });
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("a stream with size ").appendDescriptionOf(sizeMatcher);
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Matchers of the elements of streams, iterators and spliterators, which consume them once and lazily.
+ */
+package org.hamcrest.stream;
@@ -4,14 +4,25 @@ import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Tests if a string contains the given substrings in order.
+ * <p>
+ * The string is scanned once for all the substrings together, and each is matched where
+ * {@link String#indexOf(String, int)} would find it, searching from just after the start of
+ * the one before.
  */
 public class StringContainsInOrder extends TypeSafeMatcher<String> {
 
     private final Iterable<String> substrings;
+    private final String[] sequence;
+    private final int[] ids;
+    private final SubstringAutomaton automaton;
 
     /**
      * Constructor, best called from {@link #stringContainsInOrder(Iterable)}
@@ -19,21 +30,39 @@ public class StringContainsInOrder extends TypeSafeMatcher<String> {
      */
     public StringContainsInOrder(Iterable<String> substrings) {
         this.substrings = substrings;
-    }
-
-    @Override
-    public boolean matchesSafely(String s) {
-        int fromIndex = 0;
-
+        final List<String> sequence = new ArrayList<>();
+        final Map<String, Integer> distinct = new HashMap<>();
+        final List<Integer> ids = new ArrayList<>();
         for (String substring : substrings) {
-            fromIndex = s.indexOf(substring, fromIndex);
-            if (fromIndex == -1) {
-                return false;
+            sequence.add(substring);
+            if (substring.isEmpty()) {
+                ids.add(-1);
+            } else {
+                Integer id = distinct.get(substring);
+                if (id == null) {
+                    id = distinct.size();
+                    distinct.put(substring, id);
+                }
+                ids.add(id);
             }
-            fromIndex++;
         }
+        this.sequence = sequence.toArray(new String[0]);
+        this.ids = new int[ids.size()];
+        for (int i = 0; i < this.ids.length; i++) {
+            this.ids[i] = ids.get(i);
+        }
+        final String[] byId = new String[distinct.size()];
+        for (Map.Entry<String, Integer> entry : distinct.entrySet()) {
+            byId[entry.getValue()] = entry.getKey();
+        }
+        this.automaton = new SubstringAutomaton(Arrays.asList(byId));
+    }
 
-        return true;
+    @Override
+    public boolean matchesSafely(String s) {
+        final Progress progress = new Progress(s);
+        progress.acceptWithin(-1);
+        return progress.isComplete() || automaton.scan(s, progress);
     }
 
     @Override
@@ -48,6 +77,65 @@ public class StringContainsInOrder extends TypeSafeMatcher<String> {
                    .appendText(" in order");
     }
 
+    /*
+     * How far through the sequence a scan has got. The automaton reports occurrences in order of
+     * where they end, so when a substring is matched, the ones after it may already have been
+     * passed, inside it; those are looked for in the part of the string already scanned.
+     */
+    private final class Progress implements SubstringAutomaton.Listener {
+        private final String string;
+        private int next;
+        private int from;
+
+        Progress(String string) {
+            this.string = string;
+        }
+
+        boolean isComplete() {
+            return next == sequence.length;
+        }
+
+        @Override
+        public boolean found(int substring, int end) {
+            if (substring != ids[next]) {
+                return false;
+            }
+            final int start = end - sequence[next].length() + 1;
+            if (start < from) {
+                return false;
+            }
+            next++;
+            from = start + 1;
+            acceptWithin(end);
+            return isComplete();
+        }
+
+        /*
+         * Matches as many of the next substrings as lie wholly within the string up to end.
+         * An empty substring is matched wherever the search for it starts, as indexOf does.
+         */
+        void acceptWithin(int end) {
+            while (!isComplete()) {
+                final String substring = sequence[next];
+                final int start = substring.isEmpty() ? Math.min(from, string.length()) : indexWithin(substring, end);
+                if (start < 0) {
+                    return;
+                }
+                next++;
+                from = start + 1;
+            }
+        }
+
+        private int indexWithin(String substring, int end) {
+            for (int i = from, last = end - substring.length() + 1; i <= last; i++) {
+                if (string.startsWith(substring, i)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
     /**
      * Creates a matcher of {@link String} that matches when the examined string contains all of
      * the specified substrings, considering the order of their appearance.
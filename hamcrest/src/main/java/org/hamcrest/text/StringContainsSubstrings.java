@@ -0,0 +1,162 @@
+package org.hamcrest.text;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests if a string contains any, or all, of a set of substrings. The string is scanned once,
+ * whatever the number of substrings, so this is the way to check for many keywords at once.
+ */
+public class StringContainsSubstrings extends TypeSafeMatcher<String> {
+
+    private static final int MAX_LISTED_MISSING = 10;
+
+    private final boolean all;
+    private final List<String> substrings;
+    private final List<String> distinct;
+    private final boolean hasEmpty;
+    private final SubstringAutomaton automaton;
+
+    /**
+     * Constructor, best called from {@link #containsAnyOf(Iterable)} or {@link #containsAllOf(Iterable)}.
+     * @param all <code>true</code> if the string must contain all the substrings, <code>false</code> if any will do
+     * @param substrings the substrings to look for
+     */
+    public StringContainsSubstrings(boolean all, Iterable<String> substrings) {
+        this.all = all;
+        this.substrings = new ArrayList<>();
+        final Map<String, Boolean> distinctNonEmpty = new LinkedHashMap<>();
+        boolean empty = false;
+        for (String substring : substrings) {
+            if (substring == null) {
+                throw new IllegalArgumentException("missing substring");
+            }
+            this.substrings.add(substring);
+            if (substring.isEmpty()) {
+                empty = true;
+            } else {
+                distinctNonEmpty.put(substring, Boolean.TRUE);
+            }
+        }
+        this.hasEmpty = empty;
+        this.distinct = new ArrayList<>(distinctNonEmpty.keySet());
+        this.automaton = new SubstringAutomaton(distinct);
+    }
+
+    @Override
+    public boolean matchesSafely(String s) {
+        if (all) {
+            return missingFrom(s, 1).isEmpty();
+        }
+        return hasEmpty || automaton.scan(s, (substring, end) -> true);
+    }
+
+    @Override
+    public void describeMismatchSafely(String item, Description mismatchDescription) {
+        mismatchDescription.appendText("was \"").appendText(item).appendText("\"");
+        if (all) {
+            final List<String> missing = missingFrom(item, MAX_LISTED_MISSING + 1);
+            mismatchDescription.appendValueList(" without ", ", ", "", missing.subList(0, Math.min(MAX_LISTED_MISSING, missing.size())));
+            if (missing.size() > MAX_LISTED_MISSING) {
+                mismatchDescription.appendText(", ...");
+            }
+        }
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText(all ? "a string containing all of " : "a string containing any of ")
+                   .appendValueList("", ", ", "", substrings);
+    }
+
+    /*
+     * Scans for all the substrings, stopping once they have all been found, and lists
+     * up to the given number of those that were not found, in the order they were given.
+     */
+    private List<String> missingFrom(String s, int limit) {
+        final boolean[] found = new boolean[distinct.size()];
+        final int[] remaining = { distinct.size() };
+        if (remaining[0] > 0) {
+            automaton.scan(s, (substring, end) -> {
+                if (!found[substring]) {
+                    found[substring] = true;
+                    remaining[0]--;
+                }
+                return remaining[0] == 0;
+            });
+        }
+        final List<String> missing = new ArrayList<>();
+        for (int i = 0; i < found.length && missing.size() < limit; i++) {
+            if (!found[i]) {
+                missing.add(distinct.get(i));
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Creates a matcher of {@link String} that matches when the examined string contains at least
+     * one of the specified substrings. The string is scanned once, however many substrings there are.
+     * For example:
+     * <pre>assertThat(logLine, containsAnyOf(Arrays.asList("ERROR", "FATAL")))</pre>
+     *
+     * @param substrings
+     *     the substrings, one of which must be contained within matching strings
+     * @return The matcher.
+     */
+    public static Matcher<String> containsAnyOf(Iterable<String> substrings) {
+        return new StringContainsSubstrings(false, substrings);
+    }
+
+    /**
+     * Creates a matcher of {@link String} that matches when the examined string contains at least
+     * one of the specified substrings. The string is scanned once, however many substrings there are.
+     * For example:
+     * <pre>assertThat(logLine, containsAnyOf("ERROR", "FATAL"))</pre>
+     *
+     * @param substrings
+     *     the substrings, one of which must be contained within matching strings
+     * @return The matcher.
+     */
+    public static Matcher<String> containsAnyOf(String... substrings) {
+        return containsAnyOf(Arrays.asList(substrings));
+    }
+
+    /**
+     * Creates a matcher of {@link String} that matches when the examined string contains every one
+     * of the specified substrings, in any order. The string is scanned once, however many substrings
+     * there are, and no further once they have all been found.
+     * For example:
+     * <pre>assertThat("myfoobarbaz", containsAllOf(Arrays.asList("baz", "foo")))</pre>
+     *
+     * @param substrings
+     *     the substrings that must be contained within matching strings
+     * @return The matcher.
+     */
+    public static Matcher<String> containsAllOf(Iterable<String> substrings) {
+        return new StringContainsSubstrings(true, substrings);
+    }
+
+    /**
+     * Creates a matcher of {@link String} that matches when the examined string contains every one
+     * of the specified substrings, in any order. The string is scanned once, however many substrings
+     * there are, and no further once they have all been found.
+     * For example:
+     * <pre>assertThat("myfoobarbaz", containsAllOf("baz", "foo"))</pre>
+     *
+     * @param substrings
+     *     the substrings that must be contained within matching strings
+     * @return The matcher.
+     */
+    public static Matcher<String> containsAllOf(String... substrings) {
+        return containsAllOf(Arrays.asList(substrings));
+    }
+
+}
@@ -0,0 +1,140 @@
+package org.hamcrest.text;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An Aho-Corasick automaton that finds every occurrence of a set of non-empty substrings in one
+ * pass over a string, however many substrings there are.
+ *
+ * <p>Each state has its transitions as a sorted array of characters, searched by bisection, with
+ * a table for the ASCII transitions out of the start state, where most of a scan is spent.
+ * A state that ends a substring is also linked to the nearest shorter state that ends one, so
+ * that reporting the substrings ending at a position costs one step per substring.</p>
+ */
+final class SubstringAutomaton {
+
+    /**
+     * Told of the substrings found by {@link #scan(String, Listener)}.
+     */
+    interface Listener {
+        /**
+         * @param substring the index of the substring in the list the automaton was built from
+         * @param end the index in the string of the last character of the substring
+         * @return <code>true</code> to stop the scan.
+         */
+        boolean found(int substring, int end);
+    }
+
+    private static final int ASCII = 128;
+
+    private final char[][] keys;
+    private final int[][] targets;
+    private final int[] failure;
+    private final int[] output;
+    private final int[] nextOutput;
+    private final int[] rootAscii;
+
+    /**
+     * @param substrings the substrings to look for, none of them empty and no two the same
+     */
+    SubstringAutomaton(List<String> substrings) {
+        final List<Map<Character, Integer>> trie = new ArrayList<>();
+        final List<Integer> ends = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        ends.add(-1);
+        for (int i = 0; i < substrings.size(); i++) {
+            int state = 0;
+            for (char c : substrings.get(i).toCharArray()) {
+                Integer next = trie.get(state).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(state).put(c, next);
+                    trie.add(new TreeMap<>());
+                    ends.add(-1);
+                }
+                state = next;
+            }
+            ends.set(state, i);
+        }
+
+        final int states = trie.size();
+        keys = new char[states][];
+        targets = new int[states][];
+        output = new int[states];
+        for (int state = 0; state < states; state++) {
+            final Map<Character, Integer> transitions = trie.get(state);
+            keys[state] = new char[transitions.size()];
+            targets[state] = new int[transitions.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> transition : transitions.entrySet()) {
+                keys[state][i] = transition.getKey();
+                targets[state][i++] = transition.getValue();
+            }
+            output[state] = ends.get(state);
+        }
+        rootAscii = new int[ASCII];
+        for (char c = 0; c < ASCII; c++) {
+            rootAscii[c] = Math.max(0, step(0, c));
+        }
+
+        failure = new int[states];
+        nextOutput = new int[states];
+        nextOutput[0] = -1;
+        final Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[0]) {
+            nextOutput[child] = -1;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            final int state = queue.remove();
+            for (int i = 0; i < keys[state].length; i++) {
+                final int child = targets[state][i];
+                failure[child] = next(failure[state], keys[state][i]);
+                nextOutput[child] = output[failure[child]] >= 0 ? failure[child] : nextOutput[failure[child]];
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Reports every occurrence of the substrings, in order of where they end, and of the longest
+     * first among those ending at the same place, until the listener stops the scan.
+     * @param string the string to scan
+     * @param listener told of each occurrence
+     * @return <code>true</code> if the listener stopped the scan.
+     */
+    boolean scan(String string, Listener listener) {
+        int state = 0;
+        for (int i = 0; i < string.length(); i++) {
+            final char c = string.charAt(i);
+            state = (state == 0 && c < ASCII) ? rootAscii[c] : next(state, c);
+            for (int s = output[state] >= 0 ? state : nextOutput[state]; s >= 0; s = nextOutput[s]) {
+                if (listener.found(output[s], i)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private int next(int state, char c) {
+        int s = state;
+        int next;
+        while ((next = step(s, c)) < 0 && s != 0) {
+            s = failure[s];
+        }
+        return Math.max(0, next);
+    }
+
+    private int step(int state, char c) {
+        final int i = Arrays.binarySearch(keys[state], c);
+        return i >= 0 ? targets[state][i] : -1;
+    }
+
+}
@@ -0,0 +1,333 @@
+package org.hamcrest.xml;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.MatchResult;
+import org.hamcrest.Matcher;
+
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.Source;
+import javax.xml.transform.stax.StAXSource;
+import javax.xml.transform.stream.StreamSource;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Applies a Matcher to the value at an XPath in an XML document that is read as a stream, without
+ * building a DOM. The document is read once, with a StAX reader, and only as far as it takes to find
+ * the first node that the XPath selects, so memory use does not grow with the size of the document.
+ *
+ * <p>Only the subset of XPath that can be evaluated in one pass is supported: absolute paths of child
+ * and descendant element steps, with attribute, position and text predicates, ending in an element,
+ * an attribute or <code>text()</code>. For example <code>//order[@id='42']/line[2]/@sku</code>.
+ * Other expressions are rejected when the matcher is created.</p>
+ *
+ * <p>An {@link InputStream}, or a source over one, can only be read once, so the result for the last
+ * such document is remembered, and describing the mismatch of a document that has just been matched
+ * does not read it again. Files and sources that name a system id are read afresh every time, so
+ * that a document that changes can be polled. A mismatch names the element where the value was found, with its line and column.</p>
+ *
+ * @param <T> the type of the document source
+ */
+public class HasStreamedXPath<T> extends BaseMatcher<T> {
+
+    private final StreamingXPath xPath;
+    private final Matcher<String> valueMatcher;
+    private final Class<T> type;
+    private final Input<T> input;
+    private final AtomicReference<Examined> lastExamined = new AtomicReference<>();
+    // Creating readers is safe from several threads once the factory has been configured
+    private final XMLInputFactory inputFactory = newInputFactory();
+
+    private HasStreamedXPath(String xPath, NamespaceContext namespaceContext, Matcher<String> valueMatcher, Class<T> type, Input<T> input) {
+        this.xPath = new StreamingXPath(xPath, namespaceContext);
+        this.valueMatcher = valueMatcher;
+        this.type = type;
+        this.input = input;
+    }
+
+    @Override
+    public final boolean matches(Object actual) {
+        return evaluate(actual).matched();
+    }
+
+    @Override
+    public final void describeMismatch(Object actual, Description mismatchDescription) {
+        evaluate(actual).describeMismatch(mismatchDescription);
+    }
+
+    @Override
+    public final MatchResult evaluate(Object actual) {
+        if (!type.isInstance(actual)) {
+            return MatchResult.mismatch(description -> description.appendText("was ").appendValue(actual));
+        }
+        if (!isOneShot(actual)) {
+            return read(type.cast(actual));
+        }
+        final Examined last = lastExamined.get();
+        if (last != null && last.source.get() == actual) {
+            return last.result;
+        }
+        final MatchResult result = read(type.cast(actual));
+        lastExamined.set(new Examined(actual, result));
+        return result;
+    }
+
+    private static boolean isOneShot(Object source) {
+        if (source instanceof StreamSource) {
+            final StreamSource streamSource = (StreamSource) source;
+            return streamSource.getInputStream() != null || streamSource.getReader() != null;
+        }
+        return source instanceof InputStream || source instanceof StAXSource;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("an XML document with XPath ").appendText(xPath.toString());
+        if (valueMatcher != null) {
+            description.appendText(" ").appendDescriptionOf(valueMatcher);
+        }
+    }
+
+    private MatchResult read(T source) {
+        try {
+            return input.read(source, inputFactory, this);
+        } catch (XMLStreamException e) {
+            final String message = e.getMessage();
+            return MatchResult.mismatch(description -> description.appendText(message));
+        } catch (IOException e) {
+            final String message = "could not read " + source + ": " + e.getMessage();
+            return MatchResult.mismatch(description -> description.appendText(message));
+        } catch (UnsupportedOperationException e) {
+            final String message = "cannot stream a " + source.getClass().getSimpleName();
+            return MatchResult.mismatch(description -> description.appendText(message));
+        }
+    }
+
+    private MatchResult match(XMLStreamReader reader) throws XMLStreamException {
+        final StreamingXPath.Selected selected;
+        try {
+            selected = xPath.evaluate(reader, valueMatcher != null);
+        } finally {
+            reader.close();
+        }
+        if (selected == null) {
+            return MatchResult.mismatch(description -> description.appendText("xpath returned no results."));
+        }
+        if (valueMatcher == null) {
+            return MatchResult.match();
+        }
+        final MatchResult result = valueMatcher.evaluate(selected.value);
+        if (result.matched()) {
+            return result;
+        }
+        return MatchResult.mismatch(description -> {
+            description.appendText(selected.location).appendText(" ");
+            result.describeMismatch(description);
+        });
+    }
+
+    private static XMLInputFactory newInputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /*
+     * Opens a reader over a kind of document source, matches it and releases what was opened.
+     */
+    private interface Input<T> {
+        MatchResult read(T source, XMLInputFactory factory, HasStreamedXPath<T> matcher) throws XMLStreamException, IOException;
+    }
+
+    private static final Input<Source> SOURCE = (source, factory, matcher) -> {
+        final XMLStreamReader reader = source instanceof StAXSource && ((StAXSource) source).getXMLStreamReader() != null
+            ? ((StAXSource) source).getXMLStreamReader()
+            : factory.createXMLStreamReader(source);
+        return matcher.match(reader);
+    };
+
+    private static final Input<InputStream> STREAM = (stream, factory, matcher) -> matcher.match(factory.createXMLStreamReader(stream));
+
+    private static final Input<Path> FILE = (path, factory, matcher) -> {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+            return matcher.match(factory.createXMLStreamReader(path.toUri().toString(), in));
+        }
+    };
+
+    private static final class Examined {
+        final WeakReference<Object> source;
+        final MatchResult result;
+
+        Examined(Object source, MatchResult result) {
+            this.source = new WeakReference<>(source);
+            this.result = result;
+        }
+    }
+
+    /**
+     * Creates a matcher of {@link Source}s that matches when the document has a value at the specified
+     * <code>xPath</code> that satisfies the specified <code>valueMatcher</code>. The document is streamed,
+     * so the source must be a {@link StreamSource} or a {@link StAXSource}.
+     * For example:
+     * <pre>assertThat(new StreamSource(file), hasXPathInSource("/root/something[2]/cheese", equalTo("Cheddar")))</pre>
+     *
+     * @param xPath
+     *     the target xpath, in the streamable subset
+     * @param valueMatcher
+     *     matcher for the value at the specified xpath
+     * @return The matcher.
+     * @throws IllegalArgumentException if the xpath is not in the streamable subset
+     */
+    public static Matcher<Source> hasXPathInSource(String xPath, Matcher<String> valueMatcher) {
+        return hasXPathInSource(xPath, HasXPath.NO_NAMESPACE_CONTEXT, valueMatcher);
+    }
+
+    /**
+     * Creates a matcher of {@link Source}s that matches when the document has a value at the specified
+     * <code>xPath</code>, within the specified <code>namespaceContext</code>, that satisfies the specified
+     * <code>valueMatcher</code>.
+     * For example:
+     * <pre>assertThat(new StreamSource(file), hasXPathInSource("/root/cheese:name", myNs, equalTo("Cheddar")))</pre>
+     *
+     * @param xPath
+     *     the target xpath, in the streamable subset
+     * @param namespaceContext
+     *     the namespace for matching nodes
+     * @param valueMatcher
+     *     matcher for the value at the specified xpath
+     * @return The matcher.
+     * @throws IllegalArgumentException if the xpath is not in the streamable subset
+     */
+    public static Matcher<Source> hasXPathInSource(String xPath, NamespaceContext namespaceContext, Matcher<String> valueMatcher) {
+        return new HasStreamedXPath<>(xPath, namespaceContext, valueMatcher, Source.class, SOURCE);
+    }
+
+    /**
+     * Creates a matcher of {@link Source}s that matches when the document contains a node at the
+     * specified <code>xPath</code>, with any content. Reading stops at the first such node.
+     * For example:
+     * <pre>assertThat(new StreamSource(file), hasXPathInSource("/root/something[2]/cheese"))</pre>
+     *
+     * @param xPath the target xpath, in the streamable subset
+     * @return The matcher.
+     * @throws IllegalArgumentException if the xpath is not in the streamable subset
+     */
+    public static Matcher<Source> hasXPathInSource(String xPath) {
+        return new HasStreamedXPath<>(xPath, HasXPath.NO_NAMESPACE_CONTEXT, null, Source.class, SOURCE);
+    }
+
+    /**
+     * Creates a matcher of {@link InputStream}s that matches when the document has a value at the specified
+     * <code>xPath</code> that satisfies the specified <code>valueMatcher</code>. The stream is read as far as
+     * it takes to decide, and is not closed.
+     * For example:
+     * <pre>assertThat(response.getBody(), hasXPathInStream("//order[@id='42']/@status", equalTo("shipped")))</pre>
+     *
+     * @param xPath
+     *     the target xpath, in the streamable subset
+     * @param valueMatcher
+     *     matcher for the value at the specified xpath
+     * @return The matcher.
+     * @throws IllegalArgumentException if the xpath is not in the streamable subset
+     */
+    public static Matcher<InputStream> hasXPathInStream(String xPath, Matcher<String> valueMatcher) {
+        return hasXPathInStream(xPath, HasXPath.NO_NAMESPACE_CONTEXT, valueMatcher);
+    }
+
+    /**
+     * Creates a matcher of {@link InputStream}s that matches when the document has a value at the specified
+     * <code>xPath</code>, within the specified <code>namespaceContext</code>, that satisfies the specified
+     * <code>valueMatcher</code>. The stream is read as far as it takes to decide, and is not closed.
+     * For example:
+     * <pre>assertThat(response.getBody(), hasXPathInStream("//cheese:order/@status", myNs, equalTo("shipped")))</pre>
+     *
+     * @param xPath
+     *     the target xpath, in the streamable subset
+     * @param namespaceContext
+     *     the namespace for matching nodes
+     * @param valueMatcher
+     *     matcher for the value at the specified xpath
+     * @return The matcher.
+     * @throws IllegalArgumentException if the xpath is not in the streamable subset
+     */
+    public static Matcher<InputStream> hasXPathInStream(String xPath, NamespaceContext namespaceContext, Matcher<String> valueMatcher) {
+        return new HasStreamedXPath<>(xPath, namespaceContext, valueMatcher, InputStream.class, STREAM);
+    }
+
+    /**
+     * Creates a matcher of {@link InputStream}s that matches when the document contains a node at the
+     * specified <code>xPath</code>, with any content. Reading stops at the first such node.
+     * For example:
+     * <pre>assertThat(response.getBody(), hasXPathInStream("//order[@id='42']"))</pre>
+     *
+     * @param xPath the target xpath, in the streamable subset
+     * @return The matcher.
+     * @throws IllegalArgumentException if the xpath is not in the streamable subset
+     */
+    public static Matcher<InputStream> hasXPathInStream(String xPath) {
+        return new HasStreamedXPath<>(xPath, HasXPath.NO_NAMESPACE_CONTEXT, null, InputStream.class, STREAM);
+    }
+
+    /**
+     * Creates a matcher of {@link Path}s that matches when the XML file has a value at the specified
+     * <code>xPath</code> that satisfies the specified <code>valueMatcher</code>.
+     * For example:
+     * <pre>assertThat(Paths.get("orders.xml"), hasXPathInFile("//order[@id='42']/@status", equalTo("shipped")))</pre>
+     *
+     * @param xPath
+     *     the target xpath, in the streamable subset
+     * @param valueMatcher
+     *     matcher for the value at the specified xpath
+     * @return The matcher.
+     * @throws IllegalArgumentException if the xpath is not in the streamable subset
+     */
+    public static Matcher<Path> hasXPathInFile(String xPath, Matcher<String> valueMatcher) {
+        return hasXPathInFile(xPath, HasXPath.NO_NAMESPACE_CONTEXT, valueMatcher);
+    }
+
+    /**
+     * Creates a matcher of {@link Path}s that matches when the XML file has a value at the specified
+     * <code>xPath</code>, within the specified <code>namespaceContext</code>, that satisfies the specified
+     * <code>valueMatcher</code>.
+     * For example:
+     * <pre>assertThat(Paths.get("orders.xml"), hasXPathInFile("//cheese:order/@status", myNs, equalTo("shipped")))</pre>
+     *
+     * @param xPath
+     *     the target xpath, in the streamable subset
+     * @param namespaceContext
+     *     the namespace for matching nodes
+     * @param valueMatcher
+     *     matcher for the value at the specified xpath
+     * @return The matcher.
+     * @throws IllegalArgumentException if the xpath is not in the streamable subset
+     */
+    public static Matcher<Path> hasXPathInFile(String xPath, NamespaceContext namespaceContext, Matcher<String> valueMatcher) {
+        return new HasStreamedXPath<>(xPath, namespaceContext, valueMatcher, Path.class, FILE);
+    }
+
+    /**
+     * Creates a matcher of {@link Path}s that matches when the XML file contains a node at the
+     * specified <code>xPath</code>, with any content. Reading stops at the first such node.
+     * For example:
+     * <pre>assertThat(Paths.get("orders.xml"), hasXPathInFile("//order[@id='42']"))</pre>
+     *
+     * @param xPath the target xpath, in the streamable subset
+     * @return The matcher.
+     * @throws IllegalArgumentException if the xpath is not in the streamable subset
+     */
+    public static Matcher<Path> hasXPathInFile(String xPath) {
+        return new HasStreamedXPath<>(xPath, HasXPath.NO_NAMESPACE_CONTEXT, null, Path.class, FILE);
+    }
+
+}
@@ -10,6 +10,10 @@ import org.w3c.dom.Node;
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.namespace.QName;
 import javax.xml.xpath.*;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import static javax.xml.xpath.XPathConstants.STRING;
 import static org.hamcrest.Condition.matched;
@@ -18,6 +22,12 @@ import static org.hamcrest.Condition.notMatched;
 /**
  * Applies a Matcher to a given XML Node in an existing XML Node tree, specified by an XPath expression.
  *
+ * <p>A matcher can be shared between threads. Neither {@link XPathFactory} nor {@link XPathExpression}
+ * is thread-safe, so each evaluation borrows a compiled copy of the expression from a pool kept by the
+ * matcher, and compiles a new copy only when every pooled copy is in use. The pool keeps no more copies
+ * than there are processors, and goes when the matcher does. Expressions are compiled with one shared
+ * factory, which is only used under a lock.</p>
+ *
  * @author Joe Walnes
  * @author Steve Freeman
  */
@@ -30,8 +40,12 @@ public class HasXPath extends TypeSafeDiagnosingMatcher<Node> {
     public static final NamespaceContext NO_NAMESPACE_CONTEXT = null;
     private static final IsAnything<String> WITH_ANY_CONTENT = new IsAnything<>("");
     private static final Condition.Step<Object, String> NODE_EXISTS = nodeExists();
+    private static final int POOLED_EXPRESSIONS = Runtime.getRuntime().availableProcessors();
+    private static final XPathFactory XPATH_FACTORY = XPathFactory.newInstance();
     private final Matcher<String> valueMatcher;
-    private final XPathExpression compiledXPath;
+    private final Supplier<XPathExpression> compiler;
+    private final Queue<XPathExpression> pooledXPaths = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooledCount = new AtomicInteger();
     private final String xpathString;
     private final QName evaluationMode;
 
@@ -55,7 +69,15 @@ public class HasXPath extends TypeSafeDiagnosingMatcher<Node> {
     }
 
     private HasXPath(String xPathExpression, NamespaceContext namespaceContext, Matcher<String> valueMatcher, QName mode) {
-        this.compiledXPath = compiledXPath(xPathExpression, namespaceContext);
+        this(xPathExpression, valueMatcher, mode, () -> compiledXPath(xPathExpression, namespaceContext));
+    }
+
+    /*
+     * The compiler is called for each copy of the expression the pool needs.
+     */
+    HasXPath(String xPathExpression, Matcher<String> valueMatcher, QName mode, Supplier<XPathExpression> compiler) {
+        this.compiler = compiler;
+        giveBack(compiler.get());
         this.xpathString = xPathExpression;
         this.valueMatcher = valueMatcher;
         this.evaluationMode = mode;
@@ -77,14 +99,34 @@ public class HasXPath extends TypeSafeDiagnosingMatcher<Node> {
     }
 
     private Condition<Object> evaluated(Node item, Description mismatch) {
+        final XPathExpression compiledXPath = borrow();
         try {
             return matched(compiledXPath.evaluate(item, evaluationMode), mismatch);
         } catch (XPathExpressionException e) {
             mismatch.appendText(e.getMessage());
+        } finally {
+            giveBack(compiledXPath);
         }
         return notMatched();
     }
 
+    private XPathExpression borrow() {
+        final XPathExpression pooled = pooledXPaths.poll();
+        if (pooled == null) {
+            return compiler.get();
+        }
+        pooledCount.decrementAndGet();
+        return pooled;
+    }
+
+    private void giveBack(XPathExpression compiledXPath) {
+        if (pooledCount.incrementAndGet() <= POOLED_EXPRESSIONS) {
+            pooledXPaths.offer(compiledXPath);
+        } else {
+            pooledCount.decrementAndGet();
+        }
+    }
+
     private static Condition.Step<Object, String> nodeExists() {
         return new Condition.Step<Object, String>() {
             @Override
@@ -100,7 +142,10 @@ public class HasXPath extends TypeSafeDiagnosingMatcher<Node> {
 
     private static XPathExpression compiledXPath(String xPathExpression, NamespaceContext namespaceContext) {
         try {
-            final XPath xPath = XPathFactory.newInstance().newXPath();
+            final XPath xPath;
+            synchronized (XPATH_FACTORY) {
+                xPath = XPATH_FACTORY.newXPath();
+            }
             if (namespaceContext != null) {
                 xPath.setNamespaceContext(namespaceContext);
             }
@@ -0,0 +1,599 @@
+package org.hamcrest.xml;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An XPath of the subset that can be evaluated in one pass over a stream of parse events, without
+ * building a tree. An expression is an absolute location path of child (<code>/</code>) and
+ * descendant (<code>//</code>) steps. Each step is an element name, a prefixed name or
+ * <code>*</code>, and may have predicates:
+ * <ul>
+ *   <li><code>[@name]</code> and <code>[@name='value']</code>, on any step;</li>
+ *   <li><code>[2]</code>, the position among the siblings that pass the predicates before it;</li>
+ *   <li><code>[text()='value']</code>, on the last step only.</li>
+ * </ul>
+ * The path may end with <code>/@name</code> or <code>/text()</code>. As in XPath, the value of the
+ * expression is the string value of the first node it selects, in document order.
+ *
+ * <p>The evaluation keeps one frame per open element, so its memory depends on the depth of the
+ * document, not its size. It stops reading as soon as the first selected node is known.</p>
+ */
+final class StreamingXPath {
+
+    private static final int ELEMENT = 0;
+    private static final int ATTRIBUTE = 1;
+    private static final int TEXT = 2;
+    private static final int MAX_STEPS = Long.SIZE - 1;
+
+    private final String expression;
+    private final Step[] steps;
+    private final int selects;
+    private final Name attribute;
+    private final boolean decidedAtEnd;
+
+    /**
+     * @param expression the XPath
+     * @param namespaceContext resolves the prefixes of the names in the path, or <code>null</code>
+     * @throws IllegalArgumentException if the expression is not in the streamable subset
+     */
+    StreamingXPath(String expression, NamespaceContext namespaceContext) {
+        this.expression = expression;
+        final Parser parser = new Parser(expression, namespaceContext);
+        this.steps = parser.steps.toArray(new Step[0]);
+        this.selects = parser.selects;
+        this.attribute = parser.attribute;
+        this.decidedAtEnd = steps[steps.length - 1].text != null || selects == TEXT;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    /**
+     * Reads from the current position of the reader until the first node selected by the path is
+     * known, or to the end of the document.
+     *
+     * @param reader a reader positioned at the start of a document
+     * @param withValue whether the string value of the node is wanted
+     * @return the first selected node, or <code>null</code> if the path selects nothing.
+     * @throws XMLStreamException if the document cannot be read
+     */
+    Selected evaluate(XMLStreamReader reader, boolean withValue) throws XMLStreamException {
+        return new Evaluation(reader, withValue && selects == ELEMENT).run();
+    }
+
+    /**
+     * A node selected by the path: its string value, and where it is in the document.
+     */
+    static final class Selected {
+        final String value;
+        final String location;
+
+        Selected(String value, String location) {
+            this.value = value;
+            this.location = location;
+        }
+    }
+
+    private static final class Name {
+        final String namespaceURI;
+        final String localName;
+
+        Name(String namespaceURI, String localName) {
+            this.namespaceURI = namespaceURI;
+            this.localName = localName;
+        }
+
+        boolean matches(String namespaceURI, String localName) {
+            return (this.localName == null || this.localName.equals(localName))
+                && (this.namespaceURI == null || this.namespaceURI.equals(namespaceURI == null ? "" : namespaceURI));
+        }
+    }
+
+    /*
+     * One element step: an axis, a name test and predicates. An attribute predicate has a name and
+     * an optional value. The position predicate, if there is one, is applied after the first
+     * positionAfter attribute predicates, and the text predicate after all of them.
+     */
+    private static final class Step {
+        final boolean descendant;
+        final Name name;
+        final List<Name> attributes = new ArrayList<>();
+        final List<String> attributeValues = new ArrayList<>();
+        int position = 0;
+        int positionAfter = 0;
+        String text;
+
+        Step(boolean descendant, Name name) {
+            this.descendant = descendant;
+            this.name = name;
+        }
+
+        /*
+         * Applies the name test and the attribute and position predicates to the element at the
+         * reader, counting in siblingCounts[index] the siblings that reach the position predicate.
+         */
+        boolean matchesStart(XMLStreamReader reader, int[] siblingCounts, int index) {
+            if (!name.matches(reader.getNamespaceURI(), reader.getLocalName())) {
+                return false;
+            }
+            for (int i = 0; i < attributes.size(); i++) {
+                if (position > 0 && i == positionAfter && ++siblingCounts[index] != position) {
+                    return false;
+                }
+                if (!hasAttribute(reader, attributes.get(i), attributeValues.get(i))) {
+                    return false;
+                }
+            }
+            return position == 0 || positionAfter < attributes.size() || ++siblingCounts[index] == position;
+        }
+    }
+
+    private static boolean hasAttribute(XMLStreamReader reader, Name name, String value) {
+        final String actual = attributeValue(reader, name);
+        return actual != null && (value == null || value.equals(actual));
+    }
+
+    private static String attributeValue(XMLStreamReader reader, Name name) {
+        for (int i = 0, count = reader.getAttributeCount(); i < count; i++) {
+            if (name.matches(reader.getAttributeNamespace(i), reader.getAttributeLocalName(i))) {
+                return reader.getAttributeValue(i);
+            }
+        }
+        return null;
+    }
+
+    /*
+     * The state of one pass over a document. Each open element has a frame with the set of steps
+     * that its children are tested against, as a bit mask: bit k is set when the steps before k
+     * have matched the element and its ancestors, or when k is a descendant step that matched
+     * higher up. An element that the last step selects is a candidate. A candidate whose value or
+     * text predicate depends on its content is decided at its end, and the first candidate in
+     * document order wins, so a candidate only wins once no candidate that started before it is open.
+     */
+    private final class Evaluation {
+        private final XMLStreamReader reader;
+        private final boolean collectValue;
+        private Frame[] frames = new Frame[16];
+        private int depth = 0;
+        private int openCandidates = 0;
+        private int started = 0;
+        private Candidate best;
+
+        Evaluation(XMLStreamReader reader, boolean collectValue) {
+            this.reader = reader;
+            this.collectValue = collectValue;
+            frames[0] = new Frame(steps.length);
+            frames[0].states = 1L;
+        }
+
+        Selected run() throws XMLStreamException {
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        final Selected atStart = startElement();
+                        if (atStart != null) {
+                            return atStart;
+                        }
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.CDATA:
+                    case XMLStreamConstants.SPACE:
+                        if (openCandidates > 0) {
+                            final Selected atText = text();
+                            if (atText != null) {
+                                return atText;
+                            }
+                        }
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        final Selected atEnd = endElement();
+                        if (atEnd != null) {
+                            return atEnd;
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+            return best == null ? null : best.selected();
+        }
+
+        private Selected startElement() throws XMLStreamException {
+            final Frame parent = frames[depth];
+            final int index = ++started;
+            long states = 0L;
+            boolean selected = false;
+            for (long pending = parent.states; pending != 0L; pending &= pending - 1) {
+                final int k = Long.numberOfTrailingZeros(pending);
+                final Step step = steps[k];
+                if (step.descendant) {
+                    states |= 1L << k;
+                }
+                if (step.matchesStart(reader, parent.siblingCounts, k)) {
+                    if (k + 1 == steps.length) {
+                        selected = true;
+                    } else {
+                        states |= 1L << (k + 1);
+                    }
+                }
+            }
+            Candidate candidate = null;
+            if (selected && selects == ATTRIBUTE) {
+                final String value = attributeValue(reader, attribute);
+                if (value != null) {
+                    candidate = new Candidate(index, value, location("/@" + attribute.localName));
+                }
+            } else if (selected) {
+                candidate = selects == TEXT
+                    ? new Candidate(Integer.MAX_VALUE, null, location("/text()"))
+                    : new Candidate(index, null, location(""));
+            }
+            if (candidate != null && !decidedAtEnd && !collectValue) {
+                if (decide(candidate)) {
+                    return best.selected();
+                }
+                candidate = null;
+            }
+            if (states == 0L && candidate == null && openCandidates == 0) {
+                skipElement();
+                return null;
+            }
+            final Frame frame = push();
+            frame.states = states;
+            frame.candidate = candidate;
+            if (candidate != null) {
+                openCandidates++;
+            }
+            return null;
+        }
+
+        private Selected text() {
+            for (int d = 1; d <= depth; d++) {
+                final Candidate candidate = frames[d].candidate;
+                if (candidate == null) {
+                    continue;
+                }
+                if (collectValue) {
+                    candidate.value.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                }
+                if (d == depth) {
+                    final String text = reader.getText();
+                    final String expected = steps[steps.length - 1].text;
+                    if (expected != null && expected.equals(text)) {
+                        candidate.textMatched = true;
+                    }
+                    if (candidate.firstText == null) {
+                        candidate.firstText = text;
+                        if (selects == TEXT) {
+                            // a text node is selected, so its own position in the document is what orders it
+                            candidate.index = ++started;
+                            if (expected == null && decide(candidate)) {
+                                return best.selected();
+                            }
+                        }
+                    }
+                }
+            }
+            return null;
+        }
+
+        private Selected endElement() {
+            final Frame frame = frames[depth--];
+            final Candidate candidate = frame.candidate;
+            frame.candidate = null;
+            if (candidate == null) {
+                return null;
+            }
+            openCandidates--;
+            final boolean satisfied = (steps[steps.length - 1].text == null || candidate.textMatched)
+                && (selects != TEXT || candidate.firstText != null);
+            if (satisfied && decide(candidate)) {
+                return best.selected();
+            }
+            if (best != null && openCandidatesBefore(best.index) == 0) {
+                return best.selected();
+            }
+            return null;
+        }
+
+        /*
+         * Records a candidate that is satisfied, and tells whether it is known to be the first.
+         */
+        private boolean decide(Candidate candidate) {
+            if (best == null || candidate.index < best.index) {
+                best = candidate;
+            }
+            return openCandidatesBefore(best.index) == 0;
+        }
+
+        private int openCandidatesBefore(int index) {
+            int count = 0;
+            for (int d = 1; d <= depth; d++) {
+                final Candidate open = frames[d].candidate;
+                if (open != null && open.index < index) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        private void skipElement() throws XMLStreamException {
+            int nested = 1;
+            while (nested > 0) {
+                final int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    nested++;
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    nested--;
+                }
+            }
+        }
+
+        private Frame push() {
+            depth++;
+            if (depth == frames.length) {
+                frames = Arrays.copyOf(frames, depth * 2);
+            }
+            Frame frame = frames[depth];
+            if (frame == null) {
+                frame = frames[depth] = new Frame(steps.length);
+            } else {
+                Arrays.fill(frame.siblingCounts, 0);
+            }
+            frame.prefix = reader.getPrefix();
+            frame.localName = reader.getLocalName();
+            return frame;
+        }
+
+        /*
+         * Where the element at the reader is: its path of names from the root and the line and
+         * column of its start tag. The element itself has no frame yet, unless it is at the top.
+         */
+        private String location(String suffix) {
+            final StringBuilder path = new StringBuilder();
+            for (int d = 1; d <= depth; d++) {
+                appendName(path, frames[d].prefix, frames[d].localName);
+            }
+            appendName(path, reader.getPrefix(), reader.getLocalName());
+            path.append(suffix);
+            final Location location = reader.getLocation();
+            if (location != null && location.getLineNumber() > 0) {
+                path.append(" (line ").append(location.getLineNumber());
+                if (location.getColumnNumber() > 0) {
+                    path.append(", column ").append(location.getColumnNumber());
+                }
+                path.append(')');
+            }
+            return path.toString();
+        }
+
+        private void appendName(StringBuilder path, String prefix, String localName) {
+            path.append('/');
+            if (prefix != null && !prefix.isEmpty()) {
+                path.append(prefix).append(':');
+            }
+            path.append(localName);
+        }
+
+        private final class Candidate {
+            int index;
+            final String location;
+            final StringBuilder value;
+            final String attributeValue;
+            String firstText;
+            boolean textMatched;
+
+            Candidate(int index, String attributeValue, String location) {
+                this.index = index;
+                this.attributeValue = attributeValue;
+                this.location = location;
+                this.value = collectValue ? new StringBuilder() : null;
+            }
+
+            Selected selected() {
+                switch (selects) {
+                    case ATTRIBUTE: return new Selected(attributeValue, location);
+                    case TEXT: return new Selected(firstText, location);
+                    default: return new Selected(value == null ? null : value.toString(), location);
+                }
+            }
+        }
+    }
+
+    private static final class Frame {
+        final int[] siblingCounts;
+        long states;
+        String prefix;
+        String localName;
+        Evaluation.Candidate candidate;
+
+        Frame(int steps) {
+            this.siblingCounts = new int[steps];
+        }
+    }
+
+    /*
+     * A recursive descent parser of the streamable subset, which rejects anything outside it.
+     */
+    private static final class Parser {
+        private final String expression;
+        private final NamespaceContext namespaceContext;
+        private final List<Step> steps = new ArrayList<>();
+        private int selects = ELEMENT;
+        private Name attribute;
+        private int position = 0;
+
+        Parser(String expression, NamespaceContext namespaceContext) {
+            this.expression = expression;
+            this.namespaceContext = namespaceContext;
+            parsePath();
+        }
+
+        private void parsePath() {
+            boolean descendant = false;
+            if (expression.startsWith("//")) {
+                descendant = true;
+                position = 2;
+            } else if (expression.startsWith("/")) {
+                position = 1;
+            }
+            while (true) {
+                if (at("@")) {
+                    position++;
+                    requireLast(descendant, "an attribute");
+                    selects = ATTRIBUTE;
+                    attribute = parseName();
+                } else if (expression.startsWith("text()", position)) {
+                    position += "text()".length();
+                    requireLast(descendant, "text()");
+                    selects = TEXT;
+                } else {
+                    final Step step = new Step(descendant, parseName());
+                    while (at("[")) {
+                        position++;
+                        parsePredicate(step);
+                        expect("]");
+                    }
+                    steps.add(step);
+                    if (steps.size() > MAX_STEPS) {
+                        throw notStreamable("more than " + MAX_STEPS + " steps");
+                    }
+                }
+                if (position == expression.length()) {
+                    break;
+                }
+                expect("/");
+                descendant = at("/");
+                if (descendant) {
+                    position++;
+                }
+            }
+            if (steps.isEmpty()) {
+                throw notStreamable("no element step");
+            }
+            for (int i = 0; i < steps.size() - 1; i++) {
+                if (steps.get(i).text != null) {
+                    throw notStreamable("a text() predicate is only allowed on the last step");
+                }
+            }
+        }
+
+        private void requireLast(boolean descendant, String what) {
+            if (descendant || steps.isEmpty()) {
+                throw notStreamable(what + " must be a child of an element step");
+            }
+            final int end = expression.indexOf('/', position);
+            if (end >= 0) {
+                throw notStreamable(what + " must be the last step");
+            }
+        }
+
+        private void parsePredicate(Step step) {
+            if (step.text != null) {
+                throw notStreamable("a text() predicate must be the last predicate");
+            }
+            if (at("@")) {
+                position++;
+                step.attributes.add(parseName());
+                step.attributeValues.add(at("=") ? parseLiteralAfterEquals() : null);
+            } else if (expression.startsWith("text()", position)) {
+                position += "text()".length();
+                if (!at("=")) {
+                    throw notStreamable("text() predicates must compare with a literal");
+                }
+                step.text = parseLiteralAfterEquals();
+            } else {
+                final int start = position;
+                while (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+                    position++;
+                }
+                if (start == position) {
+                    throw notStreamable("unsupported predicate at " + start);
+                }
+                if (step.position > 0) {
+                    throw notStreamable("more than one position predicate at " + start);
+                }
+                step.position = Integer.parseInt(expression.substring(start, position));
+                step.positionAfter = step.attributes.size();
+                if (step.position == 0) {
+                    throw notStreamable("position 0 at " + start);
+                }
+            }
+        }
+
+        private String parseLiteralAfterEquals() {
+            position++;
+            if (!at("'") && !at("\"")) {
+                throw notStreamable("expected a string literal at " + position);
+            }
+            final char quote = expression.charAt(position);
+            final int end = expression.indexOf(quote, position + 1);
+            if (end < 0) {
+                throw notStreamable("unterminated string literal at " + position);
+            }
+            final String literal = expression.substring(position + 1, end);
+            position = end + 1;
+            return literal;
+        }
+
+        private Name parseName() {
+            if (at("*")) {
+                position++;
+                return new Name(null, null);
+            }
+            final int start = position;
+            while (position < expression.length() && isNameChar(expression.charAt(position))) {
+                position++;
+            }
+            if (start == position || !isNameStartChar(expression.charAt(start))) {
+                throw notStreamable("expected a name at " + start);
+            }
+            final String qualifiedName = expression.substring(start, position);
+            final int colon = qualifiedName.indexOf(':');
+            if (colon < 0) {
+                return new Name(XMLConstants.NULL_NS_URI, qualifiedName);
+            }
+            final String prefix = qualifiedName.substring(0, colon);
+            final String namespaceURI = namespaceContext == null ? null : namespaceContext.getNamespaceURI(prefix);
+            if (namespaceURI == null || namespaceURI.isEmpty()) {
+                throw notStreamable("unbound prefix " + prefix);
+            }
+            final String localName = qualifiedName.substring(colon + 1);
+            return new Name(namespaceURI, "*".equals(localName) ? null : localName);
+        }
+
+        private static boolean isNameStartChar(char c) {
+            return Character.isLetter(c) || c == '_';
+        }
+
+        private static boolean isNameChar(char c) {
+            return Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '.' || c == ':';
+        }
+
+        private boolean at(String token) {
+            return expression.startsWith(token, position);
+        }
+
+        private void expect(String token) {
+            if (!at(token)) {
+                throw notStreamable("expected '" + token + "' at " + position);
+            }
+            position += token.length();
+        }
+
+        private IllegalArgumentException notStreamable(String reason) {
+            return new IllegalArgumentException("Not a streamable XPath : " + expression + " (" + reason + ")");
+        }
+    }
+
+}
@@ -2,6 +2,9 @@ package org.hamcrest;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.LinkedHashSet;
+
+import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public final class BaseDescriptionTest {
@@ -62,6 +65,29 @@ public final class BaseDescriptionTest {
         assertEquals("\"\\\"\"", result.toString());
     }
 
+    @Test public void
+    quotesSpecialCharactersWithinAppendedStringValue() {
+        baseDescription.appendValue("\"a\tb\\c\r\n");
+        assertEquals("\"\\\"a\\tb\\\\c\\r\\n\"", result.toString());
+    }
+
+    @Test public void
+    appendsUnescapedRunsOfStringValueInBulk() {
+        final StringBuilder bulk = new StringBuilder();
+        final BaseDescription rangeDescription = new BaseDescription() {
+            @Override protected void append(char c) {
+                bulk.append('(').append(c).append(')');
+            }
+
+            @Override protected void append(CharSequence csq, int start, int end) {
+                bulk.append(csq, start, end);
+            }
+        };
+
+        rangeDescription.appendValue("ab\ncd\"");
+        assertEquals("(\")ab(\\)(n)cd(\\)(\")(\")", bulk.toString());
+    }
+
     @Test public void
     bracketsAppendedByteValue() {
         baseDescription.appendValue(Byte.valueOf("2"));
@@ -92,6 +118,26 @@ public final class BaseDescriptionTest {
         assertEquals("[\"2\", \"3\"]", result.toString());
     }
 
+    @Test public void
+    describesAppendedPrimitiveArrayValues() {
+        baseDescription.appendValue(new int[] {1, 2});
+        baseDescription.appendValue(new char[] {'a'});
+        baseDescription.appendValue(new long[0]);
+        assertEquals("[<1>, <2>][\"a\"][]", result.toString());
+    }
+
+    @Test public void
+    describesAppendedNestedArrayValue() {
+        baseDescription.appendValue(new Object[] {new double[] {1.5}, null});
+        assertEquals("[[<1.5>], null]", result.toString());
+    }
+
+    @Test public void
+    appendsListsFromIterablesThatAreNotLists() {
+        baseDescription.appendValueList("{", "; ", "}", new LinkedHashSet<>(asList(1, 2)));
+        assertEquals("{<1>; <2>}", result.toString());
+    }
+
     @Test public void
     bracketsAppendedObjectValue() {
         final Object value = new Object();
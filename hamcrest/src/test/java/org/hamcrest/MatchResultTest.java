@@ -0,0 +1,90 @@
+package org.hamcrest;
+
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.AllOf.allOf;
+import static org.hamcrest.core.Every.everyItem;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class MatchResultTest {
+
+    @Test public void
+    reportsAMatchWithNoMismatch() {
+        MatchResult result = equalTo("a").evaluate("a");
+
+        assertTrue(result.matched());
+        assertEquals("", describedMismatchOf(result));
+    }
+
+    @Test public void
+    reportsAMismatchFromAPlainMatcher() {
+        MatchResult result = equalTo("a").evaluate("b");
+
+        assertFalse(result.matched());
+        assertEquals("was \"b\"", describedMismatchOf(result));
+    }
+
+    @Test public void
+    evaluatesADiagnosingMatcherOnlyOnce() {
+        CountingMatcher counting = new CountingMatcher();
+
+        MatchResult result = counting.evaluate("irrelevant");
+
+        assertFalse(result.matched());
+        assertEquals("mismatch 1", describedMismatchOf(result));
+        assertEquals("mismatch 1", describedMismatchOf(result));
+        assertEquals(1, counting.evaluations);
+    }
+
+    @Test public void
+    describesTypeMismatchesOfTypeSafeDiagnosingMatchersWithoutEvaluating() {
+        CountingMatcher counting = new CountingMatcher();
+
+        assertEquals("was null", describedMismatchOf(counting.evaluate(null)));
+        assertEquals("was Integer <3>", describedMismatchOf(counting.evaluate(3)));
+        assertEquals(0, counting.evaluations);
+    }
+
+    @Test public void
+    combinatorsEvaluateTheirChildrenOnlyOnce() {
+        CountingMatcher counting = new CountingMatcher();
+        Matcher<Iterable<? extends String>> matcher = everyItem(is(allOf(equalTo("irrelevant"), counting)));
+
+        MatchResult result = matcher.evaluate(asList("irrelevant"));
+
+        assertFalse(result.matched());
+        assertEquals("an item a counting matcher mismatch 1", describedMismatchOf(result));
+        assertEquals(1, counting.evaluations);
+    }
+
+    @Test public void
+    rejectsANullMismatch() {
+        assertThrows(IllegalArgumentException.class, () -> MatchResult.mismatch(null));
+    }
+
+    private static String describedMismatchOf(MatchResult result) {
+        Description description = new StringDescription();
+        result.describeMismatch(description);
+        return description.toString();
+    }
+
+    static final class CountingMatcher extends TypeSafeDiagnosingMatcher<String> {
+        int evaluations = 0;
+
+        @Override
+        protected boolean matchesSafely(String item, Description mismatchDescription) {
+            evaluations++;
+            mismatchDescription.appendText("mismatch ").appendText(String.valueOf(evaluations));
+            return false;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText("a counting matcher");
+        }
+    }
+
+}
@@ -2,8 +2,12 @@ package org.hamcrest;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsIterableContaining.hasItem;
 import static org.junit.jupiter.api.Assertions.*;
 
 public final class MatcherAssertTest {
@@ -92,9 +96,37 @@ public final class MatcherAssertTest {
         }
     }
 
+    @Test public void
+    evaluatesDiagnosingMatchersOnlyOnceWhenReportingAMismatch() {
+        MatchResultTest.CountingMatcher counting = new MatchResultTest.CountingMatcher();
+        String endLine = System.lineSeparator();
+
+        try {
+            assertThat("irrelevant", counting);
+            fail("should have failed");
+        }
+        catch (AssertionError e) {
+            assertEquals(endLine + "Expected: a counting matcher" + endLine + "     but: mismatch 1", e.getMessage());
+        }
+        assertEquals(1, counting.evaluations);
+    }
+
     @Test public void
     canAssertSubtypes() {
         assertThat(1, equalTo((Number) 1));
     }
 
+    @Test public void
+    keepsTheMismatchDescriptionOfAHugeCollectionWithinBudget() {
+        List<Integer> huge = new ArrayList<>();
+        for (int i = 0; i < 1_000_000; i++) {
+            huge.add(i);
+        }
+
+        AssertionError e = assertThrows(AssertionError.class, () -> assertThat(huge, hasItem(-1)));
+
+        assertTrue(e.getMessage().endsWith(", was <999>, ... 999,000 more]"), e.getMessage());
+        assertTrue(e.getMessage().length() < DescriptionBudget.DEFAULT.maxLength());
+    }
+
 }
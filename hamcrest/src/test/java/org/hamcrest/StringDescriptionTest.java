@@ -0,0 +1,143 @@
+package org.hamcrest;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class StringDescriptionTest {
+
+    @Test public void
+    writesToTheGivenStringBuilder() {
+        StringBuilder out = new StringBuilder("prefix ");
+
+        new StringDescription(out).appendText("text ").appendValue("a\tb").appendValue('c');
+
+        assertEquals("prefix text \"a\\tb\"\"c\"", out.toString());
+    }
+
+    @Test public void
+    writesToAnyAppendable() {
+        StringBuffer out = new StringBuffer();
+
+        new StringDescription(out).appendText("text ").appendValue("a\tb").appendValue('c');
+
+        assertEquals("text \"a\\tb\"\"c\"", out.toString());
+    }
+
+    @Test public void
+    wrapsFailuresOfTheAppendable() {
+        Description description = new StringDescription(new Appendable() {
+            @Override public Appendable append(CharSequence csq) throws IOException { throw new IOException(); }
+            @Override public Appendable append(CharSequence csq, int start, int end) throws IOException { throw new IOException(); }
+            @Override public Appendable append(char c) throws IOException { throw new IOException(); }
+        });
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> description.appendValue("a\tb"));
+        assertEquals("Could not write description", e.getMessage());
+        assertTrue(e.getCause() instanceof IOException);
+    }
+
+    @Test public void
+    elidesListElementsBeyondTheBudget() {
+        Description description = new StringDescription(DescriptionBudget.unlimited().withMaxElements(3));
+
+        description.appendValueList("[", ", ", "]", range(5_000_000));
+
+        assertEquals("[<0>, <1>, <2>, ... 4,999,997 more]", description.toString());
+    }
+
+    @Test public void
+    elidesArrayElementsAndElementsOfIterablesOfUnknownSize() {
+        DescriptionBudget budget = DescriptionBudget.unlimited().withMaxElements(2);
+
+        assertEquals("[<1>, <2>, ... 2 more]", new StringDescription(budget).appendValue(new int[] {1, 2, 3, 4}).toString());
+        Iterable<Integer> unsized = () -> range(10).iterator();
+        assertEquals("{<0>; <1>; ...}", new StringDescription(budget).appendValueList("{", "; ", "}", unsized).toString());
+        assertEquals("[<1>, <2>]", new StringDescription(budget).appendValue(new int[] {1, 2}).toString());
+    }
+
+    @Test public void
+    describesOnlyTheElementsOfCollectionsAndMapsWithinTheBudget() {
+        DescriptionBudget budget = DescriptionBudget.unlimited().withMaxElements(3);
+        Map<Integer, Integer> huge = new AbstractMap<Integer, Integer>() {
+            @Override public Set<Entry<Integer, Integer>> entrySet() {
+                return new AbstractSet<Entry<Integer, Integer>>() {
+                    @Override public Iterator<Entry<Integer, Integer>> iterator() {
+                        Iterator<Integer> keys = range(Integer.MAX_VALUE).iterator();
+                        return new Iterator<Entry<Integer, Integer>>() {
+                            @Override public boolean hasNext() { return keys.hasNext(); }
+                            @Override public Entry<Integer, Integer> next() { int key = keys.next(); return new SimpleEntry<>(key, -key); }
+                        };
+                    }
+
+                    @Override public int size() {
+                        return Integer.MAX_VALUE;
+                    }
+                };
+            }
+        };
+
+        assertEquals("<[0, 1, 2, ... 2,147,483,644 more]>", new StringDescription(budget).appendValue(range(Integer.MAX_VALUE)).toString());
+        assertEquals("<{0=0, 1=-1, 2=-2, ... 2,147,483,644 more}>", new StringDescription(budget).appendValue(huge).toString());
+        assertEquals("<[a, null]>", new StringDescription().appendValue(Arrays.asList("a", null)).toString());
+        assertEquals("<{a=1}>", new StringDescription().appendValue(Collections.singletonMap("a", 1)).toString());
+    }
+
+    @Test public void
+    elidesTheCharactersOfLongValues() {
+        Description description = new StringDescription(DescriptionBudget.unlimited().withMaxValueLength(4));
+        Object value = new Object() {
+            @Override public String toString() {
+                return "0123456789";
+            }
+        };
+
+        description.appendValue("abcdefgh").appendText(" ").appendValue(value).appendText(" ").appendValue("a\tb");
+
+        assertEquals("\"abcd... 4 more chars\" <0123... 6 more chars> \"a\\tb\"", description.toString());
+    }
+
+    @Test public void
+    truncatesTheWholeDescriptionAndStopsDescribing() {
+        List<Object> described = new ArrayList<>();
+        Description description = new StringDescription(DescriptionBudget.unlimited().withMaxLength(12));
+
+        description.appendText("values ").appendList("[", ", ", "]", Arrays.<SelfDescribing>asList(
+            d -> { described.add(1); d.appendValue(1); },
+            d -> { described.add(2); d.appendValue(2); },
+            d -> { described.add(3); d.appendValue(3); }));
+
+        assertEquals("values [<1>,...", description.toString());
+        assertEquals(Arrays.<Object>asList(1, 2), described);
+    }
+
+    @Test public void
+    rejectsLimitsThatAreNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> DescriptionBudget.unlimited().withMaxElements(0));
+    }
+
+    private static List<Integer> range(int size) {
+        return new AbstractList<Integer>() {
+            @Override public Integer get(int index) {
+                return index;
+            }
+
+            @Override public int size() {
+                return size;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,65 @@
+package org.hamcrest.beans;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class BeanMetadataTest {
+
+    private final HasPropertyWithValueTest.BeanWithoutInfo bean = new HasPropertyWithValueTest.BeanWithoutInfo("a bean", true);
+    private final HasPropertyWithValueTest.RecordLikeBeanWithoutInfo record = new HasPropertyWithValueTest.RecordLikeBeanWithoutInfo("a record", true);
+
+    @Test public void
+    isSharedByEveryLookupOfAClass() {
+        assertSame(BeanMetadata.of(HasPropertyWithValueTest.BeanWithoutInfo.class),
+                   BeanMetadata.of(HasPropertyWithValueTest.BeanWithoutInfo.class));
+    }
+
+    @Test public void
+    readsJavaBeanProperties() throws Exception {
+        BeanMetadata metadata = BeanMetadata.of(bean.getClass());
+
+        assertEquals("a bean", metadata.accessor("property").read(bean));
+        assertEquals(true, metadata.accessor("booleanProperty").read(bean));
+        assertNull(metadata.accessor("aNonExistentProp"));
+    }
+
+    @Test public void
+    readsRecordLikeAccessors() throws Exception {
+        BeanMetadata metadata = BeanMetadata.of(record.getClass());
+
+        assertEquals("a record", metadata.accessor("property").read(record));
+        assertEquals(true, metadata.accessor("booleanProperty").read(record));
+        assertNull(metadata.accessor("notAGetterMethod"));
+    }
+
+    @Test public void
+    knowsWriteOnlyPropertiesAreNotReadable() {
+        BeanMetadata.Accessor property = BeanMetadata.of(bean.getClass()).accessor("writeOnlyProperty");
+
+        assertNotNull(property);
+        assertFalse(property.isReadable());
+    }
+
+    @Test public void
+    listsOwnPropertiesByDisplayName() {
+        assertEquals(new HashSet<>(Arrays.asList("property", "booleanProperty", "writeOnlyProperty")),
+                     BeanMetadata.of(bean.getClass()).ownPropertyNames());
+        assertEquals(new HashSet<>(Arrays.asList("property", "booleanProperty")),
+                     BeanMetadata.of(record.getClass()).ownPropertyNames());
+    }
+
+    @Test public void
+    reportsWhatTheReadMethodThrows() {
+        BeanMetadata.Accessor property = BeanMetadata.of(HasPropertyWithValueTest.BeanWithBug.class).accessor("broken");
+
+        InvocationTargetException e = assertThrows(InvocationTargetException.class,
+                () -> property.read(new HasPropertyWithValueTest.BeanWithBug()));
+        assertEquals("bean failed", e.getTargetException().getMessage());
+    }
+
+}
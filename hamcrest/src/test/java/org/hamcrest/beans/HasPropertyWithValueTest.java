@@ -8,6 +8,8 @@ import org.junit.jupiter.api.Test;
 import java.beans.IntrospectionException;
 import java.beans.PropertyDescriptor;
 import java.beans.SimpleBeanInfo;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Objects;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -18,6 +20,7 @@ import static org.hamcrest.beans.HasPropertyWithValue.hasPropertyAtPath;
 import static org.hamcrest.core.IsAnything.anything;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * @author Iain McGinniss
@@ -118,6 +121,56 @@ public class HasPropertyWithValueTest extends AbstractMatcherTest {
     assertMismatchDescription("inner.inner.property.was \"not expected\"", hasPropertyAtPath("inner.inner.property", equalTo("something")), new BeanWithInner(new BeanWithInner(recordShouldNotMatch)));
   }
 
+  @Test
+  public void testMatchesIndexedPath() {
+    BeanWithInner withList = new BeanWithInner(Arrays.asList(shouldNotMatch, shouldMatch));
+    BeanWithInner withArray = new BeanWithInner(new BeanWithoutInfo[] { shouldNotMatch, shouldMatch });
+    BeanWithInner withMap = new BeanWithInner(Collections.singletonMap("key", shouldMatch));
+
+    assertMatches("list element", hasPropertyAtPath("inner[1].property", equalTo("is expected")), withList);
+    assertMatches("array element", hasPropertyAtPath("inner[1].property", equalTo("is expected")), withArray);
+    assertMatches("map entry", hasPropertyAtPath("inner[key].property", equalTo("is expected")), withMap);
+    assertMatches("primitive array element", hasPropertyAtPath("inner[2]", equalTo(3)), new BeanWithInner(new int[] { 1, 2, 3 }));
+    assertMatches("nested indexes", hasPropertyAtPath("inner[0][1]", equalTo("b")), new BeanWithInner(Arrays.asList(Arrays.asList("a", "b"))));
+
+    assertMismatchDescription("inner[0].property.was \"not expected\"", hasPropertyAtPath("inner[0].property", equalTo("is expected")), withList);
+    assertMismatchDescription("inner has no element [2], size was 2", hasPropertyAtPath("inner[2].property", anything()), withArray);
+    assertMismatchDescription("inner has no key \"other\"", hasPropertyAtPath("inner[other].property", anything()), withMap);
+    assertMismatchDescription("inner is not a list, array or map: <[Person: is expected]>", hasPropertyAtPath("inner[0]", anything()), new BeanWithInner(shouldMatch));
+  }
+
+  @Test
+  public void testReportsWhichStepOfThePathWasNull() {
+    assertMismatchDescription("inner was null", hasPropertyAtPath("inner.property", anything()), new BeanWithInner(null));
+    assertMismatchDescription("inner.inner was null", hasPropertyAtPath("inner.inner.property", anything()), new BeanWithInner(new BeanWithInner(null)));
+    assertMismatchDescription("inner[0] was null", hasPropertyAtPath("inner[0].property", anything()), new BeanWithInner(Arrays.asList((Object) null)));
+    assertMatches("null at the end of the path", hasPropertyAtPath("inner.inner", equalTo(null)), new BeanWithInner(new BeanWithInner(null)));
+  }
+
+  @Test
+  public void testMatchesPathOverBeansOfDifferentClasses() {
+    Matcher<Object> matcher = hasPropertyAtPath("inner.property", equalTo("is expected"));
+
+    assertMatches(matcher, new BeanWithInner(shouldMatch));
+    assertMatches(matcher, new BeanWithInner(recordShouldMatch));
+    assertMismatchDescription("inner.No property \"property\"", matcher, new BeanWithInner(new BeanWithInner(null)));
+    assertMatches(matcher, new BeanWithInner(shouldMatch));
+  }
+
+  @Test
+  public void testDescribesPath() {
+    assertDescription("hasProperty(\"inner\", hasProperty(\"items[3]\", hasProperty(\"sku\", \"X\")))",
+        hasPropertyAtPath("inner.items[3].sku", equalTo("X")));
+  }
+
+  @Test
+  public void testRejectsMalformedPaths() {
+    assertThrows(IllegalArgumentException.class, () -> hasPropertyAtPath("inner..property", anything()));
+    assertThrows(IllegalArgumentException.class, () -> hasPropertyAtPath("inner[0", anything()));
+    assertThrows(IllegalArgumentException.class, () -> hasPropertyAtPath("inner[]", anything()));
+    assertThrows(IllegalArgumentException.class, () -> hasPropertyAtPath("inner[0]property", anything()));
+  }
+
   @Test
   public void testDescribeTo() {
     assertDescription("hasProperty(\"property\", <true>)", hasProperty("property", equalTo(true)));
@@ -67,6 +67,11 @@ public class SamePropertyValuesAsTest extends AbstractMatcherTest {
         samePropertyValuesAs(expectedBean), new SubBeanWithExtraProperty("same", 1, aValue));
   }
 
+  @Test
+  public void test_counts_only_bean_properties_of_the_actual_as_extra() {
+    assertMatches("record-like accessors of a subtype", samePropertyValuesAs(new WithoutProperties()), new RecordLikeSubtype("extra"));
+  }
+
   @Test
   public void test_ignores_extra_subtype_properties() {
     final SubBeanWithExtraProperty withExtraProperty = new SubBeanWithExtraProperty("same", 1, aValue);
@@ -208,4 +213,18 @@ public class SamePropertyValuesAsTest extends AbstractMatcherTest {
     public String getExtraProperty() { return "extra"; }
   }
 
+  public static class WithoutProperties {
+  }
+
+  @SuppressWarnings("unused")
+  public static class RecordLikeSubtype extends WithoutProperties {
+    private final String extraProperty;
+
+    public RecordLikeSubtype(String extraProperty) {
+      this.extraProperty = extraProperty;
+    }
+
+    public String extraProperty() { return extraProperty; }
+  }
+
 }
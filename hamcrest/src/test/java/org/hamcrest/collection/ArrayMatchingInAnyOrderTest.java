@@ -5,6 +5,7 @@ import org.hamcrest.Matcher;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.test.MatcherAssertions.*;
+import static org.hamcrest.core.IsAnything.anything;
 import static org.hamcrest.core.IsEqual.equalTo;
 
 public class ArrayMatchingInAnyOrderTest extends AbstractMatcherTest {
@@ -29,6 +30,12 @@ public class ArrayMatchingInAnyOrderTest extends AbstractMatcherTest {
       assertMatches("single", ArrayMatching.arrayContainingInAnyOrder(1), new Integer[] {1});
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMatchesWhenMatchersOverlap() {
+      assertMatches(ArrayMatching.arrayContainingInAnyOrder(anything(), equalTo(1)), new Integer[] {1, 2});
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void testAppliesMatchersInAnyOrder() {
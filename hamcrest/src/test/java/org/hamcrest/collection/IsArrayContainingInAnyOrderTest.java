@@ -2,6 +2,7 @@ package org.hamcrest.collection;
 
 import static org.hamcrest.test.MatcherAssertions.*;
 import static org.hamcrest.collection.IsArrayContainingInAnyOrder.arrayContainingInAnyOrder;
+import static org.hamcrest.core.IsAnything.anything;
 import static org.hamcrest.core.IsEqual.equalTo;
 
 import org.hamcrest.test.AbstractMatcherTest;
@@ -38,6 +39,12 @@ public class IsArrayContainingInAnyOrderTest extends AbstractMatcherTest {
       assertMatches("single", arrayContainingInAnyOrder(equalTo(1)), new Integer[] {1});
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMatchesWhenMatchersOverlap() {
+      assertMatches(arrayContainingInAnyOrder(anything(), equalTo(1)), new Integer[] {1, 2});
+    }
+
     @Test
     public void testMismatchesItemsInAnyOrder() {
       Matcher<Integer[]> matcher = arrayContainingInAnyOrder(1, 2, 3);
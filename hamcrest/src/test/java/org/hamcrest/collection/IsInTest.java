@@ -5,12 +5,19 @@ import org.hamcrest.Matcher;
 import org.hamcrest.StringDescription;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 
 import static org.hamcrest.test.MatcherAssertions.assertDoesNotMatch;
 import static org.hamcrest.test.MatcherAssertions.assertMatches;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 public class IsInTest extends AbstractMatcherTest {
 
@@ -52,4 +59,103 @@ public class IsInTest extends AbstractMatcherTest {
                 "description");
     }
 
+    @Test
+    public void testMatchesNullOnlyIfTheCollectionContainsNull() {
+        assertMatches("null", new IsIn<>(Arrays.asList("a", null)), null);
+        assertDoesNotMatch("null", new IsIn<>(elements), null);
+    }
+
+    @Test
+    public void testComparesArraysByTheirElements() {
+        Matcher<Object> isIn = new IsIn<>(Arrays.<Object>asList(new int[] {1, 2}, "a"));
+
+        assertMatches("equal array", isIn, new int[] {1, 2});
+        assertDoesNotMatch("different array", isIn, new int[] {1, 3});
+    }
+
+    @Test
+    public void testDoesNotSeeLaterChangesToTheCollection() {
+        List<String> collection = new ArrayList<>(Arrays.asList(elements));
+        Matcher<String> isIn = new IsIn<>(collection);
+        collection.add("d");
+
+        assertDoesNotMatch("d", isIn, "d");
+        assertEquals("one of {\"a\", \"b\", \"c\"}", StringDescription.toString(isIn));
+    }
+
+    @Test
+    public void testUsesTheContainsOfCollectionsWithTheirOwnEquality() {
+        TreeSet<String> caseInsensitive = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        caseInsensitive.addAll(Arrays.asList(elements));
+        Set<String> identity = Collections.newSetFromMap(new IdentityHashMap<>());
+        String a = new String("a");
+        identity.add(a);
+
+        assertMatches("case insensitive", new IsIn<>(caseInsensitive), "B");
+        assertMatches("same instance", new IsIn<>(identity), a);
+        assertDoesNotMatch("equal instance", new IsIn<>(identity), "a");
+    }
+
+    @Test
+    public void testMatchesElementsThatOverrideOnlyEquals() {
+        List<EqualsOnly> keys = Arrays.asList(new EqualsOnly(1), new EqualsOnly(2));
+
+        assertMatches("in list", IsIn.in(keys), new EqualsOnly(2));
+        assertMatches("in array", IsIn.in(keys.toArray(new EqualsOnly[0])), new EqualsOnly(2));
+        assertMatches("one of", IsIn.oneOf(new EqualsOnly(1), new EqualsOnly(2)), new EqualsOnly(2));
+        assertMatches("mixed with strings", IsIn.in(Arrays.<Object>asList("a", new EqualsOnly(2))), new EqualsOnly(2));
+        assertDoesNotMatch("different key", IsIn.in(keys), new EqualsOnly(3));
+    }
+
+    @Test
+    public void testMatchesOnlyValuesOfTheSameNumericType() {
+        Matcher<Object> integers = new IsIn<>(Arrays.<Object>asList(1, 2, 3));
+
+        assertMatches("integer", integers, 2);
+        assertDoesNotMatch("long", integers, 2L);
+        assertDoesNotMatch("string", integers, "2");
+    }
+
+    @Test
+    public void testMatchesIntsAndLongs() {
+        int[] ints = new int[1000];
+        long[] longs = new long[1000];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = i * 7 - 3000;
+            longs[i] = (i * 7L - 3000) << 32;
+        }
+        Matcher<Integer> intIn = IsIn.in(ints);
+        Matcher<Long> longIn = IsIn.in(longs);
+
+        for (int i = -3500; i < 4500; i++) {
+            boolean expected = i >= -3000 && i < 4000 && Math.floorMod(i, 7) == Math.floorMod(-3000, 7);
+            assertEquals(expected, intIn.matches(i), "int " + i);
+            assertEquals(expected, longIn.matches((long) i << 32), "long " + i);
+        }
+        assertFalse(intIn.matches(4L), "long");
+        assertDoesNotMatch("null", intIn, null);
+        assertEquals("one of {<1>, <0>}", StringDescription.toString(IsIn.in(new int[] {1, 0})));
+        assertEquals("one of {<1L>, <0L>}", StringDescription.toString(IsIn.in(new long[] {1L, 0L})));
+        assertMatches("zero", IsIn.in(new long[] {0L}), 0L);
+        assertDoesNotMatch("zero", IsIn.in(new int[] {1}), 0);
+    }
+
+    private static final class EqualsOnly {
+        private final int key;
+
+        EqualsOnly(int key) {
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof EqualsOnly && ((EqualsOnly) other).key == key;
+        }
+
+        @Override
+        public String toString() {
+            return "key " + key;
+        }
+    }
+
 }
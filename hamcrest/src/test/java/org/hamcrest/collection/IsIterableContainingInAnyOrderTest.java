@@ -5,13 +5,20 @@ import org.hamcrest.Matcher;
 import org.hamcrest.collection.IsIterableContainingInOrderTest.WithValue;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
 
 import static java.util.Arrays.asList;
 import static org.hamcrest.test.MatcherAssertions.*;
 import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
 import static org.hamcrest.collection.IsIterableContainingInOrderTest.make;
 import static org.hamcrest.collection.IsIterableContainingInOrderTest.value;
+import static org.hamcrest.core.IsAnything.anything;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.number.OrderingComparison.greaterThan;
 
 public class IsIterableContainingInAnyOrderTest extends AbstractMatcherTest {
 
@@ -57,6 +64,51 @@ public class IsIterableContainingInAnyOrderTest extends AbstractMatcherTest {
         assertMismatchDescription("no item matches: <4> in [<1>, <2>, <3>]", containsInAnyOrder(1, 2, 3, 4), asList(1, 2, 3));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMatchesWhenMatchersOverlap() {
+        final Matcher<Iterable<? extends Integer>> overlapping = containsInAnyOrder(anything(), equalTo(1));
+        assertMatches("anything first", overlapping, asList(1, 2));
+        assertMatches("anything last", overlapping, asList(2, 1));
+        assertMismatchDescription("not matched: <3>", overlapping, asList(2, 3));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMatchesWhenEarlierItemsMustGiveUpTheirMatchers() {
+        final Matcher<Iterable<? extends Integer>> matcher = containsInAnyOrder(
+            greaterThan(0), greaterThan(1), greaterThan(2), equalTo(1));
+        assertMatches(matcher, asList(3, 2, 5, 1));
+        assertMatches(matcher, asList(1, 3, 4, 2));
+    }
+
+    @Test
+    public void testDoesNotMatchIfThereAreMoreElementsThanMatchersThatAllMatch() {
+        assertMismatchDescription("no match for: <1>", containsInAnyOrder(1, 1), asList(1, 1, 1));
+    }
+
+    @Test
+    public void testStopsReadingOnceThereAreMoreElementsThanMatchers() {
+        final Iterable<Integer> naturals = () -> new Iterator<Integer>() {
+            private int next = 0;
+            @Override public boolean hasNext() { return true; }
+            @Override public Integer next() { return next++; }
+        };
+        assertMismatchDescription("no match for: <2>", containsInAnyOrder(1, 0), naturals);
+        assertMismatchDescription("not matched: <1>", containsInAnyOrder(0, 2), naturals);
+    }
+
+    @Test
+    public void testMatchesLargeShuffledIterables() {
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            expected.add(i);
+        }
+        final List<Integer> actual = new ArrayList<>(expected);
+        Collections.shuffle(actual, new Random(42));
+        assertMatches(containsInAnyOrder(expected.toArray(new Integer[0])), actual);
+    }
+
     @Test
     public void testHasAReadableDescription() {
         assertDescription("iterable with items [<1>, <2>] in any order", containsInAnyOrder(1, 2));
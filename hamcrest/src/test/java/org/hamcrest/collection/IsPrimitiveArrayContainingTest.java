@@ -0,0 +1,71 @@
+package org.hamcrest.collection;
+
+import org.hamcrest.Matcher;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.collection.IsPrimitiveArrayContaining.*;
+import static org.hamcrest.test.MatcherAssertions.*;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public final class IsPrimitiveArrayContainingTest {
+
+    @Test public void
+    copesWithNullsAndUnknownTypes() {
+        Matcher<int[]> matcher = intArrayContaining(1, 2);
+
+        assertNullSafe(matcher);
+        assertUnknownTypeSafe(matcher);
+        assertFalse(matcher.matches(new long[]{1L, 2L}), "long[]");
+    }
+
+    @Test public void
+    matchesElementsInOrder() {
+        assertMatches(intArrayContaining(1, 2, 3), new int[]{1, 2, 3});
+        assertMatches(longArrayContaining(), new long[0]);
+        assertMatches(doubleArrayContaining(1.0, Double.NaN), new double[]{1.0, Double.NaN});
+        assertDoesNotMatch(intArrayContaining(1, 2, 3), new int[]{3, 2, 1});
+        assertDoesNotMatch(doubleArrayContaining(0.0), new double[]{-0.0});
+    }
+
+    @Test public void
+    describesTheFirstElementThatDiffersInOrder() {
+        assertMismatchDescription("element <1> was <3>", intArrayContaining(1, 2, 3), new int[]{1, 3, 2});
+        assertMismatchDescription("array length was <2>", longArrayContaining(1L, 2L, 3L), new long[]{1L, 2L});
+        assertMismatchDescription("array length was <4>", longArrayContaining(1L, 2L, 3L), new long[]{1L, 2L, 3L, 4L});
+    }
+
+    @Test public void
+    matchesElementsInAnyOrder() {
+        assertMatches(intArrayContainingInAnyOrder(1, 2, 2, 3), new int[]{2, 3, 1, 2});
+        assertMatches(longArrayContainingInAnyOrder(5L, -1L), new long[]{-1L, 5L});
+        assertMatches(doubleArrayContainingInAnyOrder(Double.NaN, 1.0), new double[]{1.0, Double.NaN});
+        assertDoesNotMatch(intArrayContainingInAnyOrder(1, 2, 2), new int[]{1, 1, 2});
+        assertDoesNotMatch(intArrayContainingInAnyOrder(1, 2), new int[]{1, 2, 3});
+    }
+
+    @Test public void
+    describesTheElementThatIsMissingOrLeftOverInAnyOrder() {
+        assertMismatchDescription("not matched: <4>", intArrayContainingInAnyOrder(1, 2, 3), new int[]{4, 1, 2});
+        assertMismatchDescription("no item matches: <3>", intArrayContainingInAnyOrder(1, 2, 3), new int[]{2, 1});
+        assertMismatchDescription("not matched: <5>", intArrayContainingInAnyOrder(1, 2, 3), new int[]{3, 1, 5});
+        assertMismatchDescription("no item matches: <2>", intArrayContainingInAnyOrder(1, 2, 3), new int[]{3, 1});
+        assertMismatchDescription("not matched: <1>", intArrayContainingInAnyOrder(2), new int[]{1, 2});
+        assertMismatchDescription("not matched: <9L>", longArrayContainingInAnyOrder(1L), new long[]{1L, 9L});
+    }
+
+    @Test public void
+    doesNotDependOnLaterChangesToTheExpectedArray() {
+        int[] items = {1, 2};
+        Matcher<int[]> matcher = intArrayContaining(items);
+        items[0] = 7;
+
+        assertMatches(matcher, new int[]{1, 2});
+    }
+
+    @Test public void
+    hasAReadableDescription() {
+        assertDescription("[<1>, <2>]", intArrayContaining(1, 2));
+        assertDescription("[<1L>, <2L>] in any order", longArrayContainingInAnyOrder(1L, 2L));
+    }
+
+}
@@ -0,0 +1,116 @@
+package org.hamcrest.core;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.AllOf.adaptiveAllOf;
+import static org.hamcrest.core.AnyOf.adaptiveAnyOf;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.StringEndsWith.endsWith;
+import static org.hamcrest.core.StringStartsWith.startsWith;
+import static org.hamcrest.test.MatcherAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class AdaptiveOrderTest {
+
+    @Test public void
+    adaptiveAllOfGivesTheSameVerdictsAsAllOf() {
+        Matcher<String> matcher = adaptiveAllOf(startsWith("goo"), endsWith("ood"));
+
+        assertNullSafe(matcher);
+        assertUnknownTypeSafe(matcher);
+        for (int i = 0; i < 1000; i++) {
+            assertMatches(matcher, "good");
+            assertDoesNotMatch(matcher, "mood");
+            assertDoesNotMatch(matcher, "goon");
+        }
+    }
+
+    @Test public void
+    adaptiveAnyOfGivesTheSameVerdictsAsAnyOf() {
+        Matcher<String> matcher = adaptiveAnyOf(startsWith("goo"), endsWith("ood"));
+
+        assertNullSafe(matcher);
+        assertUnknownTypeSafe(matcher);
+        for (int i = 0; i < 1000; i++) {
+            assertMatches(matcher, "mood");
+            assertMatches(matcher, "goon");
+            assertDoesNotMatch(matcher, "flan");
+        }
+    }
+
+    @Test public void
+    describesInDeclarationOrder() {
+        Matcher<String> matcher = adaptiveAllOf(equalTo("good"), equalTo("bad"));
+
+        for (int i = 0; i < 1000; i++) {
+            matcher.matches("bad");
+        }
+
+        assertDescription("(\"good\" and \"bad\")", matcher);
+        assertMismatchDescription("\"good\" was \"bad\"", matcher, "bad");
+        assertDescription("(\"good\" or \"bad\")", adaptiveAnyOf(equalTo("good"), equalTo("bad")));
+    }
+
+    @Test public void
+    triesCheapDecisiveMatchersFirst() {
+        SlowMatcher slow = new SlowMatcher();
+        AdaptiveOrder order = new AdaptiveOrder(asList(slow, equalTo("fast")));
+
+        for (int i = 0; i < 10_000; i++) {
+            order.matches("slow", false);
+        }
+        order.reorder();
+
+        assertArrayEquals(new int[] {1, 0}, order.order());
+    }
+
+    @Test public void
+    canBeEvaluatedConcurrently() throws Exception {
+        Matcher<String> matcher = adaptiveAllOf(startsWith("a"), endsWith("z"), equalTo("abcz"));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                results.add(executor.submit(() -> {
+                    boolean correct = true;
+                    for (int i = 0; i < 20_000; i++) {
+                        correct &= matcher.matches("abcz") && !matcher.matches("abcy") && !matcher.matches("bz");
+                    }
+                    return correct;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static final class SlowMatcher extends BaseMatcher<String> {
+        @Override
+        public boolean matches(Object actual) {
+            long until = System.nanoTime() + 2_000;
+            while (System.nanoTime() < until) {
+                Thread.yield();
+            }
+            return true;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText("slow");
+        }
+    }
+
+}
@@ -0,0 +1,139 @@
+package org.hamcrest.core;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.AllOf.allOf;
+import static org.hamcrest.core.AnyOf.anyOf;
+import static org.hamcrest.core.CombinableMatcher.either;
+import static org.hamcrest.core.CompiledMatcher.compile;
+import static org.hamcrest.core.DescribedAs.describedAs;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsAnything.anything;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsNull.notNullValue;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.hamcrest.core.StringStartsWith.startsWith;
+import static org.hamcrest.test.MatcherAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class CompiledMatcherTest {
+
+    private static final Object SAME = new Object();
+
+    @Test public void
+    copesWithNullsAndUnknownTypes() {
+        Matcher<Object> matcher = compile(allOf(notNullValue(), equalTo((Object) "irrelevant")));
+
+        assertNullSafe(matcher);
+        assertUnknownTypeSafe(matcher);
+    }
+
+    @Test public void
+    givesTheSameVerdictsAsTheSourceTree() {
+        Matcher<Object> source = anyOf(
+                allOf(instanceOf(String.class), not(equalTo((Object) "b")), describedAs("custom", is(anything()))),
+                is(sameInstance(SAME)),
+                allOf(instanceOf(Integer.class), anyOf(equalTo((Object) 1), equalTo((Object) 2))),
+                nullValue(),
+                equalTo((Object) new int[] {1, 2}));
+        Matcher<Object> compiled = compile(source);
+
+        for (Object value : asList("a", "b", SAME, new Object(), 1, 2, 3, null, new int[] {1, 2}, new int[] {1}, 1L)) {
+            assertEquals(source.matches(value), compiled.matches(value), "verdict for " + value);
+        }
+    }
+
+    @Test public void
+    hasTheDescriptionOfTheSourceTree() {
+        Matcher<String> source = allOf(startsWith("g"), not(equalTo("goon")));
+
+        assertDescription(source.toString(), compile(source));
+    }
+
+    @Test public void
+    hasTheMismatchDescriptionOfTheSourceTree() {
+        Matcher<String> source = allOf(startsWith("g"), not(equalTo("goon")));
+
+        assertMismatchDescription(mismatchDescription(source, "goon"), compile(source), "goon");
+        assertEquals(mismatchDescription(source, "mood"), compile(source).evaluate("mood").toString());
+    }
+
+    @Test public void
+    combinesEitherOr() {
+        Matcher<Integer> compiled = compile(either(equalTo(3)).or(equalTo(4)));
+
+        assertMatches(compiled, 3);
+        assertMatches(compiled, 4);
+        assertDoesNotMatch(compiled, 5);
+        assertDoesNotMatch(compiled, null);
+    }
+
+    @Test public void
+    delegatesToUnknownMatchersAndSubclassesOfKnownOnes() {
+        List<Object> seen = new ArrayList<>();
+        Matcher<Object> recording = new BaseMatcher<Object>() {
+            @Override public boolean matches(Object actual) { seen.add(actual); return true; }
+            @Override public void describeTo(Description description) { }
+        };
+        Matcher<Object> alwaysEqual = new IsEqual<Object>("x") {
+            @Override public boolean matches(Object actualValue) { return true; }
+        };
+        Matcher<Object> compiled = compile(allOf(recording, alwaysEqual));
+
+        assertMatches(compiled, "y");
+        assertEquals(asList((Object) "y"), seen);
+    }
+
+    @Test public void
+    shortCircuitsInDeclarationOrder() {
+        List<String> evaluated = new ArrayList<>();
+        Matcher<Object> compiled = compile(anyOf(recording("first", false, evaluated), recording("second", true, evaluated), recording("third", true, evaluated)));
+
+        assertMatches(compiled, "irrelevant");
+        assertEquals(asList("first", "second"), evaluated);
+    }
+
+    @Test public void
+    keepsLearningTheOrderOfAdaptiveCombinations() {
+        List<String> evaluated = new ArrayList<>();
+        AnyOf<Object> source = AnyOf.adaptiveAnyOf(asList(recording("rarely", false, evaluated), recording("often", true, evaluated)));
+        Matcher<Object> compiled = compile(source);
+
+        for (int i = 0; i < 10_000; i++) {
+            compiled.matches("irrelevant");
+        }
+        source.adaptiveOrder.reorder();
+        evaluated.clear();
+
+        assertArrayEquals(new int[] {1, 0}, source.adaptiveOrder.order());
+        assertMatches(compiled, "irrelevant");
+        assertEquals(asList("often"), evaluated);
+        assertDoesNotMatch(compile(AllOf.adaptiveAllOf(recording("fails", false, evaluated), anything())), "irrelevant");
+    }
+
+    @Test public void
+    compilesOnlyOnce() {
+        CompiledMatcher<Object> compiled = compile(anything());
+
+        assertSame(compiled, compile(compiled));
+        assertTrue(compile(not(compiled)).test("x") == false);
+    }
+
+    private static Matcher<Object> recording(String name, boolean result, List<String> evaluated) {
+        return new BaseMatcher<Object>() {
+            @Override public boolean matches(Object actual) { evaluated.add(name); return result; }
+            @Override public void describeTo(Description description) { description.appendText(name); }
+        };
+    }
+
+}
@@ -1,14 +1,20 @@
 package org.hamcrest.core;
 
+import org.hamcrest.Description;
 import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.test.MatcherAssertions.*;
 import static org.hamcrest.core.StringContains.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public final class EveryTest {
 
@@ -41,4 +47,41 @@ public final class EveryTest {
         assertMismatchDescription("an item was \"BXB\"", matcher, singletonList("BXB"));
     }
 
+    @Test public void
+    inParallelReportsTheEarliestMismatch() {
+        List<String> items = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            items.add("a" + i);
+        }
+        items.set(70_000, "X70000");
+        items.set(90_000, "X90000");
+        Matcher<Iterable<? extends String>> parallel = Every.everyItemInParallel(containsString("a"));
+
+        assertNullSafe(parallel);
+        assertUnknownTypeSafe(parallel);
+        assertMismatchDescription("an item was \"X70000\"", parallel, items);
+        assertMismatchDescription("an item was \"X70000\"", parallel, new LinkedList<>(items));
+        assertMatches(parallel, items.subList(0, 70_000));
+        assertMatches(parallel, new ArrayList<String>());
+    }
+
+    @Test public void
+    inParallelChecksTheMismatchingItemOnlyOnce() {
+        AtomicInteger checks = new AtomicInteger();
+        Matcher<String> counting = new TypeSafeDiagnosingMatcher<String>() {
+            @Override protected boolean matchesSafely(String item, Description mismatch) {
+                if (!item.equals("X")) {
+                    return true;
+                }
+                mismatch.appendText("was check " + checks.incrementAndGet());
+                return false;
+            }
+            @Override public void describeTo(Description description) { description.appendText("not X"); }
+        };
+        List<String> items = new ArrayList<>(asList("a", "b", "X", "c"));
+
+        assertEquals("an item was check 1", mismatchDescription(Every.everyItemInParallel(counting), items));
+        assertEquals(1, checks.get());
+    }
+
 }
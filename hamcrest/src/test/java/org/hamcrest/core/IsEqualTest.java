@@ -106,6 +106,36 @@ public final class IsEqualTest {
         assertDoesNotMatch(matcher, null);
     }
 
+    @Test public void
+    comparesArraysOfEachPrimitiveTypeWithoutBoxing() {
+        assertMatches(equalTo(new boolean[]{true, false}), new boolean[]{true, false});
+        assertMatches(equalTo(new byte[]{1, 2}), new byte[]{1, 2});
+        assertMatches(equalTo(new char[]{'a', 'b'}), new char[]{'a', 'b'});
+        assertMatches(equalTo(new short[]{1, 2}), new short[]{1, 2});
+        assertMatches(equalTo(new long[]{1L, 2L}), new long[]{1L, 2L});
+        assertMatches(equalTo(new float[]{1f, Float.NaN}), new float[]{1f, Float.NaN});
+        assertMatches(equalTo(new double[]{1d, Double.NaN}), new double[]{1d, Double.NaN});
+        assertDoesNotMatch(equalTo(new double[]{0.0}), new double[]{-0.0});
+        assertDoesNotMatch(equalTo(new char[]{'a', 'b'}), new char[]{'a', 'c'});
+        assertDoesNotMatch(equalToObject(new long[]{1L}), new int[]{1});
+    }
+
+    @Test public void
+    comparesArraysOfPrimitivesWithArraysOfTheirWrappers() {
+        assertMatches(equalToObject(new Integer[]{1, 2}), new int[]{1, 2});
+        assertDoesNotMatch(equalToObject(new Integer[]{1, 3}), new int[]{1, 2});
+    }
+
+    @Test public void
+    describesTheFirstElementThatDiffers() {
+        assertMismatchDescription("element <2> was <7>", equalTo(new int[]{1, 2, 3, 4}), new int[]{1, 2, 7, 4});
+        assertMismatchDescription("element <1> was <2.5>", equalTo(new double[]{1, 2}), new double[]{1, 2.5});
+        assertMismatchDescription("element <1> was \"c\"", equalTo(new String[]{"a", "b"}), new String[]{"a", "c"});
+        assertMismatchDescription("element <1> was <2>", equalToObject(new Integer[]{1, 3}), new int[]{1, 2});
+        assertMismatchDescription("array length was <2>", equalTo(new long[]{1L, 2L, 3L}), new long[]{1L, 2L});
+        assertMismatchDescription("was \"a\"", equalToObject(new int[]{1}), "a");
+    }
+
     @Test public void
     recursivelyTestsElementsOfArrays() {
         int[][] i1 = new int[][]{{1, 2}, {3, 4}};
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import static java.util.Arrays.asList;
@@ -170,4 +171,21 @@ public final class IsIterableContainingTest {
             super(name);
         }
     }
+    @Test public void
+    inParallelMatchesWhenAnyItemMatches() {
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            items.add(i);
+        }
+        Matcher<Iterable<? extends Integer>> parallel = IsIterableContaining.hasItemInParallel(equalTo(99_999));
+
+        assertNullSafe(parallel);
+        assertUnknownTypeSafe(parallel);
+        assertMatches(parallel, items);
+        assertMatches(parallel, new HashSet<>(items));
+        assertDoesNotMatch(parallel, items.subList(0, 99_999));
+        assertMismatchDescription("mismatches were: [was <1>, was <2>]", parallel, asList(1, 2));
+        assertMismatchDescription("was empty", parallel, new ArrayList<Integer>());
+    }
+
 }
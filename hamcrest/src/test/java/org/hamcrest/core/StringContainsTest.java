@@ -45,4 +45,15 @@ public class StringContainsTest extends AbstractMatcherTest {
         assertDescription("a string containing \"ExCert\" ignoring case", ignoringCase);
     }
 
+    @Test
+    public void testMatchesSubstringsIgnoringCaseBeyondAscii() {
+        assertMatches(containsStringIgnoringCase("stra\u00DFe"), "GROSSE STRASSE, Stra\u00DFe 5");
+        assertMatches(containsStringIgnoringCase("\u03A3\u039F\u03A6\u038A\u0391"), "\u03B7 \u03C3\u03BF\u03C6\u03AF\u03B1");
+        assertMatches(containsStringIgnoringCase("kelvin"), "273 \u212Aelvin");
+        assertMatches(containsStringIgnoringCase(""), "");
+        assertMatches(containsStringIgnoringCase("aab"), "aaab");
+        assertDoesNotMatch(containsStringIgnoringCase("abc"), "ab");
+        assertDoesNotMatch(containsStringIgnoringCase("stra\u00DFe"), "STRASSE");
+    }
+
 }
@@ -46,4 +46,11 @@ public class StringEndsWithTest extends AbstractMatcherTest {
         assertDescription("a string ending with \"EXCERpt\" ignoring case", ignoringCase);
     }
 
+    @Test
+    public void testMatchesSubstringAtEndIgnoringCaseBeyondAscii() {
+        assertMatches(endsWithIgnoringCase("\u00C9T\u00C9"), "2026 \u00E9t\u00E9");
+        assertMatches(endsWithIgnoringCase(""), "");
+        assertDoesNotMatch(endsWithIgnoringCase("\u00E9t\u00E9"), "t\u00E9");
+    }
+
 }
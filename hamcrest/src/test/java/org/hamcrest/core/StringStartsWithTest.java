@@ -47,4 +47,11 @@ public class StringStartsWithTest extends AbstractMatcherTest {
         assertMismatchDescription("was \"Something else\"", ignoreCase, "Something else");
     }
 
+    @Test
+    public void testMatchesStringAtStartIgnoringCaseBeyondAscii() {
+        assertMatches(startsWithIgnoringCase("\u00C9T\u00C9"), "\u00E9t\u00E9 2026");
+        assertMatches(startsWithIgnoringCase(""), "");
+        assertDoesNotMatch(startsWithIgnoringCase("\u00E9t\u00E9"), "\u00E9t");
+    }
+
 }
@@ -0,0 +1,47 @@
+package org.hamcrest.internal;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class ReflectiveTypeFinderTest {
+
+    @Test public void
+    findsTheTypeOfTheParameterInTheLeafClass() {
+        ReflectiveTypeFinder finder = new ReflectiveTypeFinder("accept", 2, 1);
+
+        assertEquals(Integer.class, finder.findExpectedType(Leaf.class));
+        assertEquals(Integer.class, finder.findExpectedType(SubLeaf.class));
+    }
+
+    @Test public void
+    sharesResultsBetweenFindersForTheSameMethod() {
+        Class<?> first = new ReflectiveTypeFinder("accept", 2, 0).findExpectedType(Leaf.class);
+        Class<?> second = new ReflectiveTypeFinder("accept", 2, 0).findExpectedType(Leaf.class);
+
+        assertEquals(String.class, first);
+        assertSame(first, second);
+    }
+
+    @Test public void
+    distinguishesFindersByParameterPosition() {
+        assertEquals(String.class, new ReflectiveTypeFinder("accept", 2, 0).findExpectedType(Leaf.class));
+        assertEquals(Integer.class, new ReflectiveTypeFinder("accept", 2, 1).findExpectedType(Leaf.class));
+    }
+
+    @Test public void
+    failsEveryTimeForClassesWithoutTheMethod() {
+        ReflectiveTypeFinder finder = new ReflectiveTypeFinder("accept", 3, 0);
+
+        assertThrows(Error.class, () -> finder.findExpectedType(Leaf.class));
+        assertThrows(Error.class, () -> finder.findExpectedType(Leaf.class));
+    }
+
+    private static class Leaf {
+        @SuppressWarnings("unused")
+        void accept(String first, Integer second) { }
+    }
+
+    private static class SubLeaf extends Leaf { }
+
+}
@@ -0,0 +1,52 @@
+package org.hamcrest.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class TraversalTest {
+
+    private final List<Object> visited = new ArrayList<>();
+
+    @Test public void
+    visitsTheElementsOfListsInOrder() {
+        assertTrue(Traversal.forEach(Arrays.asList("a", "b"), visited::add));
+        assertTrue(Traversal.forEach(new LinkedList<>(Arrays.asList("c", "d")), visited::add));
+
+        assertEquals(Arrays.asList("a", "b", "c", "d"), visited);
+    }
+
+    @Test public void
+    stopsWhenTheVisitorSaysSo() {
+        assertFalse(Traversal.forEach(Arrays.asList(1, 2, 3), element -> visited.add(element) && element < 2));
+        assertFalse(Traversal.forEach(new LinkedList<>(Arrays.asList(1, 2, 3)), element -> visited.add(element) && element < 1));
+
+        assertEquals(Arrays.<Object>asList(1, 2, 1), visited);
+    }
+
+    @Test public void
+    visitsTheElementsOfArraysOfEveryComponentType() {
+        Traversal.forEachInArray(new Object[] {"x"}, visited::add);
+        Traversal.forEachInArray(new int[] {1}, visited::add);
+        Traversal.forEachInArray(new long[] {2L}, visited::add);
+        Traversal.forEachInArray(new double[] {3.0}, visited::add);
+        Traversal.forEachInArray(new float[] {4f}, visited::add);
+        Traversal.forEachInArray(new short[] {5}, visited::add);
+        Traversal.forEachInArray(new byte[] {6}, visited::add);
+        Traversal.forEachInArray(new char[] {'7'}, visited::add);
+        Traversal.forEachInArray(new boolean[] {true}, visited::add);
+
+        assertEquals(Arrays.<Object>asList("x", 1, 2L, 3.0, 4f, (short) 5, (byte) 6, '7', true), visited);
+    }
+
+    @Test public void
+    rejectsAnythingButAnArray() {
+        assertThrows(IllegalArgumentException.class, () -> Traversal.forEachInArray("not an array", visited::add));
+    }
+
+}
@@ -1,16 +1,30 @@
 package org.hamcrest.io;
 
 import org.hamcrest.test.AbstractMatcherTest;
+import org.hamcrest.Description;
+import org.hamcrest.FeatureMatcher;
 import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import static org.hamcrest.test.MatcherAssertions.*;
 import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.StringEndsWith.endsWith;
+import static org.hamcrest.number.OrderingComparison.greaterThan;
+import static org.hamcrest.number.OrderingComparison.lessThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SuppressWarnings("ResultOfMethodCallIgnored")
@@ -95,6 +109,234 @@ public class FileMatchersTest extends AbstractMatcherTest {
         assertDoesNotMatch("doesn't match incorrect absolute path", FileMatchers.aFileWithAbsolutePath(equalTo("foo")), file);
     }
 
+    @Test
+    public void testPathTypes() throws Exception {
+        Path link = Files.createSymbolicLink(directory.toPath().resolve("link"), file.toPath());
+
+        assertMatches("matches existing file", FileMatchers.anExistingPath(), file.toPath());
+        assertMatches("matches regular file", FileMatchers.aRegularFile(), file.toPath());
+        assertMatches("matches directory", FileMatchers.aDirectory(), directory.toPath());
+        assertMatches("matches symbolic link", FileMatchers.aSymbolicLink(), link);
+        assertMatches("follows symbolic link", FileMatchers.aRegularFile(), link);
+        assertDoesNotMatch("doesn't match link target", FileMatchers.aSymbolicLink(), file.toPath());
+        assertDoesNotMatch("doesn't follow link", FileMatchers.aPathNotFollowingLinks(FileMatchers.regularFile()), link);
+        assertMismatchDescription("'" + directory.toPath() + "' is not a regular file", FileMatchers.aRegularFile(), directory.toPath());
+        assertMismatchDescription("'foo' does not exist", FileMatchers.anExistingPath(), new File("foo").toPath());
+    }
+
+    @Test
+    public void testDanglingSymbolicLink() throws Exception {
+        Path link = Files.createSymbolicLink(directory.toPath().resolve("dangling"), directory.toPath().resolve("missing"));
+
+        assertMatches("matches the link itself", FileMatchers.aSymbolicLink(), link);
+        assertMismatchDescription("'" + link + "' does not exist", FileMatchers.anExistingPath(), link);
+    }
+
+    @Test
+    public void testAPathWithCombinedAttributes() throws Exception {
+        Path path = file.toPath();
+        Files.write(path, new byte[] { 1, 2, 3 });
+        String owner = Files.getOwner(path).getName();
+
+        assertMatches("matches all attributes",
+                FileMatchers.aPath(FileMatchers.regularFile(), FileMatchers.withSize(3L), FileMatchers.lastModified(greaterThan(FileTime.fromMillis(0))), FileMatchers.ownedBy(owner)),
+                path);
+        assertMismatchDescription("'" + path + "' size was <3L>", FileMatchers.aPath(FileMatchers.regularFile(), FileMatchers.withSize(4L)), path);
+        assertMismatchDescription("'" + path + "' owner was \"" + owner + "\"", FileMatchers.aPath(FileMatchers.ownedBy("nobody-at-all")), path);
+    }
+
+    @Test
+    public void testAPathWithPermissions() throws Exception {
+        Path path = file.toPath();
+        if (!path.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            return;
+        }
+        Files.setPosixFilePermissions(path, PosixFilePermissions.fromString("rw-r-----"));
+
+        assertMatches("matches permissions", FileMatchers.aPath(FileMatchers.withPermissions("rw-r-----")), path);
+        assertMismatchDescription("'" + path + "' permissions were rw-r-----", FileMatchers.aPath(FileMatchers.withPermissions("rwxr-----")), path);
+        assertThrows(IllegalArgumentException.class, () -> FileMatchers.withPermissions("rw-"));
+    }
+
+    @Test
+    public void testAPathDescription() {
+        assertDescription("an existing path", FileMatchers.anExistingPath());
+        assertDescription("a path that is a regular file and has size <3L>", FileMatchers.aPath(FileMatchers.regularFile(), FileMatchers.withSize(3L)));
+        assertDescription("a path (links not followed) that is a symbolic link", FileMatchers.aSymbolicLink());
+        assertDescription("a path that has permissions rw-r--r-- and is owned by \"root\"",
+                FileMatchers.aPath(FileMatchers.withPermissions("rw-r--r--"), FileMatchers.ownedBy("root")));
+    }
+
+    @Test
+    public void testAFileWithContentEqualTo() throws Exception {
+        byte[] content = new byte[100000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        Path actual = file.toPath();
+        Path expected = directory.toPath().resolve("expected");
+        Files.write(actual, content);
+        Files.write(expected, content);
+
+        assertMatches("matches same content", FileMatchers.aFileWithContentEqualTo(expected), actual);
+        assertMatches("matches same bytes", FileMatchers.aFileWithBytes(content), actual);
+
+        content[70000] = 0;
+        Files.write(expected, content);
+        assertMismatchDescription("'" + actual + "' differs at offset 70000 (0x11170): "
+                        + "expected .. 68 69 6a 6b 6c 6d 6e 6f [00] 71 72 73 74 75 76 77 78 .. "
+                        + "but was .. 68 69 6a 6b 6c 6d 6e 6f [70] 71 72 73 74 75 76 77 78 ..",
+                FileMatchers.aFileWithContentEqualTo(expected), actual);
+    }
+
+    @Test
+    public void testAFileWithBytesOfADifferentSize() throws Exception {
+        Path path = file.toPath();
+        Files.write(path, new byte[] { 1, 2, 3 });
+
+        assertMismatchDescription("'" + path + "' differs at offset 3 (0x3): expected 01 02 03 [04] but was 01 02 03 [], size was 3, expected 4",
+                FileMatchers.aFileWithBytes(new byte[] { 1, 2, 3, 4 }), path);
+        assertMismatchDescription("'" + path + "' differs at offset 2 (0x2): expected 01 02 [] but was 01 02 [03], size was 3, expected 2",
+                FileMatchers.aFileWithBytes(new byte[] { 1, 2 }), path);
+        assertMismatchDescription("'foo' does not exist", FileMatchers.aFileWithBytes(new byte[0]), new File("foo").toPath());
+    }
+
+    @Test
+    public void testAFileStartingWith() throws Exception {
+        Path path = file.toPath();
+        Files.write(path, "PK\u0003\u0004rest".getBytes(StandardCharsets.US_ASCII));
+
+        assertMatches("matches prefix", FileMatchers.aFileStartingWith(new byte[] { 'P', 'K', 3, 4 }), path);
+        assertMatches("matches text prefix", FileMatchers.aFileStartingWith("PK", StandardCharsets.US_ASCII), path);
+        assertMatches("matches whole content", FileMatchers.aFileStartingWith("PK\u0003\u0004rest", StandardCharsets.US_ASCII), path);
+        assertDoesNotMatch("doesn't match longer prefix", FileMatchers.aFileStartingWith("PK\u0003\u0004rest!", StandardCharsets.US_ASCII), path);
+        assertMismatchDescription("'" + path + "' differs at offset 1 (0x1): expected 50 [4c] but was 50 [4b] 03 04 72 65 73 74",
+                FileMatchers.aFileStartingWith("PL", StandardCharsets.US_ASCII), path);
+    }
+
+    @Test
+    public void testAFileContentDescription() {
+        assertDescription("a file with content [01 02]", FileMatchers.aFileWithBytes(new byte[] { 1, 2 }));
+        assertDescription("a file starting with [00 00 00 00 00 00 00 00 00 00 00 00 00 00 00 00 .. (20 bytes)]",
+                FileMatchers.aFileStartingWith(new byte[20]));
+        assertDescription("a file with the same content as 'golden'", FileMatchers.aFileWithContentEqualTo(new File("golden").toPath()));
+    }
+
+    @Test
+    public void testADirectoryContaining() throws Exception {
+        Path root = tree(300);
+
+        assertMatches("matches glob", FileMatchers.aDirectoryContaining("**/*.txt"), root);
+        assertMatches("matches top level glob", FileMatchers.aDirectoryContaining("myFile"), root);
+        assertMatches("matches directory", FileMatchers.aDirectoryContaining("a/b"), root);
+        assertMatches("matches entry", FileMatchers.aDirectoryContaining(aFileNamedLike("file-299.txt")), root);
+        assertDoesNotMatch("doesn't match missing glob", FileMatchers.aDirectoryContaining("**/*.class"), root);
+        assertMismatchDescription("'" + root + "' contains no path matching \"*.class\"", FileMatchers.aDirectoryContaining("*.class"), root);
+        assertMismatchDescription("'" + root + "' contains no such path", FileMatchers.aDirectoryContaining(aFileNamedLike("nothing")), root);
+        assertMismatchDescription("'" + file.toPath() + "' is not a directory", FileMatchers.aDirectoryContaining("*"), file.toPath());
+    }
+
+    @Test
+    public void testEveryFileInTree() throws Exception {
+        Path root = tree(300);
+
+        assertMatches("matches every file", FileMatchers.everyFileInTree(FileMatchers.aRegularFile()), root);
+        assertMatches("matches every file size", FileMatchers.everyFileInTree(FileMatchers.aPath(FileMatchers.withSize(lessThan(20L)))), root);
+        assertDoesNotMatch("doesn't match every file", FileMatchers.everyFileInTree(FileMatchers.aPath(FileMatchers.withSize(0L))), root);
+
+        Files.write(root.resolve("a/b/file-200.txt"), new byte[100]);
+        assertMismatchDescription("a file '" + root.resolve("a/b/file-200.txt") + "' size <100L> was greater than <20L>",
+                FileMatchers.everyFileInTree(FileMatchers.aPath(FileMatchers.withSize(lessThan(20L)))), root);
+
+        AtomicInteger checks = new AtomicInteger();
+        Matcher<Path> checkedOnce = new TypeSafeDiagnosingMatcher<Path>() {
+            @Override protected boolean matchesSafely(Path item, Description mismatch) {
+                if (!item.endsWith("file-200.txt")) {
+                    return true;
+                }
+                mismatch.appendText("was checked " + checks.incrementAndGet() + " time(s)");
+                return false;
+            }
+            @Override public void describeTo(Description description) { description.appendText("checked once"); }
+        };
+        assertEquals("a file was checked 1 time(s)", mismatchDescription(FileMatchers.everyFileInTree(checkedOnce), root));
+    }
+
+    @Test
+    public void testADirectoryTreeWithFileCount() throws Exception {
+        Path root = tree(300);
+
+        assertMatches("matches count", FileMatchers.aDirectoryTreeWithFileCount(301), root);
+        assertMatches("matches count matcher", FileMatchers.aDirectoryTreeWithFileCount(greaterThan(300)), root);
+        assertMismatchDescription("'" + root + "' has more than 10 files", FileMatchers.aDirectoryTreeWithFileCount(10), root);
+        assertMismatchDescription("'" + root + "' file count was <301>", FileMatchers.aDirectoryTreeWithFileCount(1000), root);
+        assertMismatchDescription("'" + root + "' file count <301> was less than <400>",
+                FileMatchers.aDirectoryTreeWithFileCount(greaterThan(400)), root);
+    }
+
+    @Test
+    public void testADirectoryTreeDescription() {
+        assertDescription("a directory containing a path matching \"**/*.txt\"", FileMatchers.aDirectoryContaining("**/*.txt"));
+        assertDescription("a directory tree in which every file is a path that is a regular file", FileMatchers.everyFileInTree(FileMatchers.aRegularFile()));
+        assertDescription("a directory tree with file count <3>", FileMatchers.aDirectoryTreeWithFileCount(3));
+    }
+
+    @Test
+    public void testADirectoryTreeEquivalentTo() throws Exception {
+        Path actual = tree(50);
+        Path expected = Files.createTempDirectory("golden");
+        Files.createDirectories(expected.resolve("a/b"));
+        try (Stream<Path> files = Files.list(actual.resolve("a/b"))) {
+            for (Path source : (Iterable<Path>) files::iterator) {
+                Files.copy(source, expected.resolve("a/b").resolve(source.getFileName()));
+            }
+        }
+        Files.copy(file.toPath(), expected.resolve("myFile"));
+
+        assertMatches("matches same tree", FileMatchers.aDirectoryTreeEquivalentTo(expected), actual);
+
+        Files.write(actual.resolve("a/b/file-7.txt"), "x".getBytes(StandardCharsets.US_ASCII));
+        Files.write(actual.resolve("a/b/file-12.txt"), "99".getBytes(StandardCharsets.US_ASCII));
+        Files.write(actual.resolve("extra"), new byte[0]);
+        Files.delete(actual.resolve("a/b/file-3.txt"));
+        assertMismatchDescription("'" + actual + "' differs from '" + expected + "': "
+                        + "added [\"extra\"], removed [\"a/b/file-3.txt\"], changed [\"a/b/file-12.txt\", \"a/b/file-7.txt\"]",
+                FileMatchers.aDirectoryTreeEquivalentTo(expected), actual);
+        assertMismatchDescription("'" + expected + "' differs from '" + actual + "': "
+                        + "added [\"a/b/file-3.txt\"], removed [\"extra\"], changed [\"a/b/file-12.txt\", \"a/b/file-7.txt\"]",
+                FileMatchers.aDirectoryTreeEquivalentTo(actual), expected);
+        assertMismatchDescription("'" + file.toPath() + "' is not a directory", FileMatchers.aDirectoryTreeEquivalentTo(actual), file.toPath());
+    }
+
+    @Test
+    public void testADirectoryTreeEquivalentToListsABoundedNumberOfPaths() throws Exception {
+        Path actual = tree(30);
+        Path expected = Files.createTempDirectory("golden");
+        Files.createDirectories(expected.resolve("a"));
+        Files.copy(file.toPath(), expected.resolve("myFile"));
+
+        assertMismatchDescription("'" + actual + "' differs from '" + expected + "': "
+                        + "added [\"a/b\", \"a/b/file-0.txt\", \"a/b/file-1.txt\", \"a/b/file-10.txt\", \"a/b/file-11.txt\", "
+                        + "\"a/b/file-12.txt\", \"a/b/file-13.txt\", \"a/b/file-14.txt\", \"a/b/file-15.txt\", \"a/b/file-16.txt\"] and at least 21 more",
+                FileMatchers.aDirectoryTreeEquivalentTo(expected), actual);
+        assertDescription("a directory tree equivalent to '" + expected + "'", FileMatchers.aDirectoryTreeEquivalentTo(expected));
+    }
+
+    private Path tree(int files) throws IOException {
+        Path root = directory.toPath();
+        Path nested = Files.createDirectories(root.resolve("a/b"));
+        for (int i = 0; i < files; i++) {
+            Files.write(nested.resolve("file-" + i + ".txt"), String.valueOf(i).getBytes(StandardCharsets.US_ASCII));
+        }
+        return root;
+    }
+
+    private static Matcher<Path> aFileNamedLike(String name) {
+        return new FeatureMatcher<Path, String>(endsWith(name), "a path ending", "path") {
+            @Override protected String featureValueOf(Path actual) { return actual.toString(); }
+        };
+    }
+
     @Override
     protected Matcher<?> createMatcher() {
         return FileMatchers.aFileWithSize(1L);
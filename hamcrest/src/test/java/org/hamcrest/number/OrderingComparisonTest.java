@@ -11,6 +11,8 @@ import static org.hamcrest.test.MatcherAssertions.assertDescription;
 import static org.hamcrest.test.MatcherAssertions.assertMismatchDescription;
 import static org.hamcrest.core.IsNot.not;
 import static org.hamcrest.number.OrderingComparison.*;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class OrderingComparisonTest extends AbstractMatcherTest {
 
@@ -78,6 +80,27 @@ public class OrderingComparisonTest extends AbstractMatcherTest {
         assertThat(new CustomInt(5), lessThan(new CustomInt(10)));
     }
 
+    @Test
+    public void testComparesBoxedPrimitivesAsTheirCompareToMethodDoes() {
+        assertThat(Double.NaN, greaterThan(Double.POSITIVE_INFINITY));
+        assertThat(0.0, greaterThan(-0.0));
+        assertThat(Long.MAX_VALUE, greaterThan(Long.MIN_VALUE));
+        assertThat(5, comparesEqualTo(5));
+    }
+
+    @Test
+    public void testCreatesPrimitiveMatchersForBoxedPrimitives() {
+        assertTrue(((DoubleMatcher) greaterThan(1.0)).matches(1.5));
+        assertTrue(((LongMatcher) lessThanOrEqualTo(3L)).matches(3L));
+        assertFalse(((IntMatcher) lessThan(3)).matches(3));
+    }
+
+    @Test
+    public void testDoesNotMatchOtherNumericTypes() {
+        assertFalse(((Matcher<?>) greaterThan(1)).matches(2L));
+        assertMismatchDescription("was a java.lang.Long (<2L>)", (Matcher<?>) greaterThan(1), 2L);
+    }
+
     private static final class CustomInt implements Comparable<CustomInt> {
         private final int value;
         public CustomInt(int value) {
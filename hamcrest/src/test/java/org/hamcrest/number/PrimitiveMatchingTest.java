@@ -0,0 +1,89 @@
+package org.hamcrest.number;
+
+import org.hamcrest.Matcher;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.number.PrimitiveMatching.*;
+import static org.hamcrest.test.MatcherAssertions.*;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class PrimitiveMatchingTest {
+
+    @Test public void
+    copesWithNullsAndUnknownTypes() {
+        Matcher<?> matcher = between(1.0, 2.0);
+
+        assertNullSafe(matcher);
+        assertUnknownTypeSafe(matcher);
+    }
+
+    @Test public void
+    comparesPrimitiveDoubles() {
+        assertTrue(greaterThan(1.0).matches(1.5));
+        assertFalse(greaterThan(1.0).matches(1.0));
+        assertTrue(greaterThanOrEqualTo(1.0).matches(1.0));
+        assertTrue(lessThan(1.0).matches(-0.5));
+        assertTrue(lessThanOrEqualTo(1.0).matches(1.0));
+        assertFalse(lessThan(1.0).matches(Double.NaN));
+        assertTrue(greaterThan(0.0).matches(Double.NaN));
+        assertTrue(lessThan(0.0).matches(-0.0));
+    }
+
+    @Test public void
+    comparesPrimitiveLongsAndInts() {
+        assertTrue(greaterThan((long) Integer.MAX_VALUE).matches(Long.MAX_VALUE));
+        assertFalse(lessThan(Long.MIN_VALUE).matches(Long.MIN_VALUE));
+        assertTrue(greaterThan(1).matches(2));
+        assertFalse(lessThanOrEqualTo(1).matches(2));
+    }
+
+    @Test public void
+    matchesValuesBetweenTwoBoundsInclusive() {
+        assertTrue(between(-40.0, 85.0).matches(-40.0));
+        assertTrue(between(-40.0, 85.0).matches(85.0));
+        assertFalse(between(-40.0, 85.0).matches(85.01));
+        assertFalse(between(-40.0, 85.0).matches(Double.NaN));
+        assertTrue(between(1L, 3L).matches(2L));
+        assertFalse(between(1, 3).matches(0));
+    }
+
+    @Test public void
+    stillMatchesBoxedValues() {
+        assertThat(1.5, greaterThan(1.0));
+        assertThat(2L, between(1L, 3L));
+        assertThat(2, lessThanOrEqualTo(2));
+        assertThat(1.03, closeTo(1.0, 0.05));
+        assertThat(Double.NaN, notANumber());
+        assertMatches(between(1.0, 2.0), 1.5);
+        assertDoesNotMatch(between(1.0, 2.0), 2.5);
+    }
+
+    @Test public void
+    matchesCloseToAndNotANumberWithoutBoxing() {
+        assertTrue(closeTo(1.0, 0.5).matches(1.5));
+        assertFalse(closeTo(1.0, 0.5).matches(1.6));
+        assertFalse(closeTo(1.0, 0.5).matches(Double.NaN));
+        assertTrue(notANumber().matches(0.0 / 0.0));
+        assertFalse(notANumber().matches(1.0));
+    }
+
+    @Test public void
+    hasReadableDescriptions() {
+        assertDescription("a value greater than <1.0>", greaterThan(1.0));
+        assertDescription("a value equal to or greater than <1L>", greaterThanOrEqualTo(1L));
+        assertDescription("a value less than or equal to <1>", lessThanOrEqualTo(1));
+        assertDescription("a value between <1.0> and <2.0>", between(1.0, 2.0));
+        assertDescription("a value between <1L> and <2L>", between(1L, 2L));
+    }
+
+    @Test public void
+    describesWhichBoundWasCrossed() {
+        assertMismatchDescription("<0.5> was less than <1.0>", between(1.0, 2.0), 0.5);
+        assertMismatchDescription("<3> was greater than <2>", between(1, 2), 3);
+        assertMismatchDescription("<1L> was equal to <1L>", greaterThan(1L), 1L);
+        assertMismatchDescription("<2> was greater than <1>", lessThan(1), 2);
+    }
+
+}
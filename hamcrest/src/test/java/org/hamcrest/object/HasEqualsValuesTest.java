@@ -4,6 +4,8 @@ import org.hamcrest.test.AbstractMatcherTest;
 import org.hamcrest.Matcher;
 import org.junit.jupiter.api.Test;
 
+import static org.hamcrest.object.HasEqualValues.hasEqualFieldValues;
+import static org.hamcrest.object.HasEqualValues.hasEqualValues;
 import static org.hamcrest.test.MatcherAssertions.*;
 
 @SuppressWarnings("WeakerAccess")
@@ -43,6 +45,56 @@ public class HasEqualsValuesTest extends AbstractMatcherTest {
                 WITH_PUBLIC_FIELDS_MATCHER, new WithPublicFields('y', 666, "a string"));
     }
 
+    @Test
+    public void test_factory_compares_public_fields() {
+        assertMatches(hasEqualValues(WITH_PUBLIC_FIELDS), new WithPublicFields('x', 666, "a string"));
+        assertDoesNotMatch(hasEqualValues(WITH_PUBLIC_FIELDS), new WithPublicFields('x', 667, "a string"));
+    }
+
+    @Test
+    public void test_public_fields_ignore_private_fields() {
+        assertMatches(new HasEqualValues<>(new WithPrivateFields(1, 2.0, "a")), new WithPrivateFields(1, 2.0, "b"));
+    }
+
+    @Test
+    public void test_field_values_describe_themselves() {
+        assertDescription(
+                "WithPrivateFields has values [d: <2.0>, name: \"a\", id: <1L>]",
+                hasEqualFieldValues(new WithPrivateFields(1, 2.0, "a")));
+        assertDescription(
+                "WithPrivateFields has values [d: <2.0>, name: \"a\"] ignoring [\"id\"]",
+                hasEqualFieldValues(new WithPrivateFields(1, 2.0, "a"), "id"));
+    }
+
+    @Test
+    public void test_field_values_compare_private_and_inherited_fields() {
+        Matcher<WithPrivateFields> matcher = hasEqualFieldValues(new WithPrivateFields(1, 2.0, "a"));
+
+        assertMatches(matcher, new WithPrivateFields(1, 2.0, "a"));
+        assertMismatchDescription("'name' was \"b\"", matcher, new WithPrivateFields(1, 2.0, "b"));
+        assertMismatchDescription("'d' was <2.5>", matcher, new WithPrivateFields(1, 2.5, "a"));
+        assertMismatchDescription("'id' was <7L>", matcher, new WithPrivateFields(7, 2.0, "a"));
+    }
+
+    @Test
+    public void test_field_values_compare_primitives_as_their_boxes_would() {
+        assertMatches(hasEqualFieldValues(new WithPrivateFields(1, Double.NaN, "a")), new WithPrivateFields(1, Double.NaN, "a"));
+        assertDoesNotMatch(hasEqualFieldValues(new WithPrivateFields(1, 0.0, "a")), new WithPrivateFields(1, -0.0, "a"));
+    }
+
+    @Test
+    public void test_field_values_leave_out_ignored_fields() {
+        assertMatches(hasEqualFieldValues(new WithPrivateFields(1, 2.0, "a"), "id", "name"), new WithPrivateFields(7, 2.0, "b"));
+    }
+
+    @Test
+    public void test_field_values_compare_record_like_classes() {
+        Matcher<RecordLike> matcher = hasEqualFieldValues(new RecordLike("x", new int[] {1, 2}));
+
+        assertMatches(matcher, new RecordLike("x", new int[] {1, 2}));
+        assertMismatchDescription("'values' element <1> was <3>", matcher, new RecordLike("x", new int[] {1, 3}));
+    }
+
     public static class WithPublicFields extends Parent {
         public final int i;
         public final String s;
@@ -62,4 +114,37 @@ public class HasEqualsValuesTest extends AbstractMatcherTest {
         }
     }
 
+    public static class WithPrivateFields extends PrivateParent {
+        private final double d;
+        private final String name;
+
+        public WithPrivateFields(long id, double d, String name) {
+            super(id);
+            this.d = d;
+            this.name = name;
+        }
+    }
+
+    public static class PrivateParent {
+        private static final String IGNORED_STATIC = "static";
+        private final long id;
+
+        public PrivateParent(long id) {
+            this.id = id;
+        }
+    }
+
+    public static final class RecordLike {
+        private final String name;
+        private final int[] values;
+
+        public RecordLike(String name, int[] values) {
+            this.name = name;
+            this.values = values;
+        }
+
+        public String name() { return name; }
+        public int[] values() { return values; }
+    }
+
 }
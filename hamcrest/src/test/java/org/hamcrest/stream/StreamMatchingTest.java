@@ -0,0 +1,150 @@
+package org.hamcrest.stream;
+
+import org.hamcrest.Matcher;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsAnything.anything;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.number.OrderingComparison.greaterThan;
+import static org.hamcrest.stream.StreamMatching.*;
+import static org.hamcrest.test.MatcherAssertions.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class StreamMatchingTest {
+
+    @Test public void
+    copesWithNullsAndUnknownTypes() {
+        Matcher<?> matcher = contains(1, 2);
+
+        assertNullSafe(matcher);
+        assertUnknownTypeSafe(matcher);
+        assertMismatchDescription("was null", matcher, null);
+    }
+
+    @Test public void
+    containsMatchesElementsInOrder() {
+        assertThat(Stream.of("foo", "bar"), contains("foo", "bar"));
+        assertMatches(contains(1, 2, 3), Stream.of(1, 2, 3));
+        assertMismatchDescription("item 1: was <3>", contains(1, 2, 3), Stream.of(1, 3, 2));
+        assertMismatchDescription("not matched: <4>", contains(1, 2, 3), Stream.of(1, 2, 3, 4));
+        assertMismatchDescription("no item was <3>", contains(1, 2, 3), Stream.of(1, 2));
+        assertDescription("stream containing [<1>, <2>]", contains(1, 2));
+    }
+
+    @Test public void
+    containsStopsAtTheFirstMismatch() {
+        AtomicInteger consumed = new AtomicInteger();
+
+        assertDoesNotMatch(contains(0, 1, 2), Stream.iterate(0, i -> i + 1).peek(i -> consumed.incrementAndGet()));
+        assertEquals(4, consumed.get());
+    }
+
+    @Test public void
+    containsInAnyOrderMatchesElementsInAnyOrder() {
+        assertMatches(containsInAnyOrder(1, 2, 3), Stream.of(3, 1, 2));
+        assertMismatchDescription("not matched: <4>", containsInAnyOrder(1, 2, 3), Stream.of(1, 2, 4));
+        assertMismatchDescription("no match for: <3>", containsInAnyOrder(1, 2), Stream.of(2, 1, 3));
+        assertMismatchDescription("no item matches: <3> in [<2>, <1>]", containsInAnyOrder(1, 2, 3), Stream.of(2, 1));
+        assertDescription("stream with items [<1>, <2>] in any order", containsInAnyOrder(1, 2));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test public void
+    containsInAnyOrderMovesEarlierElementsToOtherMatchers() {
+        StreamMatcher<Integer> matcher = containsInAnyOrder(anything(), equalTo(1));
+
+        assertMatches(matcher, Stream.of(1, 2));
+        assertMatches(matcher, Stream.of(2, 1));
+        assertMatches(containsInAnyOrder(greaterThan(0), greaterThan(1), greaterThan(2), equalTo(1)), Stream.of(3, 2, 5, 1));
+    }
+
+    @Test public void
+    containsInAnyOrderStopsAtAnElementThatCannotBePaired() {
+        AtomicInteger consumed = new AtomicInteger();
+
+        assertDoesNotMatch(containsInAnyOrder(1, 2, 3), Stream.iterate(7, i -> i + 1).peek(i -> consumed.incrementAndGet()));
+        assertEquals(1, consumed.get());
+    }
+
+    @Test public void
+    everyItemStopsAtTheFirstMismatch() {
+        AtomicInteger consumed = new AtomicInteger();
+
+        assertMatches(everyItem(greaterThan(0)), Stream.of(1, 2, 3));
+        assertMismatchDescription("an item <0> was equal to <0>",
+            everyItem(greaterThan(0)), Stream.iterate(5, i -> i - 1).peek(i -> consumed.incrementAndGet()));
+        assertEquals(6, consumed.get());
+    }
+
+    @Test public void
+    hasItemStopsAtTheFirstMatch() {
+        assertMatches(hasItem(1_000), Stream.iterate(0, i -> i + 1));
+        assertMismatchDescription("mismatches were: [was <1>, was <2>]", hasItem(3), Stream.of(1, 2));
+        assertMismatchDescription("was empty", hasItem(3), Stream.empty());
+        assertDescription("a stream containing <3>", hasItem(3));
+    }
+
+    @Test public void
+    hasItemDescribesOnlyTheFirstFewMismatches() {
+        assertMismatchDescription(
+            "mismatches were: [was <0>, was <1>, was <2>, was <3>, was <4>, was <5>, was <6>, was <7>, was <8>, was <9>, ... and 90 more]",
+            hasItem(-1), IntStream.range(0, 100).boxed());
+    }
+
+    @Test public void
+    streamWithSizeCountsElements() {
+        assertMatches(streamWithSize(3), Stream.of(1, 2, 3));
+        assertMatches(streamWithSize(greaterThan(2)), Stream.of(1, 2, 3).filter(i -> true));
+        assertMismatchDescription("stream size was <2>", streamWithSize(3), Stream.of(1, 2).filter(i -> true));
+        assertMismatchDescription("stream size was greater than 3", streamWithSize(3), Stream.iterate(0, i -> i + 1));
+        assertDescription("a stream with size <3>", streamWithSize(3));
+    }
+
+    @Test public void
+    streamWithSizeDoesNotTraverseASizedStream() {
+        AtomicInteger consumed = new AtomicInteger();
+
+        assertMatches(streamWithSize(3), Arrays.asList(1, 2, 3).stream().peek(i -> consumed.incrementAndGet()));
+        assertEquals(0, consumed.get());
+    }
+
+    @Test public void
+    emptyStreamLooksAtTheFirstElementOnly() {
+        assertMatches(emptyStream(), Stream.empty());
+        assertMismatchDescription("first item was <0>", emptyStream(), Stream.iterate(0, i -> i + 1));
+        assertDescription("an empty stream", emptyStream());
+    }
+
+    @Test public void
+    matchesPrimitiveStreams() {
+        assertMatches(contains(1, 2, 3), IntStream.rangeClosed(1, 3));
+    }
+
+    @Test public void
+    matchesIteratorsAndSpliterators() {
+        assertThat(Arrays.asList(1, 2).iterator(), contains(1, 2).forIterator());
+        assertThat(Arrays.asList(1, 2).spliterator(), containsInAnyOrder(2, 1).forSpliterator());
+    }
+
+    @Test public void
+    describesTheMismatchOfAStreamItHasJustConsumed() {
+        StreamMatcher<Integer> matcher = contains(1, 2);
+        Stream<Integer> stream = Stream.of(1, 3);
+
+        assertEquals("item 1: was <3>", mismatchDescription(matcher, stream));
+        assertThrows(IllegalStateException.class, () -> stream.spliterator());
+    }
+
+    @Test public void
+    rejectsAnEmptyListOfMatchers() {
+        assertThrows(IllegalArgumentException.class, () -> contains(new Integer[0]));
+    }
+
+}
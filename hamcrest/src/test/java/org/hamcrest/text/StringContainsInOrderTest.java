@@ -4,9 +4,14 @@ import org.hamcrest.test.AbstractMatcherTest;
 import org.hamcrest.Matcher;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
 import static java.util.Arrays.asList;
 import static org.hamcrest.test.MatcherAssertions.*;
 import static org.hamcrest.text.StringContainsInOrder.stringContainsInOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class StringContainsInOrderTest extends AbstractMatcherTest {
 
@@ -30,6 +35,51 @@ public class StringContainsInOrderTest extends AbstractMatcherTest {
         assertDoesNotMatch("empty string", matcher, "");
     }
 
+    @Test
+    public void testMatchesSubstringsThatOverlapOrLieWithinEarlierOnes() {
+        assertMatches("overlapping", stringContainsInOrder("abc", "bcd"), "abcd");
+        assertMatches("within earlier substring", stringContainsInOrder("abcde", "c", "d"), "abcde");
+        assertMatches("shorter repeat", stringContainsInOrder("aaa", "aa"), "aaaa");
+        assertDoesNotMatch("repeat must start later", stringContainsInOrder("aaa", "aaa"), "aaa");
+        assertMatches("empty substrings", stringContainsInOrder("", "c", "", ""), "abc");
+        assertMatches("no substrings", stringContainsInOrder(), "");
+        assertMatches("beyond ascii", stringContainsInOrder("\u00E9", "t\u00E9"), "\u00E9t\u00E9");
+    }
+
+    @Test
+    public void testMatchesLikeSuccessiveIndexOf() {
+        final Random random = new Random(1);
+        for (int i = 0; i < 2000; i++) {
+            final String string = randomString(random, 10);
+            final List<String> substrings = new ArrayList<>();
+            for (int j = random.nextInt(4); j > 0; j--) {
+                substrings.add(randomString(random, 3));
+            }
+            assertEquals(containsBySuccessiveIndexOf(string, substrings),
+                    stringContainsInOrder(substrings).matches(string), string + " " + substrings);
+        }
+    }
+
+    private static boolean containsBySuccessiveIndexOf(String string, Iterable<String> substrings) {
+        int fromIndex = 0;
+        for (String substring : substrings) {
+            fromIndex = string.indexOf(substring, fromIndex);
+            if (fromIndex == -1) {
+                return false;
+            }
+            fromIndex++;
+        }
+        return true;
+    }
+
+    private static String randomString(Random random, int maxLength) {
+        final StringBuilder result = new StringBuilder();
+        for (int i = random.nextInt(maxLength + 1); i > 0; i--) {
+            result.append((char) ('a' + random.nextInt(2)));
+        }
+        return result.toString();
+    }
+
     @Test
     public void testHasAReadableDescription() {
         assertDescription("a string containing \"a\", \"b\", \"c\", \"c\" in order", matcher);
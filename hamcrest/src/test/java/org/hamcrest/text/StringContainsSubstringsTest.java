@@ -0,0 +1,79 @@
+package org.hamcrest.text;
+
+import org.hamcrest.test.AbstractMatcherTest;
+import org.hamcrest.Matcher;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.test.MatcherAssertions.*;
+import static org.hamcrest.text.StringContainsSubstrings.containsAllOf;
+import static org.hamcrest.text.StringContainsSubstrings.containsAnyOf;
+
+public class StringContainsSubstringsTest extends AbstractMatcherTest {
+
+    final Matcher<String> anyOf = containsAnyOf("he", "she", "his", "hers");
+    final Matcher<String> allOf = containsAllOf("he", "she", "his", "hers");
+
+    @Override
+    protected Matcher<?> createMatcher() {
+        return anyOf;
+    }
+
+    @Test
+    public void testMatchesIfStringContainsAnySubstring() {
+        assertMatches("one substring", anyOf, "ushers");
+        assertMatches("substring at start", anyOf, "hello");
+        assertMatches("substring at end", anyOf, "this");
+        assertMatches("empty substring", containsAnyOf("xyz", ""), "abc");
+        assertDoesNotMatch("no substring", anyOf, "shrug");
+        assertDoesNotMatch("empty string", anyOf, "");
+        assertDoesNotMatch("no substrings", containsAnyOf(), "abc");
+    }
+
+    @Test
+    public void testMatchesIfStringContainsAllSubstrings() {
+        assertMatches("overlapping substrings", allOf, "ushers his");
+        assertMatches("repeated substrings", containsAllOf("ab", "ab", "b"), "xab");
+        assertMatches("no substrings", containsAllOf(), "");
+        assertMatches("empty substring", containsAllOf("", "a"), "a");
+        assertDoesNotMatch("missing substring", allOf, "ushers");
+        assertDoesNotMatch("empty string", allOf, "");
+    }
+
+    @Test
+    public void testScansForManySubstringsAtOnce() {
+        final List<String> keywords = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            keywords.add("keyword-" + i + ";");
+        }
+
+        assertMatches(containsAnyOf(keywords), "a line with keyword-4999; in it");
+        assertDoesNotMatch(containsAnyOf(keywords), "a line with keyword-5000; in it");
+        assertMatches(containsAllOf(keywords.subList(10, 13)), "keyword-12;keyword-10;keyword-11;");
+    }
+
+    @Test
+    public void testMatchesCharactersBeyondAscii() {
+        assertMatches(containsAnyOf("\u00E9t\u00E9", "hiver"), "un \u00E9t\u00E9 chaud");
+        assertMatches(containsAllOf("\u4E2D\u6587", "\u6587\u5B57"), "\u4E2D\u6587\u5B57");
+        assertDoesNotMatch(containsAnyOf("\u00E9t\u00E9"), "ete");
+    }
+
+    @Test
+    public void testHasAReadableDescription() {
+        assertDescription("a string containing any of \"he\", \"she\", \"his\", \"hers\"", anyOf);
+        assertDescription("a string containing all of \"he\", \"she\", \"his\", \"hers\"", allOf);
+    }
+
+    @Test
+    public void testDescribesMissingSubstrings() {
+        assertMismatchDescription("was \"shrug\"", anyOf, "shrug");
+        assertMismatchDescription("was \"ushers\" without \"his\"", allOf, "ushers");
+        assertMismatchDescription("was \"\" without \"1\", \"2\", \"3\", \"4\", \"5\", \"6\", \"7\", \"8\", \"9\", \"10\", ...",
+                containsAllOf(asList("1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11")), "");
+    }
+
+}
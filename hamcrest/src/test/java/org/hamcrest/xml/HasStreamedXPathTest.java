@@ -0,0 +1,201 @@
+package org.hamcrest.xml;
+
+import org.hamcrest.Matcher;
+import org.junit.jupiter.api.Test;
+
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.transform.Source;
+import javax.xml.transform.stream.StreamSource;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Iterator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.StringContains.containsString;
+import static org.hamcrest.test.MatcherAssertions.*;
+import static org.hamcrest.xml.HasStreamedXPath.hasXPathInFile;
+import static org.hamcrest.xml.HasStreamedXPath.hasXPathInSource;
+import static org.hamcrest.xml.HasStreamedXPath.hasXPathInStream;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class HasStreamedXPathTest {
+
+    private static final String XML = ""
+            + "<root type='food'>\n"
+            + "  <something id='a'><cheese>Edam</cheese></something>\n"
+            + "  <something id='b'><cheese>Cheddar</cheese></something>\n"
+            + "  <f:foreignSomething xmlns:f=\"http://cheese.com\" milk=\"camel\">Caravane</f:foreignSomething>\n"
+            + "  <emptySomething />\n"
+            + "  <nested>one<inner>two</inner>three</nested>\n"
+            + "</root>\n";
+
+    private final NamespaceContext ns = new NamespaceContext() {
+        @Override
+        public String getNamespaceURI(String prefix) {
+            return ("cheese".equals(prefix) ? "http://cheese.com" : null);
+        }
+
+        @Override
+        public String getPrefix(String namespaceURI) {
+            return ("http://cheese.com".equals(namespaceURI) ? "cheese" : null);
+        }
+
+        @Override
+        public Iterator<String> getPrefixes(String namespaceURI) {
+            return Collections.singleton("cheese").iterator();
+        }
+    };
+
+    @Test public void
+    copesWithNullsAndUnknownTypes() {
+        Matcher<Source> matcher = hasXPathInSource("/root", equalTo("irrelevant"));
+
+        assertNullSafe(matcher);
+        assertUnknownTypeSafe(matcher);
+    }
+
+    @Test public void
+    appliesMatcherToXPathInDocument() {
+        assertMatches(hasXPathInSource("/root/something[2]/cheese", equalTo("Cheddar")), source(XML));
+        assertMatches(hasXPathInSource("//something[1]/cheese", containsString("Ed")), source(XML));
+        assertMatches(hasXPathInSource("//something[@id='b']/cheese", equalTo("Cheddar")), source(XML));
+        assertMatches(hasXPathInSource("/root/*[2]/cheese", equalTo("Cheddar")), source(XML));
+        assertDoesNotMatch(hasXPathInSource("//something[2]/cheese", equalTo("Edam")), source(XML));
+    }
+
+    @Test public void
+    readsTheStringValueOfElementsAttributesAndText() {
+        assertMatches(hasXPathInSource("/root/nested", equalTo("onetwothree")), source(XML));
+        assertMatches(hasXPathInSource("/root/nested/text()", equalTo("one")), source(XML));
+        assertMatches(hasXPathInSource("/root/@type", equalTo("food")), source(XML));
+    }
+
+    @Test public void
+    appliesPredicatesInOrder() {
+        String xml = "<r><i k='x'>1</i><i>2</i><i k='x'>3</i></r>";
+
+        assertMatches(hasXPathInSource("/r/i[@k][2]", equalTo("3")), source(xml));
+        assertMatches(hasXPathInSource("/r/i[2]", equalTo("2")), source(xml));
+        assertDoesNotMatch(hasXPathInSource("/r/i[2][@k]"), source(xml));
+        assertMatches(hasXPathInSource("/r/i[text()='3']/@k", equalTo("x")), source(xml));
+    }
+
+    @Test public void
+    selectsTheFirstNodeInDocumentOrder() {
+        String xml = "<r><a>outer<a>inner</a></a><a>last</a></r>";
+
+        assertMatches(hasXPathInSource("//a", equalTo("outerinner")), source(xml));
+        assertMatches(hasXPathInSource("//a[text()='inner']", equalTo("inner")), source(xml));
+        assertMatches(hasXPathInSource("//a[text()='last']", equalTo("last")), source(xml));
+        assertMatches(hasXPathInSource("//a//a", equalTo("inner")), source(xml));
+    }
+
+    @Test public void
+    matchesNodesInNamespaces() {
+        assertMatches(hasXPathInSource("//cheese:foreignSomething/@milk", ns, equalTo("camel")), source(XML));
+        assertMatches(hasXPathInSource("//cheese:foreignSomething/text()", ns, equalTo("Caravane")), source(XML));
+        assertDoesNotMatch(hasXPathInSource("//foreignSomething"), source(XML));
+    }
+
+    @Test public void
+    matchesWhenNodeExists() {
+        assertMatches(hasXPathInSource("/root/emptySomething"), source(XML));
+        assertDoesNotMatch(hasXPathInSource("/root/emptySomething/text()"), source(XML));
+        assertDoesNotMatch(hasXPathInSource("//honky"), source(XML));
+    }
+
+    @Test public void
+    stopsReadingOnceTheResultIsKnown() {
+        InputStream truncated = new SequenceInputStream(stream("<r><a id='1'>x</a><a>"), stream("<<< not xml"));
+
+        assertMatches(hasXPathInStream("/r/a/@id", equalTo("1")), truncated);
+    }
+
+    @Test public void
+    matchesFiles() throws Exception {
+        Path file = Files.createTempFile("streamed", ".xml");
+        try {
+            Files.write(file, XML.getBytes(StandardCharsets.UTF_8));
+
+            assertMatches(hasXPathInFile("/root/something[2]/cheese", equalTo("Cheddar")), file);
+            assertMatches(hasXPathInFile("//cheese:foreignSomething", ns, equalTo("Caravane")), file);
+            assertMatches(hasXPathInFile("/root"), file);
+            Path missing = file.resolveSibling(file.getFileName() + ".missing");
+            assertMismatchDescription("could not read " + missing + ": " + missing, hasXPathInFile("/root"), missing);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test public void
+    readsAFileAgainEachTimeItIsMatched() throws Exception {
+        Path file = Files.createTempFile("streamed", ".xml");
+        try {
+            Matcher<Path> matcher = hasXPathInFile("/root/@type", equalTo("food"));
+            Files.write(file, "<root type='drink'/>".getBytes(StandardCharsets.UTF_8));
+            assertDoesNotMatch(matcher, file);
+
+            Files.write(file, XML.getBytes(StandardCharsets.UTF_8));
+            assertMatches(matcher, file);
+            assertMatches(hasXPathInSource("/root/@type", equalTo("food")), new StreamSource(file.toFile()));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test public void
+    rejectsXPathsThatCannotBeStreamed() {
+        assertThrows(IllegalArgumentException.class, () -> hasXPathInSource("/root/something/../cheese"));
+        assertThrows(IllegalArgumentException.class, () -> hasXPathInSource("count(//cheese)"));
+        assertThrows(IllegalArgumentException.class, () -> hasXPathInSource("//cheese[text()='Edam']/x"));
+        assertThrows(IllegalArgumentException.class, () -> hasXPathInSource("//@id"));
+        assertThrows(IllegalArgumentException.class, () -> hasXPathInSource("//cheese:name"));
+    }
+
+    @Test public void
+    describesItself() {
+        assertDescription("an XML document with XPath /some/path \"Cheddar\"",
+                          hasXPathInSource("/some/path", equalTo("Cheddar")));
+        assertDescription("an XML document with XPath /some/path",
+                          hasXPathInStream("/some/path"));
+    }
+
+    @Test public void
+    describesMissingNodeMismatch() {
+        assertMismatchDescription("xpath returned no results.", hasXPathInSource("//honky"), source(XML));
+    }
+
+    @Test public void
+    describesWhereTheValueWasFound() {
+        assertMismatchDescription("/root/something/cheese (line 2, column 29) was \"Edam\"",
+                hasXPathInSource("//something[1]/cheese", equalTo("parmesan")), source(XML));
+        assertMismatchDescription("/root/something/@id (line 3, column 21) was \"b\"",
+                hasXPathInStream("//something[2]/@id", equalTo("c")), stream(XML));
+    }
+
+    @Test public void
+    describesMalformedDocuments() {
+        Matcher<InputStream> matcher = hasXPathInStream("//honky");
+        InputStream malformed = stream("<root><unclosed></root>");
+
+        assertFalse(matcher.matches(malformed));
+        assertThat(mismatchDescription(matcher, malformed), containsString("unclosed"));
+    }
+
+    private static Source source(String xml) {
+        return new StreamSource(new StringReader(xml));
+    }
+
+    private static InputStream stream(String xml) {
+        return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -4,19 +4,33 @@ import org.hamcrest.Matcher;
 import org.junit.jupiter.api.Test;
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
+import org.xml.sax.InputSource;
 
 import javax.xml.namespace.NamespaceContext;
+import javax.xml.namespace.QName;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
 import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.test.MatcherAssertions.*;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.hamcrest.core.IsNot.not;
 import static org.hamcrest.core.StringContains.containsString;
 import static org.hamcrest.xml.HasXPath.hasXPath;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 /**
@@ -133,6 +147,80 @@ public final class HasXPathTest {
         assertMismatchDescription("was \"Edam\"", hasXPath("//something[1]/cheese", equalTo("parmesan")), xml);
     }
 
+    @Test public void
+    neverEvaluatesOneCompiledExpressionOnTwoThreadsAtOnce() throws Exception {
+        final int threads = 8;
+        final AtomicInteger overlaps = new AtomicInteger();
+        final Matcher<Node> matcher = new HasXPath("/root", equalTo("Cheddar"), XPathConstants.STRING,
+                () -> new SingleThreadedExpression("Cheddar", overlaps));
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    boolean matched = true;
+                    for (int i = 0; i < 1_000; i++) {
+                        matched &= matcher.matches(xml);
+                    }
+                    return matched;
+                }));
+            }
+            start.countDown();
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(0, overlaps.get(), "evaluations sharing an expression");
+    }
+
+    /*
+     * Counts the evaluations that overlap another on the same instance, which a shared
+     * XPathExpression does not allow.
+     */
+    private static final class SingleThreadedExpression implements XPathExpression {
+        private final AtomicBoolean inUse = new AtomicBoolean();
+        private final String value;
+        private final AtomicInteger overlaps;
+
+        SingleThreadedExpression(String value, AtomicInteger overlaps) {
+            this.value = value;
+            this.overlaps = overlaps;
+        }
+
+        @Override
+        public Object evaluate(Object item, QName returnType) {
+            if (!inUse.compareAndSet(false, true)) {
+                overlaps.incrementAndGet();
+                return value;
+            }
+            try {
+                Thread.yield();
+                return value;
+            } finally {
+                inUse.set(false);
+            }
+        }
+
+        @Override
+        public String evaluate(Object item) {
+            return (String) evaluate(item, XPathConstants.STRING);
+        }
+
+        @Override
+        public Object evaluate(InputSource source, QName returnType) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String evaluate(InputSource source) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
     private static Document parse(String xml) {
         try {
             DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();